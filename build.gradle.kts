@@ -2,6 +2,7 @@ plugins {
   java
   alias(libs.plugins.spring.boot)
   alias(libs.plugins.spring.dependency.management)
+  id("me.champeau.jmh") version "0.7.2"
 
   // Code quality plugins
   checkstyle
@@ -32,6 +33,9 @@ dependencies {
 
   implementation("io.awspring.cloud:spring-cloud-aws-starter-sqs")
 
+  // Metrics
+  runtimeOnly("io.micrometer:micrometer-registry-prometheus")
+
   // AWS-XRay
   implementation(libs.aws.xray.spring)
 
@@ -50,11 +54,14 @@ dependencies {
   implementation(libs.sentry.core)
 
   implementation("com.github.java-json-tools:json-patch:1.13")
+
+  // Benchmarks stub repositories, so only the code under measurement is run.
+  "jmhImplementation"("org.mockito:mockito-core")
 }
 
 java {
   toolchain {
-    languageVersion.set(JavaLanguageVersion.of(17))
+    languageVersion.set(JavaLanguageVersion.of(21))
     vendor.set(JvmVendorSpec.ADOPTIUM)
   }
 }
@@ -112,10 +119,37 @@ testing {
       }
     }
 
+    register<JvmTestSuite>("loadTest") {
+      dependencies {
+        implementation("org.springframework.boot:spring-boot-testcontainers")
+        implementation("org.testcontainers:junit-jupiter")
+        implementation("org.testcontainers:localstack")
+        implementation("org.testcontainers:mongodb")
+      }
+
+      targets {
+        all {
+          testTask.configure {
+            // Load tests are run on demand, to compare threading modes and validate capacity.
+            outputs.upToDateWhen { false }
+            testLogging.showStandardStreams = true
+            listOf(
+              "loadTest.requests", "loadTest.concurrency", "loadTest.records", "loadTest.events"
+            ).forEach {
+              System.getProperty(it)?.let { value -> systemProperty(it, value) }
+            }
+          }
+        }
+      }
+    }
+
     // Include implementation dependencies.
     val integrationTestImplementation by configurations.getting {
       extendsFrom(configurations.implementation.get())
     }
+    val loadTestImplementation by configurations.getting {
+      extendsFrom(configurations.implementation.get())
+    }
   }
 }
 
@@ -123,6 +157,71 @@ tasks.named("check") {
   dependsOn(testing.suites.named("integrationTest"))
 }
 
+jmh {
+  jmhVersion.set("1.37")
+  resultFormat.set("JSON")
+  resultsFile.set(layout.buildDirectory.file("results/jmh/results.json"))
+  System.getProperty("jmh.includes")?.let { includes.add(it) }
+}
+
+val jmhBaseline = layout.projectDirectory.file(
+  System.getProperty("jmh.baseline") ?: "src/jmh/baseline.json")
+
+tasks.register<Copy>("jmhSaveBaseline") {
+  group = "benchmark"
+  description = "Saves the latest JMH results as the baseline for regression comparison."
+  from(jmh.resultsFile)
+  into(jmhBaseline.asFile.parentFile)
+  rename { jmhBaseline.asFile.name }
+}
+
+tasks.register("jmhCompare") {
+  group = "benchmark"
+  description = "Fails if any JMH benchmark has regressed compared to the saved baseline."
+  val results = jmh.resultsFile
+  val threshold = (System.getProperty("jmh.threshold") ?: "10").toDouble()
+  inputs.file(results)
+  inputs.property("threshold", threshold)
+  mustRunAfter("jmh")
+
+  doLast {
+    val baselineFile = jmhBaseline.asFile
+    if (!baselineFile.exists()) {
+      throw GradleException("No JMH baseline found at $baselineFile, run jmhSaveBaseline first.")
+    }
+
+    // Scores are keyed by benchmark and parameters, e.g. MapperBenchmark.toDtos{entities=10}.
+    fun scores(file: File): Map<String, Pair<String, Double>> {
+      @Suppress("UNCHECKED_CAST")
+      val runs = groovy.json.JsonSlurper().parse(file) as List<Map<String, Any>>
+      return runs.associate { run ->
+        val params = (run["params"] as Map<*, *>?)?.entries?.sortedBy { it.key.toString() }
+          ?.joinToString(",", "{", "}") { "${it.key}=${it.value}" } ?: ""
+        val metric = run["primaryMetric"] as Map<*, *>
+        "${run["benchmark"]}$params" to Pair(run["mode"] as String,
+          (metric["score"] as Number).toDouble())
+      }
+    }
+
+    val baseline = scores(baselineFile)
+    val regressions = scores(results.get().asFile).mapNotNull { (benchmark, result) ->
+      val (mode, score) = result
+      val baselineScore = baseline[benchmark]?.second ?: return@mapNotNull null
+
+      // Throughput should not fall, all other modes measure time and should not rise.
+      val change = (score - baselineScore) / baselineScore * 100
+      val regression = if (mode == "thrpt") -change else change
+      logger.lifecycle("%s: %.3f -> %.3f (%+.1f%%)".format(benchmark, baselineScore, score,
+        change))
+      if (regression > threshold) benchmark else null
+    }
+
+    if (regressions.isNotEmpty()) {
+      throw GradleException("Benchmarks regressed by more than $threshold%: $regressions")
+    }
+  }
+}
+
 tasks.jacocoTestReport {
   reports {
     html.required.set(true)
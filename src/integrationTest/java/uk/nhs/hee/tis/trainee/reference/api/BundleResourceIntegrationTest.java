@@ -0,0 +1,114 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.reference.api;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import uk.nhs.hee.tis.trainee.reference.DockerImageNames;
+import uk.nhs.hee.tis.trainee.reference.model.Gender;
+import uk.nhs.hee.tis.trainee.reference.model.Grade;
+
+@SpringBootTest
+@Testcontainers
+@AutoConfigureMockMvc
+class BundleResourceIntegrationTest {
+
+  @Container
+  @ServiceConnection
+  private static final MongoDBContainer mongoContainer = new MongoDBContainer(
+      DockerImageNames.MONGO);
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private MongoTemplate mongoTemplate;
+
+  @AfterEach
+  void cleanUp() {
+    mongoTemplate.findAllAndRemove(new Query(), Gender.class);
+    mongoTemplate.findAllAndRemove(new Query(), Grade.class);
+  }
+
+  @Test
+  void shouldGetBundleOfRequestedTypes() throws Exception {
+    Gender gender = new Gender();
+    gender.setId(ObjectId.get().toString());
+    gender.setLabel("Default Gender");
+    mongoTemplate.insert(gender);
+
+    Grade grade = new Grade();
+    grade.setId(ObjectId.get().toString());
+    grade.setLabel("Default Grade");
+    mongoTemplate.insert(grade);
+
+    mockMvc.perform(get("/api/bundle").param("types", "grade,gender"))
+        .andExpect(status().isOk())
+        .andExpect(header().exists(HttpHeaders.ETAG))
+        .andExpect(jsonPath("$.length()").value(2))
+        .andExpect(jsonPath("$.grade[0].label").value("Default Grade"))
+        .andExpect(jsonPath("$.gender[0].label").value("Default Gender"));
+  }
+
+  @Test
+  void shouldReturnNotModifiedWhenBundleEtagMatches() throws Exception {
+    Grade grade = new Grade();
+    grade.setId(ObjectId.get().toString());
+    grade.setLabel("Default Grade");
+    mongoTemplate.insert(grade);
+
+    String etag = mockMvc.perform(get("/api/bundle").param("types", "grade,gender"))
+        .andExpect(status().isOk())
+        .andReturn()
+        .getResponse()
+        .getHeader(HttpHeaders.ETAG);
+
+    mockMvc.perform(get("/api/bundle").param("types", "grade,gender")
+            .header(HttpHeaders.IF_NONE_MATCH, etag))
+        .andExpect(status().isNotModified())
+        .andExpect(content().string(""));
+  }
+
+  @Test
+  void shouldReturnBadRequestWhenBundleTypeNotRecognised() throws Exception {
+    mockMvc.perform(get("/api/bundle").param("types", "grade,unknown"))
+        .andExpect(status().isBadRequest());
+  }
+}
@@ -21,18 +21,23 @@
 
 package uk.nhs.hee.tis.trainee.reference.api;
 
+import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.jayway.jsonpath.JsonPath;
 import java.util.List;
 import org.bson.types.ObjectId;
 import org.junit.jupiter.api.AfterEach;
@@ -41,15 +46,19 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.testcontainers.containers.MongoDBContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 import uk.nhs.hee.tis.trainee.reference.DockerImageNames;
 import uk.nhs.hee.tis.trainee.reference.model.Grade;
+import uk.nhs.hee.tis.trainee.reference.model.ReferenceChange;
 
 @SpringBootTest
 @Testcontainers
@@ -73,6 +82,7 @@ class GradeResourceIntegrationTest {
   @AfterEach
   void cleanUp() {
     mongoTemplate.findAllAndRemove(new Query(), Grade.class);
+    mongoTemplate.findAllAndRemove(new Query(), ReferenceChange.class);
   }
 
   @Test
@@ -110,6 +120,127 @@ class GradeResourceIntegrationTest {
         .andExpect(jsonPath("$.[2].id").value(entity1.getId()));
   }
 
+  @Test
+  void shouldStreamGradesOrderedByLabelAsNdjson() throws Exception {
+    Grade entity1 = new Grade();
+    entity1.setId(ObjectId.get().toString());
+    entity1.setLabel("c");
+
+    Grade entity2 = new Grade();
+    entity2.setId(ObjectId.get().toString());
+    entity2.setLabel("a");
+
+    Grade entity3 = new Grade();
+    entity3.setId(ObjectId.get().toString());
+    entity3.setLabel("b");
+
+    mongoTemplate.insertAll(List.of(entity1, entity2, entity3));
+
+    MvcResult result = mockMvc.perform(get("/api/grade").accept(MediaType.APPLICATION_NDJSON))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+
+    String body = mockMvc.perform(asyncDispatch(result))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+        .andReturn().getResponse().getContentAsString();
+
+    String[] lines = body.split("\n");
+    assertThat("Unexpected line count.", lines.length, is(3));
+    assertThat("Unexpected first grade.", lines[0], containsString(entity2.getId()));
+    assertThat("Unexpected second grade.", lines[1], containsString(entity3.getId()));
+    assertThat("Unexpected third grade.", lines[2], containsString(entity1.getId()));
+  }
+
+  @Test
+  void shouldGetJsonArrayWhenNdjsonNotRequested() throws Exception {
+    mockMvc.perform(get("/api/grade").accept(MediaType.ALL))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+        .andExpect(jsonPath("$").isArray());
+  }
+
+  @Test
+  void shouldReturnNotModifiedWhenGradesEtagMatches() throws Exception {
+    Grade entity = new Grade();
+    entity.setId(ObjectId.get().toString());
+    entity.setLabel(LABEL);
+    mongoTemplate.insert(entity);
+
+    String etag = mockMvc.perform(get("/api/grade"))
+        .andExpect(status().isOk())
+        .andExpect(header().exists(HttpHeaders.ETAG))
+        .andReturn()
+        .getResponse()
+        .getHeader(HttpHeaders.ETAG);
+
+    mockMvc.perform(get("/api/grade").header(HttpHeaders.IF_NONE_MATCH, etag))
+        .andExpect(status().isNotModified())
+        .andExpect(content().string(""));
+  }
+
+  @Test
+  void shouldReturnNewEtagWhenGradesChange() throws Exception {
+    String etag = mockMvc.perform(get("/api/grade"))
+        .andExpect(status().isOk())
+        .andReturn()
+        .getResponse()
+        .getHeader(HttpHeaders.ETAG);
+
+    Grade entity = new Grade();
+    entity.setId(ObjectId.get().toString());
+    entity.setLabel(LABEL);
+    mongoTemplate.insert(entity);
+
+    mockMvc.perform(get("/api/grade").header(HttpHeaders.IF_NONE_MATCH, etag))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.length()").value(1));
+  }
+
+  @Test
+  void shouldGetGradeChangesAndTombstonesSinceToken() throws Exception {
+    String content = """
+        {
+          "tisId": "%s",
+          "label": "%s",
+          "placementGrade": true,
+          "trainingGrade": true,
+          "status": "CURRENT"
+        }
+        """.formatted(TIS_ID, LABEL);
+
+    mockMvc.perform(post("/api/grade")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(content))
+        .andExpect(status().isCreated());
+
+    MvcResult created = mockMvc.perform(get("/api/grade/changes").param("since", "0"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.changed", hasSize(1)))
+        .andExpect(jsonPath("$.changed[0].tisId").value(TIS_ID))
+        .andExpect(jsonPath("$.changed[0].label").value(LABEL))
+        .andExpect(jsonPath("$.deleted", hasSize(0)))
+        .andReturn();
+    long createdToken = JsonPath.parse(created.getResponse().getContentAsString())
+        .read("$.token", Long.class);
+
+    mockMvc.perform(get("/api/grade/changes").param("since", String.valueOf(createdToken)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.changed", hasSize(0)))
+        .andExpect(jsonPath("$.deleted", hasSize(0)))
+        .andExpect(jsonPath("$.token").value(createdToken));
+
+    mockMvc.perform(delete("/api/grade/{tisId}", TIS_ID))
+        .andExpect(status().isNoContent());
+
+    mockMvc.perform(get("/api/grade/changes").param("since", String.valueOf(createdToken)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.changed", hasSize(0)))
+        .andExpect(jsonPath("$.deleted", hasSize(1)))
+        .andExpect(jsonPath("$.deleted[0]").value(TIS_ID))
+        .andExpect(jsonPath("$.token").value(createdToken + 1));
+  }
+
   @Test
   void shouldCreateGrade() throws Exception {
     String content = """
@@ -170,6 +301,88 @@ class GradeResourceIntegrationTest {
     assertThat("Unexpected label.", updatedEntity.getLabel(), is("New Label"));
   }
 
+  @Test
+  void shouldBulkUpsertGradesFromJsonArray() throws Exception {
+    Grade existingEntity = new Grade();
+    existingEntity.setTisId(TIS_ID);
+    existingEntity.setLabel(LABEL);
+
+    Grade invalidatedEntity = new Grade();
+    invalidatedEntity.setTisId("41");
+    invalidatedEntity.setLabel("Invalidated Grade");
+    mongoTemplate.insertAll(List.of(existingEntity, invalidatedEntity));
+
+    String content = """
+        [
+          {
+            "tisId": "%s",
+            "label": "New Label",
+            "placementGrade": true,
+            "trainingGrade": true,
+            "status": "CURRENT"
+          },
+          {
+            "tisId": "41",
+            "label": "Invalidated Grade",
+            "placementGrade": true,
+            "trainingGrade": true,
+            "status": "INACTIVE"
+          },
+          {
+            "tisId": "42",
+            "label": "Created Grade",
+            "placementGrade": true,
+            "trainingGrade": true,
+            "status": "CURRENT"
+          }
+        ]
+        """.formatted(TIS_ID);
+
+    mockMvc.perform(post("/api/grade/bulk")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(content))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.length()").value(3))
+        .andExpect(jsonPath("$.[0].tisId").value(TIS_ID))
+        .andExpect(jsonPath("$.[0].status").value("UPSERTED"))
+        .andExpect(jsonPath("$.[1].tisId").value("41"))
+        .andExpect(jsonPath("$.[1].status").value("INVALID"))
+        .andExpect(jsonPath("$.[2].tisId").value("42"))
+        .andExpect(jsonPath("$.[2].status").value("UPSERTED"));
+
+    List<Grade> entities = mongoTemplate.find(new Query().with(Sort.by("tisId")), Grade.class);
+    assertThat("Unexpected grade count.", entities, hasSize(2));
+
+    Grade updatedEntity = entities.get(0);
+    assertThat("Unexpected ID.", updatedEntity.getId(), is(existingEntity.getId()));
+    assertThat("Unexpected TIS ID.", updatedEntity.getTisId(), is(TIS_ID));
+    assertThat("Unexpected label.", updatedEntity.getLabel(), is("New Label"));
+
+    Grade createdEntity = entities.get(1);
+    assertThat("Unexpected ID.", createdEntity.getId(), notNullValue());
+    assertThat("Unexpected TIS ID.", createdEntity.getTisId(), is("42"));
+    assertThat("Unexpected label.", createdEntity.getLabel(), is("Created Grade"));
+  }
+
+  @Test
+  void shouldBulkUpsertGradesFromNdjson() throws Exception {
+    String content = """
+        {"tisId":"%s","label":"%s","placementGrade":true,"trainingGrade":true,"status":"CURRENT"}
+        {"tisId":"42","label":"Other","placementGrade":true,"trainingGrade":true,"status":"CURRENT"}
+        """.formatted(TIS_ID, LABEL);
+
+    mockMvc.perform(post("/api/grade/bulk")
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .content(content))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.length()").value(2))
+        .andExpect(jsonPath("$.[0].status").value("UPSERTED"))
+        .andExpect(jsonPath("$.[1].status").value("UPSERTED"));
+
+    long count = mongoTemplate.count(new Query(), Grade.class);
+    assertThat("Unexpected grade count.", count, is(2L));
+  }
+
   @Test
   void shouldDeleteGrade() throws Exception {
     Grade entity = new Grade();
@@ -24,14 +24,17 @@ package uk.nhs.hee.tis.trainee.reference.api;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.List;
 import java.util.UUID;
 import org.bson.types.ObjectId;
@@ -45,10 +48,13 @@ import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.testcontainers.containers.MongoDBContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 import uk.nhs.hee.tis.trainee.reference.DockerImageNames;
+import uk.nhs.hee.tis.trainee.reference.dto.LocalOfficeContactDetailsDto;
+import uk.nhs.hee.tis.trainee.reference.dto.TraineeType;
 import uk.nhs.hee.tis.trainee.reference.model.LocalOffice;
 import uk.nhs.hee.tis.trainee.reference.model.LocalOfficeContact;
 import uk.nhs.hee.tis.trainee.reference.model.LocalOfficeContactType;
@@ -101,21 +107,29 @@ class LocalOfficeContactResourceIntegrationTest {
     entity1.setTisId(ObjectId.get().toString());
     entity1.setLabel("c");
     entity1.setContactTypeName(CONTACT_TYPE_NAME);
+    entity1.setContactTypeDisplayName(CONTACT_TYPE_NAME);
+    entity1.setTraineeType(TraineeType.SPECIALTY);
 
     LocalOfficeContact entity2 = new LocalOfficeContact();
     entity2.setTisId(ObjectId.get().toString());
     entity2.setLabel("a");
     entity2.setContactTypeName(CONTACT_TYPE_NAME);
+    entity2.setContactTypeDisplayName(CONTACT_TYPE_NAME);
+    entity2.setTraineeType(TraineeType.SPECIALTY);
 
     LocalOfficeContact entity3 = new LocalOfficeContact();
     entity3.setTisId(ObjectId.get().toString());
     entity3.setLabel("b");
     entity3.setContactTypeName(CONTACT_TYPE_NAME);
+    entity3.setContactTypeDisplayName(CONTACT_TYPE_NAME);
+    entity3.setTraineeType(TraineeType.SPECIALTY);
 
     LocalOfficeContact entity4 = new LocalOfficeContact();
     entity4.setTisId(ObjectId.get().toString());
     entity4.setLabel("d");
     entity4.setContactTypeName(FOUNDATION_CONTACT_TYPE_NAME);
+    entity4.setContactTypeDisplayName(CONTACT_TYPE_NAME);
+    entity4.setTraineeType(TraineeType.FOUNDATION);
 
     mongoTemplate.insertAll(List.of(entity1, entity2, entity3, entity4));
 
@@ -135,21 +149,29 @@ class LocalOfficeContactResourceIntegrationTest {
     entity1.setTisId(ObjectId.get().toString());
     entity1.setLabel("c");
     entity1.setContactTypeName(FOUNDATION_CONTACT_TYPE_NAME);
+    entity1.setContactTypeDisplayName(CONTACT_TYPE_NAME);
+    entity1.setTraineeType(TraineeType.FOUNDATION);
 
     LocalOfficeContact entity2 = new LocalOfficeContact();
     entity2.setTisId(ObjectId.get().toString());
     entity2.setLabel("a");
     entity2.setContactTypeName(FOUNDATION_CONTACT_TYPE_NAME);
+    entity2.setContactTypeDisplayName(CONTACT_TYPE_NAME);
+    entity2.setTraineeType(TraineeType.FOUNDATION);
 
     LocalOfficeContact entity3 = new LocalOfficeContact();
     entity3.setTisId(ObjectId.get().toString());
     entity3.setLabel("b");
     entity3.setContactTypeName(FOUNDATION_CONTACT_TYPE_NAME);
+    entity3.setContactTypeDisplayName(CONTACT_TYPE_NAME);
+    entity3.setTraineeType(TraineeType.FOUNDATION);
 
     LocalOfficeContact entity4 = new LocalOfficeContact();
     entity4.setTisId(ObjectId.get().toString());
     entity4.setLabel("d");
     entity4.setContactTypeName(CONTACT_TYPE_NAME);
+    entity4.setContactTypeDisplayName(CONTACT_TYPE_NAME);
+    entity4.setTraineeType(TraineeType.SPECIALTY);
 
     mongoTemplate.insertAll(List.of(entity1, entity2, entity3, entity4));
 
@@ -164,26 +186,83 @@ class LocalOfficeContactResourceIntegrationTest {
         .andExpect(jsonPath("$.[2].tisId").value(entity1.getTisId()));
   }
 
+  @Test
+  void shouldStreamFoundationLocalOfficeContactDetailsAsNdjson() throws Exception {
+    LocalOfficeContact entity1 = new LocalOfficeContact();
+    entity1.setTisId(TIS_ID);
+    entity1.setLocalOfficeId(LOCAL_OFFICE_ID);
+    entity1.setContactTypeName(CONTACT_TYPE_NAME);
+    entity1.setContactTypeDisplayName(CONTACT_TYPE_NAME);
+    entity1.setTraineeType(TraineeType.SPECIALTY);
+
+    LocalOfficeContact entity2 = new LocalOfficeContact();
+    entity2.setTisId(ObjectId.get().toString());
+    entity2.setLocalOfficeId(LOCAL_OFFICE_ID);
+    entity2.setLocalOfficeName(LOCAL_OFFICE_NAME);
+    entity2.setContactTypeId(CONTACT_TYPE_ID);
+    entity2.setContactTypeName(FOUNDATION_CONTACT_TYPE_NAME);
+    entity2.setContactTypeDisplayName(CONTACT_TYPE_NAME);
+    entity2.setContact(CONTACT);
+    entity2.setLabel(LABEL);
+    entity2.setTraineeType(TraineeType.FOUNDATION);
+
+    mongoTemplate.insertAll(List.of(entity1, entity2));
+
+    MvcResult result = mockMvc.perform(get("/api/local-office-contact")
+            .queryParam("traineeType", "FOUNDATION")
+            .accept(MediaType.APPLICATION_NDJSON))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+
+    String body = mockMvc.perform(asyncDispatch(result))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+        .andReturn().getResponse().getContentAsString();
+
+    String[] lines = body.split("\n");
+    assertThat("Unexpected line count.", lines.length, is(1));
+
+    LocalOfficeContactDetailsDto details = new ObjectMapper().readValue(lines[0],
+        LocalOfficeContactDetailsDto.class);
+    assertThat("Unexpected TIS ID.", details.getTisId(), is(entity2.getTisId()));
+    assertThat("Unexpected local office ID.", details.getLocalOfficeId(), is(LOCAL_OFFICE_ID));
+    assertThat("Unexpected local office name.", details.getLocalOfficeName(),
+        is(LOCAL_OFFICE_NAME));
+    assertThat("Unexpected contact type ID.", details.getContactTypeId(), is(CONTACT_TYPE_ID));
+    assertThat("Unexpected contact type name.", details.getContactTypeName(),
+        is(CONTACT_TYPE_NAME));
+    assertThat("Unexpected contact.", details.getContact(), is(CONTACT));
+    assertThat("Unexpected label.", details.getLabel(), is(LABEL));
+  }
+
   @Test
   void shouldGetSpecialtyLocalOfficeContactsByLocalOfficeUuid() throws Exception {
     LocalOfficeContact entity1 = new LocalOfficeContact();
     entity1.setTisId(TIS_ID);
     entity1.setLocalOfficeId(LOCAL_OFFICE_ID);
     entity1.setContactTypeName(CONTACT_TYPE_NAME);
+    entity1.setContactTypeDisplayName(CONTACT_TYPE_NAME);
+    entity1.setTraineeType(TraineeType.SPECIALTY);
 
     LocalOfficeContact entity2 = new LocalOfficeContact();
     entity2.setTisId(ObjectId.get().toString());
     entity2.setLocalOfficeId(LOCAL_OFFICE_ID);
     entity2.setContactTypeName(CONTACT_TYPE_NAME);
+    entity2.setContactTypeDisplayName(CONTACT_TYPE_NAME);
+    entity2.setTraineeType(TraineeType.SPECIALTY);
 
     LocalOfficeContact entity3 = new LocalOfficeContact();
     entity3.setTisId(ObjectId.get().toString());
     entity3.setContactTypeName(CONTACT_TYPE_NAME);
+    entity3.setContactTypeDisplayName(CONTACT_TYPE_NAME);
+    entity3.setTraineeType(TraineeType.SPECIALTY);
 
     LocalOfficeContact entity4 = new LocalOfficeContact();
     entity4.setTisId(ObjectId.get().toString());
     entity2.setLocalOfficeId(LOCAL_OFFICE_ID);
     entity4.setContactTypeName(FOUNDATION_CONTACT_TYPE_NAME);
+    entity4.setContactTypeDisplayName(CONTACT_TYPE_NAME);
+    entity4.setTraineeType(TraineeType.FOUNDATION);
 
     mongoTemplate.insertAll(List.of(entity1, entity2, entity3, entity4));
 
@@ -202,11 +281,15 @@ class LocalOfficeContactResourceIntegrationTest {
     entity1.setTisId(TIS_ID);
     entity1.setLocalOfficeId(LOCAL_OFFICE_ID);
     entity1.setContactTypeName(CONTACT_TYPE_NAME);
+    entity1.setContactTypeDisplayName(CONTACT_TYPE_NAME);
+    entity1.setTraineeType(TraineeType.SPECIALTY);
 
     LocalOfficeContact entity2 = new LocalOfficeContact();
     entity2.setTisId(ObjectId.get().toString());
     entity2.setLocalOfficeId(LOCAL_OFFICE_ID);
     entity2.setContactTypeName(FOUNDATION_CONTACT_TYPE_NAME);
+    entity2.setContactTypeDisplayName(CONTACT_TYPE_NAME);
+    entity2.setTraineeType(TraineeType.FOUNDATION);
 
     mongoTemplate.insertAll(List.of(entity1, entity2));
 
@@ -216,7 +299,8 @@ class LocalOfficeContactResourceIntegrationTest {
         .andExpect(content().contentType(MediaType.APPLICATION_JSON))
         .andExpect(jsonPath("$").isArray())
         .andExpect(jsonPath("$.length()").value(1))
-        .andExpect(jsonPath("$.[0].tisId").value(entity2.getTisId()));
+        .andExpect(jsonPath("$.[0].tisId").value(entity2.getTisId()))
+        .andExpect(jsonPath("$.[0].contactTypeName").value(CONTACT_TYPE_NAME));
   }
 
   @Test
@@ -225,20 +309,28 @@ class LocalOfficeContactResourceIntegrationTest {
     entity1.setTisId(TIS_ID);
     entity1.setLocalOfficeName(LOCAL_OFFICE_NAME);
     entity1.setContactTypeName(CONTACT_TYPE_NAME);
+    entity1.setContactTypeDisplayName(CONTACT_TYPE_NAME);
+    entity1.setTraineeType(TraineeType.SPECIALTY);
 
     LocalOfficeContact entity2 = new LocalOfficeContact();
     entity2.setTisId(ObjectId.get().toString());
     entity2.setLocalOfficeName(LOCAL_OFFICE_NAME);
     entity2.setContactTypeName(CONTACT_TYPE_NAME);
+    entity2.setContactTypeDisplayName(CONTACT_TYPE_NAME);
+    entity2.setTraineeType(TraineeType.SPECIALTY);
 
     LocalOfficeContact entity3 = new LocalOfficeContact();
     entity3.setTisId(ObjectId.get().toString());
     entity3.setContactTypeName(CONTACT_TYPE_NAME);
+    entity3.setContactTypeDisplayName(CONTACT_TYPE_NAME);
+    entity3.setTraineeType(TraineeType.SPECIALTY);
 
     LocalOfficeContact entity4 = new LocalOfficeContact();
     entity4.setTisId(ObjectId.get().toString());
     entity4.setLocalOfficeName(LOCAL_OFFICE_NAME);
     entity4.setContactTypeName(FOUNDATION_CONTACT_TYPE_NAME);
+    entity4.setContactTypeDisplayName(CONTACT_TYPE_NAME);
+    entity4.setTraineeType(TraineeType.FOUNDATION);
 
     mongoTemplate.insertAll(List.of(entity1, entity2, entity3, entity4));
 
@@ -258,11 +350,15 @@ class LocalOfficeContactResourceIntegrationTest {
     entity1.setTisId(TIS_ID);
     entity1.setLocalOfficeName(LOCAL_OFFICE_NAME);
     entity1.setContactTypeName(CONTACT_TYPE_NAME);
+    entity1.setContactTypeDisplayName(CONTACT_TYPE_NAME);
+    entity1.setTraineeType(TraineeType.SPECIALTY);
 
     LocalOfficeContact entity2 = new LocalOfficeContact();
     entity2.setTisId(ObjectId.get().toString());
     entity2.setLocalOfficeName(LOCAL_OFFICE_NAME);
     entity2.setContactTypeName(FOUNDATION_CONTACT_TYPE_NAME);
+    entity2.setContactTypeDisplayName(CONTACT_TYPE_NAME);
+    entity2.setTraineeType(TraineeType.FOUNDATION);
 
     mongoTemplate.insertAll(List.of(entity1, entity2));
 
@@ -273,7 +369,8 @@ class LocalOfficeContactResourceIntegrationTest {
         .andExpect(content().contentType(MediaType.APPLICATION_JSON))
         .andExpect(jsonPath("$").isArray())
         .andExpect(jsonPath("$.length()").value(1))
-        .andExpect(jsonPath("$.[0].tisId").value(entity2.getTisId()));
+        .andExpect(jsonPath("$.[0].tisId").value(entity2.getTisId()))
+        .andExpect(jsonPath("$.[0].contactTypeName").value(CONTACT_TYPE_NAME));
   }
 
   @Test
@@ -317,6 +414,9 @@ class LocalOfficeContactResourceIntegrationTest {
     assertThat("Unexpected local office name.", entity.getLocalOfficeName(), is(LOCAL_OFFICE_NAME));
     assertThat("Unexpected contact type ID.", entity.getContactTypeId(), is(CONTACT_TYPE_ID));
     assertThat("Unexpected contact type name.", entity.getContactTypeName(), is(CONTACT_TYPE_NAME));
+    assertThat("Unexpected contact type display name.", entity.getContactTypeDisplayName(),
+        is(CONTACT_TYPE_NAME));
+    assertThat("Unexpected trainee type.", entity.getTraineeType(), is(TraineeType.SPECIALTY));
     assertThat("Unexpected contact.", entity.getContact(), is(CONTACT));
   }
 
@@ -51,6 +51,7 @@ import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 import uk.nhs.hee.tis.trainee.reference.DockerImageNames;
 import uk.nhs.hee.tis.trainee.reference.model.LocalOffice;
+import uk.nhs.hee.tis.trainee.reference.model.LocalOfficeContact;
 
 @SpringBootTest
 @Testcontainers
@@ -75,6 +76,7 @@ class LocalOfficeResourceIntegrationTest {
   @AfterEach
   void cleanUp() {
     mongoTemplate.findAllAndRemove(new Query(), LocalOffice.class);
+    mongoTemplate.findAllAndRemove(new Query(), LocalOfficeContact.class);
   }
 
   @Test
@@ -170,6 +172,101 @@ class LocalOfficeResourceIntegrationTest {
     assertThat("Unexpected UUID.", updatedEntity.getUuid(), is(LO_UUID));
   }
 
+  @Test
+  void shouldUpdateLocalOfficeContactsWhenLocalOfficeUpdated() throws Exception {
+    LocalOffice initialEntity = new LocalOffice();
+    initialEntity.setTisId(TIS_ID);
+    initialEntity.setLabel(LABEL);
+    initialEntity.setUuid(LO_UUID);
+    mongoTemplate.insert(initialEntity);
+
+    LocalOfficeContact typedContact = new LocalOfficeContact();
+    typedContact.setTisId("1");
+    typedContact.setLocalOfficeId(LO_UUID);
+    typedContact.setContact("contact1@example.com");
+    typedContact.setContactTypeName("Onboarding");
+    typedContact.setLocalOfficeName(LABEL);
+
+    LocalOfficeContact untypedContact = new LocalOfficeContact();
+    untypedContact.setTisId("2");
+    untypedContact.setLocalOfficeId(LO_UUID);
+    untypedContact.setContact("contact2@example.com");
+    untypedContact.setLocalOfficeName(LABEL);
+
+    LocalOfficeContact otherContact = new LocalOfficeContact();
+    otherContact.setTisId("3");
+    otherContact.setLocalOfficeId(UUID.randomUUID().toString());
+    otherContact.setContact("contact3@example.com");
+    otherContact.setLocalOfficeName("Other Local Office");
+    otherContact.setLabel("contact3@example.com - Other Local Office");
+
+    mongoTemplate.insertAll(List.of(typedContact, untypedContact, otherContact));
+
+    String content = """
+        {
+          "tisId": "%s",
+          "label": "New Label",
+          "uuid": "%s"
+        }
+        """.formatted(TIS_ID, LO_UUID);
+
+    mockMvc.perform(put("/api/local-office")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(content))
+        .andExpect(status().isOk());
+
+    LocalOfficeContact updatedTyped = mongoTemplate.findById("1", LocalOfficeContact.class);
+    assertThat("Unexpected local office name.", updatedTyped.getLocalOfficeName(),
+        is("New Label"));
+    assertThat("Unexpected label.", updatedTyped.getLabel(),
+        is("contact1@example.com (Onboarding) - New Label"));
+
+    LocalOfficeContact updatedUntyped = mongoTemplate.findById("2", LocalOfficeContact.class);
+    assertThat("Unexpected local office name.", updatedUntyped.getLocalOfficeName(),
+        is("New Label"));
+    assertThat("Unexpected label.", updatedUntyped.getLabel(),
+        is("contact2@example.com - New Label"));
+
+    LocalOfficeContact other = mongoTemplate.findById("3", LocalOfficeContact.class);
+    assertThat("Unexpected local office name.", other.getLocalOfficeName(),
+        is("Other Local Office"));
+    assertThat("Unexpected label.", other.getLabel(),
+        is("contact3@example.com - Other Local Office"));
+  }
+
+  @Test
+  void shouldStoreDollarPrefixedLocalOfficeNameLiterallyOnContacts() throws Exception {
+    LocalOffice initialEntity = new LocalOffice();
+    initialEntity.setTisId(TIS_ID);
+    initialEntity.setLabel(LABEL);
+    initialEntity.setUuid(LO_UUID);
+    mongoTemplate.insert(initialEntity);
+
+    LocalOfficeContact contact = new LocalOfficeContact();
+    contact.setTisId("1");
+    contact.setLocalOfficeId(LO_UUID);
+    contact.setContact("contact1@example.com");
+    contact.setLocalOfficeName(LABEL);
+    mongoTemplate.insert(contact);
+
+    String content = """
+        {
+          "tisId": "%s",
+          "label": "$contact",
+          "uuid": "%s"
+        }
+        """.formatted(TIS_ID, LO_UUID);
+
+    mockMvc.perform(put("/api/local-office")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(content))
+        .andExpect(status().isOk());
+
+    LocalOfficeContact updated = mongoTemplate.findById("1", LocalOfficeContact.class);
+    assertThat("Unexpected local office name.", updated.getLocalOfficeName(), is("$contact"));
+    assertThat("Unexpected label.", updated.getLabel(), is("contact1@example.com - $contact"));
+  }
+
   @Test
   void shouldDeleteLocalOffice() throws Exception {
     LocalOffice entity = new LocalOffice();
@@ -0,0 +1,161 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.reference.api;
+
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import uk.nhs.hee.tis.trainee.reference.DockerImageNames;
+import uk.nhs.hee.tis.trainee.reference.model.Gender;
+import uk.nhs.hee.tis.trainee.reference.model.Grade;
+import uk.nhs.hee.tis.trainee.reference.model.ReferenceChange;
+
+@SpringBootTest
+@Testcontainers
+@AutoConfigureMockMvc
+class ReferenceChangeStreamResourceIntegrationTest {
+
+  private static final String TIS_ID = "40";
+
+  @Container
+  @ServiceConnection
+  private static final MongoDBContainer mongoContainer = new MongoDBContainer(
+      DockerImageNames.MONGO);
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private MongoTemplate mongoTemplate;
+
+  @AfterEach
+  void cleanUp() {
+    mongoTemplate.findAllAndRemove(new Query(), Gender.class);
+    mongoTemplate.findAllAndRemove(new Query(), Grade.class);
+    mongoTemplate.findAllAndRemove(new Query(), ReferenceChange.class);
+  }
+
+  @Test
+  void shouldPushChangesOfSubscribedTypes() throws Exception {
+    MockHttpServletResponse response = mockMvc.perform(get("/api/changes")
+            .param("types", "grade")
+            .accept(MediaType.TEXT_EVENT_STREAM))
+        .andExpect(request().asyncStarted())
+        .andReturn()
+        .getResponse();
+
+    await()
+        .atMost(Duration.ofSeconds(10))
+        .untilAsserted(() -> assertThat("Unexpected events.", response.getContentAsString(),
+            containsString("event:subscribed")));
+
+    createGender();
+    createGrade();
+
+    await()
+        .atMost(Duration.ofSeconds(10))
+        .untilAsserted(() -> assertThat("Unexpected events.", response.getContentAsString(),
+            containsString("\"type\":\"grade\",\"tisIds\":[\"%s\"]".formatted(TIS_ID))));
+    assertThat("Unexpected events.", response.getContentAsString(),
+        not(containsString("\"type\":\"gender\"")));
+  }
+
+  @Test
+  void shouldReplayChangesSinceLastEventId() throws Exception {
+    createGrade();
+
+    MockHttpServletResponse response = mockMvc.perform(get("/api/changes")
+            .param("types", "grade")
+            .header(ReferenceChangeStreamResource.LAST_EVENT_ID_HEADER, "grade:0")
+            .accept(MediaType.TEXT_EVENT_STREAM))
+        .andExpect(request().asyncStarted())
+        .andReturn()
+        .getResponse();
+
+    await()
+        .atMost(Duration.ofSeconds(10))
+        .untilAsserted(() -> assertThat("Unexpected events.", response.getContentAsString(),
+            containsString("\"type\":\"grade\",\"tisIds\":[\"%s\"]".formatted(TIS_ID))));
+  }
+
+  @Test
+  void shouldReturnBadRequestWhenStreamTypeNotRecognised() throws Exception {
+    mockMvc.perform(get("/api/changes")
+            .param("types", "grade,unknown")
+            .accept(MediaType.TEXT_EVENT_STREAM))
+        .andExpect(status().isBadRequest());
+  }
+
+  /**
+   * Create a grade through the API, so its change is recorded.
+   */
+  private void createGrade() throws Exception {
+    mockMvc.perform(post("/api/grade")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("""
+                {
+                  "tisId": "%s",
+                  "label": "Default Grade",
+                  "placementGrade": true,
+                  "trainingGrade": true,
+                  "status": "CURRENT"
+                }
+                """.formatted(TIS_ID)))
+        .andExpect(status().isCreated());
+  }
+
+  /**
+   * Create a gender through the API, so its change is recorded.
+   */
+  private void createGender() throws Exception {
+    mockMvc.perform(post("/api/gender")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("""
+                {
+                  "tisId": "%s",
+                  "label": "Default Gender"
+                }
+                """.formatted(TIS_ID)))
+        .andExpect(status().isCreated());
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.reference.api;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import com.jayway.jsonpath.JsonPath;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import uk.nhs.hee.tis.trainee.reference.DockerImageNames;
+
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT, properties = {
+    "application.warm-up.enabled=true",
+    "application.warm-up.paths=/api/grade,/api/local-office-contact"
+})
+@Testcontainers
+class ReferenceWarmUpIntegrationTest {
+
+  @Container
+  @ServiceConnection
+  private static final MongoDBContainer mongoContainer = new MongoDBContainer(
+      DockerImageNames.MONGO);
+
+  @Autowired
+  private TestRestTemplate restTemplate;
+
+  @Test
+  void shouldReportWarmUpOnInfoEndpoint() {
+    ResponseEntity<String> response = restTemplate.getForEntity("/actuator/info", String.class);
+
+    assertThat("Unexpected status.", response.getStatusCode(), is(HttpStatus.OK));
+    String info = response.getBody();
+    assertThat("Unexpected warm-up duration.", JsonPath.read(info, "$.warmUp.duration"),
+        notNullValue());
+    assertThat("Unexpected warm-up outcomes.", JsonPath.read(info, "$.warmUp.endpoints"), is(Map.of(
+        "/api/grade", "200",
+        "/api/local-office-contact", "200")));
+  }
+
+  @Test
+  void shouldBeReadyOnceWarmedUp() {
+    ResponseEntity<String> response = restTemplate.getForEntity("/actuator/health/readiness",
+        String.class);
+
+    assertThat("Unexpected status.", response.getStatusCode(), is(HttpStatus.OK));
+    assertThat("Unexpected readiness.", JsonPath.read(response.getBody(), "$.status"), is("UP"));
+  }
+}
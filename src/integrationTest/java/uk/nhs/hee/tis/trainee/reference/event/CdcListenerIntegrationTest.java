@@ -34,15 +34,20 @@ import io.awspring.cloud.sqs.operations.SqsTemplate;
 import java.io.IOException;
 import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
@@ -52,13 +57,22 @@ import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 import uk.nhs.hee.tis.trainee.reference.DockerImageNames;
 import uk.nhs.hee.tis.trainee.reference.model.College;
+import uk.nhs.hee.tis.trainee.reference.model.Grade;
 
 @SpringBootTest
 @ActiveProfiles("test")
 @Testcontainers
-class CollegeListenerIntegrationTest {
+class CdcListenerIntegrationTest {
 
-  private static final String COLLEGE_PATCH_QUEUE = UUID.randomUUID().toString();
+  private static final List<String> REFERENCE_TYPES = List.of("college", "curriculum", "dbc",
+      "gender", "grade", "immigration-status", "local-office", "local-office-contact",
+      "local-office-contact-type", "programme-membership-type");
+
+  private static final Map<String, String> PATCH_QUEUES = REFERENCE_TYPES.stream()
+      .collect(Collectors.toMap(type -> type, type -> UUID.randomUUID().toString()));
+
+  private static final String COLLEGE_PATCH_QUEUE = PATCH_QUEUES.get("college");
+  private static final String GRADE_PATCH_QUEUE = PATCH_QUEUES.get("grade");
 
   @Container
   @ServiceConnection
@@ -75,7 +89,8 @@ class CollegeListenerIntegrationTest {
     registry.add("spring.cloud.aws.region.static", localstack::getRegion);
     registry.add("spring.cloud.aws.credentials.access-key", localstack::getAccessKey);
     registry.add("spring.cloud.aws.credentials.secret-key", localstack::getSecretKey);
-    registry.add("application.queues.college-patch", () -> COLLEGE_PATCH_QUEUE);
+    PATCH_QUEUES.forEach((type, queue) ->
+        registry.add("application.queues.%s-patch".formatted(type), () -> queue));
     registry.add("spring.cloud.aws.sqs.endpoint",
         () -> localstack.getEndpointOverride(SQS).toString());
     registry.add("spring.cloud.aws.sqs.enabled", () -> true);
@@ -83,8 +98,9 @@ class CollegeListenerIntegrationTest {
 
   @BeforeAll
   static void setUpBeforeAll() throws IOException, InterruptedException {
-    localstack.execInContainer("awslocal", "sqs", "create-queue", "--queue-name",
-        COLLEGE_PATCH_QUEUE);
+    for (String queue : PATCH_QUEUES.values()) {
+      localstack.execInContainer("awslocal", "sqs", "create-queue", "--queue-name", queue);
+    }
   }
 
   @Autowired
@@ -93,6 +109,12 @@ class CollegeListenerIntegrationTest {
   @Autowired
   private SqsTemplate sqsTemplate;
 
+  @AfterEach
+  void cleanUp() {
+    mongoTemplate.remove(new Query(), College.class);
+    mongoTemplate.remove(new Query(), Grade.class);
+  }
+
   @Test
   void shouldHandleReplaceEvent() throws JsonProcessingException {
     final String id = ObjectId.get().toString();
@@ -211,4 +233,126 @@ class CollegeListenerIntegrationTest {
           assertThat("Unexpected college count.", count, is(0L));
         });
   }
+
+  @Test
+  void shouldApplyValidEventsWhenBatchContainsInvalidEvent() throws JsonProcessingException {
+    String unknownTisId = UUID.randomUUID().toString();
+    String tisId = UUID.randomUUID().toString();
+
+    String invalidEventString = """
+        {
+          "patch": [
+            { "op": "replace", "path": "/name", "value": "Unknown College" }
+          ],
+          "keys": { "id": "%s" }
+        }
+        """.formatted(unknownTisId);
+
+    String validEventString = """
+        {
+          "patch": [
+            { "op": "add", "path": "", "value": {
+                "id": "%s",
+                "name": "New College"
+              }
+            }
+          ],
+          "keys": { "id": "%s" }
+        }
+        """.formatted(tisId, tisId);
+
+    JsonMapper mapper = JsonMapper.builder().build();
+    sqsTemplate.sendMany(COLLEGE_PATCH_QUEUE, List.of(
+        MessageBuilder.withPayload(mapper.readTree(invalidEventString)).build(),
+        MessageBuilder.withPayload(mapper.readTree(validEventString)).build()));
+
+    await()
+        .pollInterval(Duration.ofSeconds(2))
+        .atMost(Duration.ofSeconds(10))
+        .ignoreExceptions()
+        .untilAsserted(() -> {
+          Query query = Query.query(Criteria.where("tisId").is(tisId));
+          College college = mongoTemplate.findOne(query, College.class);
+          assertThat("Unexpected label.", college.getLabel(), is("New College"));
+
+          Query unknownQuery = Query.query(Criteria.where("tisId").is(unknownTisId));
+          assertThat("Unexpected college.", mongoTemplate.exists(unknownQuery, College.class),
+              is(false));
+        });
+  }
+
+  @Test
+  void shouldHandleGradeInsertEvent() throws JsonProcessingException {
+    String tisId = UUID.randomUUID().toString();
+
+    String eventString = """
+        {
+          "patch": [
+            { "op": "add", "path": "", "value": {
+                "id": "%s",
+                "abbreviation": "GRD",
+                "name": "New Grade",
+                "placementGrade": true,
+                "trainingGrade": true,
+                "status": "CURRENT"
+              }
+            }
+          ],
+          "keys": { "id": "%s" }
+        }
+        """.formatted(tisId, tisId);
+
+    JsonNode eventJson = JsonMapper.builder()
+        .build()
+        .readTree(eventString);
+
+    sqsTemplate.send(GRADE_PATCH_QUEUE, eventJson);
+
+    await()
+        .pollInterval(Duration.ofSeconds(2))
+        .atMost(Duration.ofSeconds(10))
+        .ignoreExceptions()
+        .untilAsserted(() -> {
+          List<Grade> grades = mongoTemplate.findAll(Grade.class);
+          assertThat("Unexpected grade count.", grades, hasSize(1));
+          Grade grade = grades.get(0);
+          assertThat("Unexpected TIS ID.", grade.getTisId(), is(tisId));
+          assertThat("Unexpected label.", grade.getLabel(), is("New Grade"));
+        });
+  }
+
+  @Test
+  void shouldDeleteGradeWhenNoLongerCurrent() throws JsonProcessingException {
+    String tisId = UUID.randomUUID().toString();
+
+    Grade grade = new Grade();
+    grade.setTisId(tisId);
+    grade.setLabel("Current Grade");
+    mongoTemplate.insert(grade);
+
+    String eventString = """
+        {
+          "patch": [
+            { "op": "test", "path": "/status", "value": "CURRENT" },
+            { "op": "replace", "path": "/status", "value": "INACTIVE" }
+          ],
+          "keys": { "id": "%s" }
+        }
+        """.formatted(tisId);
+
+    JsonNode eventJson = JsonMapper.builder()
+        .build()
+        .readTree(eventString);
+
+    sqsTemplate.send(GRADE_PATCH_QUEUE, eventJson);
+
+    await()
+        .pollInterval(Duration.ofSeconds(2))
+        .atMost(Duration.ofSeconds(10))
+        .ignoreExceptions()
+        .untilAsserted(() -> {
+          long count = mongoTemplate.count(new Query(), Grade.class);
+          assertThat("Unexpected grade count.", count, is(0L));
+        });
+  }
 }
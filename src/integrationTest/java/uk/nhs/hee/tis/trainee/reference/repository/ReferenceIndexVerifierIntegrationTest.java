@@ -0,0 +1,134 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.reference.repository;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import uk.nhs.hee.tis.trainee.reference.DockerImageNames;
+import uk.nhs.hee.tis.trainee.reference.changelog.EnsureReferenceIndexes;
+import uk.nhs.hee.tis.trainee.reference.model.Dbc;
+import uk.nhs.hee.tis.trainee.reference.model.LocalOffice;
+import uk.nhs.hee.tis.trainee.reference.repository.ReferenceIndexes.HotQuery;
+
+@SpringBootTest(properties = {
+    "mongock.enabled=true",
+    "application.indexes.verify=true"
+})
+@Testcontainers
+class ReferenceIndexVerifierIntegrationTest {
+
+  @Container
+  @ServiceConnection
+  private static final MongoDBContainer mongoContainer = new MongoDBContainer(
+      DockerImageNames.MONGO);
+
+  @Autowired
+  private MongoTemplate mongoTemplate;
+
+  @Autowired
+  private ReferenceIndexVerifier verifier;
+
+  @Autowired
+  private DbcRepository dbcRepository;
+
+  @AfterEach
+  void restoreIndexes() {
+    new EnsureReferenceIndexes(mongoTemplate).migrate();
+  }
+
+  @Test
+  void shouldServeEveryHotQueryFromAnIndex() {
+    List<String> problems = verifier.verify();
+
+    assertThat("Unexpected problems.", problems, is(List.of()));
+
+    for (HotQuery query : ReferenceIndexes.getHotQueries()) {
+      assertThat("Unexpected plan of " + query.name() + ".", verifier.getPlanStages(query),
+          not(hasItem(ReferenceIndexVerifier.COLLECTION_SCAN)));
+    }
+  }
+
+  @Test
+  void shouldAnswerSortedListsFromCoveringIndexAlone() {
+    List<HotQuery> coveredQueries = ReferenceIndexes.getHotQueries().stream()
+        .filter(HotQuery::covered)
+        .toList();
+    assertThat("Unexpected covered query count.", coveredQueries, hasSize(12));
+
+    for (HotQuery query : coveredQueries) {
+      List<String> stages = verifier.getPlanStages(query);
+      assertThat("Unexpected plan of " + query.name() + ".", stages,
+          hasItem(ReferenceIndexVerifier.INDEX_SCAN));
+      assertThat("Unexpected plan of " + query.name() + ".", stages,
+          not(hasItem(ReferenceIndexVerifier.FETCH)));
+      assertThat("Unexpected plan of " + query.name() + ".", stages,
+          not(hasItem(ReferenceIndexVerifier.SORT)));
+    }
+  }
+
+  @Test
+  void shouldReadWholeEntitiesFromCoveringIndex() {
+    Dbc dbc = new Dbc();
+    dbc.setTisId("40");
+    dbc.setLabel("Health Education England North West");
+    dbc.setType("Local Office");
+    dbc.setInternal(true);
+    mongoTemplate.insert(dbc);
+
+    try {
+      List<Dbc> dbcs = dbcRepository.findAll(Sort.by("label"));
+
+      assertThat("Unexpected DBCs.", dbcs, is(List.of(dbc)));
+    } finally {
+      mongoTemplate.remove(new Query(), Dbc.class);
+    }
+  }
+
+  @Test
+  void shouldReportCollectionScanWhenIndexDropped() {
+    mongoTemplate.indexOps(LocalOffice.class).dropIndex("uuid");
+
+    List<String> problems = verifier.verify();
+
+    assertThat("Unexpected problems.", problems,
+        hasItem("Index 'uuid' of collection 'LocalOffice' is missing."));
+    assertThat("Unexpected problems.", problems, hasItem(
+        "Query 'LocalOffice.findByUuid' scans the whole 'LocalOffice' collection, plan "
+            + "[COLLSCAN]."));
+  }
+}
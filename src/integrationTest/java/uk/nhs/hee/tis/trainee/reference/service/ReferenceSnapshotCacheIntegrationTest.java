@@ -0,0 +1,153 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.reference.service;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import uk.nhs.hee.tis.trainee.reference.DockerImageNames;
+import uk.nhs.hee.tis.trainee.reference.model.Grade;
+import uk.nhs.hee.tis.trainee.reference.model.LocalOffice;
+import uk.nhs.hee.tis.trainee.reference.model.LocalOfficeContact;
+import uk.nhs.hee.tis.trainee.reference.model.ReferenceChange;
+
+@SpringBootTest(properties = "application.cache.snapshot-ttl=PT5M")
+@Testcontainers
+class ReferenceSnapshotCacheIntegrationTest {
+
+  private static final String TIS_ID = "40";
+  private static final String LABEL = "Default Grade";
+  private static final String LOCAL_OFFICE_ID = "a4b3c2d1";
+
+  @Container
+  @ServiceConnection
+  private static final MongoDBContainer mongoContainer = new MongoDBContainer(
+      DockerImageNames.MONGO);
+
+  @Autowired
+  private MongoTemplate mongoTemplate;
+
+  @Autowired
+  private GradeService gradeService;
+
+  @Autowired
+  private LocalOfficeService localOfficeService;
+
+  @Autowired
+  private LocalOfficeContactService localOfficeContactService;
+
+  @AfterEach
+  void cleanUp() {
+    gradeService.getSnapshotCache().invalidate();
+    localOfficeContactService.getSnapshotCache().invalidate();
+    mongoTemplate.findAllAndRemove(new Query(), Grade.class);
+    mongoTemplate.findAllAndRemove(new Query(), LocalOffice.class);
+    mongoTemplate.findAllAndRemove(new Query(), LocalOfficeContact.class);
+    mongoTemplate.findAllAndRemove(new Query(), ReferenceChange.class);
+  }
+
+  @Test
+  void shouldServeCachedSnapshotUntilInvalidated() {
+    assertThat("Unexpected cached grades.", gradeService.get(), hasSize(0));
+
+    // Written directly to the database, with change stream watchers disabled in tests.
+    Grade grade = new Grade();
+    grade.setTisId(TIS_ID);
+    grade.setLabel(LABEL);
+    mongoTemplate.insert(grade);
+
+    assertThat("Unexpected cached grades.", gradeService.get(), hasSize(0));
+
+    gradeService.getSnapshotCache().invalidate();
+
+    List<Grade> grades = gradeService.get();
+    assertThat("Unexpected cached grades.", grades, hasSize(1));
+    assertThat("Unexpected grade label.", grades.get(0).getLabel(), is(LABEL));
+  }
+
+  @Test
+  void shouldReloadSnapshotWithWritesMadeByService() {
+    assertThat("Unexpected cached grades.", gradeService.get(), hasSize(0));
+
+    Grade grade = new Grade();
+    grade.setTisId(TIS_ID);
+    grade.setLabel(LABEL);
+    gradeService.create(grade);
+
+    List<Grade> grades = gradeService.get();
+    assertThat("Unexpected cached grades.", grades, hasSize(1));
+    assertThat("Unexpected grade label.", grades.get(0).getLabel(), is(LABEL));
+
+    grade.setLabel("Updated Grade");
+    gradeService.update(grade);
+
+    grades = gradeService.get();
+    assertThat("Unexpected cached grades.", grades, hasSize(1));
+    assertThat("Unexpected grade label.", grades.get(0).getLabel(), is("Updated Grade"));
+  }
+
+  @Test
+  void shouldEnrichLocalOfficeContactsWithRenamedLocalOffice() {
+    LocalOffice localOffice = new LocalOffice();
+    localOffice.setTisId("1");
+    localOffice.setUuid(LOCAL_OFFICE_ID);
+    localOffice.setLabel("North");
+    localOfficeService.create(localOffice);
+
+    LocalOfficeContact contact1 = new LocalOfficeContact();
+    contact1.setTisId("10");
+    contact1.setLocalOfficeId(LOCAL_OFFICE_ID);
+    contact1.setContact("north@example.com");
+    localOfficeContactService.create(contact1);
+
+    assertThat("Unexpected local office name.",
+        localOfficeContactService.get().get(0).getLocalOfficeName(), is("North"));
+
+    localOffice.setLabel("North London");
+    localOfficeService.update(localOffice);
+
+    LocalOfficeContact contact2 = new LocalOfficeContact();
+    contact2.setTisId("20");
+    contact2.setLocalOfficeId(LOCAL_OFFICE_ID);
+    contact2.setContact("london@example.com");
+    localOfficeContactService.create(contact2);
+
+    List<LocalOfficeContact> contacts = localOfficeContactService.get();
+    assertThat("Unexpected local office contacts.", contacts, hasSize(2));
+    assertThat("Unexpected local office name.", contacts.get(0).getLocalOfficeName(),
+        is("North London"));
+    assertThat("Unexpected local office name.", contacts.get(1).getLocalOfficeName(),
+        is("North London"));
+  }
+}
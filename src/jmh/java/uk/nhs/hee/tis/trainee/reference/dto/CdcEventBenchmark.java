@@ -0,0 +1,111 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.reference.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares resolving the type of CDC update events while they are deserialized with resolving it
+ * from the deserialized patch operations.
+ *
+ * <p>The update patches follow the shape produced by the CDC lambda, a test of the previous value
+ * followed by a replace for each changed column.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CdcEventBenchmark {
+
+  @Param({"2", "10", "40"})
+  private int changedColumns;
+
+  private ObjectMapper mapper;
+  private String eventJson;
+  private CdcEvent event;
+
+  @Setup
+  public void setUp() throws IOException {
+    mapper = new ObjectMapper();
+
+    StringJoiner operations = new StringJoiner(",", "[", "]");
+
+    for (int i = 0; i < changedColumns; i++) {
+      operations.add("""
+          {"op":"test","path":"/column%d","value":"Original %d"}""".formatted(i, i));
+      operations.add("""
+          {"op":"replace","path":"/column%d","value":"Updated %d"}""".formatted(i, i));
+    }
+
+    eventJson = """
+        {"table":"College","patch":%s,"keys":{"id":"40"}}
+        """.formatted(operations);
+    event = mapper.readValue(eventJson, CdcEvent.class);
+  }
+
+  /**
+   * Deserialize an event, resolving its type and patch while parsing.
+   */
+  @Benchmark
+  public void deserialize(Blackhole blackhole) throws IOException {
+    CdcEvent deserialized = mapper.readValue(eventJson, CdcEvent.class);
+    blackhole.consume(deserialized.getEventType());
+    blackhole.consume(deserialized.getPatchWithoutTests());
+  }
+
+  /**
+   * Resolve the type of an event by converting each of its operations to a tree, as was needed
+   * before the type was resolved while parsing.
+   */
+  @Benchmark
+  public void resolveTypeFromOperations(Blackhole blackhole) {
+    CdcEvent constructed = new CdcEvent(event.operations(), event.keys());
+    blackhole.consume(constructed.getEventType());
+    blackhole.consume(constructed.getPatchWithoutTests());
+  }
+
+  /**
+   * Read the type and patch of an already deserialized event, as done for each log line.
+   */
+  @Benchmark
+  public void readResolvedType(Blackhole blackhole) {
+    blackhole.consume(event.getEventType());
+    blackhole.consume(event.getPatchWithoutTests());
+  }
+}
@@ -0,0 +1,160 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.reference.mapper;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.nhs.hee.tis.trainee.reference.model.College;
+import uk.nhs.hee.tis.trainee.reference.model.CovidChangeCircumstance;
+import uk.nhs.hee.tis.trainee.reference.model.Curriculum;
+import uk.nhs.hee.tis.trainee.reference.model.Dbc;
+import uk.nhs.hee.tis.trainee.reference.model.DeclarationType;
+import uk.nhs.hee.tis.trainee.reference.model.Gender;
+import uk.nhs.hee.tis.trainee.reference.model.Grade;
+import uk.nhs.hee.tis.trainee.reference.model.ImmigrationStatus;
+import uk.nhs.hee.tis.trainee.reference.model.LocalOffice;
+import uk.nhs.hee.tis.trainee.reference.model.LocalOfficeContact;
+import uk.nhs.hee.tis.trainee.reference.model.LocalOfficeContactType;
+import uk.nhs.hee.tis.trainee.reference.model.ProgrammeMembershipType;
+
+/**
+ * Measures the MapStruct mappers used on the read path, mapping a whole collection of entities to
+ * DTOs as done when a reference snapshot is serialized.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+  @Param({"College", "CovidChangeCircumstance", "Curriculum", "Dbc", "DeclarationType", "Gender",
+      "Grade", "ImmigrationStatus", "LocalOffice", "LocalOfficeContact", "LocalOfficeContactType",
+      "ProgrammeMembershipType"})
+  private String referenceType;
+
+  @Param({"10", "1000"})
+  private int entities;
+
+  private Supplier<List<?>> toDtos;
+
+  @Setup
+  public void setUp() {
+    switch (referenceType) {
+      case "College" -> prepare(CollegeMapper.class, College.class, CollegeMapper::toDtos);
+      case "CovidChangeCircumstance" -> prepare(CovidChangeCircumstanceMapper.class,
+          CovidChangeCircumstance.class, CovidChangeCircumstanceMapper::toDtos);
+      case "Curriculum" ->
+          prepare(CurriculumMapper.class, Curriculum.class, CurriculumMapper::toDtos);
+      case "Dbc" -> prepare(DbcMapper.class, Dbc.class, DbcMapper::toDtos);
+      case "DeclarationType" -> prepare(DeclarationTypeMapper.class, DeclarationType.class,
+          DeclarationTypeMapper::toDtos);
+      case "Gender" -> prepare(GenderMapper.class, Gender.class, GenderMapper::toDtos);
+      case "Grade" -> prepare(GradeMapper.class, Grade.class, GradeMapper::toDtos);
+      case "ImmigrationStatus" -> prepare(ImmigrationStatusMapper.class, ImmigrationStatus.class,
+          ImmigrationStatusMapper::toDtos);
+      case "LocalOffice" ->
+          prepare(LocalOfficeMapper.class, LocalOffice.class, LocalOfficeMapper::toDtos);
+      case "LocalOfficeContact" -> prepare(LocalOfficeContactMapper.class,
+          LocalOfficeContact.class, LocalOfficeContactMapper::toDtos);
+      case "LocalOfficeContactType" -> prepare(LocalOfficeContactTypeMapper.class,
+          LocalOfficeContactType.class, LocalOfficeContactTypeMapper::toDtos);
+      case "ProgrammeMembershipType" -> prepare(ProgrammeMembershipTypeMapper.class,
+          ProgrammeMembershipType.class, ProgrammeMembershipTypeMapper::toDtos);
+      default -> throw new IllegalArgumentException("Unknown reference type " + referenceType);
+    }
+  }
+
+  /**
+   * Prepare the entities and mapping for the benchmarked reference type.
+   *
+   * @param mapperType The type of the mapper.
+   * @param entityType The type of entity to map.
+   * @param toDtos     The mapping to benchmark.
+   * @param <M>        The type of the mapper.
+   * @param <T>        The type of entity to map.
+   */
+  private <M, T> void prepare(Class<M> mapperType, Class<T> entityType,
+      BiFunction<M, List<T>, List<?>> toDtos) {
+    M mapper = Mappers.getMapper(mapperType);
+    List<T> entityList = createEntities(entityType, entities);
+    this.toDtos = () -> toDtos.apply(mapper, entityList);
+  }
+
+  @Benchmark
+  public List<?> toDtos() {
+    return toDtos.get();
+  }
+
+  /**
+   * Create entities with every common reference field populated, fields which the entity type
+   * does not have are ignored.
+   *
+   * @param entityType The type of entity to create.
+   * @param count      The number of entities to create.
+   * @param <T>        The type of entity to create.
+   * @return The created entities.
+   */
+  static <T> List<T> createEntities(Class<T> entityType, int count) {
+    ObjectMapper mapper = new ObjectMapper()
+        .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    List<T> entityList = new ArrayList<>(count);
+
+    for (int i = 0; i < count; i++) {
+      Map<String, String> fields = Map.ofEntries(
+          Map.entry("id", "id-" + i),
+          Map.entry("tisId", String.valueOf(i)),
+          Map.entry("label", "Label " + i),
+          Map.entry("code", "CODE" + i),
+          Map.entry("type", "Type " + i),
+          Map.entry("uuid", "uuid-" + i),
+          Map.entry("curriculumSubType", "MEDICAL_CURRICULUM"),
+          Map.entry("localOfficeId", "local-office-" + i),
+          Map.entry("localOfficeName", "Local Office " + i),
+          Map.entry("contactTypeId", "contact-type-" + i),
+          Map.entry("contactTypeName", "Contact Type " + i),
+          Map.entry("contact", "contact" + i + "@example.com"));
+      entityList.add(mapper.convertValue(fields, entityType));
+    }
+
+    return entityList;
+  }
+}
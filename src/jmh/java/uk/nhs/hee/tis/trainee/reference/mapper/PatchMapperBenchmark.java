@@ -0,0 +1,117 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.reference.mapper;
+
+import java.util.concurrent.TimeUnit;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.nhs.hee.tis.trainee.reference.model.College;
+import uk.nhs.hee.tis.trainee.reference.model.Curriculum;
+import uk.nhs.hee.tis.trainee.reference.model.Dbc;
+import uk.nhs.hee.tis.trainee.reference.model.Gender;
+import uk.nhs.hee.tis.trainee.reference.model.Grade;
+import uk.nhs.hee.tis.trainee.reference.model.ImmigrationStatus;
+import uk.nhs.hee.tis.trainee.reference.model.LocalOffice;
+import uk.nhs.hee.tis.trainee.reference.model.LocalOfficeContact;
+import uk.nhs.hee.tis.trainee.reference.model.LocalOfficeContactType;
+import uk.nhs.hee.tis.trainee.reference.model.ProgrammeMembershipType;
+
+/**
+ * Measures the MapStruct mappers used on the update path, mapping an entity to its patch DTO and
+ * the patched DTO back to an entity as done for each CDC event.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PatchMapperBenchmark {
+
+  @Param({"College", "Curriculum", "Dbc", "Gender", "Grade", "ImmigrationStatus", "LocalOffice",
+      "LocalOfficeContact", "LocalOfficeContactType", "ProgrammeMembershipType"})
+  private String referenceType;
+
+  private PatchMapper<Object, ?> mapper;
+  private Object entity;
+
+  @Setup
+  public void setUp() {
+    switch (referenceType) {
+      case "College" -> prepare(CollegeMapper.class, College.class);
+      case "Curriculum" -> prepare(CurriculumMapper.class, Curriculum.class);
+      case "Dbc" -> prepare(DbcMapper.class, Dbc.class);
+      case "Gender" -> prepare(GenderMapper.class, Gender.class);
+      case "Grade" -> prepare(GradeMapper.class, Grade.class);
+      case "ImmigrationStatus" -> prepare(ImmigrationStatusMapper.class, ImmigrationStatus.class);
+      case "LocalOffice" -> prepare(LocalOfficeMapper.class, LocalOffice.class);
+      case "LocalOfficeContact" ->
+          prepare(LocalOfficeContactMapper.class, LocalOfficeContact.class);
+      case "LocalOfficeContactType" ->
+          prepare(LocalOfficeContactTypeMapper.class, LocalOfficeContactType.class);
+      case "ProgrammeMembershipType" ->
+          prepare(ProgrammeMembershipTypeMapper.class, ProgrammeMembershipType.class);
+      default -> throw new IllegalArgumentException("Unknown reference type " + referenceType);
+    }
+  }
+
+  /**
+   * Prepare the entity and mapper for the benchmarked reference type.
+   *
+   * @param mapperType The type of the mapper.
+   * @param entityType The type of entity to map.
+   */
+  @SuppressWarnings("unchecked")
+  private void prepare(Class<? extends PatchMapper<?, ?>> mapperType, Class<?> entityType) {
+    mapper = (PatchMapper<Object, ?>) Mappers.getMapper(mapperType);
+    entity = MapperBenchmark.createEntities(entityType, 1).get(0);
+  }
+
+  @Benchmark
+  public Object roundTrip() {
+    return roundTrip(mapper, entity);
+  }
+
+  /**
+   * Map an entity to its patch DTO and back to an entity.
+   *
+   * @param mapper The patch mapper to use.
+   * @param entity The entity to map.
+   * @param <T>    The type of entity.
+   * @param <D>    The type of patch DTO.
+   * @return The mapped entity.
+   */
+  private static <T, D> T roundTrip(PatchMapper<T, D> mapper, T entity) {
+    D dto = mapper.toPatchDto(entity);
+    return mapper.toEntity(dto);
+  }
+}
@@ -0,0 +1,169 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.reference.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DocumentCodec;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.projection.EntityProjection;
+import uk.nhs.hee.tis.trainee.reference.dto.LocalOfficeContactDetailsDto;
+import uk.nhs.hee.tis.trainee.reference.dto.TraineeType;
+import uk.nhs.hee.tis.trainee.reference.mapper.LocalOfficeContactMapper;
+import uk.nhs.hee.tis.trainee.reference.model.LocalOfficeContact;
+
+/**
+ * Compares reading local office contact details from whole documents, via the entity and the
+ * MapStruct mapper, with reading them from documents projected to only the detail fields.
+ *
+ * <p>Each invocation decodes the BSON returned by the database and converts it, matching the work
+ * done per request. The BSON size of each kind of document is logged during setup, run with
+ * {@code -prof gc} to compare the bytes allocated per invocation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LocalOfficeContactProjectionBenchmark {
+
+  private static final Logger log = LoggerFactory.getLogger(
+      LocalOfficeContactProjectionBenchmark.class);
+
+  @Param({"10", "1000"})
+  private int contacts;
+
+  private MappingMongoConverter converter;
+  private LocalOfficeContactMapper mapper;
+  private EntityProjection<LocalOfficeContactDetailsDto, LocalOfficeContact> projection;
+  private DocumentCodec codec;
+
+  private List<RawBsonDocument> wholeDocuments;
+  private List<RawBsonDocument> projectedDocuments;
+
+  @Setup
+  public void setUp() {
+    MongoMappingContext mappingContext = new MongoMappingContext();
+    converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+    converter.afterPropertiesSet();
+    mapper = Mappers.getMapper(LocalOfficeContactMapper.class);
+    projection = converter.getProjectionIntrospector()
+        .introspect(LocalOfficeContactDetailsDto.class, LocalOfficeContact.class);
+    codec = new DocumentCodec();
+
+    wholeDocuments = new ArrayList<>(contacts);
+    projectedDocuments = new ArrayList<>(contacts);
+
+    for (int i = 0; i < contacts; i++) {
+      LocalOfficeContact contact = new LocalOfficeContact();
+      contact.setTisId(UUID.randomUUID().toString());
+      contact.setLocalOfficeId(UUID.randomUUID().toString());
+      contact.setLocalOfficeName("Local Office " + i % 20);
+      contact.setContactTypeId(UUID.randomUUID().toString());
+      contact.setContactTypeName("Contact Type " + i % 10 + " - Foundation");
+      contact.setContactTypeDisplayName("Contact Type " + i % 10);
+      contact.setTraineeType(TraineeType.FOUNDATION);
+      contact.setContact("contact" + i + "@example.com");
+      contact.setLabel("contact%d@example.com (Contact Type %d - Foundation) - Local Office %d"
+          .formatted(i, i % 10, i % 20));
+
+      Document whole = new Document();
+      converter.write(contact, whole);
+      wholeDocuments.add(new RawBsonDocument(whole, codec));
+
+      // Matches LocalOfficeContactRepository.DETAILS_FIELDS.
+      Document projected = new Document("_id", contact.getTisId())
+          .append("localOfficeId", contact.getLocalOfficeId())
+          .append("contactTypeId", contact.getContactTypeId())
+          .append("contact", contact.getContact())
+          .append("label", contact.getLabel())
+          .append("localOfficeName", contact.getLocalOfficeName())
+          .append("contactTypeName", contact.getContactTypeDisplayName());
+      projectedDocuments.add(new RawBsonDocument(projected, codec));
+    }
+
+    log.info("BSON bytes for {} contacts: whole {}, projected {}.", contacts,
+        size(wholeDocuments), size(projectedDocuments));
+  }
+
+  /**
+   * Get the total BSON size of the given documents.
+   *
+   * @param documents The documents to measure.
+   * @return The total size in bytes.
+   */
+  private static int size(List<RawBsonDocument> documents) {
+    return documents.stream()
+        .mapToInt(document -> document.getByteBuffer().remaining())
+        .sum();
+  }
+
+  /**
+   * Read whole documents into entities and map them to details, as done before projections.
+   */
+  @Benchmark
+  public List<LocalOfficeContactDetailsDto> entityAndMapper() {
+    List<LocalOfficeContactDetailsDto> details = new ArrayList<>(contacts);
+
+    for (RawBsonDocument raw : wholeDocuments) {
+      LocalOfficeContact contact = converter.read(LocalOfficeContact.class, raw.decode(codec));
+      details.add(mapper.toDetailsDto(contact));
+    }
+
+    return details;
+  }
+
+  /**
+   * Read projected documents straight into details, as done by the repository's detail queries.
+   */
+  @Benchmark
+  public List<LocalOfficeContactDetailsDto> projection() {
+    List<LocalOfficeContactDetailsDto> details = new ArrayList<>(contacts);
+
+    for (RawBsonDocument raw : projectedDocuments) {
+      details.add(converter.project(projection, raw.decode(codec)));
+    }
+
+    return details;
+  }
+}
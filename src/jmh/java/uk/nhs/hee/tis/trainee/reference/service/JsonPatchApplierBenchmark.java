@@ -0,0 +1,104 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.reference.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.fge.jsonpatch.JsonPatch;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.nhs.hee.tis.trainee.reference.dto.CollegePatchDto;
+import uk.nhs.hee.tis.trainee.reference.mapper.CollegeMapper;
+import uk.nhs.hee.tis.trainee.reference.model.College;
+
+/**
+ * Compares applying College CDC patches through the patch DTO's setters with applying them by
+ * converting the patch DTO to a JSON tree and back.
+ *
+ * <p>Each invocation maps the entity to its patch DTO, applies the patch and maps the result back
+ * to an entity, matching the work done per CDC event.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonPatchApplierBenchmark {
+
+  private static final String UPDATE_PATCH = """
+      [{"op":"replace","path":"/name","value":"Updated College"}]
+      """;
+  private static final String INSERT_PATCH = """
+      [{"op":"add","path":"","value":{"id":"40","name":"New College","abbreviation":"NC"}}]
+      """;
+
+  @Param({"update", "insert"})
+  private String eventType;
+
+  private CollegeMapper collegeMapper;
+  private JsonPatchApplier<CollegePatchDto> applier;
+  private College college;
+  private JsonPatch patch;
+
+  @Setup
+  public void setUp() throws IOException {
+    ObjectMapper mapper = new ObjectMapper();
+    collegeMapper = Mappers.getMapper(CollegeMapper.class);
+    applier = new JsonPatchApplier<>(CollegePatchDto.class, mapper);
+
+    college = new College();
+    college.setId("1");
+    college.setTisId("40");
+    college.setLabel("College");
+
+    String patchJson = eventType.equals("insert") ? INSERT_PATCH : UPDATE_PATCH;
+    patch = JsonPatch.fromJson(mapper.readTree(patchJson));
+  }
+
+  @Benchmark
+  public College compiledPatch() throws Exception {
+    CollegePatchDto dto = collegeMapper.toPatchDto(college);
+    CollegePatchDto patchedDto = applier.apply(dto, patch);
+    collegeMapper.copyEntityId(dto, patchedDto);
+    return collegeMapper.toEntity(patchedDto);
+  }
+
+  @Benchmark
+  public College treePatch() throws Exception {
+    CollegePatchDto dto = collegeMapper.toPatchDto(college);
+    CollegePatchDto patchedDto = applier.applyToTree(dto, patch);
+    collegeMapper.copyEntityId(dto, patchedDto);
+    return collegeMapper.toEntity(patchedDto);
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.reference.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.nhs.hee.tis.trainee.reference.dto.TraineeType;
+import uk.nhs.hee.tis.trainee.reference.model.LocalOfficeContact;
+import uk.nhs.hee.tis.trainee.reference.repository.LocalOfficeContactRepository;
+
+/**
+ * Measures filtering the cached local office contacts by trainee type, as done for each request
+ * for local office contacts.
+ *
+ * <p>One in four contacts is a foundation contact, the snapshot is loaded before measurement so
+ * only the filtering is measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LocalOfficeContactServiceBenchmark {
+
+  @Param({"10", "1000", "100000"})
+  private int contacts;
+
+  @Param({"FOUNDATION", "SPECIALTY"})
+  private TraineeType traineeType;
+
+  private LocalOfficeContactService service;
+
+  @Setup
+  public void setUp() {
+    List<LocalOfficeContact> contactList = new ArrayList<>(contacts);
+
+    for (int i = 0; i < contacts; i++) {
+      LocalOfficeContact contact = new LocalOfficeContact();
+      contact.setTisId(String.valueOf(i));
+      contact.setContact("contact" + i + "@example.com");
+      contact.setTraineeType(i % 4 == 0 ? TraineeType.FOUNDATION : TraineeType.SPECIALTY);
+      contactList.add(contact);
+    }
+
+    LocalOfficeContactRepository repository = mock(LocalOfficeContactRepository.class);
+    when(repository.findAllFromPrimary(any())).thenReturn(contactList);
+
+    service = new LocalOfficeContactService(repository, null, null, new ObjectMapper());
+    service.get(traineeType);
+  }
+
+  @Benchmark
+  public List<LocalOfficeContact> filterByTraineeType() {
+    return service.get(traineeType);
+  }
+}
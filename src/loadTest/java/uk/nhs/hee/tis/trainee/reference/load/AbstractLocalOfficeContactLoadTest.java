@@ -0,0 +1,153 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.reference.load;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+import uk.nhs.hee.tis.trainee.reference.dto.TraineeType;
+import uk.nhs.hee.tis.trainee.reference.load.LoadRunner.LoadTestResult;
+import uk.nhs.hee.tis.trainee.reference.model.LocalOfficeContact;
+
+/**
+ * A load test harness for {@code GET /api/local-office-contact}, subclasses choose the threading
+ * mode so the throughput and p99 latency of each mode can be compared.
+ *
+ * <p>The snapshot cache is disabled so every request reads from MongoDB, which is the blocking
+ * work virtual threads are intended to help with. The load can be tuned with the
+ * {@code loadTest.requests}, {@code loadTest.concurrency} and {@code loadTest.records} system
+ * properties.
+ */
+@Slf4j
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT, properties = {
+    "application.cache.snapshot-ttl=PT0S",
+    "mongock.enabled=false",
+    "spring.cloud.aws.region.static=eu-west-2",
+    "spring.cloud.aws.sqs.enabled=false"
+})
+@Testcontainers
+abstract class AbstractLocalOfficeContactLoadTest {
+
+  private static final int REQUESTS = Integer.getInteger("loadTest.requests", 5_000);
+  private static final int CONCURRENCY = Integer.getInteger("loadTest.concurrency", 400);
+  private static final int RECORDS = Integer.getInteger("loadTest.records", 200);
+  private static final int WARM_UP_REQUESTS = Math.min(REQUESTS / 10, 500);
+
+  @Container
+  @ServiceConnection
+  private static final MongoDBContainer mongoContainer = new MongoDBContainer(
+      DockerImageName.parse("mongo:5"));
+
+  @LocalServerPort
+  private int port;
+
+  @Autowired
+  private MongoTemplate mongoTemplate;
+
+  private final HttpClient client = HttpClient.newBuilder()
+      .version(HttpClient.Version.HTTP_1_1)
+      .connectTimeout(Duration.ofSeconds(10))
+      .build();
+
+  /**
+   * Get the name of the threading mode under test, for reporting.
+   *
+   * @return The threading mode name.
+   */
+  abstract String getMode();
+
+  @BeforeEach
+  void seedContacts() {
+    if (mongoTemplate.count(new Query(), LocalOfficeContact.class) >= RECORDS) {
+      return;
+    }
+
+    List<LocalOfficeContact> contacts = new ArrayList<>();
+    for (int i = 0; i < RECORDS; i++) {
+      LocalOfficeContact contact = new LocalOfficeContact();
+      contact.setTisId(UUID.randomUUID().toString());
+      contact.setLocalOfficeId(UUID.randomUUID().toString());
+      contact.setLocalOfficeName("Local Office " + i % 20);
+      contact.setContactTypeId(UUID.randomUUID().toString());
+      contact.setContactTypeName("Contact Type " + i % 10);
+      contact.setContactTypeDisplayName("Contact Type " + i % 10);
+      contact.setTraineeType(TraineeType.SPECIALTY);
+      contact.setContact("contact" + i + "@example.com");
+      contact.setLabel("Contact " + i);
+      contacts.add(contact);
+    }
+    mongoTemplate.insertAll(contacts);
+  }
+
+  @Test
+  void shouldServeLocalOfficeContactsUnderLoad() throws Exception {
+    URI uri = URI.create("http://localhost:%d/reference/api/local-office-contact".formatted(port));
+    HttpRequest request = HttpRequest.newBuilder(uri).GET().build();
+
+    LoadRunner runner = new LoadRunner(CONCURRENCY);
+    runner.run(getMode() + " threads warm-up", WARM_UP_REQUESTS, n -> send(request));
+    LoadTestResult result = runner.run(getMode() + " threads", REQUESTS, n -> send(request));
+
+    log.info("{}", result);
+    assertThat("Unexpected failed requests.", result.failures(), is(0));
+  }
+
+  /**
+   * Send the request and check it succeeded.
+   *
+   * @param request The request to send.
+   * @return Whether the request succeeded.
+   */
+  private boolean send(HttpRequest request) {
+    try {
+      return client.send(request, BodyHandlers.discarding()).statusCode() == 200;
+    } catch (IOException e) {
+      return false;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+}
@@ -0,0 +1,135 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.reference.load;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntPredicate;
+
+/**
+ * Runs an operation many times from concurrent clients and measures the throughput and latency.
+ */
+class LoadRunner {
+
+  private final int concurrency;
+
+  /**
+   * Create a load runner.
+   *
+   * @param concurrency The number of concurrent clients.
+   */
+  LoadRunner(int concurrency) {
+    this.concurrency = concurrency;
+  }
+
+  /**
+   * Run the operation the given number of times, from {@link #concurrency} concurrent clients.
+   *
+   * @param name       The name of the operation, for reporting.
+   * @param operations The total number of operations to run.
+   * @param operation  The operation to run, given the operation number and returning whether it
+   *                   succeeded.
+   * @return The throughput and latency of the operations.
+   */
+  LoadTestResult run(String name, int operations, IntPredicate operation) throws Exception {
+    long[] latencies = new long[operations];
+    AtomicInteger next = new AtomicInteger();
+    AtomicInteger failures = new AtomicInteger();
+
+    long start = System.nanoTime();
+
+    try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+      List<Future<?>> futures = new ArrayList<>();
+
+      for (int i = 0; i < concurrency; i++) {
+        futures.add(clients.submit(() -> {
+          for (int n = next.getAndIncrement(); n < operations; n = next.getAndIncrement()) {
+            long sent = System.nanoTime();
+
+            try {
+              if (!operation.test(n)) {
+                failures.incrementAndGet();
+              }
+            } catch (Exception e) {
+              failures.incrementAndGet();
+            }
+
+            latencies[n] = System.nanoTime() - sent;
+          }
+          return null;
+        }));
+      }
+
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    }
+
+    Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+    Arrays.sort(latencies);
+    return new LoadTestResult(name, operations, concurrency, failures.get(), elapsed,
+        operations / (elapsed.toNanos() / 1e9), percentile(latencies, 50),
+        percentile(latencies, 95), percentile(latencies, 99));
+  }
+
+  /**
+   * Get a percentile from a sorted array of latencies.
+   *
+   * @param sortedLatencies The latencies in nanoseconds, sorted in ascending order.
+   * @param percentile      The percentile to get.
+   * @return The latency at the given percentile.
+   */
+  private static Duration percentile(long[] sortedLatencies, int percentile) {
+    int index = (int) Math.ceil(percentile / 100.0 * sortedLatencies.length) - 1;
+    return Duration.ofNanos(sortedLatencies[Math.max(index, 0)]);
+  }
+
+  /**
+   * The results of a load test run.
+   *
+   * @param name        The name of the operation.
+   * @param operations  The number of operations run.
+   * @param concurrency The number of concurrent clients.
+   * @param failures    The number of failed operations.
+   * @param elapsed     The total time taken.
+   * @param throughput  The number of operations per second.
+   * @param p50         The median latency.
+   * @param p95         The 95th percentile latency.
+   * @param p99         The 99th percentile latency.
+   */
+  record LoadTestResult(String name, int operations, int concurrency, int failures,
+      Duration elapsed, double throughput, Duration p50, Duration p95, Duration p99) {
+
+    @Override
+    public String toString() {
+      return ("%s: %d operations from %d clients in %d ms, %d failed, %.1f ops/s, p50 %d ms, "
+          + "p95 %d ms, p99 %d ms").formatted(name, operations, concurrency, elapsed.toMillis(),
+          failures, throughput, p50.toMillis(), p95.toMillis(), p99.toMillis());
+    }
+  }
+}
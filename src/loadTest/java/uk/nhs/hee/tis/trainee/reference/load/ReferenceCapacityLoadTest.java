@@ -0,0 +1,342 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.reference.load;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.testcontainers.containers.localstack.LocalStackContainer.Service.SQS;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.awspring.cloud.sqs.operations.SqsTemplate;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.containers.localstack.LocalStackContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+import uk.nhs.hee.tis.trainee.reference.dto.TraineeType;
+import uk.nhs.hee.tis.trainee.reference.load.LoadRunner.LoadTestResult;
+import uk.nhs.hee.tis.trainee.reference.model.College;
+import uk.nhs.hee.tis.trainee.reference.model.CovidChangeCircumstance;
+import uk.nhs.hee.tis.trainee.reference.model.Curriculum;
+import uk.nhs.hee.tis.trainee.reference.model.Dbc;
+import uk.nhs.hee.tis.trainee.reference.model.DeclarationType;
+import uk.nhs.hee.tis.trainee.reference.model.Gender;
+import uk.nhs.hee.tis.trainee.reference.model.Grade;
+import uk.nhs.hee.tis.trainee.reference.model.ImmigrationStatus;
+import uk.nhs.hee.tis.trainee.reference.model.LocalOffice;
+import uk.nhs.hee.tis.trainee.reference.model.LocalOfficeContact;
+import uk.nhs.hee.tis.trainee.reference.model.LocalOfficeContactType;
+import uk.nhs.hee.tis.trainee.reference.model.ProgrammeMembershipType;
+
+/**
+ * An end-to-end capacity test, driving concurrent reads of every reference resource while a storm
+ * of CDC events is sent to the College patch FIFO queue.
+ *
+ * <p>Unlike the threading mode comparisons the service runs with its production configuration,
+ * so reads are served from the snapshot cache and invalidated by the CDC writes. The throughput
+ * and p50, p95 and p99 latency of the reads and CDC sends are logged, along with the time taken
+ * to apply every event and the number of MongoDB operations of each type. The load can be tuned
+ * with the {@code loadTest.requests}, {@code loadTest.concurrency}, {@code loadTest.records} and
+ * {@code loadTest.events} system properties.
+ */
+@Slf4j
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT, properties = {
+    "application.environment=load",
+    "mongock.enabled=false"
+})
+@Testcontainers
+class ReferenceCapacityLoadTest {
+
+  private static final int REQUESTS = Integer.getInteger("loadTest.requests", 10_000);
+  private static final int CONCURRENCY = Integer.getInteger("loadTest.concurrency", 200);
+  private static final int RECORDS = Integer.getInteger("loadTest.records", 1_000);
+  private static final int EVENTS = Integer.getInteger("loadTest.events", 2_000);
+  private static final int EVENT_CONCURRENCY = 20;
+  private static final Duration EVENT_TIMEOUT = Duration.ofMinutes(5);
+
+  private static final List<String> PATCH_QUEUE_TYPES = List.of("college", "curriculum", "dbc",
+      "gender", "grade", "immigration-status", "local-office", "local-office-contact",
+      "local-office-contact-type", "programme-membership-type");
+  private static final String COLLEGE_PATCH_QUEUE =
+      "tis-trainee-reference-load-college-patch.fifo";
+
+  private static final List<String> PATHS = List.of(
+      "/api/college",
+      "/api/covid-change-circs",
+      "/api/curriculum",
+      "/api/dbc",
+      "/api/declaration-type",
+      "/api/gender",
+      "/api/grade",
+      "/api/immigration-status",
+      "/api/local-office",
+      "/api/local-office-contact",
+      "/api/local-office-contact?traineeType=FOUNDATION",
+      "/api/local-office-contact-type",
+      "/api/programme-membership-type");
+
+  private static final List<Class<?>> SEEDED_TYPES = List.of(College.class,
+      CovidChangeCircumstance.class, Curriculum.class, Dbc.class, DeclarationType.class,
+      Gender.class, Grade.class, ImmigrationStatus.class, LocalOffice.class,
+      LocalOfficeContactType.class, ProgrammeMembershipType.class);
+
+  @Container
+  @ServiceConnection
+  private static final MongoDBContainer mongoContainer = new MongoDBContainer(
+      DockerImageName.parse("mongo:5"));
+
+  @Container
+  private static final LocalStackContainer localstack = new LocalStackContainer(
+      DockerImageName.parse("localstack/localstack:3"))
+      .withServices(SQS);
+
+  @DynamicPropertySource
+  private static void overrideProperties(DynamicPropertyRegistry registry) {
+    registry.add("spring.cloud.aws.region.static", localstack::getRegion);
+    registry.add("spring.cloud.aws.credentials.access-key", localstack::getAccessKey);
+    registry.add("spring.cloud.aws.credentials.secret-key", localstack::getSecretKey);
+    registry.add("spring.cloud.aws.sqs.endpoint",
+        () -> localstack.getEndpointOverride(SQS).toString());
+  }
+
+  @BeforeAll
+  static void setUpBeforeAll() throws IOException, InterruptedException {
+    for (String type : PATCH_QUEUE_TYPES) {
+      localstack.execInContainer("awslocal", "sqs", "create-queue", "--queue-name",
+          "tis-trainee-reference-load-%s-patch.fifo".formatted(type), "--attributes",
+          "FifoQueue=true");
+    }
+  }
+
+  @LocalServerPort
+  private int port;
+
+  @Autowired
+  private MongoTemplate mongoTemplate;
+
+  @Autowired
+  private SqsTemplate sqsTemplate;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  private final HttpClient client = HttpClient.newBuilder()
+      .version(HttpClient.Version.HTTP_1_1)
+      .connectTimeout(Duration.ofSeconds(10))
+      .build();
+
+  @BeforeEach
+  void seedReferenceData() {
+    if (mongoTemplate.count(new Query(), College.class) >= RECORDS) {
+      return;
+    }
+
+    for (Class<?> type : SEEDED_TYPES) {
+      List<Document> documents = new ArrayList<>();
+      for (int i = 0; i < RECORDS; i++) {
+        documents.add(new Document()
+            .append("tisId", String.valueOf(i))
+            .append("label", "%s %d".formatted(type.getSimpleName(), i))
+            .append("abbreviation", "ABC" + i)
+            .append("code", "CODE" + i)
+            .append("uuid", UUID.randomUUID().toString()));
+      }
+      mongoTemplate.insert(documents, mongoTemplate.getCollectionName(type));
+    }
+
+    List<Document> contacts = new ArrayList<>();
+    for (int i = 0; i < RECORDS; i++) {
+      boolean foundation = i % 4 == 0;
+      contacts.add(new Document()
+          .append("_id", UUID.randomUUID().toString())
+          .append("localOfficeId", UUID.randomUUID().toString())
+          .append("localOfficeName", "Local Office " + i % 20)
+          .append("contactTypeId", UUID.randomUUID().toString())
+          .append("contactTypeName", "Contact Type " + i % 10 + (foundation ? " - Foundation" : ""))
+          .append("contactTypeDisplayName", "Contact Type " + i % 10)
+          .append("traineeType",
+              (foundation ? TraineeType.FOUNDATION : TraineeType.SPECIALTY).name())
+          .append("contact", "contact" + i + "@example.com")
+          .append("label", "Contact " + i));
+    }
+    mongoTemplate.insert(contacts, mongoTemplate.getCollectionName(LocalOfficeContact.class));
+  }
+
+  @Test
+  void shouldServeReadsDuringCdcStorm() throws Exception {
+    List<HttpRequest> requests = PATHS.stream()
+        .map(path -> URI.create("http://localhost:%d/reference%s".formatted(port, path)))
+        .map(uri -> HttpRequest.newBuilder(uri).GET().build())
+        .toList();
+    LoadRunner readRunner = new LoadRunner(CONCURRENCY);
+    LoadRunner eventRunner = new LoadRunner(EVENT_CONCURRENCY);
+
+    readRunner.run("warm-up reads", requests.size() * 10,
+        n -> send(requests.get(n % requests.size())));
+    Map<String, Long> opsBefore = getMongoOpCounts();
+
+    long stormStart = System.nanoTime();
+    LoadTestResult reads;
+    LoadTestResult sends;
+
+    try (ExecutorService storm = Executors.newSingleThreadExecutor()) {
+      Future<LoadTestResult> stormResult = storm.submit(
+          () -> eventRunner.run("college-patch sends", EVENTS, this::sendCollegeEvent));
+      reads = readRunner.run("reads", REQUESTS, n -> send(requests.get(n % requests.size())));
+      sends = stormResult.get();
+    }
+
+    boolean applied = awaitCollegeEvents();
+    Duration applyTime = Duration.ofNanos(System.nanoTime() - stormStart);
+    Map<String, Long> opsAfter = getMongoOpCounts();
+
+    Map<String, Long> ops = new LinkedHashMap<>();
+    opsAfter.forEach((op, count) -> ops.put(op, count - opsBefore.getOrDefault(op, 0L)));
+
+    log.info("{}", reads);
+    log.info("{}", sends);
+    log.info("{} CDC events applied in {} ms, {} events/s", EVENTS, applyTime.toMillis(),
+        "%.1f".formatted(EVENTS / (applyTime.toNanos() / 1e9)));
+    log.info("MongoDB operations: {}", ops);
+
+    assertThat("Unexpected failed reads.", reads.failures(), is(0));
+    assertThat("Unexpected failed sends.", sends.failures(), is(0));
+    assertThat("Unexpected unapplied events.", applied, is(true));
+  }
+
+  /**
+   * Send the request and check it succeeded.
+   *
+   * @param request The request to send.
+   * @return Whether the request succeeded.
+   */
+  private boolean send(HttpRequest request) {
+    try {
+      return client.send(request, BodyHandlers.discarding()).statusCode() == 200;
+    } catch (IOException e) {
+      return false;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  /**
+   * Send a College update event, renaming one of the seeded colleges. Events for the same college
+   * share a message group so they are applied in order, as with events from the CDC lambda.
+   *
+   * @param n The event number.
+   * @return Whether the event was sent.
+   */
+  private boolean sendCollegeEvent(int n) {
+    String tisId = String.valueOf(n % RECORDS);
+    String event = """
+        {
+          "patch": [
+            { "op": "replace", "path": "/name", "value": "Storm %d" }
+          ],
+          "keys": { "id": "%s" }
+        }
+        """.formatted(n, tisId);
+
+    try {
+      JsonNode payload = objectMapper.readTree(event);
+      sqsTemplate.send(to -> to
+          .queue(COLLEGE_PATCH_QUEUE)
+          .payload(payload)
+          .messageGroupId(tisId)
+          .messageDeduplicationId(UUID.randomUUID().toString()));
+      return true;
+    } catch (IOException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Wait for every College event to be applied, each college should be labelled by the last event
+   * sent for it.
+   *
+   * @return Whether every event was applied before timing out.
+   */
+  private boolean awaitCollegeEvents() throws InterruptedException {
+    Map<String, String> expectedLabels = new HashMap<>();
+    for (int n = 0; n < EVENTS; n++) {
+      expectedLabels.put(String.valueOf(n % RECORDS), "Storm " + n);
+    }
+    Query query = Query.query(Criteria.where("label").in(expectedLabels.values()));
+
+    long deadline = System.nanoTime() + EVENT_TIMEOUT.toNanos();
+    while (System.nanoTime() < deadline) {
+      if (mongoTemplate.count(query, College.class) == expectedLabels.size()) {
+        return true;
+      }
+      Thread.sleep(100);
+    }
+
+    return false;
+  }
+
+  /**
+   * Get the number of operations of each type run by the MongoDB server since it started.
+   *
+   * @return The operation counts by operation type.
+   */
+  private Map<String, Long> getMongoOpCounts() {
+    Document opCounters = mongoTemplate.executeCommand(new Document("serverStatus", 1))
+        .get("opcounters", Document.class);
+
+    Map<String, Long> counts = new LinkedHashMap<>();
+    opCounters.forEach((op, count) -> counts.put(op, ((Number) count).longValue()));
+    return counts;
+  }
+}
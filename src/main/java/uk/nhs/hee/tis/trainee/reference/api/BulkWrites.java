@@ -0,0 +1,98 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.reference.api;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import uk.nhs.hee.tis.trainee.reference.dto.BulkWriteResultDto;
+import uk.nhs.hee.tis.trainee.reference.dto.BulkWriteStatus;
+import uk.nhs.hee.tis.trainee.reference.repository.ReferenceWrite;
+import uk.nhs.hee.tis.trainee.reference.service.AbstractReferenceService;
+
+/**
+ * Shared handling for the bulk upsert endpoints of the reference resources.
+ */
+final class BulkWrites {
+
+  private BulkWrites() {
+  }
+
+  /**
+   * Validate and upsert a batch of DTOs using a single bulk write. As with the single record
+   * endpoints, an invalid DTO deletes any existing entity with the same TIS ID. DTOs without a TIS
+   * ID are invalid and are not written.
+   *
+   * @param dtos      The DTOs to upsert.
+   * @param getTisId  A function to get the TIS ID of a DTO.
+   * @param validator A predicate to check whether a DTO is valid.
+   * @param toEntity  A function to map a DTO to an entity.
+   * @param service   The service to write the entities with.
+   * @param <D>       The DTO type.
+   * @param <T>       The entity type.
+   * @return The result of each DTO, in the order given.
+   */
+  static <D, T> List<BulkWriteResultDto> upsert(List<D> dtos, Function<D, String> getTisId,
+      Predicate<D> validator, Function<D, T> toEntity, AbstractReferenceService<T, ?> service) {
+    List<ReferenceWrite<T>> writes = new ArrayList<>(dtos.size());
+    List<Integer> writePositions = new ArrayList<>(dtos.size());
+
+    for (int i = 0; i < dtos.size(); i++) {
+      D dto = dtos.get(i);
+      String tisId = getTisId.apply(dto);
+
+      if (tisId != null) {
+        writes.add(validator.test(dto) ? ReferenceWrite.upsert(tisId, toEntity.apply(dto))
+            : ReferenceWrite.delete(tisId));
+        writePositions.add(i);
+      }
+    }
+
+    Set<Integer> failedWrites = service.writeAll(writes);
+    BulkWriteStatus[] statuses = new BulkWriteStatus[dtos.size()];
+
+    for (int i = 0; i < writes.size(); i++) {
+      BulkWriteStatus status;
+
+      if (failedWrites.contains(i)) {
+        status = BulkWriteStatus.FAILED;
+      } else if (writes.get(i).isDelete()) {
+        status = BulkWriteStatus.INVALID;
+      } else {
+        status = BulkWriteStatus.UPSERTED;
+      }
+
+      statuses[writePositions.get(i)] = status;
+    }
+
+    List<BulkWriteResultDto> results = new ArrayList<>(dtos.size());
+
+    for (int i = 0; i < dtos.size(); i++) {
+      BulkWriteStatus status = statuses[i] == null ? BulkWriteStatus.INVALID : statuses[i];
+      results.add(new BulkWriteResultDto(getTisId.apply(dtos.get(i)), status));
+    }
+
+    return results;
+  }
+}
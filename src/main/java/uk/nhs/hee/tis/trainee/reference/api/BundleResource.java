@@ -0,0 +1,103 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.reference.api;
+
+import com.amazonaws.xray.spring.aop.XRayEnabled;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import uk.nhs.hee.tis.trainee.reference.dto.TraineeType;
+
+/**
+ * A resource combining several reference lists in to a single response, so a page needing many
+ * reference types can load them all with one request.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api")
+@XRayEnabled
+public class BundleResource {
+
+  private final Map<String, Supplier<ResponseEntity<byte[]>>> partsByType = new LinkedHashMap<>();
+  private final JsonResponseFactory responseFactory;
+
+  BundleResource(CollegeResource collegeResource,
+      CovidChangeCircumstanceResource covidChangeCircumstanceResource,
+      CurriculumResource curriculumResource, DbcResource dbcResource,
+      DeclarationTypeResource declarationTypeResource, GenderResource genderResource,
+      GradeResource gradeResource, ImmigrationStatusResource immigrationStatusResource,
+      LocalOfficeResource localOfficeResource,
+      LocalOfficeContactResource localOfficeContactResource,
+      LocalOfficeContactTypeResource localOfficeContactTypeResource,
+      ProgrammeMembershipTypeResource programmeMembershipTypeResource,
+      JsonResponseFactory responseFactory) {
+    partsByType.put("college", collegeResource::getColleges);
+    partsByType.put("covid-change-circs",
+        covidChangeCircumstanceResource::getCovidChangeCircumstance);
+    partsByType.put("curriculum", curriculumResource::getCurricula);
+    partsByType.put("dbc", dbcResource::getDbcs);
+    partsByType.put("declaration-type", declarationTypeResource::getDeclarationTypes);
+    partsByType.put("gender", genderResource::getGenders);
+    partsByType.put("grade", gradeResource::getGrades);
+    partsByType.put("immigration-status", immigrationStatusResource::getImmigrationStatuses);
+    partsByType.put("local-office", localOfficeResource::getLocalOffices);
+    partsByType.put("local-office-contact",
+        () -> localOfficeContactResource.getLocalOfficeContacts(TraineeType.SPECIALTY));
+    partsByType.put("local-office-contact-type",
+        localOfficeContactTypeResource::getLocalOfficeContactTypes);
+    partsByType.put("programme-membership-type",
+        programmeMembershipTypeResource::getProgrammeMembershipTypes);
+    this.responseFactory = responseFactory;
+  }
+
+  /**
+   * Get the requested reference lists as a single JSON object, keyed by reference type. Each list
+   * is served from its cached snapshot and the response ETag changes whenever any list changes.
+   *
+   * @param types The reference types to include, named as in their own endpoint paths.
+   * @return The reference lists by type, or a bad request if any type is not recognised.
+   */
+  @GetMapping("/bundle")
+  public ResponseEntity<byte[]> getBundle(@RequestParam List<String> types) {
+    log.trace("Get bundle of {}", types);
+    Set<String> requestedTypes = new LinkedHashSet<>(types);
+
+    if (requestedTypes.isEmpty() || !partsByType.keySet().containsAll(requestedTypes)) {
+      log.warn("Unable to bundle unrecognised reference types in {}.", types);
+      return ResponseEntity.badRequest().build();
+    }
+
+    Map<String, ResponseEntity<byte[]>> parts = new LinkedHashMap<>();
+    requestedTypes.forEach(type -> parts.put(type, partsByType.get(type).get()));
+    return responseFactory.bundle(parts);
+  }
+
+}
@@ -22,15 +22,21 @@
 package uk.nhs.hee.tis.trainee.reference.api;
 
 import com.amazonaws.xray.spring.aop.XRayEnabled;
-import java.util.List;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import uk.nhs.hee.tis.trainee.reference.dto.CollegeDto;
+import uk.nhs.hee.tis.trainee.reference.dto.ReferenceChangesDto;
 import uk.nhs.hee.tis.trainee.reference.mapper.CollegeMapper;
 import uk.nhs.hee.tis.trainee.reference.model.College;
 import uk.nhs.hee.tis.trainee.reference.service.CollegeService;
+import uk.nhs.hee.tis.trainee.reference.service.ReferenceChanges;
+import uk.nhs.hee.tis.trainee.reference.service.ReferenceSnapshot;
 
 @Slf4j
 @RestController
@@ -40,10 +46,13 @@ public class CollegeResource {
 
   private final CollegeService service;
   private final CollegeMapper mapper;
+  private final JsonResponseFactory responseFactory;
 
-  public CollegeResource(CollegeService service, CollegeMapper mapper) {
+  public CollegeResource(CollegeService service, CollegeMapper mapper,
+      JsonResponseFactory responseFactory) {
     this.service = service;
     this.mapper = mapper;
+    this.responseFactory = responseFactory;
   }
 
   /**
@@ -52,10 +61,38 @@ public class CollegeResource {
    * @return list of Colleges.
    */
   @GetMapping("/college")
-  public List<CollegeDto> getColleges() {
+  public ResponseEntity<byte[]> getColleges() {
     log.trace("Get all College");
-    List<College> colleges = service.get();
-    return mapper.toDtos(colleges);
+    ReferenceSnapshot<College> snapshot = service.getSnapshot();
+    return responseFactory.ok(snapshot, () -> mapper.toDtos(snapshot.entities()));
+  }
+
+  /**
+   * Stream all Colleges from the reference table as newline delimited JSON, for exports of the
+   * whole collection.
+   *
+   * @return The Colleges, one per line.
+   */
+  @GetMapping(value = "/college", produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public ResponseEntity<StreamingResponseBody> streamColleges() {
+    log.trace("Stream all Colleges");
+    return responseFactory.ndjson(() -> service.stream().map(mapper::toDto));
+  }
+
+  /**
+   * Get the Colleges created, updated or deleted since the given change token, so clients can keep
+   * a copy in sync without downloading every College.
+   *
+   * @param since The token returned by the previous request, zero to get all Colleges.
+   * @return The changed Colleges, the tisIds of deleted Colleges and the next change token.
+   */
+  @GetMapping("/college/changes")
+  public ResponseEntity<ReferenceChangesDto<CollegeDto>> getCollegeChanges(
+      @RequestParam(defaultValue = "0") long since) {
+    log.trace("Get College changes since {}", since);
+    ReferenceChanges<College> changes = service.getChanges(since);
+    return ResponseEntity.ok(new ReferenceChangesDto<>(mapper.toDtos(changes.changed()),
+        changes.deleted(), changes.token(), changes.full()));
   }
 
 
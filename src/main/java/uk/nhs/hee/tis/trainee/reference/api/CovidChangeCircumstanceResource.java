@@ -22,16 +22,16 @@
 package uk.nhs.hee.tis.trainee.reference.api;
 
 import com.amazonaws.xray.spring.aop.XRayEnabled;
-import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
-import uk.nhs.hee.tis.trainee.reference.dto.CovidChangeCircumstanceDto;
 import uk.nhs.hee.tis.trainee.reference.mapper.CovidChangeCircumstanceMapper;
 import uk.nhs.hee.tis.trainee.reference.model.CovidChangeCircumstance;
 import uk.nhs.hee.tis.trainee.reference.service.CovidChangeCircumstanceService;
+import uk.nhs.hee.tis.trainee.reference.service.ReferenceSnapshot;
 
 @RestController
 @RequestMapping("/api")
@@ -42,11 +42,21 @@ public class CovidChangeCircumstanceResource {
 
   private final CovidChangeCircumstanceService changeCircumstanceService;
   private final CovidChangeCircumstanceMapper changeCircumstanceMapper;
+  private final JsonResponseFactory responseFactory;
 
+  /**
+   * Create a resource for CovidChangeCircumstances.
+   *
+   * @param changeCircumstanceService The service providing CovidChangeCircumstances.
+   * @param changeCircumstanceMapper  The mapper to convert CovidChangeCircumstances to DTOs.
+   * @param responseFactory           The factory to build cached JSON responses.
+   */
   public CovidChangeCircumstanceResource(CovidChangeCircumstanceService changeCircumstanceService,
-      CovidChangeCircumstanceMapper changeCircumstanceMapper) {
+      CovidChangeCircumstanceMapper changeCircumstanceMapper,
+      JsonResponseFactory responseFactory) {
     this.changeCircumstanceService = changeCircumstanceService;
     this.changeCircumstanceMapper = changeCircumstanceMapper;
+    this.responseFactory = responseFactory;
   }
 
   /**
@@ -55,11 +65,11 @@ public class CovidChangeCircumstanceResource {
    * @return list of CovidChangeCircumstances.
    */
   @GetMapping("/covid-change-circs")
-  public List<CovidChangeCircumstanceDto> getCovidChangeCircumstance() {
+  public ResponseEntity<byte[]> getCovidChangeCircumstance() {
     log.trace("Get all CovidChangeCircumstance");
-    List<CovidChangeCircumstance> changeCircumstances = changeCircumstanceService
-        .getCovidChangeCircumstances();
-    return changeCircumstanceMapper.toDtos(changeCircumstances);
+    ReferenceSnapshot<CovidChangeCircumstance> snapshot = changeCircumstanceService.getSnapshot();
+    return responseFactory.ok(snapshot,
+        () -> changeCircumstanceMapper.toDtos(snapshot.entities()));
   }
 
 }
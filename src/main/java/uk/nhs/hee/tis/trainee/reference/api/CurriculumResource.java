@@ -24,6 +24,7 @@ import com.amazonaws.xray.spring.aop.XRayEnabled;
 import java.net.URI;
 import java.util.List;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -32,12 +33,18 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import uk.nhs.hee.tis.trainee.reference.dto.BulkWriteResultDto;
 import uk.nhs.hee.tis.trainee.reference.dto.CurriculumDto;
+import uk.nhs.hee.tis.trainee.reference.dto.ReferenceChangesDto;
 import uk.nhs.hee.tis.trainee.reference.dto.validator.CurriculumValidator;
 import uk.nhs.hee.tis.trainee.reference.mapper.CurriculumMapper;
 import uk.nhs.hee.tis.trainee.reference.model.Curriculum;
 import uk.nhs.hee.tis.trainee.reference.service.CurriculumService;
+import uk.nhs.hee.tis.trainee.reference.service.ReferenceChanges;
+import uk.nhs.hee.tis.trainee.reference.service.ReferenceSnapshot;
 
 @Slf4j
 @RestController
@@ -48,12 +55,14 @@ public class CurriculumResource {
   private final CurriculumService service;
   private final CurriculumMapper mapper;
   private final CurriculumValidator validator;
+  private final JsonResponseFactory responseFactory;
 
   CurriculumResource(CurriculumService service, CurriculumMapper mapper,
-      CurriculumValidator validator) {
+      CurriculumValidator validator, JsonResponseFactory responseFactory) {
     this.service = service;
     this.mapper = mapper;
     this.validator = validator;
+    this.responseFactory = responseFactory;
   }
 
   /**
@@ -62,10 +71,38 @@ public class CurriculumResource {
    * @return list of Curricula.
    */
   @GetMapping("/curriculum")
-  public List<CurriculumDto> getCurricula() {
+  public ResponseEntity<byte[]> getCurricula() {
     log.trace("Get all Curricula");
-    List<Curriculum> curricula = service.get();
-    return mapper.toDtos(curricula);
+    ReferenceSnapshot<Curriculum> snapshot = service.getSnapshot();
+    return responseFactory.ok(snapshot, () -> mapper.toDtos(snapshot.entities()));
+  }
+
+  /**
+   * Stream all Curricula from the reference table as newline delimited JSON, for exports of the
+   * whole collection.
+   *
+   * @return The Curricula, one per line.
+   */
+  @GetMapping(value = "/curriculum", produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public ResponseEntity<StreamingResponseBody> streamCurricula() {
+    log.trace("Stream all Curricula");
+    return responseFactory.ndjson(() -> service.stream().map(mapper::toDto));
+  }
+
+  /**
+   * Get the Curricula created, updated or deleted since the given change token, so clients can keep
+   * a copy in sync without downloading every Curriculum.
+   *
+   * @param since The token returned by the previous request, zero to get all Curricula.
+   * @return The changed Curricula, the tisIds of deleted Curricula and the next change token.
+   */
+  @GetMapping("/curriculum/changes")
+  public ResponseEntity<ReferenceChangesDto<CurriculumDto>> getCurriculumChanges(
+      @RequestParam(defaultValue = "0") long since) {
+    log.trace("Get Curriculum changes since {}", since);
+    ReferenceChanges<Curriculum> changes = service.getChanges(since);
+    return ResponseEntity.ok(new ReferenceChangesDto<>(mapper.toDtos(changes.changed()),
+        changes.deleted(), changes.token(), changes.full()));
   }
 
   /**
@@ -107,6 +144,23 @@ public class CurriculumResource {
     return ResponseEntity.ok(mapper.toDto(curriculum));
   }
 
+  /**
+   * Create or update Curricula in bulk, matching existing Curricula by tisId. The request body may
+   * be a JSON array or newline delimited JSON, all records are written with a single bulk write.
+   *
+   * @param curriculumDtos The Curricula to create or update.
+   * @return The result of each Curriculum, in the order given.
+   */
+  @PostMapping(value = "/curriculum/bulk",
+      consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+  public ResponseEntity<List<BulkWriteResultDto>> bulkUpsertCurricula(
+      @RequestBody List<CurriculumDto> curriculumDtos) {
+    log.info("Bulk upserting {} Curricula", curriculumDtos.size());
+    List<BulkWriteResultDto> results = BulkWrites.upsert(curriculumDtos, CurriculumDto::getTisId,
+        validator::isValid, mapper::toEntity, service);
+    return ResponseEntity.ok(results);
+  }
+
   /**
    * Delete the Curriculum with the given tisId.
    *
@@ -25,6 +25,7 @@ import com.amazonaws.xray.spring.aop.XRayEnabled;
 import java.net.URI;
 import java.util.List;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -33,11 +34,17 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import uk.nhs.hee.tis.trainee.reference.dto.BulkWriteResultDto;
 import uk.nhs.hee.tis.trainee.reference.dto.DbcDto;
+import uk.nhs.hee.tis.trainee.reference.dto.ReferenceChangesDto;
 import uk.nhs.hee.tis.trainee.reference.mapper.DbcMapper;
 import uk.nhs.hee.tis.trainee.reference.model.Dbc;
 import uk.nhs.hee.tis.trainee.reference.service.DbcService;
+import uk.nhs.hee.tis.trainee.reference.service.ReferenceChanges;
+import uk.nhs.hee.tis.trainee.reference.service.ReferenceSnapshot;
 
 @Slf4j
 @RestController
@@ -47,10 +54,12 @@ public class DbcResource {
 
   private final DbcService service;
   private final DbcMapper mapper;
+  private final JsonResponseFactory responseFactory;
 
-  public DbcResource(DbcService service, DbcMapper mapper) {
+  public DbcResource(DbcService service, DbcMapper mapper, JsonResponseFactory responseFactory) {
     this.service = service;
     this.mapper = mapper;
+    this.responseFactory = responseFactory;
   }
 
   /**
@@ -59,10 +68,38 @@ public class DbcResource {
    * @return list of Dbcs.
    */
   @GetMapping
-  public List<DbcDto> getDbcs() {
+  public ResponseEntity<byte[]> getDbcs() {
     log.trace("Get all Dbcs");
-    List<Dbc> dbcs = service.get();
-    return mapper.toDtos(dbcs);
+    ReferenceSnapshot<Dbc> snapshot = service.getSnapshot();
+    return responseFactory.ok(snapshot, () -> mapper.toDtos(snapshot.entities()));
+  }
+
+  /**
+   * Stream all Dbcs from the reference table as newline delimited JSON, for exports of the whole
+   * collection.
+   *
+   * @return The Dbcs, one per line.
+   */
+  @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public ResponseEntity<StreamingResponseBody> streamDbcs() {
+    log.trace("Stream all Dbcs");
+    return responseFactory.ndjson(() -> service.stream().map(mapper::toDto));
+  }
+
+  /**
+   * Get the Dbcs created, updated or deleted since the given change token, so clients can keep a
+   * copy in sync without downloading every Dbc.
+   *
+   * @param since The token returned by the previous request, zero to get all Dbcs.
+   * @return The changed Dbcs, the tisIds of deleted Dbcs and the next change token.
+   */
+  @GetMapping("/changes")
+  public ResponseEntity<ReferenceChangesDto<DbcDto>> getDbcChanges(
+      @RequestParam(defaultValue = "0") long since) {
+    log.trace("Get Dbc changes since {}", since);
+    ReferenceChanges<Dbc> changes = service.getChanges(since);
+    return ResponseEntity.ok(new ReferenceChangesDto<>(mapper.toDtos(changes.changed()),
+        changes.deleted(), changes.token(), changes.full()));
   }
 
   /**
@@ -93,6 +130,23 @@ public class DbcResource {
     return ResponseEntity.ok(mapper.toDto(dbc));
   }
 
+  /**
+   * Create or update Dbcs in bulk, matching existing Dbcs by tisId. The request body may be a JSON
+   * array or newline delimited JSON, all records are written with a single bulk write.
+   *
+   * @param dbcDtos The Dbcs to create or update.
+   * @return The result of each Dbc, in the order given.
+   */
+  @PostMapping(value = "/bulk",
+      consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+  public ResponseEntity<List<BulkWriteResultDto>> bulkUpsertDbcs(
+      @RequestBody List<DbcDto> dbcDtos) {
+    log.info("Bulk upserting {} Dbcs", dbcDtos.size());
+    List<BulkWriteResultDto> results = BulkWrites.upsert(dbcDtos, DbcDto::getTisId,
+        dto -> true, mapper::toEntity, service);
+    return ResponseEntity.ok(results);
+  }
+
   /**
    * Delete the Dbc with the given tisId.
    *
@@ -21,16 +21,16 @@
 package uk.nhs.hee.tis.trainee.reference.api;
 
 import com.amazonaws.xray.spring.aop.XRayEnabled;
-import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
-import uk.nhs.hee.tis.trainee.reference.dto.DeclarationTypeDto;
 import uk.nhs.hee.tis.trainee.reference.mapper.DeclarationTypeMapper;
 import uk.nhs.hee.tis.trainee.reference.model.DeclarationType;
 import uk.nhs.hee.tis.trainee.reference.service.DeclarationTypeService;
+import uk.nhs.hee.tis.trainee.reference.service.ReferenceSnapshot;
 
 @RestController
 @RequestMapping("/api")
@@ -41,11 +41,20 @@ public class DeclarationTypeResource {
 
   private final DeclarationTypeService declarationTypeService;
   private final DeclarationTypeMapper declarationTypeMapper;
+  private final JsonResponseFactory responseFactory;
 
+  /**
+   * Create a resource for DeclarationTypes.
+   *
+   * @param declarationTypeService The service providing DeclarationTypes.
+   * @param declarationTypeMapper  The mapper to convert DeclarationTypes to DTOs.
+   * @param responseFactory        The factory to build cached JSON responses.
+   */
   public DeclarationTypeResource(DeclarationTypeService declarationTypeService,
-      DeclarationTypeMapper declarationTypeMapper) {
+      DeclarationTypeMapper declarationTypeMapper, JsonResponseFactory responseFactory) {
     this.declarationTypeService = declarationTypeService;
     this.declarationTypeMapper = declarationTypeMapper;
+    this.responseFactory = responseFactory;
   }
 
   /**
@@ -54,9 +63,9 @@ public class DeclarationTypeResource {
    * @return list of DeclarationTypes.
    */
   @GetMapping("/declaration-type")
-  public List<DeclarationTypeDto> getDeclarationTypes() {
+  public ResponseEntity<byte[]> getDeclarationTypes() {
     log.trace("Get all DeclarationType");
-    List<DeclarationType> declarationTypes = declarationTypeService.getDeclarationType();
-    return declarationTypeMapper.toDtos(declarationTypes);
+    ReferenceSnapshot<DeclarationType> snapshot = declarationTypeService.getSnapshot();
+    return responseFactory.ok(snapshot, () -> declarationTypeMapper.toDtos(snapshot.entities()));
   }
 }
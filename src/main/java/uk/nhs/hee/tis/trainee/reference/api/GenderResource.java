@@ -26,6 +26,7 @@ import java.net.URI;
 import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -34,11 +35,17 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import uk.nhs.hee.tis.trainee.reference.dto.BulkWriteResultDto;
 import uk.nhs.hee.tis.trainee.reference.dto.GenderDto;
+import uk.nhs.hee.tis.trainee.reference.dto.ReferenceChangesDto;
 import uk.nhs.hee.tis.trainee.reference.mapper.GenderMapper;
 import uk.nhs.hee.tis.trainee.reference.model.Gender;
 import uk.nhs.hee.tis.trainee.reference.service.GenderService;
+import uk.nhs.hee.tis.trainee.reference.service.ReferenceChanges;
+import uk.nhs.hee.tis.trainee.reference.service.ReferenceSnapshot;
 
 @RestController
 @RequestMapping("/api")
@@ -49,10 +56,13 @@ public class GenderResource {
 
   private final GenderService service;
   private final GenderMapper mapper;
+  private final JsonResponseFactory responseFactory;
 
-  public GenderResource(GenderService service, GenderMapper mapper) {
+  public GenderResource(GenderService service, GenderMapper mapper,
+      JsonResponseFactory responseFactory) {
     this.service = service;
     this.mapper = mapper;
+    this.responseFactory = responseFactory;
   }
 
   /**
@@ -61,10 +71,38 @@ public class GenderResource {
    * @return list of Genders.
    */
   @GetMapping("/gender")
-  public List<GenderDto> getGenders() {
+  public ResponseEntity<byte[]> getGenders() {
     log.trace("Get all Genders");
-    List<Gender> genders = service.get();
-    return mapper.toDtos(genders);
+    ReferenceSnapshot<Gender> snapshot = service.getSnapshot();
+    return responseFactory.ok(snapshot, () -> mapper.toDtos(snapshot.entities()));
+  }
+
+  /**
+   * Stream all Genders from the reference table as newline delimited JSON, for exports of the whole
+   * collection.
+   *
+   * @return The Genders, one per line.
+   */
+  @GetMapping(value = "/gender", produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public ResponseEntity<StreamingResponseBody> streamGenders() {
+    log.trace("Stream all Genders");
+    return responseFactory.ndjson(() -> service.stream().map(mapper::toDto));
+  }
+
+  /**
+   * Get the Genders created, updated or deleted since the given change token, so clients can keep a
+   * copy in sync without downloading every Gender.
+   *
+   * @param since The token returned by the previous request, zero to get all Genders.
+   * @return The changed Genders, the tisIds of deleted Genders and the next change token.
+   */
+  @GetMapping("/gender/changes")
+  public ResponseEntity<ReferenceChangesDto<GenderDto>> getGenderChanges(
+      @RequestParam(defaultValue = "0") long since) {
+    log.trace("Get Gender changes since {}", since);
+    ReferenceChanges<Gender> changes = service.getChanges(since);
+    return ResponseEntity.ok(new ReferenceChangesDto<>(mapper.toDtos(changes.changed()),
+        changes.deleted(), changes.token(), changes.full()));
   }
 
   /**
@@ -93,6 +131,23 @@ public class GenderResource {
     return ResponseEntity.ok(mapper.toDto(gender));
   }
 
+  /**
+   * Create or update Genders in bulk, matching existing Genders by tisId. The request body may be a
+   * JSON array or newline delimited JSON, all records are written with a single bulk write.
+   *
+   * @param genderDtos The Genders to create or update.
+   * @return The result of each Gender, in the order given.
+   */
+  @PostMapping(value = "/gender/bulk",
+      consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+  public ResponseEntity<List<BulkWriteResultDto>> bulkUpsertGenders(
+      @RequestBody List<GenderDto> genderDtos) {
+    log.info("Bulk upserting {} Genders", genderDtos.size());
+    List<BulkWriteResultDto> results = BulkWrites.upsert(genderDtos, GenderDto::getTisId,
+        dto -> true, mapper::toEntity, service);
+    return ResponseEntity.ok(results);
+  }
+
   /**
    * Delete the Gender with the given tisId.
    *
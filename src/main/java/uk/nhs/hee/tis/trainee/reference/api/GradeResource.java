@@ -26,6 +26,7 @@ import java.net.URI;
 import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -34,12 +35,18 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import uk.nhs.hee.tis.trainee.reference.dto.BulkWriteResultDto;
 import uk.nhs.hee.tis.trainee.reference.dto.GradeDto;
+import uk.nhs.hee.tis.trainee.reference.dto.ReferenceChangesDto;
 import uk.nhs.hee.tis.trainee.reference.dto.validator.GradeValidator;
 import uk.nhs.hee.tis.trainee.reference.mapper.GradeMapper;
 import uk.nhs.hee.tis.trainee.reference.model.Grade;
 import uk.nhs.hee.tis.trainee.reference.service.GradeService;
+import uk.nhs.hee.tis.trainee.reference.service.ReferenceChanges;
+import uk.nhs.hee.tis.trainee.reference.service.ReferenceSnapshot;
 
 @RestController
 @RequestMapping("/api")
@@ -51,11 +58,14 @@ public class GradeResource {
   private final GradeService service;
   private final GradeMapper mapper;
   private final GradeValidator validator;
+  private final JsonResponseFactory responseFactory;
 
-  GradeResource(GradeService service, GradeMapper mapper, GradeValidator validator) {
+  GradeResource(GradeService service, GradeMapper mapper, GradeValidator validator,
+      JsonResponseFactory responseFactory) {
     this.service = service;
     this.mapper = mapper;
     this.validator = validator;
+    this.responseFactory = responseFactory;
   }
 
   /**
@@ -64,10 +74,38 @@ public class GradeResource {
    * @return list of Grades.
    */
   @GetMapping("/grade")
-  public ResponseEntity<List<GradeDto>> getGrades() {
+  public ResponseEntity<byte[]> getGrades() {
     log.trace("Get all Grades");
-    List<Grade> grades = service.get();
-    return ResponseEntity.ok(mapper.toDtos(grades));
+    ReferenceSnapshot<Grade> snapshot = service.getSnapshot();
+    return responseFactory.ok(snapshot, () -> mapper.toDtos(snapshot.entities()));
+  }
+
+  /**
+   * Stream all Grades from the reference table as newline delimited JSON, for exports of the whole
+   * collection.
+   *
+   * @return The Grades, one per line.
+   */
+  @GetMapping(value = "/grade", produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public ResponseEntity<StreamingResponseBody> streamGrades() {
+    log.trace("Stream all Grades");
+    return responseFactory.ndjson(() -> service.stream().map(mapper::toDto));
+  }
+
+  /**
+   * Get the Grades created, updated or deleted since the given change token, so clients can keep a
+   * copy in sync without downloading every Grade.
+   *
+   * @param since The token returned by the previous request, zero to get all Grades.
+   * @return The changed Grades, the tisIds of deleted Grades and the next change token.
+   */
+  @GetMapping("/grade/changes")
+  public ResponseEntity<ReferenceChangesDto<GradeDto>> getGradeChanges(
+      @RequestParam(defaultValue = "0") long since) {
+    log.trace("Get Grade changes since {}", since);
+    ReferenceChanges<Grade> changes = service.getChanges(since);
+    return ResponseEntity.ok(new ReferenceChangesDto<>(mapper.toDtos(changes.changed()),
+        changes.deleted(), changes.token(), changes.full()));
   }
 
   /**
@@ -108,6 +146,23 @@ public class GradeResource {
     return ResponseEntity.ok(mapper.toDto(grade));
   }
 
+  /**
+   * Create or update Grades in bulk, matching existing Grades by tisId. The request body may be a
+   * JSON array or newline delimited JSON, all records are written with a single bulk write.
+   *
+   * @param gradeDtos The Grades to create or update.
+   * @return The result of each Grade, in the order given.
+   */
+  @PostMapping(value = "/grade/bulk",
+      consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+  public ResponseEntity<List<BulkWriteResultDto>> bulkUpsertGrades(
+      @RequestBody List<GradeDto> gradeDtos) {
+    log.info("Bulk upserting {} Grades", gradeDtos.size());
+    List<BulkWriteResultDto> results = BulkWrites.upsert(gradeDtos, GradeDto::getTisId,
+        validator::isValid, mapper::toEntity, service);
+    return ResponseEntity.ok(results);
+  }
+
   /**
    * Delete the Grade with the given tisId.
    *
@@ -24,6 +24,7 @@ import com.amazonaws.xray.spring.aop.XRayEnabled;
 import java.net.URI;
 import java.util.List;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -32,11 +33,17 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import uk.nhs.hee.tis.trainee.reference.dto.BulkWriteResultDto;
 import uk.nhs.hee.tis.trainee.reference.dto.ImmigrationStatusDto;
+import uk.nhs.hee.tis.trainee.reference.dto.ReferenceChangesDto;
 import uk.nhs.hee.tis.trainee.reference.mapper.ImmigrationStatusMapper;
 import uk.nhs.hee.tis.trainee.reference.model.ImmigrationStatus;
 import uk.nhs.hee.tis.trainee.reference.service.ImmigrationStatusService;
+import uk.nhs.hee.tis.trainee.reference.service.ReferenceChanges;
+import uk.nhs.hee.tis.trainee.reference.service.ReferenceSnapshot;
 
 @Slf4j
 @RestController
@@ -46,11 +53,13 @@ public class ImmigrationStatusResource {
 
   private final ImmigrationStatusService service;
   private final ImmigrationStatusMapper mapper;
+  private final JsonResponseFactory responseFactory;
 
   public ImmigrationStatusResource(ImmigrationStatusService service,
-      ImmigrationStatusMapper mapper) {
+      ImmigrationStatusMapper mapper, JsonResponseFactory responseFactory) {
     this.service = service;
     this.mapper = mapper;
+    this.responseFactory = responseFactory;
   }
 
   /**
@@ -59,10 +68,39 @@ public class ImmigrationStatusResource {
    * @return list of ImmigrationStatus.
    */
   @GetMapping("/immigration-status")
-  public List<ImmigrationStatusDto> getImmigrationStatuses() {
+  public ResponseEntity<byte[]> getImmigrationStatuses() {
     log.trace("Get all ImmigrationStatus");
-    List<ImmigrationStatus> immigrationStatus = service.get();
-    return mapper.toDtos(immigrationStatus);
+    ReferenceSnapshot<ImmigrationStatus> snapshot = service.getSnapshot();
+    return responseFactory.ok(snapshot, () -> mapper.toDtos(snapshot.entities()));
+  }
+
+  /**
+   * Stream all ImmigrationStatuses from the reference table as newline delimited JSON, for exports
+   * of the whole collection.
+   *
+   * @return The ImmigrationStatuses, one per line.
+   */
+  @GetMapping(value = "/immigration-status", produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public ResponseEntity<StreamingResponseBody> streamImmigrationStatuses() {
+    log.trace("Stream all ImmigrationStatuses");
+    return responseFactory.ndjson(() -> service.stream().map(mapper::toDto));
+  }
+
+  /**
+   * Get the ImmigrationStatuses created, updated or deleted since the given change token, so
+   * clients can keep a copy in sync without downloading every ImmigrationStatus.
+   *
+   * @param since The token returned by the previous request, zero to get all ImmigrationStatuses.
+   * @return The changed ImmigrationStatuses, the tisIds of deleted ImmigrationStatuses and the next
+   *     change token.
+   */
+  @GetMapping("/immigration-status/changes")
+  public ResponseEntity<ReferenceChangesDto<ImmigrationStatusDto>> getImmigrationStatusChanges(
+      @RequestParam(defaultValue = "0") long since) {
+    log.trace("Get ImmigrationStatus changes since {}", since);
+    ReferenceChanges<ImmigrationStatus> changes = service.getChanges(since);
+    return ResponseEntity.ok(new ReferenceChangesDto<>(mapper.toDtos(changes.changed()),
+        changes.deleted(), changes.token(), changes.full()));
   }
 
   /**
@@ -95,6 +133,25 @@ public class ImmigrationStatusResource {
     return ResponseEntity.ok(mapper.toDto(immigrationStatus));
   }
 
+  /**
+   * Create or update ImmigrationStatuses in bulk, matching existing ImmigrationStatuses by tisId.
+   * The request body may be a JSON array or newline delimited JSON, all records are written with a
+   * single bulk write.
+   *
+   * @param immigrationStatusDtos The ImmigrationStatuses to create or update.
+   * @return The result of each ImmigrationStatus, in the order given.
+   */
+  @PostMapping(value = "/immigration-status/bulk",
+      consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+  public ResponseEntity<List<BulkWriteResultDto>> bulkUpsertImmigrationStatuses(
+      @RequestBody List<ImmigrationStatusDto> immigrationStatusDtos) {
+    log.info("Bulk upserting {} ImmigrationStatuses", immigrationStatusDtos.size());
+    List<BulkWriteResultDto> results =
+        BulkWrites.upsert(immigrationStatusDtos, ImmigrationStatusDto::getTisId,
+            dto -> true, mapper::toEntity, service);
+    return ResponseEntity.ok(results);
+  }
+
   /**
    * Delete the ImmigrationStatus with the given tisId.
    *
@@ -0,0 +1,251 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.reference.api;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import uk.nhs.hee.tis.trainee.reference.service.ReferenceSnapshot;
+
+/**
+ * A factory for JSON responses built from a {@link ReferenceSnapshot}.
+ *
+ * <p>The serialized body and its content-hash ETag are memoized against the snapshot, so the
+ * mapping and serialization only happen once per snapshot and variant. Conditional requests with
+ * a matching {@code If-None-Match} header are answered with a 304 by Spring MVC.
+ *
+ * <p>Whole collection exports can instead be streamed as newline delimited JSON, which writes each
+ * record as it is read so neither the entities nor the serialized body are held in memory.
+ */
+@Component
+public class JsonResponseFactory {
+
+  private static final String HASH_ALGORITHM = "SHA-256";
+  private static final String DEFAULT_VARIANT = "default";
+  private static final int NEWLINE = '\n';
+
+  private final ObjectMapper mapper;
+  private final Map<List<String>, SerializedBody> bundles = new ConcurrentHashMap<>();
+
+  JsonResponseFactory(ObjectMapper mapper) {
+    this.mapper = mapper;
+  }
+
+  /**
+   * Build a JSON response for the given snapshot.
+   *
+   * @param snapshot The snapshot the response body is derived from.
+   * @param body     The supplier of the body to serialize, only called on first use.
+   * @return The response entity, with the serialized body and an ETag.
+   */
+  public ResponseEntity<byte[]> ok(ReferenceSnapshot<?> snapshot, Supplier<?> body) {
+    return ok(snapshot, DEFAULT_VARIANT, body);
+  }
+
+  /**
+   * Build a JSON response for a variant of the given snapshot.
+   *
+   * @param snapshot The snapshot the response body is derived from.
+   * @param variant  The variant of the response, for when a snapshot has more than one view.
+   * @param body     The supplier of the body to serialize, only called on first use.
+   * @return The response entity, with the serialized body and an ETag.
+   */
+  public ResponseEntity<byte[]> ok(ReferenceSnapshot<?> snapshot, Object variant,
+      Supplier<?> body) {
+    SerializedBody serialized = snapshot.derive(new SerializedBodyKey(variant),
+        () -> serialize(body.get()));
+
+    return ResponseEntity.ok()
+        .contentType(MediaType.APPLICATION_JSON)
+        .eTag(serialized.etag())
+        .body(serialized.bytes());
+  }
+
+  /**
+   * Build a JSON object response combining the JSON responses of several reference types, keyed
+   * by type.
+   *
+   * <p>The body is assembled from the already serialized bytes of each part and its ETag is
+   * derived from the parts' ETags, so no part is serialized again. Parts are written in type order,
+   * so each combination of types has one canonical body and ETag whatever order it was requested
+   * in, and the assembled body is memoized per combination until any of its parts changes.
+   *
+   * @param parts The JSON responses to combine, by type.
+   * @return The response entity, with the combined body and an aggregate ETag.
+   */
+  public ResponseEntity<byte[]> bundle(Map<String, ResponseEntity<byte[]>> parts) {
+    Map<String, ResponseEntity<byte[]>> sortedParts = new TreeMap<>(parts);
+    String etag = aggregateEtag(sortedParts);
+    SerializedBody bundle = bundles.compute(List.copyOf(sortedParts.keySet()),
+        (types, cached) -> cached != null && cached.etag().equals(etag)
+            ? cached
+            : new SerializedBody(assemble(sortedParts), etag));
+
+    return ResponseEntity.ok()
+        .contentType(MediaType.APPLICATION_JSON)
+        .eTag(bundle.etag())
+        .body(bundle.bytes());
+  }
+
+  /**
+   * Calculate an ETag for a bundle from the type and ETag of each of its parts.
+   *
+   * @param parts The parts of the bundle.
+   * @return The aggregate ETag.
+   */
+  private String aggregateEtag(Map<String, ResponseEntity<byte[]>> parts) {
+    StringBuilder partEtags = new StringBuilder();
+    parts.forEach((type, part) -> partEtags.append(type).append('=')
+        .append(part.getHeaders().getETag()).append('\n'));
+    return hash(partEtags.toString().getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Assemble a JSON object from the serialized parts.
+   *
+   * @param parts The parts to assemble, by type.
+   * @return The assembled JSON object.
+   */
+  private byte[] assemble(Map<String, ResponseEntity<byte[]>> parts) {
+    try {
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      out.write('{');
+      String separator = "";
+
+      for (Map.Entry<String, ResponseEntity<byte[]>> part : parts.entrySet()) {
+        out.write(separator.getBytes(StandardCharsets.UTF_8));
+        out.write(mapper.writeValueAsBytes(part.getKey()));
+        out.write(':');
+        out.write(part.getValue().getBody());
+        separator = ",";
+      }
+
+      out.write('}');
+      return out.toByteArray();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Build a newline delimited JSON response which writes each item as it is consumed from the
+   * stream. The stream is only opened once the response body is written, on the async thread, and
+   * is closed once it has been written, so a request which never writes its body can not leak the
+   * stream's cursor.
+   *
+   * <p>Items are not flushed individually, the response is sent as its buffer fills rather than as
+   * a chunk per item.
+   *
+   * @param items The supplier of the items to write, one per line.
+   * @return The response entity, with a streaming body.
+   */
+  public ResponseEntity<StreamingResponseBody> ndjson(Supplier<? extends Stream<?>> items) {
+    ObjectWriter writer = mapper.writer()
+        .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+        .without(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM)
+        .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+    StreamingResponseBody body = out -> {
+      try (Stream<?> stream = items.get()) {
+        Iterator<?> iterator = stream.iterator();
+
+        while (iterator.hasNext()) {
+          writer.writeValue(out, iterator.next());
+          out.write(NEWLINE);
+        }
+      }
+    };
+
+    return ResponseEntity.ok()
+        .contentType(MediaType.APPLICATION_NDJSON)
+        .body(body);
+  }
+
+  /**
+   * Serialize the body and calculate its ETag.
+   *
+   * @param body The body to serialize.
+   * @return The serialized body.
+   */
+  private SerializedBody serialize(Object body) {
+    try {
+      byte[] bytes = mapper.writeValueAsBytes(body);
+      return new SerializedBody(bytes, hash(bytes));
+    } catch (JsonProcessingException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Calculate a strong ETag from the content hash of the given bytes.
+   *
+   * @param bytes The bytes to hash.
+   * @return The quoted ETag.
+   */
+  private static String hash(byte[] bytes) {
+    try {
+      byte[] hash = MessageDigest.getInstance(HASH_ALGORITHM).digest(bytes);
+      return "\"" + HexFormat.of().formatHex(hash) + "\"";
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * The key of a serialized body memoized against a snapshot.
+   *
+   * @param variant The variant of the response.
+   */
+  private record SerializedBodyKey(Object variant) {
+
+  }
+
+  /**
+   * A serialized response body.
+   *
+   * @param bytes The serialized bytes.
+   * @param etag  The strong ETag of the bytes.
+   */
+  private record SerializedBody(byte[] bytes, String etag) {
+
+  }
+}
@@ -25,6 +25,7 @@ import com.amazonaws.xray.spring.aop.XRayEnabled;
 import java.net.URI;
 import java.util.List;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -35,12 +36,17 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import uk.nhs.hee.tis.trainee.reference.dto.BulkWriteResultDto;
 import uk.nhs.hee.tis.trainee.reference.dto.LocalOfficeContactDetailsDto;
 import uk.nhs.hee.tis.trainee.reference.dto.LocalOfficeContactDto;
+import uk.nhs.hee.tis.trainee.reference.dto.ReferenceChangesDto;
 import uk.nhs.hee.tis.trainee.reference.dto.TraineeType;
 import uk.nhs.hee.tis.trainee.reference.mapper.LocalOfficeContactMapper;
 import uk.nhs.hee.tis.trainee.reference.model.LocalOfficeContact;
 import uk.nhs.hee.tis.trainee.reference.service.LocalOfficeContactService;
+import uk.nhs.hee.tis.trainee.reference.service.ReferenceChanges;
+import uk.nhs.hee.tis.trainee.reference.service.ReferenceSnapshot;
 
 /**
  * Resource for local office contacts.
@@ -53,11 +59,13 @@ public class LocalOfficeContactResource {
 
   private final LocalOfficeContactService service;
   private final LocalOfficeContactMapper mapper;
+  private final JsonResponseFactory responseFactory;
 
   public LocalOfficeContactResource(LocalOfficeContactService service,
-      LocalOfficeContactMapper mapper) {
+      LocalOfficeContactMapper mapper, JsonResponseFactory responseFactory) {
     this.service = service;
     this.mapper = mapper;
+    this.responseFactory = responseFactory;
   }
 
   /**
@@ -70,9 +78,7 @@ public class LocalOfficeContactResource {
       @PathVariable String localOfficeUuid,
       @RequestParam(defaultValue = "SPECIALTY") TraineeType traineeType) {
     log.trace("Get all LocalOfficeContacts for Local office UUID '{}'", localOfficeUuid);
-    List<LocalOfficeContact> localOfficeContacts = service.getByLocalOfficeUuid(localOfficeUuid,
-        traineeType);
-    return mapper.toDetailsDtos(localOfficeContacts);
+    return service.getByLocalOfficeUuid(localOfficeUuid, traineeType);
   }
 
   /**
@@ -85,9 +91,7 @@ public class LocalOfficeContactResource {
       @PathVariable String localOfficeName,
       @RequestParam(defaultValue = "SPECIALTY") TraineeType traineeType) {
     log.trace("Get all LocalOfficeContacts for Local office '{}'", localOfficeName);
-    List<LocalOfficeContact> localOfficeContacts = service.getByLocalOfficeName(localOfficeName,
-        traineeType);
-    return mapper.toDetailsDtos(localOfficeContacts);
+    return service.getByLocalOfficeName(localOfficeName, traineeType);
   }
 
   /**
@@ -96,11 +100,47 @@ public class LocalOfficeContactResource {
    * @return list of LocalOfficeContacts.
    */
   @GetMapping("/local-office-contact")
-  public List<LocalOfficeContactDetailsDto> getLocalOfficeContacts(
+  public ResponseEntity<byte[]> getLocalOfficeContacts(
       @RequestParam(defaultValue = "SPECIALTY") TraineeType traineeType) {
     log.trace("Get all LocalOfficeContacts");
-    List<LocalOfficeContact> localOfficeContacts = service.get(traineeType);
-    return mapper.toDetailsDtos(localOfficeContacts);
+    ReferenceSnapshot<LocalOfficeContact> snapshot = service.getSnapshot();
+    return responseFactory.ok(snapshot, traineeType,
+        () -> mapper.toDetailsDtos(service.get(snapshot, traineeType)));
+  }
+
+  /**
+   * Stream all LocalOfficeContacts from the reference table as newline delimited JSON, for exports
+   * of the whole collection.
+   *
+   * @param traineeType The trainee type to filter by.
+   * @return The LocalOfficeContacts, one per line.
+   */
+  @GetMapping(value = "/local-office-contact", produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public ResponseEntity<StreamingResponseBody> streamLocalOfficeContacts(
+      @RequestParam(defaultValue = "SPECIALTY") TraineeType traineeType) {
+    log.trace("Stream all LocalOfficeContacts");
+    return responseFactory.ndjson(() -> service.streamDetails(traineeType));
+  }
+
+  /**
+   * Get the LocalOfficeContacts created, updated or deleted since the given change token, so
+   * clients can keep a copy in sync without downloading every LocalOfficeContact.
+   *
+   * @param since       The token returned by the previous request, zero to get all
+   *                    LocalOfficeContacts.
+   * @param traineeType The trainee type to filter by, contacts changed to another trainee type are
+   *                    included as deleted.
+   * @return The changed LocalOfficeContacts, the tisIds of deleted LocalOfficeContacts and the next
+   *     change token.
+   */
+  @GetMapping("/local-office-contact/changes")
+  public ResponseEntity<ReferenceChangesDto<LocalOfficeContactDetailsDto>>
+      getLocalOfficeContactChanges(@RequestParam(defaultValue = "0") long since,
+      @RequestParam(defaultValue = "SPECIALTY") TraineeType traineeType) {
+    log.trace("Get LocalOfficeContact changes since {}", since);
+    ReferenceChanges<LocalOfficeContact> changes = service.getChanges(since, traineeType);
+    return ResponseEntity.ok(new ReferenceChangesDto<>(mapper.toDetailsDtos(changes.changed()),
+        changes.deleted(), changes.token(), changes.full()));
   }
 
   /**
@@ -133,6 +173,25 @@ public class LocalOfficeContactResource {
     return ResponseEntity.ok(mapper.toDetailsDto(localOfficeContact));
   }
 
+  /**
+   * Create or update LocalOfficeContacts in bulk, matching existing LocalOfficeContacts by tisId.
+   * The request body may be a JSON array or newline delimited JSON, all records are written with a
+   * single bulk write.
+   *
+   * @param localOfficeContactDtos The LocalOfficeContacts to create or update.
+   * @return The result of each LocalOfficeContact, in the order given.
+   */
+  @PostMapping(value = "/local-office-contact/bulk",
+      consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+  public ResponseEntity<List<BulkWriteResultDto>> bulkUpsertLocalOfficeContacts(
+      @RequestBody List<LocalOfficeContactDto> localOfficeContactDtos) {
+    log.info("Bulk upserting {} LocalOfficeContacts", localOfficeContactDtos.size());
+    List<BulkWriteResultDto> results =
+        BulkWrites.upsert(localOfficeContactDtos, LocalOfficeContactDto::getTisId,
+            dto -> true, mapper::toEntity, service);
+    return ResponseEntity.ok(results);
+  }
+
   /**
    * Delete the LocalOfficeContact with the given tisId.
    *
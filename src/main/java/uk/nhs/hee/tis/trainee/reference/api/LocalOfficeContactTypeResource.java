@@ -25,6 +25,7 @@ import com.amazonaws.xray.spring.aop.XRayEnabled;
 import java.net.URI;
 import java.util.List;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -33,11 +34,17 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import uk.nhs.hee.tis.trainee.reference.dto.BulkWriteResultDto;
 import uk.nhs.hee.tis.trainee.reference.dto.LocalOfficeContactTypeDto;
+import uk.nhs.hee.tis.trainee.reference.dto.ReferenceChangesDto;
 import uk.nhs.hee.tis.trainee.reference.mapper.LocalOfficeContactTypeMapper;
 import uk.nhs.hee.tis.trainee.reference.model.LocalOfficeContactType;
 import uk.nhs.hee.tis.trainee.reference.service.LocalOfficeContactTypeService;
+import uk.nhs.hee.tis.trainee.reference.service.ReferenceChanges;
+import uk.nhs.hee.tis.trainee.reference.service.ReferenceSnapshot;
 
 /**
  * Resource for local office contact types.
@@ -50,11 +57,13 @@ public class LocalOfficeContactTypeResource {
 
   private final LocalOfficeContactTypeService service;
   private final LocalOfficeContactTypeMapper mapper;
+  private final JsonResponseFactory responseFactory;
 
   public LocalOfficeContactTypeResource(LocalOfficeContactTypeService service,
-      LocalOfficeContactTypeMapper mapper) {
+      LocalOfficeContactTypeMapper mapper, JsonResponseFactory responseFactory) {
     this.service = service;
     this.mapper = mapper;
+    this.responseFactory = responseFactory;
   }
 
   /**
@@ -63,10 +72,40 @@ public class LocalOfficeContactTypeResource {
    * @return list of LocalOfficeContactTypes.
    */
   @GetMapping("/local-office-contact-type")
-  public List<LocalOfficeContactTypeDto> getLocalOfficeContactTypes() {
+  public ResponseEntity<byte[]> getLocalOfficeContactTypes() {
     log.trace("Get all LocalOfficeContactTypes");
-    List<LocalOfficeContactType> localOfficeContactTypes = service.get();
-    return mapper.toDtos(localOfficeContactTypes);
+    ReferenceSnapshot<LocalOfficeContactType> snapshot = service.getSnapshot();
+    return responseFactory.ok(snapshot, () -> mapper.toDtos(snapshot.entities()));
+  }
+
+  /**
+   * Stream all LocalOfficeContactTypes from the reference table as newline delimited JSON, for
+   * exports of the whole collection.
+   *
+   * @return The LocalOfficeContactTypes, one per line.
+   */
+  @GetMapping(value = "/local-office-contact-type", produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public ResponseEntity<StreamingResponseBody> streamLocalOfficeContactTypes() {
+    log.trace("Stream all LocalOfficeContactTypes");
+    return responseFactory.ndjson(() -> service.stream().map(mapper::toDto));
+  }
+
+  /**
+   * Get the LocalOfficeContactTypes created, updated or deleted since the given change token, so
+   * clients can keep a copy in sync without downloading every LocalOfficeContactType.
+   *
+   * @param since The token returned by the previous request, zero to get all
+   *     LocalOfficeContactTypes.
+   * @return The changed LocalOfficeContactTypes, the tisIds of deleted LocalOfficeContactTypes and
+   *     the next change token.
+   */
+  @GetMapping("/local-office-contact-type/changes")
+  public ResponseEntity<ReferenceChangesDto<LocalOfficeContactTypeDto>>
+      getLocalOfficeContactTypeChanges(@RequestParam(defaultValue = "0") long since) {
+    log.trace("Get LocalOfficeContactType changes since {}", since);
+    ReferenceChanges<LocalOfficeContactType> changes = service.getChanges(since);
+    return ResponseEntity.ok(new ReferenceChangesDto<>(mapper.toDtos(changes.changed()),
+        changes.deleted(), changes.token(), changes.full()));
   }
 
   /**
@@ -100,6 +139,25 @@ public class LocalOfficeContactTypeResource {
     return ResponseEntity.ok(mapper.toDto(localOfficeContactType));
   }
 
+  /**
+   * Create or update LocalOfficeContactTypes in bulk, matching existing LocalOfficeContactTypes by
+   * tisId. The request body may be a JSON array or newline delimited JSON, all records are written
+   * with a single bulk write.
+   *
+   * @param localOfficeContactTypeDtos The LocalOfficeContactTypes to create or update.
+   * @return The result of each LocalOfficeContactType, in the order given.
+   */
+  @PostMapping(value = "/local-office-contact-type/bulk",
+      consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+  public ResponseEntity<List<BulkWriteResultDto>> bulkUpsertLocalOfficeContactTypes(
+      @RequestBody List<LocalOfficeContactTypeDto> localOfficeContactTypeDtos) {
+    log.info("Bulk upserting {} LocalOfficeContactTypes", localOfficeContactTypeDtos.size());
+    List<BulkWriteResultDto> results =
+        BulkWrites.upsert(localOfficeContactTypeDtos, LocalOfficeContactTypeDto::getTisId,
+            dto -> true, mapper::toEntity, service);
+    return ResponseEntity.ok(results);
+  }
+
   /**
    * Delete the LocalOfficeContactType with the given tisId.
    *
@@ -25,6 +25,7 @@ import com.amazonaws.xray.spring.aop.XRayEnabled;
 import java.net.URI;
 import java.util.List;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -33,11 +34,17 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import uk.nhs.hee.tis.trainee.reference.dto.BulkWriteResultDto;
 import uk.nhs.hee.tis.trainee.reference.dto.LocalOfficeDto;
+import uk.nhs.hee.tis.trainee.reference.dto.ReferenceChangesDto;
 import uk.nhs.hee.tis.trainee.reference.mapper.LocalOfficeMapper;
 import uk.nhs.hee.tis.trainee.reference.model.LocalOffice;
 import uk.nhs.hee.tis.trainee.reference.service.LocalOfficeService;
+import uk.nhs.hee.tis.trainee.reference.service.ReferenceChanges;
+import uk.nhs.hee.tis.trainee.reference.service.ReferenceSnapshot;
 
 @Slf4j
 @RestController
@@ -47,10 +54,13 @@ public class LocalOfficeResource {
 
   private final LocalOfficeService service;
   private final LocalOfficeMapper mapper;
+  private final JsonResponseFactory responseFactory;
 
-  public LocalOfficeResource(LocalOfficeService service, LocalOfficeMapper mapper) {
+  public LocalOfficeResource(LocalOfficeService service, LocalOfficeMapper mapper,
+      JsonResponseFactory responseFactory) {
     this.service = service;
     this.mapper = mapper;
+    this.responseFactory = responseFactory;
   }
 
   /**
@@ -59,10 +69,38 @@ public class LocalOfficeResource {
    * @return list of LocalOffices.
    */
   @GetMapping("/local-office")
-  public List<LocalOfficeDto> getLocalOffices() {
+  public ResponseEntity<byte[]> getLocalOffices() {
     log.trace("Get all LocalOffices");
-    List<LocalOffice> localOffices = service.get();
-    return mapper.toDtos(localOffices);
+    ReferenceSnapshot<LocalOffice> snapshot = service.getSnapshot();
+    return responseFactory.ok(snapshot, () -> mapper.toDtos(snapshot.entities()));
+  }
+
+  /**
+   * Stream all LocalOffices from the reference table as newline delimited JSON, for exports of the
+   * whole collection.
+   *
+   * @return The LocalOffices, one per line.
+   */
+  @GetMapping(value = "/local-office", produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public ResponseEntity<StreamingResponseBody> streamLocalOffices() {
+    log.trace("Stream all LocalOffices");
+    return responseFactory.ndjson(() -> service.stream().map(mapper::toDto));
+  }
+
+  /**
+   * Get the LocalOffices created, updated or deleted since the given change token, so clients can
+   * keep a copy in sync without downloading every LocalOffice.
+   *
+   * @param since The token returned by the previous request, zero to get all LocalOffices.
+   * @return The changed LocalOffices, the tisIds of deleted LocalOffices and the next change token.
+   */
+  @GetMapping("/local-office/changes")
+  public ResponseEntity<ReferenceChangesDto<LocalOfficeDto>> getLocalOfficeChanges(
+      @RequestParam(defaultValue = "0") long since) {
+    log.trace("Get LocalOffice changes since {}", since);
+    ReferenceChanges<LocalOffice> changes = service.getChanges(since);
+    return ResponseEntity.ok(new ReferenceChangesDto<>(mapper.toDtos(changes.changed()),
+        changes.deleted(), changes.token(), changes.full()));
   }
 
   /**
@@ -94,6 +132,24 @@ public class LocalOfficeResource {
     return ResponseEntity.ok(mapper.toDto(localOffice));
   }
 
+  /**
+   * Create or update LocalOffices in bulk, matching existing LocalOffices by tisId. The request
+   * body may be a JSON array or newline delimited JSON, all records are written with a single bulk
+   * write.
+   *
+   * @param localOfficeDtos The LocalOffices to create or update.
+   * @return The result of each LocalOffice, in the order given.
+   */
+  @PostMapping(value = "/local-office/bulk",
+      consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+  public ResponseEntity<List<BulkWriteResultDto>> bulkUpsertLocalOffices(
+      @RequestBody List<LocalOfficeDto> localOfficeDtos) {
+    log.info("Bulk upserting {} LocalOffices", localOfficeDtos.size());
+    List<BulkWriteResultDto> results = BulkWrites.upsert(localOfficeDtos, LocalOfficeDto::getTisId,
+        dto -> true, mapper::toEntity, service);
+    return ResponseEntity.ok(results);
+  }
+
   /**
    * Delete the LocalOffice with the given tisId.
    *
@@ -26,6 +26,7 @@ import java.net.URI;
 import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -34,11 +35,17 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import uk.nhs.hee.tis.trainee.reference.dto.BulkWriteResultDto;
 import uk.nhs.hee.tis.trainee.reference.dto.ProgrammeMembershipTypeDto;
+import uk.nhs.hee.tis.trainee.reference.dto.ReferenceChangesDto;
 import uk.nhs.hee.tis.trainee.reference.mapper.ProgrammeMembershipTypeMapper;
 import uk.nhs.hee.tis.trainee.reference.model.ProgrammeMembershipType;
 import uk.nhs.hee.tis.trainee.reference.service.ProgrammeMembershipTypeService;
+import uk.nhs.hee.tis.trainee.reference.service.ReferenceChanges;
+import uk.nhs.hee.tis.trainee.reference.service.ReferenceSnapshot;
 
 @RestController
 @RequestMapping("/api")
@@ -49,11 +56,13 @@ public class ProgrammeMembershipTypeResource {
 
   private final ProgrammeMembershipTypeService service;
   private final ProgrammeMembershipTypeMapper mapper;
+  private final JsonResponseFactory responseFactory;
 
   ProgrammeMembershipTypeResource(ProgrammeMembershipTypeService service,
-      ProgrammeMembershipTypeMapper mapper) {
+      ProgrammeMembershipTypeMapper mapper, JsonResponseFactory responseFactory) {
     this.service = service;
     this.mapper = mapper;
+    this.responseFactory = responseFactory;
   }
 
   /**
@@ -62,10 +71,40 @@ public class ProgrammeMembershipTypeResource {
    * @return list of ProgrammeMembershipType.
    */
   @GetMapping("/programme-membership-type")
-  public ResponseEntity<List<ProgrammeMembershipTypeDto>> getProgrammeMembershipTypes() {
+  public ResponseEntity<byte[]> getProgrammeMembershipTypes() {
     log.trace("Get all ProgrammeMembershipTypes");
-    List<ProgrammeMembershipType> programmeMembershipTypes = service.get();
-    return ResponseEntity.ok(mapper.toDtos(programmeMembershipTypes));
+    ReferenceSnapshot<ProgrammeMembershipType> snapshot = service.getSnapshot();
+    return responseFactory.ok(snapshot, () -> mapper.toDtos(snapshot.entities()));
+  }
+
+  /**
+   * Stream all ProgrammeMembershipTypes from the reference table as newline delimited JSON, for
+   * exports of the whole collection.
+   *
+   * @return The ProgrammeMembershipTypes, one per line.
+   */
+  @GetMapping(value = "/programme-membership-type", produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public ResponseEntity<StreamingResponseBody> streamProgrammeMembershipTypes() {
+    log.trace("Stream all ProgrammeMembershipTypes");
+    return responseFactory.ndjson(() -> service.stream().map(mapper::toDto));
+  }
+
+  /**
+   * Get the ProgrammeMembershipTypes created, updated or deleted since the given change token, so
+   * clients can keep a copy in sync without downloading every ProgrammeMembershipType.
+   *
+   * @param since The token returned by the previous request, zero to get all
+   *     ProgrammeMembershipTypes.
+   * @return The changed ProgrammeMembershipTypes, the tisIds of deleted ProgrammeMembershipTypes
+   *     and the next change token.
+   */
+  @GetMapping("/programme-membership-type/changes")
+  public ResponseEntity<ReferenceChangesDto<ProgrammeMembershipTypeDto>>
+      getProgrammeMembershipTypeChanges(@RequestParam(defaultValue = "0") long since) {
+    log.trace("Get ProgrammeMembershipType changes since {}", since);
+    ReferenceChanges<ProgrammeMembershipType> changes = service.getChanges(since);
+    return ResponseEntity.ok(new ReferenceChangesDto<>(mapper.toDtos(changes.changed()),
+        changes.deleted(), changes.token(), changes.full()));
   }
 
   /**
@@ -101,6 +140,25 @@ public class ProgrammeMembershipTypeResource {
     return ResponseEntity.ok(mapper.toDto(programmeMembershipType));
   }
 
+  /**
+   * Create or update ProgrammeMembershipTypes in bulk, matching existing ProgrammeMembershipTypes
+   * by tisId. The request body may be a JSON array or newline delimited JSON, all records are
+   * written with a single bulk write.
+   *
+   * @param programmeMembershipTypeDtos The ProgrammeMembershipTypes to create or update.
+   * @return The result of each ProgrammeMembershipType, in the order given.
+   */
+  @PostMapping(value = "/programme-membership-type/bulk",
+      consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+  public ResponseEntity<List<BulkWriteResultDto>> bulkUpsertProgrammeMembershipTypes(
+      @RequestBody List<ProgrammeMembershipTypeDto> programmeMembershipTypeDtos) {
+    log.info("Bulk upserting {} ProgrammeMembershipTypes", programmeMembershipTypeDtos.size());
+    List<BulkWriteResultDto> results =
+        BulkWrites.upsert(programmeMembershipTypeDtos, ProgrammeMembershipTypeDto::getTisId,
+            dto -> true, mapper::toEntity, service);
+    return ResponseEntity.ok(results);
+  }
+
   /**
    * Delete the ProgrammeMembershipType with the given tisId.
    *
@@ -0,0 +1,412 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.reference.api;
+
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+import uk.nhs.hee.tis.trainee.reference.dto.ReferenceChangeNotificationDto;
+import uk.nhs.hee.tis.trainee.reference.service.AbstractReferenceService;
+import uk.nhs.hee.tis.trainee.reference.service.ReferenceChangeLog;
+import uk.nhs.hee.tis.trainee.reference.service.ReferenceChangeLog.ChangeSet;
+
+/**
+ * Push notifications of reference changes to subscribers as server-sent events.
+ *
+ * <p>Each event's ID holds the change token of every subscribed reference type, e.g.
+ * {@code grade:12,college:4}, so a reconnecting subscriber which sends it as its Last-Event-ID is
+ * first sent any changes recorded while it was disconnected.
+ *
+ * <p>New changes are read by polling the shared change log, so subscribers are notified of changes
+ * recorded by any instance. Only changes older than the change log's settle window are sent, each
+ * of them once, so a change is notified between the settle window and the settle window plus the
+ * poll interval after it was recorded. Polling and replays run on a single thread, while each
+ * subscriber's events are queued and sent by its own virtual thread, so a slow subscriber does not
+ * hold up other subscribers. A subscriber which falls too far behind is unsubscribed and may
+ * reconnect to replay the changes it missed.
+ */
+@Slf4j
+@Component
+public class ReferenceChangeBroadcaster {
+
+  static final String CHANGE_EVENT = "change";
+  static final String SUBSCRIBED_EVENT = "subscribed";
+  static final Duration HEARTBEAT_INTERVAL = Duration.ofSeconds(15);
+  static final int MAX_PENDING_EVENTS = 100;
+
+  private final ReferenceChangeLog changeLog;
+  private final Map<String, String> namesByType = new LinkedHashMap<>();
+  private final Duration timeout;
+  private final ScheduledExecutorService executor;
+  private final ExecutorService senders;
+  private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+  private final Map<String, Long> pollTokens = new HashMap<>();
+
+  /**
+   * Create a broadcaster for the reference types managed by the given services.
+   *
+   * @param changeLog    The change log to read new and missed changes from.
+   * @param services     The services whose changes may be subscribed to.
+   * @param timeout      The maximum duration of a subscription, after which the subscriber must
+   *                     reconnect.
+   * @param pollInterval The interval between polls of the change log.
+   */
+  @Autowired
+  ReferenceChangeBroadcaster(ReferenceChangeLog changeLog,
+      List<AbstractReferenceService<?, ?>> services,
+      @Value("${application.changes.stream-timeout}") Duration timeout,
+      @Value("${application.changes.poll-interval}") Duration pollInterval) {
+    this(changeLog, services, timeout, pollInterval, Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("reference-change-broadcaster").daemon().factory()),
+        Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("reference-change-sender-", 0).factory()));
+  }
+
+  ReferenceChangeBroadcaster(ReferenceChangeLog changeLog,
+      List<AbstractReferenceService<?, ?>> services, Duration timeout, Duration pollInterval,
+      ScheduledExecutorService executor, ExecutorService senders) {
+    this.changeLog = changeLog;
+    this.timeout = timeout;
+    this.executor = executor;
+    this.senders = senders;
+
+    services.stream()
+        .map(AbstractReferenceService::getName)
+        .sorted()
+        .forEach(name -> namesByType.put(toType(name), name));
+
+    executor.scheduleWithFixedDelay(this::poll, pollInterval.toMillis(), pollInterval.toMillis(),
+        TimeUnit.MILLISECONDS);
+    executor.scheduleWithFixedDelay(this::sendHeartbeats, HEARTBEAT_INTERVAL.toMillis(),
+        HEARTBEAT_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Convert a reference type name to the type used in paths, e.g. LocalOfficeContactType to
+   * local-office-contact-type.
+   *
+   * @param name The reference type name.
+   * @return The reference type.
+   */
+  static String toType(String name) {
+    return name.replaceAll("([a-z])([A-Z])", "$1-$2").toLowerCase();
+  }
+
+  /**
+   * Get the reference types which may be subscribed to.
+   *
+   * @return The reference types, e.g. local-office-contact-type.
+   */
+  public Set<String> getTypes() {
+    return Collections.unmodifiableSet(namesByType.keySet());
+  }
+
+  /**
+   * Subscribe to changes of the given reference types.
+   *
+   * @param types       The reference types to subscribe to, must be known types.
+   * @param lastEventId The ID of the last event received before reconnecting, or null.
+   * @return The emitter to send events to the subscriber with.
+   */
+  public SseEmitter subscribe(Set<String> types, String lastEventId) {
+    SseEmitter emitter = new SseEmitter(timeout.toMillis());
+    Subscription subscription = new Subscription(emitter, types, parseTokens(lastEventId, types));
+
+    emitter.onCompletion(() -> unsubscribe(subscription));
+    emitter.onError(e -> unsubscribe(subscription));
+    emitter.onTimeout(emitter::complete);
+
+    executor.execute(() -> start(subscription));
+    return emitter;
+  }
+
+  /**
+   * Parse the change tokens of the subscribed types from an event ID, ignoring any other types.
+   *
+   * @param lastEventId The event ID to parse, may be null.
+   * @param types       The subscribed reference types.
+   * @return The change tokens by reference type.
+   */
+  private static Map<String, Long> parseTokens(String lastEventId, Set<String> types) {
+    Map<String, Long> tokens = new HashMap<>();
+
+    if (lastEventId == null || lastEventId.isBlank()) {
+      return tokens;
+    }
+
+    for (String typeToken : lastEventId.split(",")) {
+      String[] parts = typeToken.trim().split(":");
+
+      if (parts.length == 2 && types.contains(parts[0])) {
+        try {
+          tokens.put(parts[0], Long.parseLong(parts[1]));
+        } catch (NumberFormatException e) {
+          log.warn("Ignoring invalid change token '{}' in last event ID.", typeToken);
+        }
+      }
+    }
+
+    return tokens;
+  }
+
+  /**
+   * Start a subscription, replaying any changes since its last received tokens before it receives
+   * new changes. Types without a last received token start from their current token.
+   *
+   * <p>Types not yet polled start polling from the subscription's token. As polls and starts share
+   * a thread, and the current token never decreases, a started subscription can not miss changes
+   * between its replay and the next poll.
+   *
+   * @param subscription The subscription to start.
+   */
+  private void start(Subscription subscription) {
+    try {
+      for (String type : subscription.types) {
+        String name = namesByType.get(type);
+        Long since = subscription.tokens.get(type);
+
+        if (since == null) {
+          subscription.tokens.put(type, changeLog.getToken(name));
+        } else {
+          ChangeSet changes = changeLog.getSettledChanges(name, since);
+
+          if (!changes.tisIds().isEmpty()) {
+            subscription.tokens.put(type, changes.token());
+            send(subscription, changeEvent(subscription, type, changes.tisIds()));
+          }
+        }
+
+        pollTokens.putIfAbsent(type, subscription.tokens.get(type));
+      }
+
+      send(subscription, SseEmitter.event()
+          .id(toEventId(subscription))
+          .name(SUBSCRIBED_EVENT)
+          .data(subscription.types, MediaType.APPLICATION_JSON));
+      subscriptions.add(subscription);
+      log.debug("Subscribed to changes of {}.", subscription.types);
+    } catch (RuntimeException e) {
+      log.warn("Unable to start subscription to changes of {}.", subscription.types, e);
+      subscription.emitter.completeWithError(e);
+    }
+  }
+
+  /**
+   * Read the settled changes recorded by any instance since the last poll of each subscribed
+   * reference type, and send them to every subscriber of that type. Types with no subscribers are
+   * not polled, and start polling again from the token of their next subscriber.
+   */
+  private void poll() {
+    Set<String> subscribedTypes = subscriptions.stream()
+        .flatMap(subscription -> subscription.types.stream())
+        .collect(Collectors.toSet());
+    pollTokens.keySet().retainAll(subscribedTypes);
+
+    for (Map.Entry<String, Long> pollToken : pollTokens.entrySet()) {
+      String type = pollToken.getKey();
+
+      try {
+        ChangeSet changes = changeLog.getSettledChanges(namesByType.get(type),
+            pollToken.getValue());
+
+        if (changes.token() > pollToken.getValue()) {
+          pollToken.setValue(changes.token());
+          broadcast(type, changes);
+        }
+      } catch (RuntimeException e) {
+        log.warn("Unable to poll changes of {}, retrying at the next poll.", type, e);
+      }
+    }
+  }
+
+  /**
+   * Send recorded changes to every subscriber of the changed reference type which has not already
+   * been sent them.
+   *
+   * @param type    The changed reference type.
+   * @param changes The recorded changes.
+   */
+  private void broadcast(String type, ChangeSet changes) {
+    for (Subscription subscription : subscriptions) {
+      if (subscription.types.contains(type) && subscription.tokens.get(type) < changes.token()) {
+        subscription.tokens.put(type, changes.token());
+        send(subscription, changeEvent(subscription, type, changes.tisIds()));
+      }
+    }
+  }
+
+  /**
+   * Build a change event for a subscriber.
+   *
+   * @param subscription The subscription to build the event for.
+   * @param type         The changed reference type.
+   * @param tisIds       The TIS IDs of the changed entities.
+   * @return The change event.
+   */
+  private static SseEventBuilder changeEvent(Subscription subscription, String type,
+      List<String> tisIds) {
+    long token = subscription.tokens.get(type);
+    return SseEmitter.event()
+        .id(toEventId(subscription))
+        .name(CHANGE_EVENT)
+        .data(new ReferenceChangeNotificationDto(type, tisIds, token), MediaType.APPLICATION_JSON);
+  }
+
+  /**
+   * Queue an event to be sent to a subscriber by its sender, starting the sender if it is idle. A
+   * subscriber with too many pending events is unsubscribed.
+   *
+   * @param subscription The subscription to send the event to.
+   * @param event        The event to send.
+   */
+  private void send(Subscription subscription, SseEventBuilder event) {
+    if (subscription.pending.get() >= MAX_PENDING_EVENTS) {
+      log.debug("Subscriber has too many pending events, unsubscribing.");
+      unsubscribe(subscription);
+      return;
+    }
+
+    subscription.events.add(event);
+
+    if (subscription.pending.getAndIncrement() == 0) {
+      senders.execute(() -> drain(subscription));
+    }
+  }
+
+  /**
+   * Send a subscriber's queued events in order, until none are pending. Events queued after the
+   * subscriber is unsubscribed are discarded.
+   *
+   * @param subscription The subscription to send the events of.
+   */
+  private void drain(Subscription subscription) {
+    do {
+      SseEventBuilder event = subscription.events.poll();
+
+      if (!subscription.closed) {
+        try {
+          subscription.emitter.send(event);
+        } catch (IOException | RuntimeException e) {
+          log.debug("Unable to send event to subscriber, unsubscribing.", e);
+          unsubscribe(subscription);
+        }
+      }
+    } while (subscription.pending.decrementAndGet() > 0);
+  }
+
+  /**
+   * Stop sending events to a subscriber and complete its emitter. The emitter is completed by the
+   * senders, as it may be blocked by a slow send.
+   *
+   * @param subscription The subscription to remove.
+   */
+  private void unsubscribe(Subscription subscription) {
+    if (!subscription.closed) {
+      subscription.closed = true;
+      subscriptions.remove(subscription);
+      senders.execute(subscription.emitter::complete);
+    }
+  }
+
+  /**
+   * Queue a heartbeat comment for every idle subscriber, keeping idle connections open and
+   * detecting disconnected subscribers. Subscribers with pending events are not idle.
+   */
+  private void sendHeartbeats() {
+    for (Subscription subscription : subscriptions) {
+      if (subscription.pending.get() == 0) {
+        send(subscription, SseEmitter.event().comment("heartbeat"));
+      }
+    }
+  }
+
+  /**
+   * Build an event ID holding the current change token of each subscribed reference type.
+   *
+   * @param subscription The subscription to build the event ID for.
+   * @return The event ID.
+   */
+  private static String toEventId(Subscription subscription) {
+    return subscription.types.stream()
+        .filter(subscription.tokens::containsKey)
+        .map(type -> type + ":" + subscription.tokens.get(type))
+        .collect(Collectors.joining(","));
+  }
+
+  /**
+   * Complete all subscriptions and stop sending events, subscribers will reconnect to another
+   * instance.
+   */
+  @PreDestroy
+  void close() {
+    executor.shutdownNow();
+    subscriptions.forEach(subscription -> {
+      subscription.closed = true;
+      subscription.emitter.complete();
+    });
+    subscriptions.clear();
+    senders.shutdownNow();
+  }
+
+  /**
+   * A subscriber's emitter, subscribed types, the change token they have been sent for each type
+   * and their queue of events to send. The tokens are only accessed from the broadcasting thread,
+   * and subscriptions are compared by identity as their tokens change.
+   */
+  private static final class Subscription {
+
+    private final SseEmitter emitter;
+    private final Set<String> types;
+    private final Map<String, Long> tokens;
+    private final Queue<SseEventBuilder> events = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private volatile boolean closed;
+
+    private Subscription(SseEmitter emitter, Set<String> types, Map<String, Long> tokens) {
+      this.emitter = emitter;
+      this.types = types;
+      this.tokens = tokens;
+    }
+  }
+}
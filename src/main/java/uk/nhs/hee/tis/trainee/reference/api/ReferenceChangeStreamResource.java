@@ -0,0 +1,78 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.reference.api;
+
+import com.amazonaws.xray.spring.aop.XRayEnabled;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Resource for subscribing to reference changes.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api")
+@XRayEnabled
+public class ReferenceChangeStreamResource {
+
+  static final String LAST_EVENT_ID_HEADER = "Last-Event-ID";
+
+  private final ReferenceChangeBroadcaster broadcaster;
+
+  ReferenceChangeStreamResource(ReferenceChangeBroadcaster broadcaster) {
+    this.broadcaster = broadcaster;
+  }
+
+  /**
+   * Subscribe to notifications of reference changes as server-sent events, instead of polling for
+   * changes. Reconnecting subscribers are first sent any changes they missed.
+   *
+   * @param types       The reference types to subscribe to, all types if not given.
+   * @param lastEventId The ID of the last event received before reconnecting, if any.
+   * @return The event stream, or a bad request if any type is not recognised.
+   */
+  @GetMapping(value = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public ResponseEntity<SseEmitter> streamChanges(
+      @RequestParam(required = false) List<String> types,
+      @RequestHeader(value = LAST_EVENT_ID_HEADER, required = false) String lastEventId) {
+    Set<String> subscribedTypes = types == null || types.isEmpty() ? broadcaster.getTypes()
+        : new LinkedHashSet<>(types);
+    log.trace("Stream changes of {} from '{}'", subscribedTypes, lastEventId);
+
+    if (!broadcaster.getTypes().containsAll(subscribedTypes)) {
+      log.warn("Unable to stream changes of unrecognised reference types in {}.", types);
+      return ResponseEntity.badRequest().build();
+    }
+
+    return ResponseEntity.ok(broadcaster.subscribe(subscribedTypes, lastEventId));
+  }
+}
@@ -0,0 +1,221 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.reference.api;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.actuate.info.Info;
+import org.springframework.boot.actuate.info.InfoContributor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Warm up the application before it is ready to receive traffic, so the first requests after a
+ * deploy do not pay for opening database connections, loading snapshots, initializing mappers and
+ * building serializers.
+ *
+ * <p>Each configured endpoint is requested through the embedded web server, which loads the
+ * snapshot of every reference collection, maps it to DTOs and caches its serialized body, as well
+ * as initializing the dispatcher servlet. Requests are made concurrently, so several pooled
+ * database connections are opened. Application runners complete before the application is marked
+ * ready, so the readiness probe reports the application out of service until warm-up completes.
+ * Failed requests are logged but do not prevent the application starting.
+ *
+ * <p>Requests use a dedicated rest template with short connect and read timeouts, and the warm-up
+ * as a whole is abandoned once its deadline passes, so a hung endpoint delays readiness by a
+ * bounded amount rather than indefinitely.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(value = "application.warm-up.enabled", havingValue = "true")
+public class ReferenceWarmUp implements ApplicationRunner, InfoContributor {
+
+  static final String FAILED = "FAILED";
+  static final String TIMED_OUT = "TIMED_OUT";
+
+  private final RestTemplate restTemplate;
+  private final WebServerApplicationContext context;
+  private final Clock clock;
+  private final String contextPath;
+  private final List<String> paths;
+  private final int concurrency;
+  private final Duration timeout;
+
+  private volatile WarmUpResult result;
+
+  /**
+   * Create a warm-up of the given endpoints.
+   *
+   * @param builder        The builder used to create the rest template for warm-up requests.
+   * @param context        The context of the embedded web server to request the endpoints from.
+   * @param clock          The clock used to time the warm-up.
+   * @param registry       The registry to report the warm-up duration to.
+   * @param contextPath    The servlet context path.
+   * @param paths          The paths of the endpoints to request, relative to the context path.
+   * @param concurrency    The maximum number of concurrent requests.
+   * @param requestTimeout The connect and read timeout of each request.
+   * @param timeout        The maximum time to wait for all requests to complete.
+   */
+  @Autowired
+  ReferenceWarmUp(RestTemplateBuilder builder, WebServerApplicationContext context, Clock clock,
+      MeterRegistry registry, @Value("${server.servlet.context-path:}") String contextPath,
+      @Value("${application.warm-up.paths}") List<String> paths,
+      @Value("${application.warm-up.concurrency}") int concurrency,
+      @Value("${application.warm-up.request-timeout}") Duration requestTimeout,
+      @Value("${application.warm-up.timeout}") Duration timeout) {
+    this(builder.setConnectTimeout(requestTimeout).setReadTimeout(requestTimeout).build(),
+        context, clock, registry, contextPath, paths, concurrency, timeout);
+  }
+
+  /**
+   * Create a warm-up of the given endpoints.
+   *
+   * @param restTemplate The rest template to request the endpoints with.
+   * @param context      The context of the embedded web server to request the endpoints from.
+   * @param clock        The clock used to time the warm-up.
+   * @param registry     The registry to report the warm-up duration to.
+   * @param contextPath  The servlet context path.
+   * @param paths        The paths of the endpoints to request, relative to the context path.
+   * @param concurrency  The maximum number of concurrent requests.
+   * @param timeout      The maximum time to wait for all requests to complete.
+   */
+  ReferenceWarmUp(RestTemplate restTemplate, WebServerApplicationContext context, Clock clock,
+      MeterRegistry registry, String contextPath, List<String> paths, int concurrency,
+      Duration timeout) {
+    this.restTemplate = restTemplate;
+    this.context = context;
+    this.clock = clock;
+    this.contextPath = contextPath;
+    this.paths = paths;
+    this.concurrency = concurrency;
+    this.timeout = timeout;
+
+    TimeGauge.builder("reference.warm-up.duration", this, TimeUnit.MILLISECONDS,
+            ReferenceWarmUp::getDurationMillis)
+        .description("The time taken to warm up the application before it was ready.")
+        .register(registry);
+  }
+
+  @Override
+  public void run(ApplicationArguments args) {
+    String baseUrl = "http://localhost:" + context.getWebServer().getPort() + contextPath;
+    log.info("Warming up {} endpoints.", paths.size());
+    Instant start = clock.instant();
+
+    Map<String, String> outcomes = new LinkedHashMap<>();
+
+    // Not closed with try-with-resources, as close() would wait for hung requests.
+    ExecutorService executor = Executors.newFixedThreadPool(concurrency,
+        Thread.ofPlatform().name("reference-warm-up-", 0).daemon(true).factory());
+
+    try {
+      List<CompletableFuture<String>> requests = paths.stream()
+          .map(path -> CompletableFuture.supplyAsync(() -> warmUp(baseUrl + path), executor)
+              .completeOnTimeout(TIMED_OUT, timeout.toMillis(), TimeUnit.MILLISECONDS))
+          .toList();
+
+      for (int i = 0; i < paths.size(); i++) {
+        String outcome = requests.get(i).join();
+        outcomes.put(paths.get(i), outcome);
+
+        if (outcome.equals(TIMED_OUT)) {
+          log.warn("Warm-up request to '{}' did not complete within {}.", paths.get(i), timeout);
+        }
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    Duration duration = Duration.between(start, clock.instant());
+    result = new WarmUpResult(duration, outcomes);
+    log.info("Warmed up {} endpoints in {}.", paths.size(), duration);
+  }
+
+  /**
+   * Request an endpoint.
+   *
+   * @param url The URL of the endpoint.
+   * @return The response status code, or {@link #FAILED} if no response was received.
+   */
+  private String warmUp(String url) {
+    try {
+      return String.valueOf(restTemplate.getForEntity(url, byte[].class).getStatusCode().value());
+    } catch (RestClientResponseException e) {
+      log.warn("Warm-up request to '{}' failed with status {}.", url, e.getStatusCode());
+      return String.valueOf(e.getStatusCode().value());
+    } catch (RestClientException e) {
+      log.warn("Warm-up request to '{}' failed.", url, e);
+      return FAILED;
+    }
+  }
+
+  /**
+   * Get the duration of the completed warm-up.
+   *
+   * @return The duration in milliseconds, or zero if the warm-up has not completed.
+   */
+  double getDurationMillis() {
+    WarmUpResult completed = result;
+    return completed == null ? 0 : completed.duration().toMillis();
+  }
+
+  @Override
+  public void contribute(Info.Builder builder) {
+    WarmUpResult completed = result;
+
+    if (completed != null) {
+      builder.withDetail("warmUp", Map.of(
+          "duration", completed.duration().toString(),
+          "endpoints", completed.outcomes()));
+    }
+  }
+
+  /**
+   * The result of a completed warm-up.
+   *
+   * @param duration The time taken to warm up.
+   * @param outcomes The response status of each requested path.
+   */
+  private record WarmUpResult(Duration duration, Map<String, String> outcomes) {
+
+  }
+}
@@ -0,0 +1,86 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.reference.changelog;
+
+import static uk.nhs.hee.tis.trainee.reference.repository.LocalOfficeContactRepository.DERIVE_CONTACT_TYPE_FIELDS_STAGE;
+
+import com.mongodb.client.result.UpdateResult;
+import io.mongock.api.annotations.ChangeUnit;
+import io.mongock.api.annotations.Execution;
+import io.mongock.api.annotations.RollbackExecution;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.query.Query;
+import uk.nhs.hee.tis.trainee.reference.model.LocalOfficeContact;
+
+/**
+ * Backfill the derived trainee type fields of the LocalOfficeContact collection, and create the
+ * indexes used to query by local office and trainee type.
+ */
+@Slf4j
+@ChangeUnit(id = "addLocalOfficeContactTraineeType", order = "002", author = "")
+public class AddLocalOfficeContactTraineeType {
+
+  private final MongoTemplate mongoTemplate;
+
+  public AddLocalOfficeContactTraineeType(MongoTemplate mongoTemplate) {
+    this.mongoTemplate = mongoTemplate;
+  }
+
+  /**
+   * Derive the trainee type and contact type display name of all existing local office contacts.
+   */
+  @Execution
+  public void migrate() {
+    AggregationOperation deriveStage = context -> Document.parse(DERIVE_CONTACT_TYPE_FIELDS_STAGE);
+    AggregationUpdate update = AggregationUpdate.from(List.of(deriveStage));
+    UpdateResult result = mongoTemplate.updateMulti(new Query(), update,
+        LocalOfficeContact.class);
+    log.info("Derived trainee type for {} local office contact(s).", result.getModifiedCount());
+
+    IndexOperations indexOps = mongoTemplate.indexOps(LocalOfficeContact.class);
+    indexOps.ensureIndex(new Index()
+        .on("localOfficeId", Direction.ASC)
+        .on("traineeType", Direction.ASC)
+        .named("localOfficeId_traineeType"));
+    indexOps.ensureIndex(new Index()
+        .on("localOfficeName", Direction.ASC)
+        .on("traineeType", Direction.ASC)
+        .named("localOfficeName_traineeType"));
+  }
+
+  /**
+   * Do not attempt rollback, the derived fields are ignored by older versions of the service.
+   */
+  @RollbackExecution
+  public void rollback() {
+    log.warn("Rollback requested but not available for 'addLocalOfficeContactTraineeType' "
+        + "migration.");
+  }
+}
@@ -0,0 +1,73 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.reference.changelog;
+
+import io.mongock.api.annotations.ChangeUnit;
+import io.mongock.api.annotations.Execution;
+import io.mongock.api.annotations.RollbackExecution;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import uk.nhs.hee.tis.trainee.reference.model.ReferenceChange;
+
+/**
+ * Create the indexes of the ReferenceChange collection, used to record one change per entity and to
+ * query changes by sequence.
+ */
+@Slf4j
+@ChangeUnit(id = "createReferenceChangeIndexes", order = "003", author = "")
+public class CreateReferenceChangeIndexes {
+
+  private final MongoTemplate mongoTemplate;
+
+  public CreateReferenceChangeIndexes(MongoTemplate mongoTemplate) {
+    this.mongoTemplate = mongoTemplate;
+  }
+
+  /**
+   * Create the unique type and TIS ID index, and the type and sequence index.
+   */
+  @Execution
+  public void migrate() {
+    IndexOperations indexOps = mongoTemplate.indexOps(ReferenceChange.class);
+    indexOps.ensureIndex(new Index()
+        .on("type", Direction.ASC)
+        .on("tisId", Direction.ASC)
+        .unique()
+        .named("type_tisId"));
+    indexOps.ensureIndex(new Index()
+        .on("type", Direction.ASC)
+        .on("sequence", Direction.ASC)
+        .named("type_sequence"));
+  }
+
+  /**
+   * Do not attempt rollback, the indexes are ignored by older versions of the service.
+   */
+  @RollbackExecution
+  public void rollback() {
+    log.warn("Rollback requested but not available for 'createReferenceChangeIndexes' "
+        + "migration.");
+  }
+}
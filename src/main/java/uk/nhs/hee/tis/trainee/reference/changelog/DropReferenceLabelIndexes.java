@@ -0,0 +1,74 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.reference.changelog;
+
+import io.mongock.api.annotations.ChangeUnit;
+import io.mongock.api.annotations.Execution;
+import io.mongock.api.annotations.RollbackExecution;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import uk.nhs.hee.tis.trainee.reference.repository.ReferenceIndexes;
+
+/**
+ * Drop the single field label indexes, which have been superseded by the covering label indexes.
+ */
+@Slf4j
+@ChangeUnit(id = "dropReferenceLabelIndexes", order = "005", author = "")
+public class DropReferenceLabelIndexes {
+
+  private static final String LABEL_INDEX = "label";
+
+  private final MongoTemplate mongoTemplate;
+
+  public DropReferenceLabelIndexes(MongoTemplate mongoTemplate) {
+    this.mongoTemplate = mongoTemplate;
+  }
+
+  /**
+   * Drop the label index of each reference collection, where it exists.
+   */
+  @Execution
+  public void migrate() {
+    for (Class<?> type : ReferenceIndexes.getIndexes().keySet()) {
+      IndexOperations indexOps = mongoTemplate.indexOps(type);
+      boolean exists = indexOps.getIndexInfo().stream()
+          .map(IndexInfo::getName)
+          .anyMatch(LABEL_INDEX::equals);
+
+      if (exists) {
+        indexOps.dropIndex(LABEL_INDEX);
+        log.info("Dropped index '{}' of collection '{}'.", LABEL_INDEX,
+            mongoTemplate.getCollectionName(type));
+      }
+    }
+  }
+
+  /**
+   * Do not attempt rollback, the covering label indexes serve the same queries.
+   */
+  @RollbackExecution
+  public void rollback() {
+    log.warn("Rollback requested but not available for 'dropReferenceLabelIndexes' migration.");
+  }
+}
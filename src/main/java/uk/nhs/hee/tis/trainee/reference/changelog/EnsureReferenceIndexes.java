@@ -0,0 +1,197 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.reference.changelog;
+
+import io.mongock.api.annotations.ChangeUnit;
+import io.mongock.api.annotations.Execution;
+import io.mongock.api.annotations.RollbackExecution;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import uk.nhs.hee.tis.trainee.reference.repository.ReferenceIndexes;
+
+/**
+ * Ensure the declared indexes of every reference collection exist. The migration runs on every
+ * startup, so indexes added to {@link ReferenceIndexes} are created without a new migration.
+ *
+ * <p>Unique indexes were previously only declared by model annotations which were never applied,
+ * so existing data may hold duplicates which would fail the index creation and block startup. Each
+ * collection is checked for duplicates before a unique index is created, if any are found they are
+ * reported and the index is created without the unique constraint. Once the duplicates have been
+ * removed the index is recreated as unique on the next startup.
+ *
+ * <p>Indexes are matched by name, and some names such as the covering index's are shared by
+ * indexes whose keys change as fields are mapped. An existing index whose keys differ from the
+ * declared keys is dropped and recreated, as creating it again would conflict with the existing
+ * index and block startup.
+ */
+@Slf4j
+@ChangeUnit(id = "ensureReferenceIndexes", order = "004", author = "", runAlways = true)
+public class EnsureReferenceIndexes {
+
+  static final int MAX_REPORTED_DUPLICATES = 10;
+
+  private static final String UNIQUE = "unique";
+  private static final String NAME = "name";
+  private static final String COUNT = "count";
+
+  private final MongoTemplate mongoTemplate;
+
+  public EnsureReferenceIndexes(MongoTemplate mongoTemplate) {
+    this.mongoTemplate = mongoTemplate;
+  }
+
+  /**
+   * Create any declared indexes which do not already exist.
+   */
+  @Execution
+  public void migrate() {
+    for (Entry<Class<?>, List<Index>> entry : ReferenceIndexes.getIndexes().entrySet()) {
+      IndexOperations indexOps = mongoTemplate.indexOps(entry.getKey());
+      String collection = mongoTemplate.getCollectionName(entry.getKey());
+      Map<String, IndexInfo> existing = indexOps.getIndexInfo().stream()
+          .collect(Collectors.toMap(IndexInfo::getName, Function.identity()));
+
+      for (Index index : entry.getValue()) {
+        String declaredName = index.getIndexOptions().getString(NAME);
+        IndexInfo current = existing.get(declaredName);
+
+        if (current != null && !hasKeys(current, index)) {
+          indexOps.dropIndex(declaredName);
+          log.info("Dropped index '{}' of collection '{}' to recreate it with keys {}.",
+              declaredName, collection, index.getIndexKeys().keySet());
+          current = null;
+        }
+
+        if (index.getIndexOptions().getBoolean(UNIQUE, false)) {
+          index = checkUnique(collection, indexOps, index, current);
+        }
+
+        String name = indexOps.ensureIndex(index);
+        log.debug("Ensured index '{}' of collection '{}'.", name, collection);
+      }
+    }
+  }
+
+  /**
+   * Check whether an existing index has the keys of a declared index, in the same order and
+   * direction.
+   *
+   * @param existing The existing index.
+   * @param index    The declared index.
+   * @return Whether the keys match.
+   */
+  private static boolean hasKeys(IndexInfo existing, Index index) {
+    List<String> existingKeys = existing.getIndexFields().stream()
+        .map(field -> field.getKey() + ":" + (field.getDirection() == Direction.DESC ? -1 : 1))
+        .toList();
+    List<String> declaredKeys = index.getIndexKeys().entrySet().stream()
+        .map(key -> key.getKey() + ":" + Integer.signum(((Number) key.getValue()).intValue()))
+        .toList();
+    return existingKeys.equals(declaredKeys);
+  }
+
+  /**
+   * Check whether a unique index can be created, dropping an existing non-unique index of the same
+   * name so it can be recreated as unique.
+   *
+   * @param collection The collection to index.
+   * @param indexOps   The index operations of the collection.
+   * @param index      The unique index to create.
+   * @param existing   The existing index with the same name, or null if there is none.
+   * @return The unique index, or a non-unique copy if the collection holds duplicates.
+   */
+  private Index checkUnique(String collection, IndexOperations indexOps, Index index,
+      IndexInfo existing) {
+    if (existing != null && existing.isUnique()) {
+      return index;
+    }
+
+    String name = index.getIndexOptions().getString(NAME);
+    Set<String> fields = index.getIndexKeys().keySet();
+    List<Document> duplicates = findDuplicates(collection, fields);
+
+    if (!duplicates.isEmpty()) {
+      log.error("Unable to create unique index '{}' of collection '{}', the duplicate values "
+              + "{} must be removed. A non-unique index will be used until then.", name,
+          collection, duplicates);
+      return nonUnique(index);
+    }
+
+    if (existing != null) {
+      indexOps.dropIndex(name);
+      log.info("Dropped non-unique index '{}' of collection '{}' to recreate it as unique.", name,
+          collection);
+    }
+    return index;
+  }
+
+  /**
+   * Find values of the given fields which are shared by more than one document, documents missing
+   * the fields share a null value as they would in a unique index.
+   *
+   * @param collection The collection to search.
+   * @param fields     The indexed fields.
+   * @return Up to {@link #MAX_REPORTED_DUPLICATES} duplicated values and their counts.
+   */
+  private List<Document> findDuplicates(String collection, Set<String> fields) {
+    Aggregation aggregation = Aggregation.newAggregation(
+        Aggregation.group(fields.toArray(String[]::new)).count().as(COUNT),
+        Aggregation.match(Criteria.where(COUNT).gt(1)),
+        Aggregation.limit(MAX_REPORTED_DUPLICATES));
+    return mongoTemplate.aggregate(aggregation, collection, Document.class).getMappedResults();
+  }
+
+  /**
+   * Copy an index without its unique constraint, keeping its name so it is matched by later
+   * startups and verification.
+   *
+   * @param index The index to copy.
+   * @return The non-unique index.
+   */
+  private static Index nonUnique(Index index) {
+    Index copy = new Index().named(index.getIndexOptions().getString(NAME));
+    index.getIndexKeys().forEach((field, direction) -> copy.on(field,
+        ((Number) direction).intValue() < 0 ? Direction.DESC : Direction.ASC));
+    return copy;
+  }
+
+  /**
+   * Do not attempt rollback, the indexes are ignored by older versions of the service.
+   */
+  @RollbackExecution
+  public void rollback() {
+    log.warn("Rollback requested but not available for 'ensureReferenceIndexes' migration.");
+  }
+}
@@ -21,6 +21,8 @@
 
 package uk.nhs.hee.tis.trainee.reference.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Clock;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -36,4 +38,14 @@ public class ApplicationConfiguration {
   RestTemplate restTemplate(RestTemplateBuilder builder) {
     return builder.build();
   }
+
+  @Bean
+  NdjsonHttpMessageConverter ndjsonHttpMessageConverter(ObjectMapper mapper) {
+    return new NdjsonHttpMessageConverter(mapper);
+  }
+
+  @Bean
+  Clock clock() {
+    return Clock.systemUTC();
+  }
 }
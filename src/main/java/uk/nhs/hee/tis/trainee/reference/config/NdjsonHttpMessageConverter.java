@@ -0,0 +1,102 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.reference.config;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.List;
+import org.springframework.core.GenericTypeResolver;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+/**
+ * A message converter which reads newline delimited JSON request bodies into lists, allowing
+ * large bulk requests to be streamed one record per line.
+ */
+public class NdjsonHttpMessageConverter extends AbstractGenericHttpMessageConverter<List<?>> {
+
+  private final ObjectMapper mapper;
+
+  /**
+   * Create a message converter for newline delimited JSON.
+   *
+   * @param mapper The object mapper to read each record with.
+   */
+  public NdjsonHttpMessageConverter(ObjectMapper mapper) {
+    super(MediaType.APPLICATION_NDJSON);
+    this.mapper = mapper;
+  }
+
+  @Override
+  protected boolean supports(Class<?> clazz) {
+    return List.class.isAssignableFrom(clazz);
+  }
+
+  @Override
+  public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+    Class<?> rawType = ResolvableType.forType(GenericTypeResolver.resolveType(type, contextClass))
+        .resolve();
+    return rawType != null && supports(rawType) && canRead(mediaType);
+  }
+
+  @Override
+  protected boolean canWrite(MediaType mediaType) {
+    return false;
+  }
+
+  @Override
+  public List<?> read(Type type, Class<?> contextClass, HttpInputMessage inputMessage)
+      throws IOException, HttpMessageNotReadableException {
+    JavaType listType = mapper.getTypeFactory()
+        .constructType(GenericTypeResolver.resolveType(type, contextClass));
+    JavaType elementType = listType.getContentType();
+
+    try (MappingIterator<Object> records = mapper.readerFor(elementType)
+        .readValues(inputMessage.getBody())) {
+      return records.readAll();
+    } catch (JsonProcessingException e) {
+      throw new HttpMessageNotReadableException("Invalid NDJSON: " + e.getOriginalMessage(), e,
+          inputMessage);
+    }
+  }
+
+  @Override
+  protected List<?> readInternal(Class<? extends List<?>> clazz, HttpInputMessage inputMessage)
+      throws IOException, HttpMessageNotReadableException {
+    return read(clazz, null, inputMessage);
+  }
+
+  @Override
+  protected void writeInternal(List<?> objects, Type type, HttpOutputMessage outputMessage)
+      throws HttpMessageNotWritableException {
+    throw new HttpMessageNotWritableException("Writing NDJSON is not supported.");
+  }
+}
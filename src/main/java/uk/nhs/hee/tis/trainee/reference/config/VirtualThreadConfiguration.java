@@ -0,0 +1,70 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.reference.config;
+
+import io.awspring.cloud.sqs.config.SqsMessageListenerContainerFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+/**
+ * Configuration for running blocking work on virtual threads, enabled with
+ * {@code spring.threads.virtual.enabled}.
+ *
+ * <p>Spring Boot moves Tomcat request handling on to virtual threads, this configuration does the
+ * same for the SQS listener containers so CDC batches no longer hold a platform thread while
+ * waiting on MongoDB.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfiguration {
+
+  static final String SQS_THREAD_NAME_PREFIX = "sqs-virtual-";
+
+  @Bean
+  static BeanPostProcessor sqsVirtualThreadPostProcessor() {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof SqsMessageListenerContainerFactory<?> factory) {
+          factory.configure(options -> options.componentsTaskExecutor(sqsTaskExecutor()));
+        }
+        return bean;
+      }
+    };
+  }
+
+  /**
+   * Create a task executor which runs each task on a new virtual thread, the number of messages in
+   * flight is already limited by the listener's {@code maxConcurrentMessages}.
+   *
+   * @return The created task executor.
+   */
+  static SimpleAsyncTaskExecutor sqsTaskExecutor() {
+    SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(SQS_THREAD_NAME_PREFIX);
+    executor.setVirtualThreads(true);
+    return executor;
+  }
+}
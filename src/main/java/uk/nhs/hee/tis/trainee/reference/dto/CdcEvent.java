@@ -21,72 +21,180 @@
 
 package uk.nhs.hee.tis.trainee.reference.dto;
 
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.github.fge.jsonpatch.AddOperation;
 import com.github.fge.jsonpatch.JsonPatch;
 import com.github.fge.jsonpatch.JsonPatchOperation;
 import com.github.fge.jsonpatch.RemoveOperation;
 import com.github.fge.jsonpatch.TestOperation;
+import java.util.ArrayList;
 import java.util.List;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 
 /**
  * Represents a CDC patch event received from an SQS queue.
  *
- * @param operations The list of JSON patch operations.
- * @param keys       The key fields identifying the record, populated by the lambda.
+ * <p>The event type, the operation paths and the patch without test operations are resolved once,
+ * when the event is created. Deserialized events take the raw operation fields from the
+ * {@link CdcEventDeserializer} as they are parsed, so no operation is converted to a JSON tree.
  */
-public record CdcEvent(
-    @JsonProperty("patch")
-    List<JsonPatchOperation> operations,
-    CdcKeys keys) {
+@JsonAutoDetect(getterVisibility = Visibility.NONE)
+@JsonDeserialize(using = CdcEventDeserializer.class)
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@ToString(onlyExplicitlyIncluded = true)
+public final class CdcEvent {
 
   private static final ObjectMapper MAPPER = new ObjectMapper();
 
+  @EqualsAndHashCode.Include
+  @ToString.Include
+  private final List<JsonPatchOperation> operations;
+
+  @EqualsAndHashCode.Include
+  @ToString.Include
+  private final CdcKeys keys;
+
+  private final List<PatchOperation> parsedOperations;
+  private final List<PatchOperation> parsedOperationsWithoutTests;
+  private final List<String> paths;
+  private final CdcEventType eventType;
+  private final JsonPatch patch;
+  private final JsonPatch patchWithoutTests;
+
   /**
-   * Determines the type of CDC event by inspecting the operation at the root path.
+   * Create a CDC event, the event type is determined by inspecting the operation at the root path.
    *
    * <p>An {@link AddOperation} at root indicates an INSERT, a {@link RemoveOperation} at root
    * indicates a DELETE, and any other operation at root indicates an UPDATE. If no root-path
    * operation is found, UPDATE is assumed.
    *
-   * @return The {@link CdcEventType} for this event.
+   * @param operations The list of JSON patch operations.
+   * @param keys       The key fields identifying the record, populated by the lambda.
    */
-  public CdcEventType getEventType() {
+  public CdcEvent(List<JsonPatchOperation> operations, CdcKeys keys) {
+    this(operations, parse(operations), keys);
+  }
+
+  /**
+   * Create a CDC event from already parsed operations.
+   *
+   * @param operations       The list of JSON patch operations.
+   * @param parsedOperations The raw fields of each operation, in the same order.
+   * @param keys             The key fields identifying the record, populated by the lambda.
+   */
+  CdcEvent(List<JsonPatchOperation> operations, List<PatchOperation> parsedOperations,
+      CdcKeys keys) {
+    this.operations = List.copyOf(operations);
+    this.parsedOperations = List.copyOf(parsedOperations);
+    this.keys = keys;
+    eventType = findEventType(this.parsedOperations);
+    paths = this.parsedOperations.stream().map(PatchOperation::path).toList();
+    patch = new JsonPatch(this.operations);
+
+    List<JsonPatchOperation> operationsWithoutTests = new ArrayList<>(this.operations.size());
+    List<PatchOperation> parsedWithoutTests = new ArrayList<>(this.operations.size());
+
+    for (int i = 0; i < this.operations.size(); i++) {
+      if (!this.parsedOperations.get(i).isTest()) {
+        operationsWithoutTests.add(this.operations.get(i));
+        parsedWithoutTests.add(this.parsedOperations.get(i));
+      }
+    }
+
+    boolean hasTests = operationsWithoutTests.size() != this.operations.size();
+    patchWithoutTests = hasTests ? new JsonPatch(operationsWithoutTests) : patch;
+    parsedOperationsWithoutTests = hasTests ? List.copyOf(parsedWithoutTests)
+        : this.parsedOperations;
+  }
+
+  /**
+   * Parse the raw fields of constructed operations.
+   *
+   * @param operations The operations to parse.
+   * @return The raw fields of each operation.
+   */
+  private static List<PatchOperation> parse(List<JsonPatchOperation> operations) {
     return operations.stream()
-        .filter(op -> {
-          try {
-            JsonNode opNode = MAPPER.valueToTree(op);
-            return "".equals(opNode.path("path").asText());
-          } catch (Exception e) {
-            return false;
-          }
-        })
+        .map(CdcEvent::parseOperation)
+        .toList();
+  }
+
+  /**
+   * Parse the raw fields of a constructed operation, by converting it to a JSON tree once.
+   *
+   * @param operation The operation to parse.
+   * @return The raw fields of the operation.
+   */
+  private static PatchOperation parseOperation(JsonPatchOperation operation) {
+    JsonNode opNode = MAPPER.valueToTree(operation);
+    return new PatchOperation(opNode.path("op").asText(), opNode.path("path").asText(),
+        opNode.get("value"));
+  }
+
+  /**
+   * Find the event type from the first operation at the root path.
+   *
+   * @param operations The operations to inspect.
+   * @return The {@link CdcEventType} for the operations.
+   */
+  private static CdcEventType findEventType(List<PatchOperation> operations) {
+    return operations.stream()
+        .filter(PatchOperation::isRoot)
         .findFirst()
-        .map(op -> {
-          if (op instanceof AddOperation) {
-            return CdcEventType.INSERT;
-          }
-          if (op instanceof RemoveOperation) {
-            return CdcEventType.DELETE;
-          }
-          return CdcEventType.UPDATE;
+        .map(op -> switch (op.op()) {
+          case "add" -> CdcEventType.INSERT;
+          case "remove" -> CdcEventType.DELETE;
+          default -> CdcEventType.UPDATE;
         })
         .orElse(CdcEventType.UPDATE);
   }
 
   /**
-   * Constructs a {@link JsonPatch} from all patch operations.
+   * Get the JSON patch operations.
+   *
+   * @return The list of JSON patch operations.
+   */
+  @JsonProperty("patch")
+  public List<JsonPatchOperation> operations() {
+    return operations;
+  }
+
+  /**
+   * Get the key fields identifying the record.
+   *
+   * @return The key fields, populated by the lambda.
+   */
+  @JsonProperty("keys")
+  public CdcKeys keys() {
+    return keys;
+  }
+
+  /**
+   * Get the type of the CDC event, as determined by the operation at the root path.
+   *
+   * @return The {@link CdcEventType} for this event.
+   */
+  public CdcEventType getEventType() {
+    return eventType;
+  }
+
+  /**
+   * Get a {@link JsonPatch} of all patch operations.
    *
    * @return A JsonPatch representing all CDC patch operations.
    */
   public JsonPatch getPatch() {
-    return new JsonPatch(operations);
+    return patch;
   }
 
   /**
-   * Constructs a {@link JsonPatch} from the patch operations, excluding any {@link TestOperation}s.
+   * Get a {@link JsonPatch} of the patch operations, excluding any {@link TestOperation}s.
    *
    * <p>Test operations verify the before-state of a field using TIS column names, which may
    * differ from TSS field names. Stripping them avoids patch failures caused by field name
@@ -95,10 +203,26 @@ public record CdcEvent(
    * @return A JsonPatch with test operations removed.
    */
   public JsonPatch getPatchWithoutTests() {
-    List<JsonPatchOperation> filtered = operations.stream()
-        .filter(op -> !(op instanceof TestOperation))
-        .toList();
-    return new JsonPatch(filtered);
+    return patchWithoutTests;
+  }
+
+  /**
+   * Get the paths of the patch operations, in order.
+   *
+   * @return The operation paths, empty for the root path.
+   */
+  public List<String> getPaths() {
+    return paths;
+  }
+
+  /**
+   * Get the raw fields of the patch operations, excluding any {@link TestOperation}s, see
+   * {@link #getPatchWithoutTests()}.
+   *
+   * @return The parsed operations without tests, in order.
+   */
+  public List<PatchOperation> getOperationsWithoutTests() {
+    return parsedOperationsWithoutTests;
   }
 
   /**
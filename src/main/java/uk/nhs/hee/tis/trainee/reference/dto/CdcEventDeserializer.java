@@ -0,0 +1,175 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.reference.dto;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.github.fge.jackson.jsonpointer.JsonPointer;
+import com.github.fge.jackson.jsonpointer.JsonPointerException;
+import com.github.fge.jsonpatch.AddOperation;
+import com.github.fge.jsonpatch.CopyOperation;
+import com.github.fge.jsonpatch.JsonPatchOperation;
+import com.github.fge.jsonpatch.MoveOperation;
+import com.github.fge.jsonpatch.RemoveOperation;
+import com.github.fge.jsonpatch.ReplaceOperation;
+import com.github.fge.jsonpatch.TestOperation;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import uk.nhs.hee.tis.trainee.reference.dto.CdcEvent.CdcKeys;
+
+/**
+ * A deserializer for {@link CdcEvent}s, which reads each patch operation's fields directly from
+ * the token stream.
+ *
+ * <p>Only operation values are read as JSON trees, the operation name and paths are read as
+ * strings and kept on the event, so the event type and the patch without test operations are
+ * resolved without converting any operation to a tree.
+ */
+public class CdcEventDeserializer extends StdDeserializer<CdcEvent> {
+
+  public CdcEventDeserializer() {
+    super(CdcEvent.class);
+  }
+
+  @Override
+  public CdcEvent deserialize(JsonParser parser, DeserializationContext context)
+      throws IOException {
+    String field;
+
+    if (parser.isExpectedStartObjectToken()) {
+      field = parser.nextFieldName();
+    } else if (parser.hasToken(JsonToken.FIELD_NAME)) {
+      field = parser.currentName();
+    } else {
+      return (CdcEvent) context.handleUnexpectedToken(CdcEvent.class, parser);
+    }
+
+    List<JsonPatchOperation> operations = new ArrayList<>();
+    List<PatchOperation> parsedOperations = new ArrayList<>();
+    CdcKeys keys = null;
+
+    for (; field != null; field = parser.nextFieldName()) {
+      JsonToken token = parser.nextToken();
+
+      switch (field) {
+        case "patch" -> {
+          if (token == JsonToken.VALUE_NULL) {
+            continue;
+          }
+
+          if (token != JsonToken.START_ARRAY) {
+            return (CdcEvent) context.handleUnexpectedToken(List.class, parser);
+          }
+
+          while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (!parser.isExpectedStartObjectToken()) {
+              return (CdcEvent) context.handleUnexpectedToken(JsonPatchOperation.class, parser);
+            }
+
+            readOperation(parser, context, operations, parsedOperations);
+          }
+        }
+        case "keys" -> keys = token == JsonToken.VALUE_NULL ? null
+            : context.readValue(parser, CdcKeys.class);
+        default -> parser.skipChildren();
+      }
+    }
+
+    return new CdcEvent(operations, parsedOperations, keys);
+  }
+
+  /**
+   * Read a single patch operation object, the parser must be positioned at its start.
+   *
+   * @param parser           The parser to read from.
+   * @param context          The deserialization context.
+   * @param operations       The operations to add the read operation to.
+   * @param parsedOperations The parsed operations to add the read operation's fields to.
+   * @throws IOException If the operation cannot be read or is not a valid patch operation.
+   */
+  private static void readOperation(JsonParser parser, DeserializationContext context,
+      List<JsonPatchOperation> operations, List<PatchOperation> parsedOperations)
+      throws IOException {
+    String op = null;
+    String path = null;
+    String from = null;
+    JsonNode value = null;
+
+    for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+      parser.nextToken();
+
+      switch (field) {
+        case "op" -> op = parser.getValueAsString();
+        case "path" -> path = parser.getValueAsString();
+        case "from" -> from = parser.getValueAsString();
+        case "value" -> value = context.readTree(parser);
+        default -> parser.skipChildren();
+      }
+    }
+
+    if (op == null || path == null) {
+      context.reportInputMismatch(JsonPatchOperation.class,
+          "Patch operations must have an op and a path.");
+    }
+
+    JsonPointer pointer = toPointer(context, path);
+    JsonPatchOperation operation = switch (op) {
+      case "add" -> new AddOperation(pointer, value);
+      case "copy" -> new CopyOperation(toPointer(context, from), pointer);
+      case "move" -> new MoveOperation(toPointer(context, from), pointer);
+      case "remove" -> new RemoveOperation(pointer);
+      case "replace" -> new ReplaceOperation(pointer, value);
+      case PatchOperation.TEST -> new TestOperation(pointer, value);
+      default -> context.reportInputMismatch(JsonPatchOperation.class,
+          "Unknown patch operation '%s'.", op);
+    };
+
+    operations.add(operation);
+    parsedOperations.add(new PatchOperation(op, path, value));
+  }
+
+  /**
+   * Create a JSON pointer for an operation path.
+   *
+   * @param context The deserialization context.
+   * @param path    The path.
+   * @return The JSON pointer.
+   * @throws IOException If the path is missing or not a valid JSON pointer.
+   */
+  private static JsonPointer toPointer(DeserializationContext context, String path)
+      throws IOException {
+    if (path == null) {
+      return context.reportInputMismatch(JsonPointer.class, "Patch operation path is missing.");
+    }
+
+    try {
+      return new JsonPointer(path);
+    } catch (JsonPointerException e) {
+      return context.reportInputMismatch(JsonPointer.class, "Invalid patch operation path '%s'.",
+          path);
+    }
+  }
+}
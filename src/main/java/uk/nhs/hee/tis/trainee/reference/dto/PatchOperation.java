@@ -0,0 +1,56 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.reference.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * The raw fields of a JSON patch operation, as parsed, so the operation can be inspected and
+ * applied without converting it back to a JSON tree.
+ *
+ * @param op    The operation name, e.g. replace.
+ * @param path  The JSON pointer the operation applies to, empty for the root.
+ * @param value The operation value, or null if the operation has no value.
+ */
+public record PatchOperation(String op, String path, JsonNode value) {
+
+  static final String TEST = "test";
+  static final String ROOT_PATH = "";
+
+  /**
+   * Whether this operation applies to the root of the document.
+   *
+   * @return true if the path is the root path, else false.
+   */
+  public boolean isRoot() {
+    return ROOT_PATH.equals(path);
+  }
+
+  /**
+   * Whether this operation is a test operation, which does not change the document.
+   *
+   * @return true if the operation is a test, else false.
+   */
+  public boolean isTest() {
+    return TEST.equals(op);
+  }
+}
@@ -21,28 +21,131 @@
 
 package uk.nhs.hee.tis.trainee.reference.facade;
 
+import static uk.nhs.hee.tis.trainee.reference.model.LocalOfficeContact.FOUNDATION_SUFFIX;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
+import uk.nhs.hee.tis.trainee.reference.dto.TraineeType;
 import uk.nhs.hee.tis.trainee.reference.model.LocalOffice;
 import uk.nhs.hee.tis.trainee.reference.model.LocalOfficeContact;
 import uk.nhs.hee.tis.trainee.reference.model.LocalOfficeContactType;
 import uk.nhs.hee.tis.trainee.reference.repository.LocalOfficeContactTypeRepository;
 import uk.nhs.hee.tis.trainee.reference.repository.LocalOfficeRepository;
+import uk.nhs.hee.tis.trainee.reference.service.ReferenceSnapshot;
+import uk.nhs.hee.tis.trainee.reference.service.ReferenceSnapshotCache;
 
 /**
  * A facade for enriching local office contacts with associated information.
+ *
+ * <p>Local office and contact type names are looked up from in-memory indexes, so enrichment does
+ * not query the database. The indexes are loaded at startup and reloaded after they are
+ * invalidated by a local office or contact type write, or exceed the snapshot time-to-live. They
+ * are reloaded from the primary, so a write is never missed by reloading from a lagging secondary.
+ * Lookups are counted by index and result, so missing local offices and contact types can be
+ * spotted.
  */
 @Slf4j
 @Component
-public class LocalOfficeContactEnricherFacade {
+public class LocalOfficeContactEnricherFacade implements MeterBinder {
+
+  private static final String NAMES_BY_ID = "namesById";
+
+  private static final String TAG_INDEX = "index";
+  private static final String TAG_RESULT = "result";
+  private static final String LOCAL_OFFICE_INDEX = "local-office";
+  private static final String CONTACT_TYPE_INDEX = "contact-type";
 
   private final LocalOfficeRepository localOfficeRepository;
   private final LocalOfficeContactTypeRepository contactTypeRepository;
 
+  private final ReferenceSnapshotCache<LocalOffice> localOfficeIndex;
+  private final ReferenceSnapshotCache<LocalOfficeContactType> contactTypeIndex;
+
+  private final LongAdder localOfficeHits = new LongAdder();
+  private final LongAdder localOfficeMisses = new LongAdder();
+  private final LongAdder contactTypeHits = new LongAdder();
+  private final LongAdder contactTypeMisses = new LongAdder();
+
   LocalOfficeContactEnricherFacade(LocalOfficeRepository localOfficeRepository,
-      LocalOfficeContactTypeRepository contactTypeRepository) {
+      LocalOfficeContactTypeRepository contactTypeRepository,
+      @Value("${application.cache.snapshot-ttl}") Duration snapshotTtl) {
     this.localOfficeRepository = localOfficeRepository;
     this.contactTypeRepository = contactTypeRepository;
+    localOfficeIndex = new ReferenceSnapshotCache<>("LocalOfficeIndex", snapshotTtl);
+    contactTypeIndex = new ReferenceSnapshotCache<>("LocalOfficeContactTypeIndex", snapshotTtl);
+  }
+
+  /**
+   * Load the local office and contact type indexes.
+   */
+  @EventListener(ApplicationStartedEvent.class)
+  public void loadIndexes() {
+    Map<String, String> localOfficeNames = getLocalOfficeNames();
+    Map<String, String> contactTypeNames = getContactTypeNames();
+    log.info("Loaded {} local office(s) and {} contact type(s) for contact enrichment.",
+        localOfficeNames.size(), contactTypeNames.size());
+  }
+
+  /**
+   * Get the snapshot caches backing the local office and contact type indexes.
+   *
+   * @return The index caches.
+   */
+  public List<ReferenceSnapshotCache<?>> getIndexCaches() {
+    return List.of(localOfficeIndex, contactTypeIndex);
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    bindLookups(registry, LOCAL_OFFICE_INDEX, "hit", localOfficeHits);
+    bindLookups(registry, LOCAL_OFFICE_INDEX, "miss", localOfficeMisses);
+    bindLookups(registry, CONTACT_TYPE_INDEX, "hit", contactTypeHits);
+    bindLookups(registry, CONTACT_TYPE_INDEX, "miss", contactTypeMisses);
+  }
+
+  /**
+   * Bind a counter of index lookups.
+   *
+   * @param registry The registry to bind the counter to.
+   * @param index    The looked up index.
+   * @param result   The lookup result.
+   * @param lookups  The lookups to count.
+   */
+  private static void bindLookups(MeterRegistry registry, String index, String result,
+      LongAdder lookups) {
+    FunctionCounter.builder("reference.enricher.lookups", lookups, LongAdder::sum)
+        .description("The number of enrichment index lookups.")
+        .tag(TAG_INDEX, index)
+        .tag(TAG_RESULT, result)
+        .register(registry);
+  }
+
+  /**
+   * Invalidate the local office index, it will be reloaded when next used.
+   */
+  public void invalidateLocalOffices() {
+    localOfficeIndex.invalidate();
+  }
+
+  /**
+   * Invalidate the contact type index, it will be reloaded when next used.
+   */
+  public void invalidateContactTypes() {
+    contactTypeIndex.invalidate();
   }
 
   /**
@@ -55,25 +158,80 @@ public class LocalOfficeContactEnricherFacade {
    */
   public LocalOfficeContact enrich(LocalOfficeContact localOfficeContact) {
     if (localOfficeContact != null) {
-      LocalOffice localOffice;
-      LocalOfficeContactType contactType;
-      if (localOfficeContact.getLocalOfficeId() != null) {
-        localOffice = localOfficeRepository.findByUuid(localOfficeContact.getLocalOfficeId());
-        if (localOffice != null) {
-          localOfficeContact.setLocalOfficeName(localOffice.getLabel());
+      String localOfficeId = localOfficeContact.getLocalOfficeId();
+      if (localOfficeId != null) {
+        Map<String, String> localOfficeNames = getLocalOfficeNames();
+        if (localOfficeNames.containsKey(localOfficeId)) {
+          localOfficeContact.setLocalOfficeName(localOfficeNames.get(localOfficeId));
+          localOfficeHits.increment();
+        } else {
+          localOfficeMisses.increment();
         }
       }
-      if (localOfficeContact.getContactTypeId() != null) {
-        contactType = contactTypeRepository.findByTisId(localOfficeContact.getContactTypeId());
-        if (contactType != null) {
-          localOfficeContact.setContactTypeName(contactType.getLabel());
+      String contactTypeId = localOfficeContact.getContactTypeId();
+      if (contactTypeId != null) {
+        Map<String, String> contactTypeNames = getContactTypeNames();
+        if (contactTypeNames.containsKey(contactTypeId)) {
+          localOfficeContact.setContactTypeName(contactTypeNames.get(contactTypeId));
+          contactTypeHits.increment();
+        } else {
+          contactTypeMisses.increment();
         }
       }
+      deriveContactTypeFields(localOfficeContact);
       localOfficeContact.setLabel(generateLabel(localOfficeContact));
     }
     return localOfficeContact;
   }
 
+  /**
+   * Get the local office names, keyed by local office UUID.
+   *
+   * @return The indexed local office names.
+   */
+  private Map<String, String> getLocalOfficeNames() {
+    ReferenceSnapshot<LocalOffice> snapshot = localOfficeIndex.get(
+        () -> localOfficeRepository.findAllFromPrimary(Sort.unsorted()));
+    return snapshot.derive(NAMES_BY_ID,
+        () -> index(snapshot.entities(), LocalOffice::getUuid, LocalOffice::getLabel));
+  }
+
+  /**
+   * Get the contact type names, keyed by contact type TIS ID.
+   *
+   * @return The indexed contact type names.
+   */
+  private Map<String, String> getContactTypeNames() {
+    ReferenceSnapshot<LocalOfficeContactType> snapshot = contactTypeIndex.get(
+        () -> contactTypeRepository.findAllFromPrimary(Sort.unsorted()));
+    return snapshot.derive(NAMES_BY_ID, () -> index(snapshot.entities(),
+        LocalOfficeContactType::getTisId, LocalOfficeContactType::getLabel));
+  }
+
+  /**
+   * Index the names of the given entities by ID, entities without an ID are excluded.
+   *
+   * @param entities The entities to index.
+   * @param getId    The function to get the ID of an entity.
+   * @param getName  The function to get the name of an entity, which may be null.
+   * @param <T>      The entity type.
+   * @return The entity names keyed by ID.
+   */
+  private static <T> Map<String, String> index(List<T> entities, Function<T, String> getId,
+      Function<T, String> getName) {
+    Map<String, String> index = new HashMap<>();
+
+    for (T entity : entities) {
+      String id = getId.apply(entity);
+
+      if (id != null) {
+        index.put(id, getName.apply(entity));
+      }
+    }
+
+    return Collections.unmodifiableMap(index);
+  }
+
   /**
    * Enrich a local office contact with its local office name.
    *
@@ -99,11 +257,32 @@ public class LocalOfficeContactEnricherFacade {
       String contactTypeName) {
     if (localOfficeContact != null) {
       localOfficeContact.setContactTypeName(contactTypeName);
+      deriveContactTypeFields(localOfficeContact);
       localOfficeContact.setLabel(generateLabel(localOfficeContact));
     }
     return localOfficeContact;
   }
 
+  /**
+   * Derive the trainee type and display name of a local office contact from its contact type
+   * name. TIS distinguishes foundation contact types with a suffix, which is a temporary
+   * workaround until TIS is updated to remove it and is not included in the display name.
+   *
+   * @param localOfficeContact The local office contact.
+   */
+  private void deriveContactTypeFields(LocalOfficeContact localOfficeContact) {
+    String contactTypeName = localOfficeContact.getContactTypeName();
+
+    if (contactTypeName != null && contactTypeName.endsWith(FOUNDATION_SUFFIX)) {
+      localOfficeContact.setTraineeType(TraineeType.FOUNDATION);
+      localOfficeContact.setContactTypeDisplayName(
+          contactTypeName.substring(0, contactTypeName.length() - FOUNDATION_SUFFIX.length()));
+    } else {
+      localOfficeContact.setTraineeType(TraineeType.SPECIALTY);
+      localOfficeContact.setContactTypeDisplayName(contactTypeName);
+    }
+  }
+
   /**
    * Generates a local office contact label string.
    *
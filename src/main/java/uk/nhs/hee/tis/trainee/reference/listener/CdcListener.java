@@ -0,0 +1,230 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.reference.listener;
+
+import io.awspring.cloud.sqs.listener.SqsHeaders;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.messaging.Message;
+import org.springframework.stereotype.Component;
+import uk.nhs.hee.tis.trainee.reference.dto.CdcEvent;
+import uk.nhs.hee.tis.trainee.reference.dto.CdcEventType;
+import uk.nhs.hee.tis.trainee.reference.service.AbstractReferenceService;
+
+/**
+ * A listener for CDC patch events for all reference types.
+ *
+ * <p>Each reference type has its own patch queue, configured as
+ * {@code application.queues.<reference-type>-patch}, and events from that queue are applied by
+ * the matching {@link AbstractReferenceService}. A listener container is registered for each
+ * bound queue by {@link CdcListenerContainers}, so every service is listened to without the
+ * queues being listed again.
+ *
+ * <p>Events are counted by reference type, event type and whether they were applied, and the lag
+ * between an event being sent and it being received is recorded by reference type.
+ */
+@Slf4j
+@Component
+public class CdcListener {
+
+  static final String QUEUE_PROPERTY_TEMPLATE = "application.queues.%s-patch";
+  static final String EVENTS_COUNTER = "reference.cdc.events";
+  static final String LAG_TIMER = "reference.cdc.lag";
+
+  private static final String TAG_TYPE = "type";
+  private static final String TAG_EVENT = "event";
+  private static final String TAG_RESULT = "result";
+
+  private final Map<String, AbstractReferenceService<?, ?>> servicesByQueue = new HashMap<>();
+  private final MeterRegistry meterRegistry;
+  private final Clock clock;
+
+  /**
+   * Create a listener for the patch queues of the given reference services.
+   *
+   * @param services      The reference services to bind to their patch queues.
+   * @param environment   The environment to get queue names from.
+   * @param meterRegistry The registry to record event metrics in.
+   * @param clock         The clock used to measure event lag.
+   */
+  public CdcListener(List<AbstractReferenceService<?, ?>> services, Environment environment,
+      MeterRegistry meterRegistry, Clock clock) {
+    this.meterRegistry = meterRegistry;
+    this.clock = clock;
+
+    for (AbstractReferenceService<?, ?> service : services) {
+      String property = QUEUE_PROPERTY_TEMPLATE.formatted(toKebabCase(service.getName()));
+      String queue = environment.getRequiredProperty(property);
+      servicesByQueue.put(queue, service);
+      log.info("Binding CDC queue '{}' to {}.", queue, service.getName());
+    }
+  }
+
+  /**
+   * Get the names of the patch queues bound to a reference service.
+   *
+   * @return The bound queue names.
+   */
+  Set<String> getQueues() {
+    return Set.copyOf(servicesByQueue.keySet());
+  }
+
+  /**
+   * Handle a batch of CDC patch events.
+   *
+   * <p>The events for each queue are applied with a single bulk write, only messages for
+   * successfully applied events should be acknowledged and any others will be redelivered once
+   * their visibility times out.
+   *
+   * @param messages The batch of messages, in the order they were received.
+   * @return The messages for successfully applied events, which should be acknowledged.
+   */
+  List<Message<CdcEvent>> handlePatches(List<Message<CdcEvent>> messages) {
+    Map<String, List<Message<CdcEvent>>> messagesByQueue = new LinkedHashMap<>();
+
+    for (Message<CdcEvent> message : messages) {
+      String queue = message.getHeaders().get(SqsHeaders.SQS_QUEUE_NAME_HEADER, String.class);
+      messagesByQueue.computeIfAbsent(queue, k -> new ArrayList<>()).add(message);
+    }
+
+    List<Message<CdcEvent>> appliedMessages = new ArrayList<>();
+
+    for (Entry<String, List<Message<CdcEvent>>> queueMessages : messagesByQueue.entrySet()) {
+      String queue = queueMessages.getKey();
+      AbstractReferenceService<?, ?> service = servicesByQueue.get(queue);
+
+      if (service == null) {
+        log.error("No reference service is bound to queue '{}'.", queue);
+        continue;
+      }
+
+      appliedMessages.addAll(applyEvents(service, queueMessages.getValue()));
+    }
+
+    if (appliedMessages.size() < messages.size()) {
+      log.warn("Applied {} of {} events, the remainder will be retried.", appliedMessages.size(),
+          messages.size());
+    }
+
+    return appliedMessages;
+  }
+
+  /**
+   * Apply the events from a single queue using the bound service.
+   *
+   * @param service  The service to apply the events with.
+   * @param messages The messages to apply, in the order they were received.
+   * @return The messages which were successfully applied.
+   */
+  private List<Message<CdcEvent>> applyEvents(AbstractReferenceService<?, ?> service,
+      List<Message<CdcEvent>> messages) {
+    log.info("Received batch of {} {} events.", messages.size(), service.getName());
+    messages.forEach(message -> recordLag(service.getName(), message));
+
+    List<CdcEvent> events = messages.stream().map(Message::getPayload).toList();
+    Set<Integer> appliedPositions = service.applyEvents(events);
+
+    List<Message<CdcEvent>> appliedMessages = new ArrayList<>();
+    for (int i = 0; i < messages.size(); i++) {
+      boolean applied = appliedPositions.contains(i);
+
+      if (applied) {
+        appliedMessages.add(messages.get(i));
+      }
+
+      recordEvent(service.getName(), events.get(i), applied);
+    }
+
+    return appliedMessages;
+  }
+
+  /**
+   * Record the time between a message being sent and it being received, if its sent time is
+   * known.
+   *
+   * @param type    The reference type of the event.
+   * @param message The received message.
+   */
+  private void recordLag(String type, Message<CdcEvent> message) {
+    Object sentTimestamp = message.getHeaders().get(
+        SqsHeaders.MessageSystemAttributes.SQS_SENT_TIMESTAMP);
+
+    if (sentTimestamp == null) {
+      return;
+    }
+
+    try {
+      Instant sentAt = Instant.ofEpochMilli(Long.parseLong(sentTimestamp.toString()));
+      Duration lag = Duration.between(sentAt, clock.instant());
+      Timer.builder(LAG_TIMER)
+          .description("The time between a CDC event being sent and it being received.")
+          .tag(TAG_TYPE, type)
+          .register(meterRegistry)
+          .record(lag.isNegative() ? Duration.ZERO : lag);
+    } catch (NumberFormatException e) {
+      log.debug("Unable to parse sent timestamp '{}'.", sentTimestamp);
+    }
+  }
+
+  /**
+   * Count a handled event.
+   *
+   * @param type    The reference type of the event.
+   * @param event   The handled event.
+   * @param applied Whether the event was applied, failed events will be retried.
+   */
+  private void recordEvent(String type, CdcEvent event, boolean applied) {
+    CdcEventType eventType = event.getEventType();
+
+    Counter.builder(EVENTS_COUNTER)
+        .description("The number of CDC events handled.")
+        .tag(TAG_TYPE, type)
+        .tag(TAG_EVENT, eventType == null ? "UNKNOWN" : eventType.name())
+        .tag(TAG_RESULT, applied ? "applied" : "failed")
+        .register(meterRegistry)
+        .increment();
+  }
+
+  /**
+   * Convert a reference type name to kebab case, e.g. LocalOfficeContactType to
+   * local-office-contact-type.
+   *
+   * @param name The name to convert.
+   * @return The kebab case name.
+   */
+  private static String toKebabCase(String name) {
+    return name.replaceAll("([a-z0-9])([A-Z])", "$1-$2").toLowerCase();
+  }
+}
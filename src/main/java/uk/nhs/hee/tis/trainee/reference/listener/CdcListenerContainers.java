@@ -0,0 +1,141 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.reference.listener;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.awspring.cloud.sqs.config.SqsMessageListenerContainerFactory;
+import io.awspring.cloud.sqs.listener.ListenerMode;
+import io.awspring.cloud.sqs.listener.MessageListener;
+import io.awspring.cloud.sqs.listener.MessageListenerContainerRegistry;
+import io.awspring.cloud.sqs.listener.SqsMessageListenerContainer;
+import io.awspring.cloud.sqs.listener.acknowledgement.Acknowledgement;
+import io.awspring.cloud.sqs.listener.acknowledgement.handler.AcknowledgementMode;
+import io.awspring.cloud.sqs.support.converter.SqsMessagingMessageConverter;
+import java.util.Collection;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.stereotype.Component;
+import uk.nhs.hee.tis.trainee.reference.dto.CdcEvent;
+
+/**
+ * Registers a listener container for each patch queue bound by the {@link CdcListener}, so the
+ * queues listened to are derived from the reference services instead of being listed separately.
+ *
+ * <p>Containers are created by the default SQS container factory, keeping its customisations, and
+ * share the same batch size and concurrency limits. Messages are acknowledged manually once the
+ * listener has applied their events.
+ */
+@Slf4j
+@Component
+public class CdcListenerContainers implements SmartInitializingSingleton {
+
+  static final String CONTAINER_ID_TEMPLATE = "cdc-%s";
+
+  private final CdcListener listener;
+  private final SqsMessageListenerContainerFactory<Object> containerFactory;
+  private final MessageListenerContainerRegistry containerRegistry;
+  private final ObjectMapper mapper;
+  private final int batchSize;
+  private final int maxConcurrentMessages;
+
+  /**
+   * Create the listener containers for the CDC patch queues.
+   *
+   * @param listener              The listener to handle patch events with.
+   * @param containerFactory      The factory to create listener containers with.
+   * @param containerRegistry     The registry which manages the lifecycle of the containers.
+   * @param mapper                The object mapper used to read CDC events.
+   * @param batchSize             The maximum number of messages to receive in each batch.
+   * @param maxConcurrentMessages The maximum number of messages in flight per queue.
+   */
+  CdcListenerContainers(CdcListener listener,
+      SqsMessageListenerContainerFactory<Object> containerFactory,
+      MessageListenerContainerRegistry containerRegistry, ObjectMapper mapper,
+      @Value("${application.cdc.batch-size}") int batchSize,
+      @Value("${application.cdc.max-concurrent-messages}") int maxConcurrentMessages) {
+    this.listener = listener;
+    this.containerFactory = containerFactory;
+    this.containerRegistry = containerRegistry;
+    this.mapper = mapper;
+    this.batchSize = batchSize;
+    this.maxConcurrentMessages = maxConcurrentMessages;
+  }
+
+  /**
+   * Register the listener containers once all beans exist, so they are started with the other
+   * listener containers.
+   */
+  @Override
+  public void afterSingletonsInstantiated() {
+    SqsMessagingMessageConverter converter = new SqsMessagingMessageConverter();
+    converter.setObjectMapper(mapper);
+    converter.setPayloadTypeMapper(message -> CdcEvent.class);
+
+    for (String queue : listener.getQueues()) {
+      SqsMessageListenerContainer<Object> container = containerFactory.createContainer(queue);
+      container.setId(CONTAINER_ID_TEMPLATE.formatted(queue));
+      container.configure(options -> options
+          .listenerMode(ListenerMode.BATCH)
+          .acknowledgementMode(AcknowledgementMode.MANUAL)
+          .maxMessagesPerPoll(batchSize)
+          .maxConcurrentMessages(maxConcurrentMessages)
+          .messageConverter(converter));
+      container.setMessageListener(new PatchListener());
+      containerRegistry.registerListenerContainer(container);
+      log.info("Registered CDC listener container for queue '{}'.", queue);
+    }
+  }
+
+  /**
+   * A batch listener which passes patch events to the {@link CdcListener} and acknowledges the
+   * messages of the events it applied.
+   */
+  class PatchListener implements MessageListener<Object> {
+
+    @Override
+    public void onMessage(Message<Object> message) {
+      onMessage(List.of(message));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void onMessage(Collection<Message<Object>> messages) {
+      if (messages.isEmpty()) {
+        return;
+      }
+
+      List<Message<CdcEvent>> events = messages.stream()
+          .map(message -> (Message<CdcEvent>) (Message<?>) message)
+          .toList();
+      List<Message<Object>> applied = listener.handlePatches(events).stream()
+          .map(message -> (Message<Object>) (Message<?>) message)
+          .toList();
+
+      if (!applied.isEmpty()) {
+        Acknowledgement.acknowledge(applied);
+      }
+    }
+  }
+}
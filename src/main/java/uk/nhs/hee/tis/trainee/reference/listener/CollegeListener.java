@@ -1,55 +0,0 @@
-/*
- * The MIT License (MIT)
- *
- * Copyright 2026 Crown Copyright (Health Education England)
- *
- * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
- * and associated documentation files (the "Software"), to deal in the Software without
- * restriction, including without limitation the rights to use, copy, modify, merge, publish,
- * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
- * Software is furnished to do so, subject to the following conditions:
- *
- * The above copyright notice and this permission notice shall be included in all copies or
- * substantial portions of the Software.
- *
- * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING
- * BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
- * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
- * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
- * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
- */
-
-package uk.nhs.hee.tis.trainee.reference.listener;
-
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.github.fge.jsonpatch.JsonPatchException;
-import io.awspring.cloud.sqs.annotation.SqsListener;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.stereotype.Component;
-import uk.nhs.hee.tis.trainee.reference.dto.CdcEvent;
-import uk.nhs.hee.tis.trainee.reference.model.College;
-import uk.nhs.hee.tis.trainee.reference.service.CollegeService;
-
-/**
- * A listener for College CDC patch events.
- */
-@Slf4j
-@Component
-public class CollegeListener {
-
-  private final CollegeService service;
-
-  public CollegeListener(CollegeService service) {
-    this.service = service;
-  }
-
-  @SqsListener("${application.queues.college-patch}")
-  void handleCollegePatch(CdcEvent event) throws JsonPatchException, JsonProcessingException {
-    log.info("Received event, type: {}", event.getEventType());
-    switch (event.getEventType()) {
-      case INSERT -> service.create(new College(), event.getPatchWithoutTests());
-      case DELETE -> service.deleteByTisId(event.keys().id());
-      case UPDATE -> service.update(event.keys().id(), event.getPatchWithoutTests());
-    }
-  }
-}
@@ -25,7 +25,6 @@ import java.util.List;
 import org.mapstruct.InheritInverseConfiguration;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
-import org.mapstruct.MappingTarget;
 import uk.nhs.hee.tis.trainee.reference.dto.CollegeDto;
 import uk.nhs.hee.tis.trainee.reference.dto.CollegePatchDto;
 import uk.nhs.hee.tis.trainee.reference.model.College;
@@ -44,10 +43,6 @@ public interface CollegeMapper extends PatchMapper<College, CollegePatchDto> {
 
   List<College> toEntities(List<CollegeDto> collegeDtos);
 
-  @Mapping(target = "id", ignore = true)
-  @Mapping(target = "tisId", ignore = true)
-  College update(@MappingTarget College target, College source);
-
   @Mapping(target = "entityId", source = "id")
   @Mapping(target = "name", source = "label")
   @Mapping(target = "id", source = "tisId")
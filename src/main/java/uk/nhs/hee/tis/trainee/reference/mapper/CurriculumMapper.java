@@ -21,14 +21,15 @@
 package uk.nhs.hee.tis.trainee.reference.mapper;
 
 import java.util.List;
+import org.mapstruct.InheritInverseConfiguration;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
-import org.mapstruct.MappingTarget;
 import uk.nhs.hee.tis.trainee.reference.dto.CurriculumDto;
+import uk.nhs.hee.tis.trainee.reference.dto.CurriculumPatchDto;
 import uk.nhs.hee.tis.trainee.reference.model.Curriculum;
 
 @Mapper(componentModel = "spring")
-public interface CurriculumMapper {
+public interface CurriculumMapper extends PatchMapper<Curriculum, CurriculumPatchDto> {
 
   @Mapping(target = "status", ignore = true)
   CurriculumDto toDto(Curriculum curriculum);
@@ -39,7 +40,19 @@ public interface CurriculumMapper {
 
   List<Curriculum> toEntities(List<CurriculumDto> curriculumDtos);
 
-  @Mapping(target = "id", ignore = true)
-  @Mapping(target = "tisId", ignore = true)
-  Curriculum update(@MappingTarget Curriculum target, Curriculum source);
+  @Mapping(target = "entityId", source = "id")
+  @Mapping(target = "name", source = "label")
+  @Mapping(target = "id", source = "tisId")
+  @Mapping(target = "status", ignore = true)
+  @Override
+  CurriculumPatchDto toPatchDto(Curriculum curriculum);
+
+  @InheritInverseConfiguration
+  @Override
+  Curriculum toEntity(CurriculumPatchDto dto);
+
+  @Override
+  default void copyEntityId(CurriculumPatchDto source, CurriculumPatchDto target) {
+    target.setEntityId(source.getEntityId());
+  }
 }
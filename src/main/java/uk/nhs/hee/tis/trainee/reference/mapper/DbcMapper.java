@@ -22,14 +22,15 @@
 package uk.nhs.hee.tis.trainee.reference.mapper;
 
 import java.util.List;
+import org.mapstruct.InheritInverseConfiguration;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
-import org.mapstruct.MappingTarget;
 import uk.nhs.hee.tis.trainee.reference.dto.DbcDto;
+import uk.nhs.hee.tis.trainee.reference.dto.DbcPatchDto;
 import uk.nhs.hee.tis.trainee.reference.model.Dbc;
 
 @Mapper(componentModel = "spring")
-public interface DbcMapper {
+public interface DbcMapper extends PatchMapper<Dbc, DbcPatchDto> {
 
   DbcDto toDto(Dbc dbc);
 
@@ -39,7 +40,18 @@ public interface DbcMapper {
 
   List<Dbc> toEntities(List<DbcDto> dbcDtos);
 
-  @Mapping(target = "id", ignore = true)
-  @Mapping(target = "tisId", ignore = true)
-  Dbc update(@MappingTarget Dbc target, Dbc source);
+  @Mapping(target = "entityId", source = "id")
+  @Mapping(target = "name", source = "label")
+  @Mapping(target = "id", source = "tisId")
+  @Override
+  DbcPatchDto toPatchDto(Dbc dbc);
+
+  @InheritInverseConfiguration
+  @Override
+  Dbc toEntity(DbcPatchDto dto);
+
+  @Override
+  default void copyEntityId(DbcPatchDto source, DbcPatchDto target) {
+    target.setEntityId(source.getEntityId());
+  }
 }
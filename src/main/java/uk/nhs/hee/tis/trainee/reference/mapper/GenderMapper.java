@@ -22,14 +22,15 @@
 package uk.nhs.hee.tis.trainee.reference.mapper;
 
 import java.util.List;
+import org.mapstruct.InheritInverseConfiguration;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
-import org.mapstruct.MappingTarget;
 import uk.nhs.hee.tis.trainee.reference.dto.GenderDto;
+import uk.nhs.hee.tis.trainee.reference.dto.GenderPatchDto;
 import uk.nhs.hee.tis.trainee.reference.model.Gender;
 
 @Mapper(componentModel = "spring")
-public interface GenderMapper {
+public interface GenderMapper extends PatchMapper<Gender, GenderPatchDto> {
 
   GenderDto toDto(Gender gender);
 
@@ -39,7 +40,17 @@ public interface GenderMapper {
 
   List<Gender> toEntities(List<GenderDto> genderDtos);
 
-  @Mapping(target = "id", ignore = true)
-  @Mapping(target = "tisId", ignore = true)
-  Gender update(@MappingTarget Gender target, Gender source);
+  @Mapping(target = "entityId", source = "id")
+  @Mapping(target = "id", source = "tisId")
+  @Override
+  GenderPatchDto toPatchDto(Gender gender);
+
+  @InheritInverseConfiguration
+  @Override
+  Gender toEntity(GenderPatchDto dto);
+
+  @Override
+  default void copyEntityId(GenderPatchDto source, GenderPatchDto target) {
+    target.setEntityId(source.getEntityId());
+  }
 }
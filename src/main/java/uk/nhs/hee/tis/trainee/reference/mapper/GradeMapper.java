@@ -22,14 +22,15 @@
 package uk.nhs.hee.tis.trainee.reference.mapper;
 
 import java.util.List;
+import org.mapstruct.InheritInverseConfiguration;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
-import org.mapstruct.MappingTarget;
 import uk.nhs.hee.tis.trainee.reference.dto.GradeDto;
+import uk.nhs.hee.tis.trainee.reference.dto.GradePatchDto;
 import uk.nhs.hee.tis.trainee.reference.model.Grade;
 
 @Mapper(componentModel = "spring")
-public interface GradeMapper {
+public interface GradeMapper extends PatchMapper<Grade, GradePatchDto> {
 
   @Mapping(target = "placementGrade", ignore = true)
   @Mapping(target = "status", ignore = true)
@@ -42,7 +43,21 @@ public interface GradeMapper {
 
   List<Grade> toEntities(List<GradeDto> gradeDtos);
 
-  @Mapping(target = "id", ignore = true)
-  @Mapping(target = "tisId", ignore = true)
-  Grade update(@MappingTarget Grade target, Grade source);
+  @Mapping(target = "entityId", source = "id")
+  @Mapping(target = "name", source = "label")
+  @Mapping(target = "id", source = "tisId")
+  @Mapping(target = "placementGrade", ignore = true)
+  @Mapping(target = "status", ignore = true)
+  @Mapping(target = "trainingGrade", ignore = true)
+  @Override
+  GradePatchDto toPatchDto(Grade grade);
+
+  @InheritInverseConfiguration
+  @Override
+  Grade toEntity(GradePatchDto dto);
+
+  @Override
+  default void copyEntityId(GradePatchDto source, GradePatchDto target) {
+    target.setEntityId(source.getEntityId());
+  }
 }
@@ -21,14 +21,16 @@
 package uk.nhs.hee.tis.trainee.reference.mapper;
 
 import java.util.List;
+import org.mapstruct.InheritInverseConfiguration;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
-import org.mapstruct.MappingTarget;
 import uk.nhs.hee.tis.trainee.reference.dto.ImmigrationStatusDto;
+import uk.nhs.hee.tis.trainee.reference.dto.ImmigrationStatusPatchDto;
 import uk.nhs.hee.tis.trainee.reference.model.ImmigrationStatus;
 
 @Mapper(componentModel = "spring")
-public interface ImmigrationStatusMapper {
+public interface ImmigrationStatusMapper
+    extends PatchMapper<ImmigrationStatus, ImmigrationStatusPatchDto> {
 
   ImmigrationStatusDto toDto(ImmigrationStatus immigrationStatus);
 
@@ -38,7 +40,17 @@ public interface ImmigrationStatusMapper {
 
   List<ImmigrationStatus> toEntities(List<ImmigrationStatusDto> immigrationStatusDtos);
 
-  @Mapping(target = "id", ignore = true)
-  @Mapping(target = "tisId", ignore = true)
-  ImmigrationStatus update(@MappingTarget ImmigrationStatus target, ImmigrationStatus source);
+  @Mapping(target = "entityId", source = "id")
+  @Mapping(target = "id", source = "tisId")
+  @Override
+  ImmigrationStatusPatchDto toPatchDto(ImmigrationStatus immigrationStatus);
+
+  @InheritInverseConfiguration
+  @Override
+  ImmigrationStatus toEntity(ImmigrationStatusPatchDto dto);
+
+  @Override
+  default void copyEntityId(ImmigrationStatusPatchDto source, ImmigrationStatusPatchDto target) {
+    target.setEntityId(source.getEntityId());
+  }
 }
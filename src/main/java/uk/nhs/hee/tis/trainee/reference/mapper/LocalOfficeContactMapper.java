@@ -22,24 +22,26 @@
 package uk.nhs.hee.tis.trainee.reference.mapper;
 
 import java.util.List;
-import org.mapstruct.AfterMapping;
+import org.mapstruct.InheritInverseConfiguration;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
-import org.mapstruct.MappingTarget;
 import uk.nhs.hee.tis.trainee.reference.dto.LocalOfficeContactDetailsDto;
 import uk.nhs.hee.tis.trainee.reference.dto.LocalOfficeContactDto;
+import uk.nhs.hee.tis.trainee.reference.dto.LocalOfficeContactPatchDto;
 import uk.nhs.hee.tis.trainee.reference.model.LocalOfficeContact;
 
 /**
  * Mapper for local office contacts.
  */
 @Mapper(componentModel = "spring")
-public interface LocalOfficeContactMapper {
+public interface LocalOfficeContactMapper
+    extends PatchMapper<LocalOfficeContact, LocalOfficeContactPatchDto> {
 
   LocalOfficeContactDto toDto(LocalOfficeContact localOfficeContact);
 
   List<LocalOfficeContactDto> toDtos(List<LocalOfficeContact> localOfficeContacts);
 
+  @Mapping(target = "contactTypeName", source = "contactTypeDisplayName")
   LocalOfficeContactDetailsDto toDetailsDto(LocalOfficeContact localOfficeContact);
 
   List<LocalOfficeContactDetailsDto> toDetailsDtos(List<LocalOfficeContact> localOfficeContacts);
@@ -47,26 +49,27 @@ public interface LocalOfficeContactMapper {
   @Mapping(target = "localOfficeName", ignore = true)
   @Mapping(target = "contactTypeName", ignore = true)
   @Mapping(target = "label", ignore = true)
+  @Mapping(target = "traineeType", ignore = true)
+  @Mapping(target = "contactTypeDisplayName", ignore = true)
   LocalOfficeContact toEntity(LocalOfficeContactDto localOfficeContactDto);
 
   List<LocalOfficeContact> toEntities(List<LocalOfficeContactDto> localOfficeContactDtos);
 
-  @Mapping(target = "tisId", ignore = true)
-  LocalOfficeContact update(@MappingTarget LocalOfficeContact target, LocalOfficeContact source);
+  @Mapping(target = "id", source = "tisId")
+  @Override
+  LocalOfficeContactPatchDto toPatchDto(LocalOfficeContact localOfficeContact);
 
-  /**
-   * A temporary fix to remove the trainee type workaround suffix from the contact type name until
-   * TIS is updated to remove it. This is needed here so downstream services do not have to know
-   * about the internal workaround.
-   *
-   * @param dto The DTO to update.
-   */
-  @AfterMapping
-  default void trimTraineeTypeSuffix(@MappingTarget LocalOfficeContactDetailsDto dto) {
-    String contactTypeName = dto.getContactTypeName();
+  @InheritInverseConfiguration
+  @Mapping(target = "contactTypeName", ignore = true)
+  @Mapping(target = "label", ignore = true)
+  @Mapping(target = "localOfficeName", ignore = true)
+  @Mapping(target = "traineeType", ignore = true)
+  @Mapping(target = "contactTypeDisplayName", ignore = true)
+  @Override
+  LocalOfficeContact toEntity(LocalOfficeContactPatchDto dto);
 
-    if (contactTypeName != null) {
-      dto.setContactTypeName(contactTypeName.replaceAll(" - Foundation$", ""));
-    }
+  @Override
+  default void copyEntityId(LocalOfficeContactPatchDto source, LocalOfficeContactPatchDto target) {
+    // The TIS ID is used as the entity ID, so is already included in the patched DTO.
   }
 }
@@ -22,17 +22,19 @@
 package uk.nhs.hee.tis.trainee.reference.mapper;
 
 import java.util.List;
+import org.mapstruct.InheritInverseConfiguration;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
-import org.mapstruct.MappingTarget;
 import uk.nhs.hee.tis.trainee.reference.dto.LocalOfficeContactTypeDto;
+import uk.nhs.hee.tis.trainee.reference.dto.LocalOfficeContactTypePatchDto;
 import uk.nhs.hee.tis.trainee.reference.model.LocalOfficeContactType;
 
 /**
  * Mapper for local office contact types.
  */
 @Mapper(componentModel = "spring")
-public interface LocalOfficeContactTypeMapper {
+public interface LocalOfficeContactTypeMapper
+    extends PatchMapper<LocalOfficeContactType, LocalOfficeContactTypePatchDto> {
 
   LocalOfficeContactTypeDto toDto(LocalOfficeContactType localOfficeContactType);
 
@@ -43,7 +45,17 @@ public interface LocalOfficeContactTypeMapper {
   List<LocalOfficeContactType> toEntities(
       List<LocalOfficeContactTypeDto> localOfficeContactTypeDtos);
 
-  @Mapping(target = "tisId", ignore = true)
-  LocalOfficeContactType update(@MappingTarget LocalOfficeContactType target,
-      LocalOfficeContactType source);
+  @Mapping(target = "id", source = "tisId")
+  @Override
+  LocalOfficeContactTypePatchDto toPatchDto(LocalOfficeContactType localOfficeContactType);
+
+  @InheritInverseConfiguration
+  @Override
+  LocalOfficeContactType toEntity(LocalOfficeContactTypePatchDto dto);
+
+  @Override
+  default void copyEntityId(LocalOfficeContactTypePatchDto source,
+      LocalOfficeContactTypePatchDto target) {
+    // The TIS ID is used as the entity ID, so is already included in the patched DTO.
+  }
 }
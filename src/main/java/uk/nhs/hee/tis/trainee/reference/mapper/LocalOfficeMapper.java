@@ -22,14 +22,15 @@
 package uk.nhs.hee.tis.trainee.reference.mapper;
 
 import java.util.List;
+import org.mapstruct.InheritInverseConfiguration;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
-import org.mapstruct.MappingTarget;
 import uk.nhs.hee.tis.trainee.reference.dto.LocalOfficeDto;
+import uk.nhs.hee.tis.trainee.reference.dto.LocalOfficePatchDto;
 import uk.nhs.hee.tis.trainee.reference.model.LocalOffice;
 
 @Mapper(componentModel = "spring")
-public interface LocalOfficeMapper {
+public interface LocalOfficeMapper extends PatchMapper<LocalOffice, LocalOfficePatchDto> {
 
   LocalOfficeDto toDto(LocalOffice localOffice);
 
@@ -39,7 +40,18 @@ public interface LocalOfficeMapper {
 
   List<LocalOffice> toEntities(List<LocalOfficeDto> localOfficeDtos);
 
-  @Mapping(target = "id", ignore = true)
-  @Mapping(target = "tisId", ignore = true)
-  LocalOffice update(@MappingTarget LocalOffice target, LocalOffice source);
+  @Mapping(target = "entityId", source = "id")
+  @Mapping(target = "name", source = "label")
+  @Mapping(target = "id", source = "tisId")
+  @Override
+  LocalOfficePatchDto toPatchDto(LocalOffice localOffice);
+
+  @InheritInverseConfiguration
+  @Override
+  LocalOffice toEntity(LocalOfficePatchDto dto);
+
+  @Override
+  default void copyEntityId(LocalOfficePatchDto source, LocalOfficePatchDto target) {
+    target.setEntityId(source.getEntityId());
+  }
 }
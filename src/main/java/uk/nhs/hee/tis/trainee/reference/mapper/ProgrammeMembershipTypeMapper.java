@@ -22,14 +22,16 @@
 package uk.nhs.hee.tis.trainee.reference.mapper;
 
 import java.util.List;
+import org.mapstruct.InheritInverseConfiguration;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
-import org.mapstruct.MappingTarget;
 import uk.nhs.hee.tis.trainee.reference.dto.ProgrammeMembershipTypeDto;
+import uk.nhs.hee.tis.trainee.reference.dto.ProgrammeMembershipTypePatchDto;
 import uk.nhs.hee.tis.trainee.reference.model.ProgrammeMembershipType;
 
 @Mapper(componentModel = "spring")
-public interface ProgrammeMembershipTypeMapper {
+public interface ProgrammeMembershipTypeMapper
+    extends PatchMapper<ProgrammeMembershipType, ProgrammeMembershipTypePatchDto> {
 
   ProgrammeMembershipTypeDto toDto(ProgrammeMembershipType programmeMembershipType);
 
@@ -40,8 +42,18 @@ public interface ProgrammeMembershipTypeMapper {
   List<ProgrammeMembershipType> toEntities(
       List<ProgrammeMembershipTypeDto> programmeMembershipTypeDtos);
 
-  @Mapping(target = "id", ignore = true)
-  @Mapping(target = "tisId", ignore = true)
-  ProgrammeMembershipType update(@MappingTarget ProgrammeMembershipType target,
-      ProgrammeMembershipType source);
+  @Mapping(target = "entityId", source = "id")
+  @Mapping(target = "id", source = "tisId")
+  @Override
+  ProgrammeMembershipTypePatchDto toPatchDto(ProgrammeMembershipType programmeMembershipType);
+
+  @InheritInverseConfiguration
+  @Override
+  ProgrammeMembershipType toEntity(ProgrammeMembershipTypePatchDto dto);
+
+  @Override
+  default void copyEntityId(ProgrammeMembershipTypePatchDto source,
+      ProgrammeMembershipTypePatchDto target) {
+    target.setEntityId(source.getEntityId());
+  }
 }
@@ -0,0 +1,57 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.reference.model;
+
+import java.time.Instant;
+import java.util.Map;
+import lombok.Data;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * A reference record which is excluded from its reference collection, e.g. an inactive grade. The
+ * record is kept so later CDC updates can be applied to it, and the entity restored if it is no
+ * longer excluded.
+ */
+@Document(collection = "ExcludedReference")
+@Data
+public class ExcludedReference {
+
+  @Id
+  private String id;
+
+  private String type;
+  private String tisId;
+  private Map<String, Object> record;
+  private Instant excludedAt;
+
+  /**
+   * Create the ID of an excluded record, which is unique per reference type and TIS ID.
+   *
+   * @param type  The reference type of the record.
+   * @param tisId The TIS ID of the record.
+   * @return The ID of the excluded record.
+   */
+  public static String createId(String type, String tisId) {
+    return type + ":" + tisId;
+  }
+}
@@ -23,16 +23,31 @@ package uk.nhs.hee.tis.trainee.reference.model;
 
 import lombok.Data;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
+import uk.nhs.hee.tis.trainee.reference.dto.TraineeType;
 
 /**
  * Model for persisted local office contact records.
  */
 @Document(collection = "LocalOfficeContact")
+@CompoundIndexes({
+    @CompoundIndex(name = "localOfficeId_traineeType",
+        def = "{'localOfficeId': 1, 'traineeType': 1}"),
+    @CompoundIndex(name = "localOfficeName_traineeType",
+        def = "{'localOfficeName': 1, 'traineeType': 1}")
+})
 @Data
 public class LocalOfficeContact {
 
+  /**
+   * The suffix TIS adds to the names of foundation contact types, which is not included in the
+   * contact type display name.
+   */
+  public static final String FOUNDATION_SUFFIX = " - Foundation";
+
   @Id
   private String tisId; //this table does not have the old numeric ID field
 
@@ -45,4 +60,8 @@ public class LocalOfficeContact {
   //denormalise from related records: enrichment of these fields will follow in next PR
   private String localOfficeName;
   private String contactTypeName;
+
+  //derived from the contact type name, which TIS suffixes with FOUNDATION_SUFFIX for foundation
+  private TraineeType traineeType;
+  private String contactTypeDisplayName;
 }
@@ -22,10 +22,16 @@
 package uk.nhs.hee.tis.trainee.reference.repository;
 
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.ReadPreference;
 import org.springframework.stereotype.Repository;
 import uk.nhs.hee.tis.trainee.reference.model.CovidChangeCircumstance;
 
+/**
+ * A repository of covid change circumstances, read from the primary so a snapshot reloaded after
+ * a change log writes them is never loaded from a lagging secondary.
+ */
 @Repository
+@ReadPreference("primary")
 public interface CovidChangeCircumstanceRepository extends
     MongoRepository<CovidChangeCircumstance, String> {
 
@@ -0,0 +1,242 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.reference.repository;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+import com.mongodb.ReadPreference;
+import com.mongodb.bulk.BulkWriteError;
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+import org.springframework.data.mongodb.core.query.Field;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.mongodb.repository.query.MongoEntityInformation;
+import org.springframework.data.mongodb.repository.support.SimpleMongoRepository;
+
+/**
+ * The base implementation for all repositories, adding the bulk operations declared by
+ * {@link ReferenceRepository} to the standard Spring Data MongoDB repository.
+ *
+ * @param <T> The entity type.
+ * @param <I> The entity ID type.
+ */
+public class DefaultReferenceRepository<T, I extends Serializable>
+    extends SimpleMongoRepository<T, I> {
+
+  static final String ID_FIELD = "_id";
+  static final String TIS_ID_FIELD = "tisId";
+
+  private final MongoEntityInformation<T, I> entityInformation;
+  private final MongoOperations mongoOperations;
+
+  /**
+   * Create a repository for the given entity.
+   *
+   * @param metadata        The entity metadata.
+   * @param mongoOperations The Mongo operations to use.
+   */
+  public DefaultReferenceRepository(MongoEntityInformation<T, I> metadata,
+      MongoOperations mongoOperations) {
+    super(metadata, mongoOperations);
+    this.entityInformation = metadata;
+    this.mongoOperations = mongoOperations;
+  }
+
+  /**
+   * Apply the given writes in a single unordered bulk operation. Upserts replace the whole entity
+   * matching the TIS ID, or insert it if it does not exist.
+   *
+   * @param writes The writes to apply.
+   * @return The positions of any writes which failed, empty if all writes succeeded.
+   */
+  public Set<Integer> bulkWriteByTisId(List<ReferenceWrite<T>> writes) {
+    if (writes.isEmpty()) {
+      return Set.of();
+    }
+
+    BulkOperations bulkOperations = mongoOperations.bulkOps(BulkMode.UNORDERED,
+        entityInformation.getJavaType(), entityInformation.getCollectionName());
+
+    for (ReferenceWrite<T> write : writes) {
+      Query query = Query.query(where(TIS_ID_FIELD).is(write.tisId()));
+
+      if (write.isDelete()) {
+        bulkOperations.remove(query);
+      } else {
+        bulkOperations.replaceOne(query, write.entity(), FindAndReplaceOptions.options().upsert());
+      }
+    }
+
+    try {
+      bulkOperations.execute();
+      return Set.of();
+    } catch (BulkOperationException e) {
+      return e.getErrors().stream()
+          .map(BulkWriteError::getIndex)
+          .collect(Collectors.toSet());
+    }
+  }
+
+  /**
+   * Atomically insert the entity, or update the existing entity with the same TIS ID, in a single
+   * round trip. Every mapped field other than the ID and TIS ID is set, or unset if it is null, so
+   * the existing ID is kept when updating.
+   *
+   * <p>The find and write are atomic for a single document only. Concurrent upserts of a TIS ID
+   * which does not exist yet may each insert a document, unless the collection has a unique TIS ID
+   * index, in which case the server retries the losing upsert as an update. Collections with a
+   * unique TIS ID index are listed in {@link ReferenceIndexes}, and the index is created without
+   * its constraint while the collection holds duplicates, so this is not guaranteed for every
+   * collection.
+   *
+   * @param tisId  The TIS ID of the entity.
+   * @param entity The new state of the entity.
+   * @return The inserted or updated entity.
+   */
+  public T upsertByTisId(String tisId, T entity) {
+    MongoConverter converter = mongoOperations.getConverter();
+    Document document = new Document();
+    converter.write(entity, document);
+
+    Object id = document.remove(ID_FIELD);
+    document.remove(TIS_ID_FIELD);
+
+    Update update = new Update();
+    document.forEach(update::set);
+
+    if (id != null) {
+      update.setOnInsert(ID_FIELD, id);
+    }
+
+    converter.getMappingContext()
+        .getRequiredPersistentEntity(entityInformation.getJavaType())
+        .doWithProperties((PropertyHandler<MongoPersistentProperty>) property -> {
+          String fieldName = property.getFieldName();
+
+          if (!property.isIdProperty() && !fieldName.equals(TIS_ID_FIELD)
+              && !document.containsKey(fieldName)) {
+            update.unset(fieldName);
+          }
+        });
+
+    return mongoOperations.findAndModify(Query.query(where(TIS_ID_FIELD).is(tisId)), update,
+        FindAndModifyOptions.options().upsert(true).returnNew(true),
+        entityInformation.getJavaType(), entityInformation.getCollectionName());
+  }
+
+  /**
+   * Find all entities in the given order, reading only the mapped fields so a query sorted by the
+   * label is answered from the covering label index without fetching any documents.
+   *
+   * @param sort The order to find the entities in.
+   * @return The found entities.
+   * @see ReferenceIndexes
+   */
+  @Override
+  public List<T> findAll(Sort sort) {
+    return mongoOperations.find(mappedFieldsQuery(sort), entityInformation.getJavaType(),
+        entityInformation.getCollectionName());
+  }
+
+  /**
+   * Find all entities in the given order from the primary, for reads which must include every
+   * write acknowledged before them. Only the mapped fields are read, as for {@link #findAll(Sort)}.
+   *
+   * @param sort The order to find the entities in.
+   * @return The found entities.
+   */
+  public List<T> findAllFromPrimary(Sort sort) {
+    Query query = mappedFieldsQuery(sort).withReadPreference(ReadPreference.primary());
+    return mongoOperations.find(query, entityInformation.getJavaType(),
+        entityInformation.getCollectionName());
+  }
+
+  /**
+   * Find the entities with the given TIS IDs from the primary, for reads which must include every
+   * write acknowledged before them, e.g. entities listed as changed by the change log.
+   *
+   * @param tisIds The TIS IDs to find.
+   * @return The found entities, entities which do not exist are omitted.
+   */
+  public List<T> findByTisIdInFromPrimary(Collection<String> tisIds) {
+    Query query = Query.query(where(TIS_ID_FIELD).in(tisIds))
+        .withReadPreference(ReadPreference.primary());
+    return mongoOperations.find(query, entityInformation.getJavaType(),
+        entityInformation.getCollectionName());
+  }
+
+  /**
+   * Stream all entities in the given order, reading them from a cursor as the stream is consumed
+   * rather than loading them all in to memory. Only the mapped fields are read, as for
+   * {@link #findAll(Sort)}.
+   *
+   * @param sort The order to stream the entities in.
+   * @return The stream of entities, which must be closed to release the cursor.
+   */
+  public Stream<T> streamAll(Sort sort) {
+    return mongoOperations.stream(mappedFieldsQuery(sort), entityInformation.getJavaType(),
+        entityInformation.getCollectionName());
+  }
+
+  /**
+   * Create a query for all entities which projects only the mapped fields, excluding any others
+   * stored with the document such as the type hint.
+   *
+   * @param sort The order to query the entities in.
+   * @return The sorted and projected query.
+   */
+  private Query mappedFieldsQuery(Sort sort) {
+    Query query = new Query().with(sort);
+    Field fields = query.fields();
+
+    mongoOperations.getConverter().getMappingContext()
+        .getRequiredPersistentEntity(entityInformation.getJavaType())
+        .doWithProperties((PropertyHandler<MongoPersistentProperty>) property ->
+            fields.include(property.getFieldName()));
+    return query;
+  }
+
+  /**
+   * Get the name of the collection holding the entities, e.g. to watch for changes to.
+   *
+   * @return The collection name.
+   */
+  public String getCollectionName() {
+    return entityInformation.getCollectionName();
+  }
+}
@@ -22,7 +22,13 @@
 package uk.nhs.hee.tis.trainee.reference.repository;
 
 import java.util.List;
+import java.util.stream.Stream;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.Update;
 import org.springframework.stereotype.Repository;
+import uk.nhs.hee.tis.trainee.reference.dto.LocalOfficeContactDetailsDto;
+import uk.nhs.hee.tis.trainee.reference.dto.TraineeType;
 import uk.nhs.hee.tis.trainee.reference.model.LocalOfficeContact;
 
 /**
@@ -36,4 +42,129 @@ public interface LocalOfficeContactRepository extends ReferenceRepository<LocalO
   List<LocalOfficeContact> findByContactTypeId(String contactTypeId);
 
   List<LocalOfficeContact> findByLocalOfficeName(String localOfficeName);
+
+  Stream<LocalOfficeContact> streamByTraineeType(TraineeType traineeType, Sort sort);
+
+  /**
+   * A projection of only the fields needed for {@link LocalOfficeContactDetailsDto}, with the
+   * contact type name taken from the display name so results can be read straight into the DTO.
+   */
+  String DETAILS_FIELDS = """
+      { 'localOfficeId': 1, 'contactTypeId': 1, 'contact': 1, 'label': 1, 'localOfficeName': 1,
+        'contactTypeName': '$contactTypeDisplayName' }
+      """;
+
+  /**
+   * Find the details of all contacts for a local office and trainee type.
+   *
+   * @param localOfficeId The ID of the local office.
+   * @param traineeType   The stored trainee type.
+   * @return The matching contact details.
+   */
+  @Query(value = "{ 'localOfficeId': ?0, 'traineeType': ?1 }", fields = DETAILS_FIELDS)
+  List<LocalOfficeContactDetailsDto> findDetailsByLocalOfficeIdAndTraineeType(String localOfficeId,
+      TraineeType traineeType);
+
+  /**
+   * Find the details of all contacts for a local office name and trainee type.
+   *
+   * @param localOfficeName The name of the local office.
+   * @param traineeType     The stored trainee type.
+   * @return The matching contact details.
+   */
+  @Query(value = "{ 'localOfficeName': ?0, 'traineeType': ?1 }", fields = DETAILS_FIELDS)
+  List<LocalOfficeContactDetailsDto> findDetailsByLocalOfficeNameAndTraineeType(
+      String localOfficeName, TraineeType traineeType);
+
+  /**
+   * Stream the details of all contacts for a trainee type from a cursor.
+   *
+   * @param traineeType The stored trainee type.
+   * @param sort        The order to stream the contacts in.
+   * @return The stream of contact details, which must be closed to release the cursor.
+   */
+  @Query(value = "{ 'traineeType': ?0 }", fields = DETAILS_FIELDS)
+  Stream<LocalOfficeContactDetailsDto> streamDetailsByTraineeType(TraineeType traineeType,
+      Sort sort);
+
+  /**
+   * Find the TIS IDs of all contacts for a local office, without loading the whole contacts.
+   *
+   * @param localOfficeId The ID of the local office.
+   * @return The contacts, with only the TIS ID populated.
+   */
+  @Query(value = "{ 'localOfficeId': ?0 }", fields = "{ 'tisId': 1 }")
+  List<LocalOfficeContact> findTisIdsByLocalOfficeId(String localOfficeId);
+
+  /**
+   * Find the TIS IDs of all contacts for a contact type, without loading the whole contacts.
+   *
+   * @param contactTypeId The ID of the contact type.
+   * @return The contacts, with only the TIS ID populated.
+   */
+  @Query(value = "{ 'contactTypeId': ?0 }", fields = "{ 'tisId': 1 }")
+  List<LocalOfficeContact> findTisIdsByContactTypeId(String contactTypeId);
+
+  /**
+   * An update pipeline stage to derive the trainee type and contact type display name from the
+   * contact type name, matching {@code LocalOfficeContactEnricherFacade}. The literal suffix and
+   * its length of 13 must match {@link LocalOfficeContact#FOUNDATION_SUFFIX}.
+   */
+  String DERIVE_CONTACT_TYPE_FIELDS_STAGE = """
+      { '$set': {
+        'traineeType': { '$cond': [
+          { '$regexMatch': { 'input': { '$ifNull': ['$contactTypeName', ''] },
+                             'regex': ' - Foundation$' } },
+          'FOUNDATION',
+          'SPECIALTY'
+        ] },
+        'contactTypeDisplayName': { '$cond': [
+          { '$regexMatch': { 'input': { '$ifNull': ['$contactTypeName', ''] },
+                             'regex': ' - Foundation$' } },
+          { '$substrCP': ['$contactTypeName', 0,
+            { '$subtract': [{ '$strLenCP': '$contactTypeName' }, 13] }] },
+          '$contactTypeName'
+        ] }
+      } }
+      """;
+
+  /**
+   * An update pipeline stage to regenerate the label from the contact, contact type name and local
+   * office name, matching {@code LocalOfficeContactEnricherFacade.generateLabel}.
+   */
+  String GENERATE_LABEL_STAGE = """
+      { '$set': { 'label': { '$concat': [
+        '$contact',
+        { '$ifNull': [{ '$concat': [' (', '$contactTypeName', ')'] }, ''] },
+        { '$ifNull': [{ '$concat': [' - ', '$localOfficeName'] }, ''] }
+      ] } } }
+      """;
+
+  /**
+   * Set the local office name of all contacts for a local office, and regenerate their labels.
+   * The name is bound as a {@code $literal} so that values starting with {@code $} are stored as
+   * given rather than evaluated as field paths or expressions by the update pipeline.
+   *
+   * @param localOfficeId   The ID of the local office.
+   * @param localOfficeName The new local office name.
+   * @return The number of updated contacts.
+   */
+  @Query("{ 'localOfficeId': ?0 }")
+  @Update(pipeline = {"{ '$set': { 'localOfficeName': { '$literal': ?1 } } }",
+      GENERATE_LABEL_STAGE})
+  long updateLocalOfficeNameByLocalOfficeId(String localOfficeId, String localOfficeName);
+
+  /**
+   * Set the contact type name of all contacts for a contact type, and regenerate their derived
+   * fields and labels. The name is bound as a {@code $literal}, as for
+   * {@link #updateLocalOfficeNameByLocalOfficeId(String, String)}.
+   *
+   * @param contactTypeId   The ID of the contact type.
+   * @param contactTypeName The new contact type name.
+   * @return The number of updated contacts.
+   */
+  @Query("{ 'contactTypeId': ?0 }")
+  @Update(pipeline = {"{ '$set': { 'contactTypeName': { '$literal': ?1 } } }",
+      DERIVE_CONTACT_TYPE_FIELDS_STAGE, GENERATE_LABEL_STAGE})
+  long updateContactTypeNameByContactTypeId(String contactTypeId, String contactTypeName);
 }
@@ -0,0 +1,161 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.reference.repository;
+
+import com.mongodb.ExplainVerbosity;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.stereotype.Component;
+import uk.nhs.hee.tis.trainee.reference.repository.ReferenceIndexes.HotQuery;
+
+/**
+ * Verify that the declared indexes exist and that no hot query scans its whole collection.
+ *
+ * <p>Verification runs once the application has started, after the index migration and before
+ * readiness is reported. Each hot query is explained and its winning plan inspected, any missing
+ * index or collection scan is logged and fails startup so a slow query is never deployed silently.
+ * Covered queries must also be answered from an index alone, without fetching documents or sorting
+ * them in memory.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(value = "application.indexes.verify", havingValue = "true")
+public class ReferenceIndexVerifier {
+
+  static final String COLLECTION_SCAN = "COLLSCAN";
+  static final String FETCH = "FETCH";
+  static final String INDEX_SCAN = "IXSCAN";
+  static final String SORT = "SORT";
+
+  private final MongoTemplate mongoTemplate;
+
+  ReferenceIndexVerifier(MongoTemplate mongoTemplate) {
+    this.mongoTemplate = mongoTemplate;
+  }
+
+  /**
+   * Verify the indexes on startup, failing if any problems are found.
+   *
+   * @throws IllegalStateException If an index is missing or a hot query scans its collection.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void verifyOnStartup() {
+    List<String> problems = verify();
+
+    if (!problems.isEmpty()) {
+      problems.forEach(log::error);
+      throw new IllegalStateException(
+          "Index verification failed with %d problem(s): %s".formatted(problems.size(), problems));
+    }
+
+    log.info("Verified the indexes of {} collections and the plans of {} hot queries.",
+        ReferenceIndexes.getIndexes().size(), ReferenceIndexes.getHotQueries().size());
+  }
+
+  /**
+   * Verify the declared indexes exist and that each hot query is served by an index.
+   *
+   * @return A description of each problem found, empty if verification succeeded.
+   */
+  public List<String> verify() {
+    List<String> problems = new ArrayList<>();
+
+    for (Entry<Class<?>, List<Index>> entry : ReferenceIndexes.getIndexes().entrySet()) {
+      String collection = mongoTemplate.getCollectionName(entry.getKey());
+      Set<String> existing = mongoTemplate.indexOps(entry.getKey()).getIndexInfo().stream()
+          .map(IndexInfo::getName)
+          .collect(Collectors.toSet());
+
+      for (Index index : entry.getValue()) {
+        String name = index.getIndexOptions().getString("name");
+
+        if (!existing.contains(name)) {
+          problems.add("Index '%s' of collection '%s' is missing.".formatted(name, collection));
+        }
+      }
+    }
+
+    for (HotQuery query : ReferenceIndexes.getHotQueries()) {
+      List<String> stages = getPlanStages(query);
+      log.debug("Query '{}' has plan {}.", query.name(), stages);
+
+      if (stages.contains(COLLECTION_SCAN)) {
+        problems.add("Query '%s' scans the whole '%s' collection, plan %s.".formatted(
+            query.name(), mongoTemplate.getCollectionName(query.entityType()), stages));
+      } else if (query.covered() && (stages.contains(FETCH) || stages.contains(SORT))) {
+        problems.add("Query '%s' is not covered by an index, plan %s.".formatted(query.name(),
+            stages));
+      }
+    }
+
+    return problems;
+  }
+
+  /**
+   * Explain the given query and get the stages of the winning plan.
+   *
+   * @param query The query to explain.
+   * @return The stages of the winning plan, outermost first.
+   */
+  public List<String> getPlanStages(HotQuery query) {
+    String collection = mongoTemplate.getCollectionName(query.entityType());
+    Document explanation = mongoTemplate.getCollection(collection)
+        .find(query.filter())
+        .projection(query.projection())
+        .sort(query.sort())
+        .explain(ExplainVerbosity.QUERY_PLANNER);
+
+    List<String> stages = new ArrayList<>();
+    Document planner = explanation.get("queryPlanner", Document.class);
+    collectStages(planner.get("winningPlan"), stages);
+    return stages;
+  }
+
+  /**
+   * Collect the stage names of a plan, which may be nested in input stages or, when the slot based
+   * execution engine is used, a query plan.
+   *
+   * @param plan   The plan, or part of a plan, to collect stages from.
+   * @param stages The stages collected so far.
+   */
+  private static void collectStages(Object plan, List<String> stages) {
+    if (plan instanceof Document document) {
+      if (document.get("stage") instanceof String stage) {
+        stages.add(stage);
+      }
+      document.values().forEach(value -> collectStages(value, stages));
+    } else if (plan instanceof List<?> list) {
+      list.forEach(value -> collectStages(value, stages));
+    }
+  }
+}
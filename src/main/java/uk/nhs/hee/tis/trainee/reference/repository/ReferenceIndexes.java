@@ -0,0 +1,221 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.reference.repository;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import org.bson.Document;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.mongodb.core.index.Index;
+import uk.nhs.hee.tis.trainee.reference.model.College;
+import uk.nhs.hee.tis.trainee.reference.model.CovidChangeCircumstance;
+import uk.nhs.hee.tis.trainee.reference.model.Curriculum;
+import uk.nhs.hee.tis.trainee.reference.model.Dbc;
+import uk.nhs.hee.tis.trainee.reference.model.DeclarationType;
+import uk.nhs.hee.tis.trainee.reference.model.Gender;
+import uk.nhs.hee.tis.trainee.reference.model.Grade;
+import uk.nhs.hee.tis.trainee.reference.model.ImmigrationStatus;
+import uk.nhs.hee.tis.trainee.reference.model.LocalOffice;
+import uk.nhs.hee.tis.trainee.reference.model.LocalOfficeContact;
+import uk.nhs.hee.tis.trainee.reference.model.LocalOfficeContactType;
+import uk.nhs.hee.tis.trainee.reference.model.ProgrammeMembershipType;
+import uk.nhs.hee.tis.trainee.reference.model.ReferenceChange;
+
+/**
+ * The indexes of each reference collection, and the hot queries which must be served by them.
+ *
+ * <p>Automatic index creation is disabled, so the indexes are declared here and created by the
+ * {@code ensureReferenceIndexes} migration on every startup. Index names follow the Spring Data
+ * convention of joining the indexed fields, so indexes previously created from model annotations
+ * are recognised rather than duplicated.
+ *
+ * <p>Every list is sorted by label and reads only the mapped fields, so each collection has a
+ * covering index starting with the label and holding every mapped field. Lists are then answered
+ * from the index alone, in order, without fetching documents or sorting them in memory.
+ */
+public final class ReferenceIndexes {
+
+  static final String COVERING_INDEX = "label_covering";
+
+  private static final String ID = "_id";
+  private static final String LABEL = "label";
+  private static final String TIS_ID = "tisId";
+  private static final String TRAINEE_TYPE = "traineeType";
+
+  private static final List<Class<?>> UNIQUE_TIS_ID_TYPES = List.of(College.class,
+      Curriculum.class, Dbc.class, Gender.class, Grade.class, LocalOffice.class,
+      ProgrammeMembershipType.class);
+
+  private ReferenceIndexes() {
+  }
+
+  /**
+   * Get the indexes to create for each collection.
+   *
+   * @return The declared indexes, by entity type.
+   */
+  public static Map<Class<?>, List<Index>> getIndexes() {
+    Map<Class<?>, List<Index>> indexes = new LinkedHashMap<>();
+    indexes.put(College.class, List.of(index(TIS_ID).unique(), covering(TIS_ID, ID)));
+    indexes.put(CovidChangeCircumstance.class, List.of(covering(ID)));
+    indexes.put(Curriculum.class, List.of(index(TIS_ID).unique(),
+        covering(TIS_ID, ID, "curriculumSubType")));
+    indexes.put(Dbc.class, List.of(index(TIS_ID).unique(),
+        covering(TIS_ID, ID, "type", "internal")));
+    indexes.put(DeclarationType.class, List.of(covering(ID)));
+    indexes.put(Gender.class, List.of(index(TIS_ID).unique(), covering(TIS_ID, ID)));
+    indexes.put(Grade.class, List.of(index(TIS_ID).unique(), covering(TIS_ID, ID)));
+    // Immigration statuses have never declared a unique TIS ID, existing data may not satisfy one.
+    indexes.put(ImmigrationStatus.class, List.of(index(TIS_ID), covering(TIS_ID, ID)));
+    indexes.put(LocalOffice.class, List.of(index(TIS_ID).unique(), index("uuid"),
+        covering(TIS_ID, ID, "uuid")));
+    // The TIS ID is the document ID, so local office contacts and contact types need no index.
+    indexes.put(LocalOfficeContact.class, List.of(
+        index("localOfficeId", TRAINEE_TYPE),
+        index("localOfficeName", TRAINEE_TYPE),
+        index("contactTypeId"),
+        index(TRAINEE_TYPE, LABEL),
+        covering(ID, "localOfficeId", "contactTypeId", "contact", "localOfficeName",
+            "contactTypeName", TRAINEE_TYPE, "contactTypeDisplayName")));
+    indexes.put(LocalOfficeContactType.class, List.of(covering(ID, "code")));
+    indexes.put(ProgrammeMembershipType.class, List.of(index(TIS_ID).unique(),
+        covering(TIS_ID, ID)));
+    indexes.put(ReferenceChange.class, List.of(
+        index("type", TIS_ID).unique(),
+        index("type", "sequence")));
+    return indexes;
+  }
+
+  /**
+   * Get the hot queries, which must be served by an index rather than a collection scan.
+   *
+   * @return The hot queries.
+   */
+  public static List<HotQuery> getHotQueries() {
+    List<HotQuery> queries = new ArrayList<>();
+
+    for (Entry<Class<?>, List<Index>> entry : getIndexes().entrySet()) {
+      entry.getValue().stream()
+          .filter(index -> COVERING_INDEX.equals(index.getIndexOptions().getString("name")))
+          .findFirst()
+          .ifPresent(index -> queries.add(new HotQuery(
+              entry.getKey().getSimpleName() + ".findAll", entry.getKey(), new Document(),
+              new Document(LABEL, 1), getProjection(index), true)));
+    }
+
+    for (Class<?> type : UNIQUE_TIS_ID_TYPES) {
+      queries.add(query(type, "findByTisId", new Document(TIS_ID, "1")));
+    }
+    queries.add(query(ImmigrationStatus.class, "findByTisId", new Document(TIS_ID, "1")));
+    queries.add(query(LocalOffice.class, "findByUuid", new Document("uuid", "1")));
+
+    queries.add(query(LocalOfficeContact.class, "findByLocalOfficeId",
+        new Document("localOfficeId", "1")));
+    queries.add(query(LocalOfficeContact.class, "findByLocalOfficeName",
+        new Document("localOfficeName", "1")));
+    queries.add(query(LocalOfficeContact.class, "findByContactTypeId",
+        new Document("contactTypeId", "1")));
+    queries.add(query(LocalOfficeContact.class, "findDetailsByLocalOfficeIdAndTraineeType",
+        new Document("localOfficeId", "1").append(TRAINEE_TYPE, "FOUNDATION")));
+    queries.add(query(LocalOfficeContact.class, "findDetailsByLocalOfficeNameAndTraineeType",
+        new Document("localOfficeName", "1").append(TRAINEE_TYPE, "FOUNDATION")));
+    queries.add(new HotQuery("LocalOfficeContact.streamByTraineeType", LocalOfficeContact.class,
+        new Document(TRAINEE_TYPE, "FOUNDATION"), new Document(LABEL, 1), new Document(), false));
+
+    queries.add(query(ReferenceChange.class, "findByTypeAndTisId",
+        new Document("type", "Grade").append(TIS_ID, "1")));
+    queries.add(new HotQuery("ReferenceChange.findByTypeSinceSequence", ReferenceChange.class,
+        new Document("type", "Grade").append("sequence", new Document("$gt", 0L)),
+        new Document("sequence", 1), new Document(), false));
+    return queries;
+  }
+
+  /**
+   * Create an ascending index on the given fields, named in the Spring Data style.
+   *
+   * @param fields The fields to index, in order.
+   * @return The index definition.
+   */
+  private static Index index(String... fields) {
+    Index index = new Index().named(String.join("_", fields));
+    Arrays.stream(fields).forEach(field -> index.on(field, Direction.ASC));
+    return index;
+  }
+
+  /**
+   * Create a covering index which starts with the label, so it can be read in label order, and
+   * holds the given fields so a query projecting only those fields never fetches a document.
+   *
+   * @param fields The fields to hold after the label, every other mapped field of the entity.
+   * @return The index definition.
+   */
+  private static Index covering(String... fields) {
+    Index index = new Index().named(COVERING_INDEX).on(LABEL, Direction.ASC);
+    Arrays.stream(fields).forEach(field -> index.on(field, Direction.ASC));
+    return index;
+  }
+
+  /**
+   * Get a projection of only the fields held by the given index.
+   *
+   * @param index The index.
+   * @return The projection.
+   */
+  private static Document getProjection(Index index) {
+    Document projection = new Document();
+    index.getIndexKeys().keySet().forEach(field -> projection.put(field, 1));
+    return projection;
+  }
+
+  /**
+   * Create an unsorted hot query.
+   *
+   * @param type   The entity type being queried.
+   * @param name   The name of the query, matching the repository method where there is one.
+   * @param filter The query filter.
+   * @return The hot query.
+   */
+  private static HotQuery query(Class<?> type, String name, Document filter) {
+    return new HotQuery(type.getSimpleName() + "." + name, type, filter, new Document(),
+        new Document(), false);
+  }
+
+  /**
+   * A query which is run often enough that it must never scan its whole collection.
+   *
+   * @param name       The name of the query.
+   * @param entityType The entity type being queried.
+   * @param filter     A representative query filter, the values are not significant.
+   * @param sort       The sort order, empty if unsorted.
+   * @param projection The fields to read, empty for the whole document.
+   * @param covered    Whether the query must be answered from an index alone, without fetching
+   *                   documents or sorting them in memory.
+   */
+  public record HotQuery(String name, Class<?> entityType, Document filter, Document sort,
+      Document projection, boolean covered) {
+
+  }
+}
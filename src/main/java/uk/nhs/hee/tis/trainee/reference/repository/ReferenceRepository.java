@@ -21,6 +21,11 @@
 
 package uk.nhs.hee.tis.trainee.reference.repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.repository.NoRepositoryBean;
 
@@ -30,4 +35,60 @@ public interface ReferenceRepository<T> extends MongoRepository<T, String> {
   void deleteByTisId(String tisId);
 
   T findByTisId(String tisId);
+
+  List<T> findByTisIdIn(Collection<String> tisIds);
+
+  /**
+   * Find all entities in the given order from the primary.
+   *
+   * @param sort The order to find the entities in.
+   * @return The found entities.
+   * @see DefaultReferenceRepository#findAllFromPrimary(Sort)
+   */
+  List<T> findAllFromPrimary(Sort sort);
+
+  /**
+   * Find the entities with the given TIS IDs from the primary.
+   *
+   * @param tisIds The TIS IDs to find.
+   * @return The found entities.
+   * @see DefaultReferenceRepository#findByTisIdInFromPrimary(Collection)
+   */
+  List<T> findByTisIdInFromPrimary(Collection<String> tisIds);
+
+  /**
+   * Apply the given writes in a single bulk operation.
+   *
+   * @param writes The writes to apply.
+   * @return The positions of any writes which failed, empty if all writes succeeded.
+   * @see DefaultReferenceRepository#bulkWriteByTisId(List)
+   */
+  Set<Integer> bulkWriteByTisId(List<ReferenceWrite<T>> writes);
+
+  /**
+   * Atomically insert the entity, or update the existing entity with the same TIS ID.
+   *
+   * @param tisId  The TIS ID of the entity.
+   * @param entity The new state of the entity.
+   * @return The inserted or updated entity.
+   * @see DefaultReferenceRepository#upsertByTisId(String, Object)
+   */
+  T upsertByTisId(String tisId, T entity);
+
+  /**
+   * Stream all entities in the given order from a cursor.
+   *
+   * @param sort The order to stream the entities in.
+   * @return The stream of entities, which must be closed to release the cursor.
+   * @see DefaultReferenceRepository#streamAll(Sort)
+   */
+  Stream<T> streamAll(Sort sort);
+
+  /**
+   * Get the name of the collection holding the entities.
+   *
+   * @return The collection name.
+   * @see DefaultReferenceRepository#getCollectionName()
+   */
+  String getCollectionName();
 }
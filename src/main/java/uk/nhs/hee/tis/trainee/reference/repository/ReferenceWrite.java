@@ -0,0 +1,65 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.reference.repository;
+
+/**
+ * A single write to a reference entity, identified by its TIS ID, to be applied as part of a bulk
+ * operation.
+ *
+ * @param tisId  The TIS ID of the entity to write.
+ * @param entity The new state of the entity, or null if the entity should be deleted.
+ * @param <T>    The entity type.
+ */
+public record ReferenceWrite<T>(String tisId, T entity) {
+
+  /**
+   * Create a write which inserts or replaces the entity with the given TIS ID.
+   *
+   * @param tisId  The TIS ID of the entity.
+   * @param entity The new state of the entity.
+   * @param <T>    The entity type.
+   * @return The upsert write.
+   */
+  public static <T> ReferenceWrite<T> upsert(String tisId, T entity) {
+    return new ReferenceWrite<>(tisId, entity);
+  }
+
+  /**
+   * Create a write which deletes the entity with the given TIS ID.
+   *
+   * @param tisId The TIS ID of the entity.
+   * @param <T>   The entity type.
+   * @return The delete write.
+   */
+  public static <T> ReferenceWrite<T> delete(String tisId) {
+    return new ReferenceWrite<>(tisId, null);
+  }
+
+  /**
+   * Whether this write deletes the entity.
+   *
+   * @return true if the entity should be deleted, else false.
+   */
+  public boolean isDelete() {
+    return entity == null;
+  }
+}
@@ -22,37 +22,292 @@
 package uk.nhs.hee.tis.trainee.reference.service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.fge.jsonpatch.JsonPatch;
 import com.github.fge.jsonpatch.JsonPatchException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.lang3.NotImplementedException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.GenericTypeResolver;
 import org.springframework.data.domain.Sort;
+import uk.nhs.hee.tis.trainee.reference.dto.CdcEvent;
+import uk.nhs.hee.tis.trainee.reference.dto.CdcEvent.CdcKeys;
 import uk.nhs.hee.tis.trainee.reference.mapper.PatchMapper;
+import uk.nhs.hee.tis.trainee.reference.model.ExcludedReference;
 import uk.nhs.hee.tis.trainee.reference.repository.ReferenceRepository;
+import uk.nhs.hee.tis.trainee.reference.repository.ReferenceWrite;
+import uk.nhs.hee.tis.trainee.reference.service.ReferenceChangeLog.ChangeSet;
 
 /**
  * Abstract base service providing common reference data operations.
  *
+ * <p>Reads are served from an in-memory {@link ReferenceSnapshotCache}, which is invalidated by
+ * every write made through the service. Every write is also recorded in the
+ * {@link ReferenceChangeLog}, so clients can sync only the entities changed since their last sync.
+ * Writes made by other instances invalidate the cache via the {@link ReferenceChangeStreamWatcher}.
+ *
+ * <p>The duration of each read and write operation, and the number of documents it touched, are
+ * recorded by reference type and operation.
+ *
  * @param <T> The entity type.
  * @param <D> The patch DTO type, using TIS field names.
  */
 @Slf4j
 public abstract class AbstractReferenceService<T, D> implements ReferenceService<T> {
 
+  static final String OPERATIONS_TIMER = "reference.service.operations";
+  static final String DOCUMENTS_SUMMARY = "reference.service.documents";
+
+  private static final Duration DEFAULT_SNAPSHOT_TTL = Duration.ofMinutes(5);
+  private static final TypeReference<Map<String, Object>> EXCLUDED_RECORD_TYPE =
+      new TypeReference<>() {
+      };
+
+  private static final String TAG_TYPE = "type";
+  private static final String TAG_OPERATION = "operation";
+
+  private final String name;
   private final ReferenceRepository<T> repository;
   private final ObjectMapper mapper;
+  private final ReferenceSnapshotCache<T> cache;
+  private final Class<D> patchDtoType;
+  private final JsonPatchApplier<D> patchApplier;
+
+  private ReferenceChangeLog changeLog;
+  private ExcludedReferenceStore excludedReferences;
+  private MeterRegistry meterRegistry = new CompositeMeterRegistry();
 
   protected AbstractReferenceService(ReferenceRepository<T> repository, ObjectMapper mapper) {
+    this.name = getClass().getSimpleName().replace("Service", "");
     this.repository = repository;
     this.mapper = mapper;
+    this.cache = new ReferenceSnapshotCache<>(name, DEFAULT_SNAPSHOT_TTL);
+    this.patchDtoType = resolvePatchDtoType();
+    this.patchApplier = new JsonPatchApplier<>(patchDtoType, mapper);
+  }
+
+  /**
+   * Resolve the patch DTO type of this service, so the patch applier can be created once, before
+   * the service is shared by concurrent CDC batches and requests.
+   *
+   * @return The patch DTO type.
+   */
+  @SuppressWarnings("unchecked")
+  private Class<D> resolvePatchDtoType() {
+    Class<?>[] typeArguments = GenericTypeResolver.resolveTypeArguments(getClass(),
+        AbstractReferenceService.class);
+
+    if (typeArguments == null) {
+      throw new IllegalStateException(
+          "Unable to resolve the patch DTO type of " + getClass().getName());
+    }
+
+    return (Class<D>) typeArguments[1];
+  }
+
+  /**
+   * Get the name of the reference type managed by this service, e.g. LocalOfficeContactType.
+   *
+   * @return The reference type name.
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Get the name of the collection holding the entities managed by this service.
+   *
+   * @return The collection name.
+   */
+  public String getCollectionName() {
+    return repository.getCollectionName();
+  }
+
+  /**
+   * Set the maximum age of the cached snapshot, after which it is reloaded to pick up any writes
+   * made by other instances of the service which were missed by the change stream.
+   *
+   * @param snapshotTtl The snapshot time-to-live, a zero duration disables caching.
+   */
+  @Value("${application.cache.snapshot-ttl}")
+  void setSnapshotTtl(Duration snapshotTtl) {
+    cache.setTtl(snapshotTtl);
+  }
+
+  /**
+   * Set the change log to record every write in.
+   *
+   * @param changeLog The change log.
+   */
+  @Autowired
+  void setChangeLog(ReferenceChangeLog changeLog) {
+    this.changeLog = changeLog;
+  }
+
+  /**
+   * Set the store of records excluded from the reference collection, see
+   * {@link #isRetained(Object)}.
+   *
+   * @param excludedReferences The excluded reference store.
+   */
+  @Autowired
+  void setExcludedReferences(ExcludedReferenceStore excludedReferences) {
+    this.excludedReferences = excludedReferences;
+  }
+
+  /**
+   * Set the registry to record operation metrics in, metrics are discarded until it is set.
+   *
+   * @param meterRegistry The meter registry.
+   */
+  @Autowired
+  void setMeterRegistry(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  /**
+   * Start timing an operation.
+   *
+   * @return The started timer sample.
+   * @see #recordOperation(Timer.Sample, String, int)
+   */
+  protected Timer.Sample startOperation() {
+    return Timer.start(meterRegistry);
+  }
+
+  /**
+   * Record the duration of a completed operation and the number of documents it touched.
+   *
+   * @param sample    The timer sample started when the operation started.
+   * @param operation The name of the operation, e.g. write-all.
+   * @param documents The number of documents read or written by the operation.
+   */
+  protected void recordOperation(Timer.Sample sample, String operation, int documents) {
+    sample.stop(Timer.builder(OPERATIONS_TIMER)
+        .description("The time taken by reference service operations.")
+        .tag(TAG_TYPE, name)
+        .tag(TAG_OPERATION, operation)
+        .register(meterRegistry));
+
+    DistributionSummary.builder(DOCUMENTS_SUMMARY)
+        .description("The number of documents touched by reference service operations.")
+        .baseUnit("documents")
+        .tag(TAG_TYPE, name)
+        .tag(TAG_OPERATION, operation)
+        .register(meterRegistry)
+        .record(documents);
   }
 
   @Override
   public List<T> get() {
-    return repository.findAll(getSort());
+    return getSnapshot().entities();
+  }
+
+  /**
+   * Get the current snapshot of all entities. Snapshots are loaded from the primary, as a snapshot
+   * loaded from a lagging secondary after an invalidation would be served until it expires.
+   *
+   * @return The current snapshot.
+   */
+  public ReferenceSnapshot<T> getSnapshot() {
+    return cache.get(() -> repository.findAllFromPrimary(getSort()));
+  }
+
+  /**
+   * Stream all entities directly from the database, bypassing the snapshot cache, for exports
+   * which should not hold the whole collection in memory.
+   *
+   * @return The stream of entities, which must be closed once consumed.
+   */
+  public Stream<T> stream() {
+    return repository.streamAll(getSort());
+  }
+
+  /**
+   * Get the entities created, updated or deleted since the given change token. Entities which have
+   * been changed more than once are only included once, in their current state.
+   *
+   * <p>A zero token returns every entity, as entities written before the change log existed have
+   * no recorded change. A token older than the change log's resync token also returns every entity,
+   * so changes written without being recorded are not missed. The token is read before the
+   * entities, so any change made while they are read is returned again by the next request instead
+   * of being skipped. All reads are from the primary, so changed entities are never reported as
+   * deleted by a lagging secondary.
+   *
+   * @param since The token returned by a previous request, zero for all entities.
+   * @return The changed entities, the TIS IDs of deleted entities and the next change token.
+   */
+  public ReferenceChanges<T> getChanges(long since) {
+    Timer.Sample sample = startOperation();
+
+    long resyncToken = since == 0 ? 0 : changeLog.getResyncToken(name);
+
+    if (since == 0 || since < resyncToken) {
+      // Changes up to the resync token were allocated after their entities were written, so they
+      // are included in the entities read below.
+      long token = Math.max(changeLog.getToken(name), resyncToken);
+      List<T> all = repository.findAllFromPrimary(getSort());
+      recordOperation(sample, "changes", all.size());
+      return new ReferenceChanges<>(all, List.of(), token, true);
+    }
+
+    ChangeSet changeSet = changeLog.getChanges(name, since);
+    List<T> changed = changeSet.tisIds().isEmpty() ? List.of()
+        : repository.findByTisIdInFromPrimary(changeSet.tisIds());
+
+    Set<String> changedTisIds = changed.stream()
+        .map(this::getTisId)
+        .collect(Collectors.toSet());
+    List<String> deleted = changeSet.tisIds().stream()
+        .filter(tisId -> !changedTisIds.contains(tisId))
+        .toList();
+
+    recordOperation(sample, "changes", changeSet.tisIds().size());
+    return new ReferenceChanges<>(changed, deleted, changeSet.token(), false);
+  }
+
+  /**
+   * Record changes to the entities with the given TIS IDs, for writes made outside of this
+   * service's write methods, e.g. when denormalised fields are updated in bulk.
+   *
+   * @param tisIds The TIS IDs of the changed entities.
+   */
+  protected void recordChanges(Collection<String> tisIds) {
+    changeLog.record(name, tisIds);
+  }
+
+  /**
+   * Get the snapshot cache backing this service's reads.
+   *
+   * @return The snapshot cache.
+   */
+  public ReferenceSnapshotCache<T> getSnapshotCache() {
+    return cache;
+  }
+
+  /**
+   * Invalidate the snapshot cache after a write by this or another instance, subclasses may also
+   * invalidate any data derived from their entities.
+   */
+  protected void invalidateCache() {
+    cache.invalidate();
   }
 
   /**
@@ -64,38 +319,71 @@ public abstract class AbstractReferenceService<T, D> implements ReferenceService
     return Sort.by("label");
   }
 
+  /**
+   * Create the given entity, or update the existing entity with the same TIS ID, in a single
+   * atomic upsert.
+   *
+   * @param entity The entity to create.
+   * @return The created or updated entity.
+   */
   @Override
   public T create(T entity) {
-    T persistedEntity = repository.findByTisId(getTisId(entity));
-
-    if (persistedEntity != null) {
-      return update(entity);
-    }
-
-    return repository.insert(entity);
+    return upsert(entity);
   }
 
+  /**
+   * Create the entity resulting from applying a patch to the given entity, or update the existing
+   * entity with the same TIS ID, in a single atomic upsert.
+   *
+   * @param entity The entity to patch.
+   * @param patch  The patch to apply.
+   * @return The created or updated entity.
+   */
   @Override
   public T create(T entity, JsonPatch patch) throws JsonPatchException, JsonProcessingException {
+    Timer.Sample sample = startOperation();
     T patchedEntity = applyPatch(entity, patch);
-    return repository.insert(patchedEntity);
+    String tisId = getTisId(patchedEntity);
+    T created = repository.upsertByTisId(tisId, patchedEntity);
+    invalidateCache();
+    recordChanges(List.of(tisId));
+    recordOperation(sample, "create", 1);
+    return created;
   }
 
+  /**
+   * Update the existing entity with the same TIS ID, or create the given entity, in a single
+   * atomic upsert.
+   *
+   * @param entity The entity to update.
+   * @return The updated or created entity.
+   */
   @Override
   public T update(T entity) {
-    T persistedEntity = repository.findByTisId(getTisId(entity));
-
-    if (persistedEntity == null) {
-      return create(entity);
-    }
+    return upsert(entity);
+  }
 
-    copyAttributes(persistedEntity, entity);
-    return repository.save(persistedEntity);
+  /**
+   * Upsert the given entity by its TIS ID, replacing the find-then-save of each write with one
+   * atomic round trip.
+   *
+   * @param entity The entity to upsert.
+   * @return The upserted entity.
+   */
+  private T upsert(T entity) {
+    Timer.Sample sample = startOperation();
+    String tisId = getTisId(entity);
+    T upserted = repository.upsertByTisId(tisId, entity);
+    invalidateCache();
+    recordChanges(List.of(tisId));
+    recordOperation(sample, "upsert", 1);
+    return upserted;
   }
 
   @Override
   public T update(String tisId, JsonPatch patch)
       throws JsonPatchException, JsonProcessingException {
+    Timer.Sample sample = startOperation();
     log.debug("Looking up entity with tisId: {}", tisId);
     T persistedEntity = repository.findByTisId(tisId);
     log.debug("Found entity: {}", persistedEntity);
@@ -106,6 +394,251 @@ public abstract class AbstractReferenceService<T, D> implements ReferenceService
     }
 
     T patchedEntity = applyPatch(persistedEntity, patch);
+    verifyTisId(patchedEntity, tisId);
+
+    T updated = repository.save(patchedEntity);
+    invalidateCache();
+    recordChanges(List.of(tisId));
+    recordOperation(sample, "update", 1);
+    return updated;
+  }
+
+  /**
+   * Apply a batch of CDC events using a single bulk write.
+   *
+   * <p>Events are grouped by TIS ID and applied in order to the current state of each entity, so
+   * only the final state of each entity is written. If an event cannot be applied then it, and all
+   * later events for the same entity, are skipped so that they can be retried without affecting
+   * the rest of the batch. Events without a TIS ID key are skipped in the same way.
+   *
+   * <p>Entities which are not retained, see {@link #isRetained(Object)}, are removed from the
+   * reference collection and kept as excluded records, so later events can still be applied to
+   * them. An update to an unknown entity is acknowledged without a write if the patched result
+   * would not be retained either, instead of failing until the event is dead-lettered.
+   *
+   * @param events The events to apply, in the order they were received.
+   * @return The positions of the events which were successfully applied and persisted.
+   */
+  public Set<Integer> applyEvents(List<CdcEvent> events) {
+    Timer.Sample sample = startOperation();
+    Map<String, List<Integer>> positionsByTisId = new LinkedHashMap<>();
+
+    for (int i = 0; i < events.size(); i++) {
+      CdcKeys keys = events.get(i).keys();
+
+      if (keys == null || keys.id() == null || keys.id().isBlank()) {
+        log.warn("Unable to apply {} event at position {} without a tisId, skipping.",
+            events.get(i).getEventType(), i);
+        continue;
+      }
+
+      positionsByTisId.computeIfAbsent(keys.id(), k -> new ArrayList<>()).add(i);
+    }
+
+    Map<String, D> dtosByTisId = new HashMap<>();
+    repository.findByTisIdIn(positionsByTisId.keySet())
+        .forEach(entity -> dtosByTisId.put(getTisId(entity), getPatchMapper().toPatchDto(entity)));
+    Set<String> storedTisIds = Set.copyOf(dtosByTisId.keySet());
+
+    Set<String> unknownTisIds = new HashSet<>(positionsByTisId.keySet());
+    unknownTisIds.removeAll(storedTisIds);
+    Set<String> excludedTisIds = new HashSet<>();
+
+    for (ExcludedReference excluded : excludedReferences.findAll(name, unknownTisIds)) {
+      dtosByTisId.put(excluded.getTisId(), mapper.convertValue(excluded.getRecord(), patchDtoType));
+      excludedTisIds.add(excluded.getTisId());
+    }
+
+    List<ReferenceWrite<T>> writes = new ArrayList<>();
+    List<List<Integer>> writePositions = new ArrayList<>();
+    Map<String, Map<String, Object>> exclusions = new LinkedHashMap<>();
+    List<String> restoredTisIds = new ArrayList<>();
+    Set<Integer> persistedPositions = new HashSet<>();
+
+    for (Entry<String, List<Integer>> positions : positionsByTisId.entrySet()) {
+      String tisId = positions.getKey();
+      D dto = dtosByTisId.get(tisId);
+      List<Integer> appliedPositions = new ArrayList<>();
+
+      for (int position : positions.getValue()) {
+        CdcEvent event = events.get(position);
+
+        try {
+          dto = applyEvent(tisId, dto, event);
+          appliedPositions.add(position);
+        } catch (ExcludedEntityException e) {
+          log.info("Skipping {} event for unknown tisId [{}], the entity is not retained.",
+              event.getEventType(), tisId);
+          persistedPositions.add(position);
+        } catch (JsonPatchException | JsonProcessingException | RuntimeException e) {
+          log.warn("Unable to apply {} event for tisId [{}], skipping remaining events.",
+              event.getEventType(), tisId, e);
+          break;
+        }
+      }
+
+      if (appliedPositions.isEmpty()) {
+        continue;
+      }
+
+      boolean retained = dto != null && isRetained(dto);
+
+      if (dto != null && !retained) {
+        log.info("Patched entity with tisId [{}] is not retained, excluding.", tisId);
+        exclusions.put(tisId, mapper.convertValue(dto, EXCLUDED_RECORD_TYPE));
+      } else if (excludedTisIds.contains(tisId)) {
+        restoredTisIds.add(tisId);
+      }
+
+      if (retained) {
+        writes.add(ReferenceWrite.upsert(tisId, getPatchMapper().toEntity(dto)));
+        writePositions.add(appliedPositions);
+      } else if (storedTisIds.contains(tisId)) {
+        writes.add(ReferenceWrite.delete(tisId));
+        writePositions.add(appliedPositions);
+      } else {
+        // The entity was never in the reference collection, so only the exclusion is written.
+        persistedPositions.addAll(appliedPositions);
+      }
+    }
+
+    // Exclusions are stored before the entities are removed, so a failed write cannot lose them.
+    excludedReferences.saveAll(name, exclusions);
+    Set<Integer> failedWrites = writeAll(writes);
+
+    for (int i = 0; i < writes.size(); i++) {
+      if (!failedWrites.contains(i)) {
+        persistedPositions.addAll(writePositions.get(i));
+      } else {
+        restoredTisIds.remove(writes.get(i).tisId());
+      }
+    }
+
+    excludedReferences.deleteAll(name, restoredTisIds);
+    recordOperation(sample, "apply-events", events.size());
+    return persistedPositions;
+  }
+
+  /**
+   * Apply a batch of upserts and deletes using a single bulk write, e.g. for a full reload.
+   *
+   * <p>Upserted entities are prepared before they are written, see {@link #prepareWrite(Object)}.
+   * If a TIS ID is written more than once only the last write is applied, and its result is
+   * shared by every position with that TIS ID.
+   *
+   * @param writes The writes to apply.
+   * @return The positions of any writes which failed, empty if all writes succeeded.
+   */
+  public Set<Integer> writeAll(List<ReferenceWrite<T>> writes) {
+    Timer.Sample sample = startOperation();
+    Map<String, List<Integer>> positionsByTisId = new LinkedHashMap<>();
+
+    for (int i = 0; i < writes.size(); i++) {
+      positionsByTisId.computeIfAbsent(writes.get(i).tisId(), k -> new ArrayList<>()).add(i);
+    }
+
+    List<ReferenceWrite<T>> uniqueWrites = new ArrayList<>();
+    List<List<Integer>> uniquePositions = new ArrayList<>();
+
+    for (List<Integer> positions : positionsByTisId.values()) {
+      ReferenceWrite<T> write = writes.get(positions.get(positions.size() - 1));
+      uniqueWrites.add(write.isDelete() ? write
+          : ReferenceWrite.upsert(write.tisId(), prepareWrite(write.entity())));
+      uniquePositions.add(positions);
+    }
+
+    if (uniqueWrites.isEmpty()) {
+      return Set.of();
+    }
+
+    Set<Integer> failedWrites = repository.bulkWriteByTisId(uniqueWrites);
+    invalidateCache();
+
+    Set<Integer> failedPositions = new HashSet<>();
+    List<String> writtenTisIds = new ArrayList<>();
+
+    for (int i = 0; i < uniqueWrites.size(); i++) {
+      ReferenceWrite<T> write = uniqueWrites.get(i);
+
+      if (failedWrites.contains(i)) {
+        log.warn("Unable to write entity with tisId [{}].", write.tisId());
+        failedPositions.addAll(uniquePositions.get(i));
+        continue;
+      }
+
+      writtenTisIds.add(write.tisId());
+
+      if (!write.isDelete()) {
+        afterWrite(write.entity());
+      }
+    }
+
+    recordChanges(writtenTisIds);
+    recordOperation(sample, "write-all", uniqueWrites.size());
+    return failedPositions;
+  }
+
+  /**
+   * Apply a single CDC event to the current state of an entity.
+   *
+   * @param tisId The TIS ID of the entity.
+   * @param dto   The current state of the entity, null if it does not exist.
+   * @param event The event to apply.
+   * @return The new state of the entity, null if it has been deleted.
+   * @throws ExcludedEntityException If the entity does not exist and would not be retained.
+   * @throws JsonProcessingException If the entity cannot be serialised or deserialised.
+   * @throws JsonPatchException      If the patch cannot be applied.
+   */
+  private D applyEvent(String tisId, D dto, CdcEvent event)
+      throws JsonPatchException, JsonProcessingException {
+    D patchTarget = switch (event.getEventType()) {
+      case INSERT -> getPatchMapper().toPatchDto(newEntity());
+      case DELETE -> null;
+      case UPDATE -> {
+        if (dto == null) {
+          throw unknownEntity(tisId, event);
+        }
+        yield dto;
+      }
+    };
+
+    if (patchTarget == null) {
+      return null;
+    }
+
+    D patchedDto = applyEventToDto(patchTarget, event);
+    verifyTisId(getPatchMapper().toEntity(patchedDto), tisId);
+    return patchedDto;
+  }
+
+  /**
+   * Create the exception for an update to an unknown entity. If the patched result would not be
+   * retained then the entity was excluded before it could be stored, and the update can be safely
+   * skipped, otherwise the entity really is unknown.
+   *
+   * @param tisId The TIS ID of the entity.
+   * @param event The update event.
+   * @return The exception to throw.
+   * @throws JsonProcessingException If the entity cannot be serialised or deserialised.
+   * @throws JsonPatchException      If the patch cannot be applied.
+   */
+  private RuntimeException unknownEntity(String tisId, CdcEvent event)
+      throws JsonPatchException, JsonProcessingException {
+    D patchedDto = patchApplier.apply(getPatchMapper().toPatchDto(newEntity()), event);
+
+    if (!isRetained(patchedDto)) {
+      return new ExcludedEntityException();
+    }
+    return new IllegalArgumentException("Unknown entity for tisId [%s].".formatted(tisId));
+  }
+
+  /**
+   * Verify that a patched entity still has the expected TIS ID.
+   *
+   * @param patchedEntity The patched entity.
+   * @param tisId         The expected TIS ID.
+   */
+  private void verifyTisId(T patchedEntity, String tisId) {
     String patchedTisId = getTisId(patchedEntity);
 
     if (patchedTisId == null || !patchedTisId.equals(tisId)) {
@@ -113,8 +646,6 @@ public abstract class AbstractReferenceService<T, D> implements ReferenceService
           "Patched entity tisId [%s] does not match expected tisId [%s]."
               .formatted(patchedTisId, tisId));
     }
-
-    return repository.save(patchedEntity);
   }
 
   /**
@@ -126,23 +657,67 @@ public abstract class AbstractReferenceService<T, D> implements ReferenceService
    * @throws JsonProcessingException If the entity cannot be serialised or deserialised.
    * @throws JsonPatchException      If the patch cannot be applied.
    */
-  private T applyPatch(T entity, JsonPatch patch)
+  T applyPatch(T entity, JsonPatch patch)
       throws JsonProcessingException, JsonPatchException {
-    PatchMapper<T, D> patchMapper = getPatchMapper();
-    D dto = patchMapper.toPatchDto(entity);
-    JsonNode dtoNode = mapper.convertValue(dto, JsonNode.class);
-    JsonNode patchedNode = patch.apply(dtoNode);
+    return getPatchMapper().toEntity(applyPatchToDto(entity, patch));
+  }
+
+  /**
+   * Applies a JSON patch to the patch DTO of an entity and returns the patched DTO.
+   *
+   * @param entity The entity to patch.
+   * @param patch  The patch to apply.
+   * @return The patched DTO.
+   * @throws JsonProcessingException If the entity cannot be serialised or deserialised.
+   * @throws JsonPatchException      If the patch cannot be applied.
+   */
+  private D applyPatchToDto(T entity, JsonPatch patch)
+      throws JsonProcessingException, JsonPatchException {
+    Timer.Sample sample = startOperation();
+    D dto = getPatchMapper().toPatchDto(entity);
+    return completePatch(sample, dto, patchApplier.apply(dto, patch));
+  }
 
-    D patchedDto = (D) mapper.treeToValue(patchedNode, dto.getClass());
+  /**
+   * Applies the patch of a CDC event to the patch DTO of an entity and returns the patched DTO.
+   * The event's parsed operations are applied directly, without converting them to a JSON tree.
+   *
+   * @param dto   The patch DTO to patch.
+   * @param event The event to apply.
+   * @return The patched DTO.
+   * @throws JsonProcessingException If the entity cannot be serialised or deserialised.
+   * @throws JsonPatchException      If the patch cannot be applied.
+   */
+  private D applyEventToDto(D dto, CdcEvent event)
+      throws JsonProcessingException, JsonPatchException {
+    Timer.Sample sample = startOperation();
+    return completePatch(sample, dto, patchApplier.apply(dto, event));
+  }
 
-    patchMapper.copyEntityId(dto, patchedDto);
+  /**
+   * Complete a patch, keeping the entity ID of the original DTO and recording the operation.
+   *
+   * @param sample     The timer sample started when the patch started.
+   * @param dto        The DTO before it was patched.
+   * @param patchedDto The patched DTO.
+   * @return The patched DTO.
+   */
+  private D completePatch(Timer.Sample sample, D dto, D patchedDto) {
+    // Only needed when the patch replaced the DTO instead of patching it in place.
+    getPatchMapper().copyEntityId(dto, patchedDto);
 
-    return patchMapper.toEntity(patchedDto);
+    recordOperation(sample, "patch", 1);
+    return patchedDto;
   }
 
   @Override
   public void deleteByTisId(String tisId) {
+    Timer.Sample sample = startOperation();
     repository.deleteByTisId(tisId);
+    excludedReferences.deleteAll(name, List.of(tisId));
+    invalidateCache();
+    recordChanges(List.of(tisId));
+    recordOperation(sample, "delete", 1);
   }
 
   /**
@@ -150,9 +725,44 @@ public abstract class AbstractReferenceService<T, D> implements ReferenceService
    *
    * @return The patch mapper.
    */
-  protected PatchMapper<T, D> getPatchMapper() {
-    // TODO: make abstract once existing implementations are migrated.
-    throw new NotImplementedException("Patch mapping is not implemented for this entity type.");
+  protected abstract PatchMapper<T, D> getPatchMapper();
+
+  /**
+   * Create a new, empty, entity to apply insert patches to.
+   *
+   * @return The new entity.
+   */
+  protected abstract T newEntity();
+
+  /**
+   * Whether a patched entity should be retained, entities which are not retained are excluded. This
+   * applies the same rules as the validation of full-record writes, but as patches may only
+   * contain the changed fields only fields which are present should be validated.
+   *
+   * @param patchedDto The patched DTO to check.
+   * @return true if the entity should be retained, else false.
+   */
+  protected boolean isRetained(D patchedDto) {
+    return true;
+  }
+
+  /**
+   * Prepare an entity for a bulk write, e.g. by populating denormalised fields.
+   *
+   * @param entity The entity to prepare.
+   * @return The prepared entity.
+   */
+  protected T prepareWrite(T entity) {
+    return entity;
+  }
+
+  /**
+   * Handle any side effects of an entity being written by a bulk write.
+   *
+   * @param entity The written entity.
+   */
+  protected void afterWrite(T entity) {
+    // No side effects by default.
   }
 
   /**
@@ -164,10 +774,13 @@ public abstract class AbstractReferenceService<T, D> implements ReferenceService
   protected abstract String getTisId(T entity);
 
   /**
-   * Copy the attributes from one entity to the other.
-   *
-   * @param target The entity to copy attributes to.
-   * @param source The entity to copy attributes from.
+   * Thrown when an event cannot be applied to an unknown entity, which would not be retained even
+   * if it were known, so the event can be safely skipped.
    */
-  protected abstract void copyAttributes(T target, T source);
+  private static class ExcludedEntityException extends RuntimeException {
+
+    ExcludedEntityException() {
+      super(null, null, false, false);
+    }
+  }
 }
@@ -51,12 +51,12 @@ public class CollegeService extends AbstractReferenceService<College, CollegePat
   }
 
   @Override
-  protected String getTisId(College entity) {
-    return entity.getTisId();
+  protected College newEntity() {
+    return new College();
   }
 
   @Override
-  protected void copyAttributes(College target, College source) {
-    mapper.update(target, source);
+  protected String getTisId(College entity) {
+    return entity.getTisId();
   }
 }
@@ -22,7 +22,9 @@
 package uk.nhs.hee.tis.trainee.reference.service;
 
 import com.amazonaws.xray.spring.aop.XRayEnabled;
+import java.time.Duration;
 import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import uk.nhs.hee.tis.trainee.reference.model.CovidChangeCircumstance;
@@ -33,13 +35,52 @@ import uk.nhs.hee.tis.trainee.reference.repository.CovidChangeCircumstanceReposi
 public class CovidChangeCircumstanceService {
 
   CovidChangeCircumstanceRepository changeCircumstanceRepository;
+  private final ReferenceSnapshotCache<CovidChangeCircumstance> cache =
+      new ReferenceSnapshotCache<>("CovidChangeCircumstance", Duration.ofMinutes(5));
 
   public CovidChangeCircumstanceService(
       CovidChangeCircumstanceRepository changeCircumstanceRepository) {
     this.changeCircumstanceRepository = changeCircumstanceRepository;
   }
 
+  /**
+   * Set the maximum age of the cached snapshot.
+   *
+   * @param snapshotTtl The snapshot time-to-live, a zero duration disables caching.
+   */
+  @Value("${application.cache.snapshot-ttl}")
+  void setSnapshotTtl(Duration snapshotTtl) {
+    cache.setTtl(snapshotTtl);
+  }
+
   public List<CovidChangeCircumstance> getCovidChangeCircumstances() {
-    return changeCircumstanceRepository.findAll(Sort.by("label"));
+    return getSnapshot().entities();
+  }
+
+  /**
+   * Get the current snapshot of all entities, these are only written by change logs so are
+   * otherwise only refreshed when the snapshot expires.
+   *
+   * @return The current snapshot.
+   */
+  public ReferenceSnapshot<CovidChangeCircumstance> getSnapshot() {
+    return cache.get(() -> changeCircumstanceRepository.findAll(Sort.by("label")));
+  }
+
+  /**
+   * Get the snapshot cache backing this service's reads.
+   *
+   * @return The snapshot cache.
+   */
+  public ReferenceSnapshotCache<CovidChangeCircumstance> getSnapshotCache() {
+    return cache;
+  }
+
+  /**
+   * Invalidate the snapshot cache after the collection is written, e.g. by a change log run on
+   * another instance.
+   */
+  void invalidateCache() {
+    cache.invalidate();
   }
 }
@@ -23,8 +23,12 @@ package uk.nhs.hee.tis.trainee.reference.service;
 
 import com.amazonaws.xray.spring.aop.XRayEnabled;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Set;
 import org.springframework.stereotype.Service;
+import uk.nhs.hee.tis.trainee.reference.dto.CurriculumPatchDto;
+import uk.nhs.hee.tis.trainee.reference.dto.Status;
 import uk.nhs.hee.tis.trainee.reference.mapper.CurriculumMapper;
+import uk.nhs.hee.tis.trainee.reference.mapper.PatchMapper;
 import uk.nhs.hee.tis.trainee.reference.model.Curriculum;
 import uk.nhs.hee.tis.trainee.reference.repository.CurriculumRepository;
 
@@ -33,7 +37,10 @@ import uk.nhs.hee.tis.trainee.reference.repository.CurriculumRepository;
  */
 @Service
 @XRayEnabled
-public class CurriculumService extends AbstractReferenceService<Curriculum, Curriculum> {
+public class CurriculumService extends AbstractReferenceService<Curriculum, CurriculumPatchDto> {
+
+  private static final Set<String> RETAINED_SUB_TYPES = Set.of("MEDICAL_CURRICULUM",
+      "SUB_SPECIALTY");
 
   private final CurriculumMapper mapper;
 
@@ -44,12 +51,32 @@ public class CurriculumService extends AbstractReferenceService<Curriculum, Curr
   }
 
   @Override
-  protected String getTisId(Curriculum entity) {
-    return entity.getTisId();
+  protected PatchMapper<Curriculum, CurriculumPatchDto> getPatchMapper() {
+    return mapper;
+  }
+
+  @Override
+  protected Curriculum newEntity() {
+    return new Curriculum();
   }
 
+  /**
+   * Curricula are retained only when current medical or sub-specialty curricula, matching the
+   * validation of full-record writes.
+   *
+   * @param patchedDto The patched DTO to check.
+   * @return true if the curriculum should be retained, else false.
+   */
   @Override
-  protected void copyAttributes(Curriculum target, Curriculum source) {
-    mapper.update(target, source);
+  protected boolean isRetained(CurriculumPatchDto patchedDto) {
+    Status status = patchedDto.getStatus();
+    String subType = patchedDto.getCurriculumSubType();
+    return (status == null || status == Status.CURRENT)
+        && (subType == null || RETAINED_SUB_TYPES.contains(subType));
+  }
+
+  @Override
+  protected String getTisId(Curriculum entity) {
+    return entity.getTisId();
   }
 }
@@ -24,7 +24,9 @@ package uk.nhs.hee.tis.trainee.reference.service;
 import com.amazonaws.xray.spring.aop.XRayEnabled;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.stereotype.Service;
+import uk.nhs.hee.tis.trainee.reference.dto.DbcPatchDto;
 import uk.nhs.hee.tis.trainee.reference.mapper.DbcMapper;
+import uk.nhs.hee.tis.trainee.reference.mapper.PatchMapper;
 import uk.nhs.hee.tis.trainee.reference.model.Dbc;
 import uk.nhs.hee.tis.trainee.reference.repository.DbcRepository;
 
@@ -33,7 +35,7 @@ import uk.nhs.hee.tis.trainee.reference.repository.DbcRepository;
  */
 @Service
 @XRayEnabled
-public class DbcService extends AbstractReferenceService<Dbc, Dbc> {
+public class DbcService extends AbstractReferenceService<Dbc, DbcPatchDto> {
 
   private final DbcMapper mapper;
 
@@ -44,12 +46,17 @@ public class DbcService extends AbstractReferenceService<Dbc, Dbc> {
   }
 
   @Override
-  protected String getTisId(Dbc entity) {
-    return entity.getTisId();
+  protected PatchMapper<Dbc, DbcPatchDto> getPatchMapper() {
+    return mapper;
   }
 
   @Override
-  protected void copyAttributes(Dbc target, Dbc source) {
-    mapper.update(target, source);
+  protected Dbc newEntity() {
+    return new Dbc();
+  }
+
+  @Override
+  protected String getTisId(Dbc entity) {
+    return entity.getTisId();
   }
 }
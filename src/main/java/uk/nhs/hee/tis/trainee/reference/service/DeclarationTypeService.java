@@ -22,7 +22,9 @@
 package uk.nhs.hee.tis.trainee.reference.service;
 
 import com.amazonaws.xray.spring.aop.XRayEnabled;
+import java.time.Duration;
 import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import uk.nhs.hee.tis.trainee.reference.model.DeclarationType;
@@ -33,12 +35,51 @@ import uk.nhs.hee.tis.trainee.reference.repository.DeclarationTypeRepository;
 public class DeclarationTypeService {
 
   private DeclarationTypeRepository declarationTypeRepository;
+  private final ReferenceSnapshotCache<DeclarationType> cache =
+      new ReferenceSnapshotCache<>("DeclarationType", Duration.ofMinutes(5));
 
   public DeclarationTypeService(DeclarationTypeRepository declarationTypeRepository) {
     this.declarationTypeRepository = declarationTypeRepository;
   }
 
+  /**
+   * Set the maximum age of the cached snapshot.
+   *
+   * @param snapshotTtl The snapshot time-to-live, a zero duration disables caching.
+   */
+  @Value("${application.cache.snapshot-ttl}")
+  void setSnapshotTtl(Duration snapshotTtl) {
+    cache.setTtl(snapshotTtl);
+  }
+
   public List<DeclarationType> getDeclarationType() {
-    return declarationTypeRepository.findAll(Sort.by("label"));
+    return getSnapshot().entities();
+  }
+
+  /**
+   * Get the current snapshot of all entities, these are only written by change logs so are
+   * otherwise only refreshed when the snapshot expires.
+   *
+   * @return The current snapshot.
+   */
+  public ReferenceSnapshot<DeclarationType> getSnapshot() {
+    return cache.get(() -> declarationTypeRepository.findAll(Sort.by("label")));
+  }
+
+  /**
+   * Get the snapshot cache backing this service's reads.
+   *
+   * @return The snapshot cache.
+   */
+  public ReferenceSnapshotCache<DeclarationType> getSnapshotCache() {
+    return cache;
+  }
+
+  /**
+   * Invalidate the snapshot cache after the collection is written, e.g. by a change log run on
+   * another instance.
+   */
+  void invalidateCache() {
+    cache.invalidate();
   }
 }
@@ -0,0 +1,124 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.reference.service;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+import java.time.Clock;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+import uk.nhs.hee.tis.trainee.reference.model.ExcludedReference;
+
+/**
+ * A store of the reference records excluded from their reference collections, so CDC updates to
+ * an excluded record can be applied to its full state instead of failing as an unknown entity.
+ */
+@Slf4j
+@Component
+public class ExcludedReferenceStore {
+
+  static final String ID_FIELD = "_id";
+  static final String TYPE_FIELD = "type";
+  static final String TIS_ID_FIELD = "tisId";
+  static final String RECORD_FIELD = "record";
+  static final String EXCLUDED_AT_FIELD = "excludedAt";
+
+  private final MongoOperations mongoOperations;
+  private final Clock clock;
+
+  ExcludedReferenceStore(MongoOperations mongoOperations, Clock clock) {
+    this.mongoOperations = mongoOperations;
+    this.clock = clock;
+  }
+
+  /**
+   * Find the excluded records with the given TIS IDs.
+   *
+   * @param type   The reference type of the records.
+   * @param tisIds The TIS IDs to find.
+   * @return The excluded records found, records which are not excluded are omitted.
+   */
+  public List<ExcludedReference> findAll(String type, Collection<String> tisIds) {
+    if (tisIds.isEmpty()) {
+      return List.of();
+    }
+
+    List<String> ids = tisIds.stream()
+        .map(tisId -> ExcludedReference.createId(type, tisId))
+        .toList();
+    return mongoOperations.find(Query.query(where(ID_FIELD).in(ids)), ExcludedReference.class);
+  }
+
+  /**
+   * Insert or replace the excluded records with the given TIS IDs.
+   *
+   * @param type    The reference type of the records.
+   * @param records The records to store, keyed by TIS ID.
+   */
+  public void saveAll(String type, Map<String, Map<String, Object>> records) {
+    if (records.isEmpty()) {
+      return;
+    }
+
+    BulkOperations bulkOperations = mongoOperations.bulkOps(BulkMode.UNORDERED,
+        ExcludedReference.class);
+
+    records.forEach((tisId, excludedRecord) -> {
+      Query query = Query.query(where(ID_FIELD).is(ExcludedReference.createId(type, tisId)));
+      Update update = new Update()
+          .set(TYPE_FIELD, type)
+          .set(TIS_ID_FIELD, tisId)
+          .set(RECORD_FIELD, excludedRecord)
+          .set(EXCLUDED_AT_FIELD, clock.instant());
+      bulkOperations.upsert(query, update);
+    });
+
+    bulkOperations.execute();
+    log.debug("Stored {} excluded {} record(s).", records.size(), type);
+  }
+
+  /**
+   * Delete the excluded records with the given TIS IDs, if they exist.
+   *
+   * @param type   The reference type of the records.
+   * @param tisIds The TIS IDs to delete.
+   */
+  public void deleteAll(String type, Collection<String> tisIds) {
+    if (tisIds.isEmpty()) {
+      return;
+    }
+
+    List<String> ids = tisIds.stream()
+        .map(tisId -> ExcludedReference.createId(type, tisId))
+        .toList();
+    mongoOperations.remove(Query.query(where(ID_FIELD).in(ids)), ExcludedReference.class);
+    log.debug("Deleted up to {} excluded {} record(s).", ids.size(), type);
+  }
+}
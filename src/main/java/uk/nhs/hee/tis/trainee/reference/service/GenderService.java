@@ -24,7 +24,9 @@ package uk.nhs.hee.tis.trainee.reference.service;
 import com.amazonaws.xray.spring.aop.XRayEnabled;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.stereotype.Service;
+import uk.nhs.hee.tis.trainee.reference.dto.GenderPatchDto;
 import uk.nhs.hee.tis.trainee.reference.mapper.GenderMapper;
+import uk.nhs.hee.tis.trainee.reference.mapper.PatchMapper;
 import uk.nhs.hee.tis.trainee.reference.model.Gender;
 import uk.nhs.hee.tis.trainee.reference.repository.GenderRepository;
 
@@ -33,7 +35,7 @@ import uk.nhs.hee.tis.trainee.reference.repository.GenderRepository;
  */
 @Service
 @XRayEnabled
-public class GenderService extends AbstractReferenceService<Gender, Gender> {
+public class GenderService extends AbstractReferenceService<Gender, GenderPatchDto> {
 
   private final GenderMapper mapper;
 
@@ -44,12 +46,17 @@ public class GenderService extends AbstractReferenceService<Gender, Gender> {
   }
 
   @Override
-  protected String getTisId(Gender entity) {
-    return entity.getTisId();
+  protected PatchMapper<Gender, GenderPatchDto> getPatchMapper() {
+    return mapper;
   }
 
   @Override
-  protected void copyAttributes(Gender target, Gender source) {
-    mapper.update(target, source);
+  protected Gender newEntity() {
+    return new Gender();
+  }
+
+  @Override
+  protected String getTisId(Gender entity) {
+    return entity.getTisId();
   }
 }
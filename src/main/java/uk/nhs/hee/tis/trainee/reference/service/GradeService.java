@@ -24,7 +24,10 @@ package uk.nhs.hee.tis.trainee.reference.service;
 import com.amazonaws.xray.spring.aop.XRayEnabled;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.stereotype.Service;
+import uk.nhs.hee.tis.trainee.reference.dto.GradePatchDto;
+import uk.nhs.hee.tis.trainee.reference.dto.Status;
 import uk.nhs.hee.tis.trainee.reference.mapper.GradeMapper;
+import uk.nhs.hee.tis.trainee.reference.mapper.PatchMapper;
 import uk.nhs.hee.tis.trainee.reference.model.Grade;
 import uk.nhs.hee.tis.trainee.reference.repository.GradeRepository;
 
@@ -33,7 +36,7 @@ import uk.nhs.hee.tis.trainee.reference.repository.GradeRepository;
  */
 @Service
 @XRayEnabled
-public class GradeService extends AbstractReferenceService<Grade, Grade> {
+public class GradeService extends AbstractReferenceService<Grade, GradePatchDto> {
 
   private final GradeMapper mapper;
 
@@ -44,12 +47,32 @@ public class GradeService extends AbstractReferenceService<Grade, Grade> {
   }
 
   @Override
-  protected String getTisId(Grade entity) {
-    return entity.getTisId();
+  protected PatchMapper<Grade, GradePatchDto> getPatchMapper() {
+    return mapper;
+  }
+
+  @Override
+  protected Grade newEntity() {
+    return new Grade();
   }
 
+  /**
+   * Grades are retained only when current, placement and training grades, matching the validation
+   * of full-record writes.
+   *
+   * @param patchedDto The patched DTO to check.
+   * @return true if the grade should be retained, else false.
+   */
   @Override
-  protected void copyAttributes(Grade target, Grade source) {
-    mapper.update(target, source);
+  protected boolean isRetained(GradePatchDto patchedDto) {
+    Status status = patchedDto.getStatus();
+    return (status == null || status == Status.CURRENT)
+        && !Boolean.FALSE.equals(patchedDto.getPlacementGrade())
+        && !Boolean.FALSE.equals(patchedDto.getTrainingGrade());
+  }
+
+  @Override
+  protected String getTisId(Grade entity) {
+    return entity.getTisId();
   }
 }
@@ -23,7 +23,9 @@ package uk.nhs.hee.tis.trainee.reference.service;
 import com.amazonaws.xray.spring.aop.XRayEnabled;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.stereotype.Service;
+import uk.nhs.hee.tis.trainee.reference.dto.ImmigrationStatusPatchDto;
 import uk.nhs.hee.tis.trainee.reference.mapper.ImmigrationStatusMapper;
+import uk.nhs.hee.tis.trainee.reference.mapper.PatchMapper;
 import uk.nhs.hee.tis.trainee.reference.model.ImmigrationStatus;
 import uk.nhs.hee.tis.trainee.reference.repository.ImmigrationStatusRepository;
 
@@ -33,7 +35,7 @@ import uk.nhs.hee.tis.trainee.reference.repository.ImmigrationStatusRepository;
 @Service
 @XRayEnabled
 public class ImmigrationStatusService
-    extends AbstractReferenceService<ImmigrationStatus, ImmigrationStatus> {
+    extends AbstractReferenceService<ImmigrationStatus, ImmigrationStatusPatchDto> {
 
   private final ImmigrationStatusMapper mapper;
 
@@ -44,12 +46,17 @@ public class ImmigrationStatusService
   }
 
   @Override
-  protected String getTisId(ImmigrationStatus entity) {
-    return entity.getTisId();
+  protected PatchMapper<ImmigrationStatus, ImmigrationStatusPatchDto> getPatchMapper() {
+    return mapper;
   }
 
   @Override
-  protected void copyAttributes(ImmigrationStatus target, ImmigrationStatus source) {
-    mapper.update(target, source);
+  protected ImmigrationStatus newEntity() {
+    return new ImmigrationStatus();
+  }
+
+  @Override
+  protected String getTisId(ImmigrationStatus entity) {
+    return entity.getTisId();
   }
 }
@@ -0,0 +1,284 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.reference.service;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMethod;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.github.fge.jsonpatch.JsonPatch;
+import com.github.fge.jsonpatch.JsonPatchException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import uk.nhs.hee.tis.trainee.reference.dto.CdcEvent;
+import uk.nhs.hee.tis.trainee.reference.dto.PatchOperation;
+
+/**
+ * Applies JSON patches to flat patch DTOs.
+ *
+ * <p>The DTO's properties are resolved once, so that {@code add}, {@code replace} and
+ * {@code remove} operations on top-level properties, and {@code add}/{@code replace} of the whole
+ * document, are applied directly through the DTO's setters. Patches containing any other
+ * operation or path are applied by converting the DTO to a JSON tree and back, which gives the
+ * full JSON patch semantics at a higher cost.
+ *
+ * <p>CDC events are compiled from the operation fields parsed with the event, see
+ * {@link CdcEvent#getOperationsWithoutTests()}, so no operation is converted to a JSON tree.
+ *
+ * @param <D> The patch DTO type.
+ */
+@Slf4j
+public final class JsonPatchApplier<D> {
+
+  private static final String ROOT_PATH = "";
+
+  private final Class<D> dtoType;
+  private final ObjectMapper mapper;
+  private final Map<String, PropertySetter> settersByPath;
+  private final boolean ignoreUnknown;
+
+  /**
+   * Create a patch applier for the given DTO type.
+   *
+   * @param dtoType The type of the patch DTO.
+   * @param mapper  The object mapper used to convert patch values.
+   */
+  public JsonPatchApplier(Class<D> dtoType, ObjectMapper mapper) {
+    this.dtoType = dtoType;
+    this.mapper = mapper;
+
+    DeserializationConfig config = mapper.getDeserializationConfig();
+    BeanDescription description = config.introspect(mapper.constructType(dtoType));
+    settersByPath = new HashMap<>();
+
+    for (BeanPropertyDefinition property : description.findProperties()) {
+      AnnotatedMethod setter = property.getSetter();
+
+      if (setter != null) {
+        JavaType propertyType = property.getPrimaryType();
+
+        try {
+          Object removedValue = mapper.treeToValue(NullNode.getInstance(), propertyType);
+          settersByPath.put("/" + property.getName(),
+              new PropertySetter(setter, propertyType, removedValue));
+        } catch (JsonProcessingException e) {
+          log.debug("Property '{}' of {} will be patched as a tree.", property.getName(),
+              dtoType.getSimpleName());
+        }
+      }
+    }
+
+    JsonIgnoreProperties.Value ignorals = config.getDefaultPropertyIgnorals(dtoType,
+        description.getClassInfo());
+    ignoreUnknown = ignorals.getIgnoreUnknown()
+        || !config.isEnabled(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+  }
+
+  /**
+   * Apply a patch to a DTO, the DTO may be modified in place.
+   *
+   * @param dto   The DTO to patch.
+   * @param patch The patch to apply.
+   * @return The patched DTO, which may be a different instance to the given DTO.
+   * @throws JsonProcessingException If a patch value cannot be converted to the DTO's types.
+   * @throws JsonPatchException      If the patch cannot be applied.
+   */
+  public D apply(D dto, JsonPatch patch) throws JsonProcessingException, JsonPatchException {
+    JsonNode operationNodes = mapper.valueToTree(patch);
+    List<PatchOperation> operations = new ArrayList<>(operationNodes.size());
+
+    for (JsonNode operation : operationNodes) {
+      operations.add(new PatchOperation(operation.path("op").asText(),
+          operation.path("path").asText(), operation.get("value")));
+    }
+
+    return apply(dto, operations, patch);
+  }
+
+  /**
+   * Apply the patch of a CDC event to a DTO, the DTO may be modified in place. The event's test
+   * operations are not applied.
+   *
+   * @param dto   The DTO to patch.
+   * @param event The event to apply.
+   * @return The patched DTO, which may be a different instance to the given DTO.
+   * @throws JsonProcessingException If a patch value cannot be converted to the DTO's types.
+   * @throws JsonPatchException      If the patch cannot be applied.
+   */
+  public D apply(D dto, CdcEvent event) throws JsonProcessingException, JsonPatchException {
+    return apply(dto, event.getOperationsWithoutTests(), event.getPatchWithoutTests());
+  }
+
+  /**
+   * Apply parsed patch operations to a DTO, falling back to applying the equivalent patch as a
+   * tree when the operations cannot be compiled.
+   *
+   * @param dto        The DTO to patch.
+   * @param operations The parsed patch operations.
+   * @param patch      The patch equivalent to the operations.
+   * @return The patched DTO, which may be a different instance to the given DTO.
+   * @throws JsonProcessingException If a patch value cannot be converted to the DTO's types.
+   * @throws JsonPatchException      If the patch cannot be applied.
+   */
+  private D apply(D dto, List<PatchOperation> operations, JsonPatch patch)
+      throws JsonProcessingException, JsonPatchException {
+    List<PatchStep> steps = compile(operations);
+
+    if (steps == null) {
+      return applyToTree(dto, patch);
+    }
+
+    D patchedDto = dto;
+
+    for (PatchStep step : steps) {
+      if (step.setter() == null) {
+        patchedDto = dtoType.cast(step.value());
+      } else {
+        step.setter().set(patchedDto, step.value());
+      }
+    }
+
+    return patchedDto;
+  }
+
+  /**
+   * Apply a patch to a DTO by converting it to a JSON tree, patching the tree and converting it
+   * back to a new DTO.
+   *
+   * @param dto   The DTO to patch.
+   * @param patch The patch to apply.
+   * @return The patched DTO.
+   * @throws JsonProcessingException If the patched tree cannot be converted to the DTO type.
+   * @throws JsonPatchException      If the patch cannot be applied.
+   */
+  public D applyToTree(D dto, JsonPatch patch) throws JsonProcessingException, JsonPatchException {
+    JsonNode dtoNode = mapper.convertValue(dto, JsonNode.class);
+    JsonNode patchedNode = patch.apply(dtoNode);
+    return mapper.treeToValue(patchedNode, dtoType);
+  }
+
+  /**
+   * Compile patch operations to steps which can be applied directly to the DTO. All patch values
+   * are converted before any step is applied, so a failed conversion leaves the DTO unchanged.
+   *
+   * @param operations The parsed patch operations.
+   * @return The compiled steps, or null if any of the operations must be applied as a tree.
+   * @throws JsonProcessingException If a patch value cannot be converted to the DTO's types.
+   */
+  private List<PatchStep> compile(List<PatchOperation> operations)
+      throws JsonProcessingException {
+    List<PatchStep> steps = new ArrayList<>(operations.size());
+
+    for (PatchOperation operation : operations) {
+      String op = operation.op();
+      String path = operation.path();
+      JsonNode value = operation.value();
+
+      if (path.equals(ROOT_PATH)) {
+        if ((op.equals("add") || op.equals("replace")) && value != null) {
+          steps.add(new PatchStep(null, mapper.treeToValue(value, dtoType)));
+          continue;
+        }
+        return null;
+      }
+
+      PropertySetter setter = settersByPath.get(path);
+
+      if (setter == null) {
+        // Unknown properties would be discarded when converting the patched tree back to a DTO.
+        if (op.equals("add") && ignoreUnknown && path.lastIndexOf('/') == 0) {
+          continue;
+        }
+        return null;
+      }
+
+      switch (op) {
+        case "add", "replace" -> {
+          if (value == null) {
+            return null;
+          }
+          steps.add(new PatchStep(setter, convert(setter, value)));
+        }
+        case "remove" -> steps.add(new PatchStep(setter, setter.removedValue()));
+        default -> {
+          return null;
+        }
+      }
+    }
+
+    return steps;
+  }
+
+  /**
+   * Convert a patch value to the type of a property.
+   *
+   * @param setter The setter of the property.
+   * @param value  The patch value.
+   * @return The converted value.
+   * @throws JsonProcessingException If the value cannot be converted.
+   */
+  private Object convert(PropertySetter setter, JsonNode value) throws JsonProcessingException {
+    if (value.isNull()) {
+      return setter.removedValue();
+    }
+
+    if (value.isTextual() && setter.type().hasRawClass(String.class)) {
+      return value.textValue();
+    }
+
+    return mapper.treeToValue(value, setter.type());
+  }
+
+  /**
+   * A compiled patch step.
+   *
+   * @param setter The setter to apply the value with, or null if the value replaces the DTO.
+   * @param value  The converted value.
+   */
+  private record PatchStep(PropertySetter setter, Object value) {
+
+  }
+
+  /**
+   * A setter for a single DTO property.
+   *
+   * @param setter       The DTO's setter method.
+   * @param type         The type of the property.
+   * @param removedValue The value equivalent to the property being absent from the JSON.
+   */
+  private record PropertySetter(AnnotatedMethod setter, JavaType type, Object removedValue) {
+
+    void set(Object dto, Object value) {
+      setter.setValue(dto, value);
+    }
+  }
+}
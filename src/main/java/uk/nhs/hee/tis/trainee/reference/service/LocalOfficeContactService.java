@@ -26,12 +26,20 @@ import static uk.nhs.hee.tis.trainee.reference.dto.TraineeType.SPECIALTY;
 
 import com.amazonaws.xray.spring.aop.XRayEnabled;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import uk.nhs.hee.tis.trainee.reference.dto.LocalOfficeContactDetailsDto;
+import uk.nhs.hee.tis.trainee.reference.dto.LocalOfficeContactPatchDto;
 import uk.nhs.hee.tis.trainee.reference.dto.TraineeType;
 import uk.nhs.hee.tis.trainee.reference.facade.LocalOfficeContactEnricherFacade;
 import uk.nhs.hee.tis.trainee.reference.mapper.LocalOfficeContactMapper;
+import uk.nhs.hee.tis.trainee.reference.mapper.PatchMapper;
 import uk.nhs.hee.tis.trainee.reference.model.LocalOffice;
 import uk.nhs.hee.tis.trainee.reference.model.LocalOfficeContact;
 import uk.nhs.hee.tis.trainee.reference.model.LocalOfficeContactType;
@@ -44,9 +52,7 @@ import uk.nhs.hee.tis.trainee.reference.repository.LocalOfficeContactRepository;
 @XRayEnabled
 @Slf4j
 public class LocalOfficeContactService
-    extends AbstractReferenceService<LocalOfficeContact, LocalOfficeContact> {
-
-  private static final String FOUNDATION_LABEL_SUFFIX = " - Foundation";
+    extends AbstractReferenceService<LocalOfficeContact, LocalOfficeContactPatchDto> {
 
   private final LocalOfficeContactMapper mapper;
   private final LocalOfficeContactRepository repository;
@@ -73,52 +79,120 @@ public class LocalOfficeContactService
    * @return The list of local office contacts matching the trainee type.
    */
   public List<LocalOfficeContact> get(TraineeType traineeType) {
-    return filterByTraineeType(super.get(), traineeType);
+    return get(getSnapshot(), traineeType);
+  }
+
+  /**
+   * Get the local office contacts of the given snapshot, filtered by trainee type, so a response
+   * body matches the snapshot its ETag was derived from.
+   *
+   * @param snapshot    The snapshot to filter.
+   * @param traineeType The trainee type to filter by.
+   * @return The list of local office contacts in the snapshot matching the trainee type.
+   */
+  public List<LocalOfficeContact> get(ReferenceSnapshot<LocalOfficeContact> snapshot,
+      TraineeType traineeType) {
+    TraineeType storedType = toStoredTraineeType(traineeType);
+    return snapshot.entities().stream()
+        .filter(c -> c.getTraineeType() == storedType)
+        .toList();
+  }
+
+  @Override
+  public Stream<LocalOfficeContact> stream() {
+    return stream(SPECIALTY);
+  }
+
+  /**
+   * Stream all local office contacts directly from the database, filtered by trainee type.
+   *
+   * @param traineeType The trainee type to filter by.
+   * @return The stream of local office contacts matching the trainee type, which must be closed
+   *     once consumed.
+   */
+  public Stream<LocalOfficeContact> stream(TraineeType traineeType) {
+    return repository.streamByTraineeType(toStoredTraineeType(traineeType), getSort());
+  }
+
+  @Override
+  public ReferenceChanges<LocalOfficeContact> getChanges(long since) {
+    return getChanges(since, SPECIALTY);
+  }
+
+  /**
+   * Get the local office contacts changed since the given change token, filtered by trainee type.
+   * Changed contacts which no longer match the trainee type are treated as deleted, as they may
+   * have matched it before the change.
+   *
+   * @param since       The token returned by a previous request, zero for all contacts.
+   * @param traineeType The trainee type to filter by.
+   * @return The changed contacts, the TIS IDs of deleted contacts and the next change token.
+   */
+  public ReferenceChanges<LocalOfficeContact> getChanges(long since, TraineeType traineeType) {
+    TraineeType storedType = toStoredTraineeType(traineeType);
+    ReferenceChanges<LocalOfficeContact> changes = super.getChanges(since);
+
+    Map<Boolean, List<LocalOfficeContact>> changedByMatch = changes.changed().stream()
+        .collect(Collectors.partitioningBy(c -> c.getTraineeType() == storedType));
+    List<String> deleted = new ArrayList<>(changes.deleted());
+    changedByMatch.get(false).forEach(c -> deleted.add(c.getTisId()));
+
+    return new ReferenceChanges<>(changedByMatch.get(true), deleted, changes.token(),
+        changes.full());
+  }
+
+  /**
+   * Stream the details of all local office contacts directly from the database, filtered by
+   * trainee type. Only the fields needed for the details are read, without loading the whole
+   * contacts.
+   *
+   * @param traineeType The trainee type to filter by.
+   * @return The stream of local office contact details matching the trainee type, which must be
+   *     closed once consumed.
+   */
+  public Stream<LocalOfficeContactDetailsDto> streamDetails(TraineeType traineeType) {
+    return repository.streamDetailsByTraineeType(toStoredTraineeType(traineeType), getSort());
   }
 
   /**
-   * Get local office contacts by local office ID, filtered by trainee type.
+   * Get local office contact details by local office ID, filtered by trainee type. Only the fields
+   * needed for the details are read, without loading the whole contacts.
    *
    * @param localOfficeId The local office ID to filter by.
    * @param traineeType   The trainee type to filter by.
-   * @return The list of local office contacts matching the local office ID and trainee type.
+   * @return The list of local office contact details matching the local office ID and trainee
+   *     type.
    */
-  public List<LocalOfficeContact> getByLocalOfficeUuid(String localOfficeId,
+  public List<LocalOfficeContactDetailsDto> getByLocalOfficeUuid(String localOfficeId,
       TraineeType traineeType) {
-    return filterByTraineeType(repository.findByLocalOfficeId(localOfficeId), traineeType);
+    return repository.findDetailsByLocalOfficeIdAndTraineeType(localOfficeId,
+        toStoredTraineeType(traineeType));
   }
 
   /**
-   * Get local office contacts by local office name, filtered by trainee type.
+   * Get local office contact details by local office name, filtered by trainee type. Only the
+   * fields needed for the details are read, without loading the whole contacts.
    *
    * @param localOfficeName The local office name to filter by.
    * @param traineeType     The trainee type to filter by.
-   * @return The list of local office contacts matching the local office name and trainee type.
+   * @return The list of local office contact details matching the local office name and trainee
+   *     type.
    */
-  public List<LocalOfficeContact> getByLocalOfficeName(String localOfficeName,
+  public List<LocalOfficeContactDetailsDto> getByLocalOfficeName(String localOfficeName,
       TraineeType traineeType) {
-    return filterByTraineeType(repository.findByLocalOfficeName(localOfficeName), traineeType);
+    return repository.findDetailsByLocalOfficeNameAndTraineeType(localOfficeName,
+        toStoredTraineeType(traineeType));
   }
 
   /**
-   * Filter a list of local office contacts by trainee type.
+   * Get the stored trainee type to query for, contacts are only stored as foundation or
+   * specialty so any other trainee type is treated as specialty.
    *
-   * @param contacts    The list of local office contacts to filter.
-   * @param traineeType The trainee type to filter by.
-   * @return The list of local office contacts matching the trainee type.
+   * @param traineeType The requested trainee type.
+   * @return The stored trainee type to query for.
    */
-  private List<LocalOfficeContact> filterByTraineeType(List<LocalOfficeContact> contacts,
-      TraineeType traineeType) {
-    return contacts.stream()
-        .filter(c -> {
-          String contactTypeName = c.getContactTypeName();
-          if (traineeType == FOUNDATION) {
-            return contactTypeName.endsWith(FOUNDATION_LABEL_SUFFIX);
-          } else {
-            return !contactTypeName.endsWith(FOUNDATION_LABEL_SUFFIX);
-          }
-        })
-        .toList();
+  private static TraineeType toStoredTraineeType(TraineeType traineeType) {
+    return traineeType == FOUNDATION ? FOUNDATION : SPECIALTY;
   }
 
   /**
@@ -148,48 +222,84 @@ public class LocalOfficeContactService
   }
 
   /**
-   * Update all local office contacts for a given local office.
+   * Update all local office contacts for a given local office, with a single update.
    *
    * @param localOffice The local office that triggered the update.
+   * @return The number of updated contacts.
    */
-  public void updateAllForLocalOffice(LocalOffice localOffice) {
-    if (localOffice.getUuid() != null) {
-      List<LocalOfficeContact> localOfficeContactList = repository
-          .findByLocalOfficeId(localOffice.getUuid());
-      localOfficeContactList.forEach(c -> {
-        log.info("Updating local office contact '{}' with local office '{}'", c.getTisId(),
-            localOffice.getLabel());
-        LocalOfficeContact enriched = facade.enrichWithLocalOffice(c, localOffice.getLabel());
-        super.update(enriched);
-      });
+  public long updateAllForLocalOffice(LocalOffice localOffice) {
+    if (localOffice.getUuid() == null) {
+      return 0;
     }
+
+    Timer.Sample sample = startOperation();
+
+    long updated = repository.updateLocalOfficeNameByLocalOfficeId(localOffice.getUuid(),
+        localOffice.getLabel());
+    log.info("Updated {} local office contact(s) with local office '{}'", updated,
+        localOffice.getLabel());
+
+    if (updated > 0) {
+      getSnapshotCache().invalidate();
+      recordChanges(repository.findTisIdsByLocalOfficeId(localOffice.getUuid()).stream()
+          .map(LocalOfficeContact::getTisId)
+          .toList());
+    }
+    recordOperation(sample, "update-for-local-office", (int) updated);
+    return updated;
   }
 
   /**
-   * Update all local office contacts for a given contact type.
+   * Update all local office contacts for a given contact type, with a single update.
    *
    * @param contactType The contact type that triggered the update.
+   * @return The number of updated contacts.
    */
-  public void updateAllForContactType(LocalOfficeContactType contactType) {
-    if (contactType.getTisId() != null) {
-      List<LocalOfficeContact> localOfficeContactList = repository
-          .findByContactTypeId(contactType.getTisId());
-      localOfficeContactList.forEach(c -> {
-        log.info("Updating local office contact '{}' with contact type '{}'", c.getTisId(),
-            contactType.getLabel());
-        LocalOfficeContact enriched = facade.enrichWithContactType(c, contactType.getLabel());
-        super.update(enriched);
-      });
+  public long updateAllForContactType(LocalOfficeContactType contactType) {
+    if (contactType.getTisId() == null) {
+      return 0;
+    }
+
+    Timer.Sample sample = startOperation();
+
+    long updated = repository.updateContactTypeNameByContactTypeId(contactType.getTisId(),
+        contactType.getLabel());
+    log.info("Updated {} local office contact(s) with contact type '{}'", updated,
+        contactType.getLabel());
+
+    if (updated > 0) {
+      getSnapshotCache().invalidate();
+      recordChanges(repository.findTisIdsByContactTypeId(contactType.getTisId()).stream()
+          .map(LocalOfficeContact::getTisId)
+          .toList());
     }
+    recordOperation(sample, "update-for-contact-type", (int) updated);
+    return updated;
   }
 
   @Override
-  protected String getTisId(LocalOfficeContact entity) {
-    return entity.getTisId();
+  protected PatchMapper<LocalOfficeContact, LocalOfficeContactPatchDto> getPatchMapper() {
+    return mapper;
   }
 
   @Override
-  protected void copyAttributes(LocalOfficeContact target, LocalOfficeContact source) {
-    mapper.update(target, source);
+  protected LocalOfficeContact newEntity() {
+    return new LocalOfficeContact();
+  }
+
+  /**
+   * Enrich patched local office contacts before they are written.
+   *
+   * @param entity The entity to prepare.
+   * @return The enriched entity.
+   */
+  @Override
+  protected LocalOfficeContact prepareWrite(LocalOfficeContact entity) {
+    return facade.enrich(entity);
+  }
+
+  @Override
+  protected String getTisId(LocalOfficeContact entity) {
+    return entity.getTisId();
   }
 }
@@ -24,7 +24,10 @@ package uk.nhs.hee.tis.trainee.reference.service;
 import com.amazonaws.xray.spring.aop.XRayEnabled;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.stereotype.Service;
+import uk.nhs.hee.tis.trainee.reference.dto.LocalOfficeContactTypePatchDto;
+import uk.nhs.hee.tis.trainee.reference.facade.LocalOfficeContactEnricherFacade;
 import uk.nhs.hee.tis.trainee.reference.mapper.LocalOfficeContactTypeMapper;
+import uk.nhs.hee.tis.trainee.reference.mapper.PatchMapper;
 import uk.nhs.hee.tis.trainee.reference.model.LocalOfficeContactType;
 import uk.nhs.hee.tis.trainee.reference.repository.LocalOfficeContactTypeRepository;
 
@@ -34,17 +37,19 @@ import uk.nhs.hee.tis.trainee.reference.repository.LocalOfficeContactTypeReposit
 @Service
 @XRayEnabled
 public class LocalOfficeContactTypeService
-    extends AbstractReferenceService<LocalOfficeContactType, LocalOfficeContactType> {
+    extends AbstractReferenceService<LocalOfficeContactType, LocalOfficeContactTypePatchDto> {
 
   private final LocalOfficeContactTypeMapper mapper;
   private final LocalOfficeContactService localOfficeContactService;
+  private final LocalOfficeContactEnricherFacade enricherFacade;
 
   protected LocalOfficeContactTypeService(LocalOfficeContactTypeRepository repository,
       LocalOfficeContactTypeMapper mapper, LocalOfficeContactService localOfficeContactService,
-      ObjectMapper objectMapper) {
+      LocalOfficeContactEnricherFacade enricherFacade, ObjectMapper objectMapper) {
     super(repository, objectMapper);
     this.mapper = mapper;
     this.localOfficeContactService = localOfficeContactService;
+    this.enricherFacade = enricherFacade;
   }
 
   /**
@@ -74,12 +79,37 @@ public class LocalOfficeContactTypeService
   }
 
   @Override
-  protected String getTisId(LocalOfficeContactType entity) {
-    return entity.getTisId();
+  protected PatchMapper<LocalOfficeContactType, LocalOfficeContactTypePatchDto> getPatchMapper() {
+    return mapper;
+  }
+
+  @Override
+  protected LocalOfficeContactType newEntity() {
+    return new LocalOfficeContactType();
   }
 
+  /**
+   * Enrich any related local office contacts after a patched contact type is written.
+   *
+   * @param entity The written entity.
+   */
   @Override
-  protected void copyAttributes(LocalOfficeContactType target, LocalOfficeContactType source) {
-    mapper.update(target, source);
+  protected void afterWrite(LocalOfficeContactType entity) {
+    localOfficeContactService.updateAllForContactType(entity);
+  }
+
+  /**
+   * Invalidate the contact enrichment index along with the snapshot cache, so contacts are
+   * enriched with the latest contact type names.
+   */
+  @Override
+  protected void invalidateCache() {
+    super.invalidateCache();
+    enricherFacade.invalidateContactTypes();
+  }
+
+  @Override
+  protected String getTisId(LocalOfficeContactType entity) {
+    return entity.getTisId();
   }
 }
@@ -24,7 +24,10 @@ package uk.nhs.hee.tis.trainee.reference.service;
 import com.amazonaws.xray.spring.aop.XRayEnabled;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.stereotype.Service;
+import uk.nhs.hee.tis.trainee.reference.dto.LocalOfficePatchDto;
+import uk.nhs.hee.tis.trainee.reference.facade.LocalOfficeContactEnricherFacade;
 import uk.nhs.hee.tis.trainee.reference.mapper.LocalOfficeMapper;
+import uk.nhs.hee.tis.trainee.reference.mapper.PatchMapper;
 import uk.nhs.hee.tis.trainee.reference.model.LocalOffice;
 import uk.nhs.hee.tis.trainee.reference.repository.LocalOfficeRepository;
 
@@ -33,16 +36,19 @@ import uk.nhs.hee.tis.trainee.reference.repository.LocalOfficeRepository;
  */
 @Service
 @XRayEnabled
-public class LocalOfficeService extends AbstractReferenceService<LocalOffice, LocalOffice> {
+public class LocalOfficeService extends AbstractReferenceService<LocalOffice, LocalOfficePatchDto> {
 
   private final LocalOfficeMapper mapper;
   private final LocalOfficeContactService localOfficeContactService;
+  private final LocalOfficeContactEnricherFacade enricherFacade;
 
   protected LocalOfficeService(LocalOfficeRepository repository, LocalOfficeMapper mapper,
-      LocalOfficeContactService localOfficeContactService, ObjectMapper objectMapper) {
+      LocalOfficeContactService localOfficeContactService,
+      LocalOfficeContactEnricherFacade enricherFacade, ObjectMapper objectMapper) {
     super(repository, objectMapper);
     this.mapper = mapper;
     this.localOfficeContactService = localOfficeContactService;
+    this.enricherFacade = enricherFacade;
   }
 
   /**
@@ -72,12 +78,37 @@ public class LocalOfficeService extends AbstractReferenceService<LocalOffice, Lo
   }
 
   @Override
-  protected String getTisId(LocalOffice entity) {
-    return entity.getTisId();
+  protected PatchMapper<LocalOffice, LocalOfficePatchDto> getPatchMapper() {
+    return mapper;
+  }
+
+  @Override
+  protected LocalOffice newEntity() {
+    return new LocalOffice();
   }
 
+  /**
+   * Enrich any related local office contacts after a patched local office is written.
+   *
+   * @param entity The written entity.
+   */
   @Override
-  protected void copyAttributes(LocalOffice target, LocalOffice source) {
-    mapper.update(target, source);
+  protected void afterWrite(LocalOffice entity) {
+    localOfficeContactService.updateAllForLocalOffice(entity);
+  }
+
+  /**
+   * Invalidate the contact enrichment index along with the snapshot cache, so contacts are
+   * enriched with the latest local office names.
+   */
+  @Override
+  protected void invalidateCache() {
+    super.invalidateCache();
+    enricherFacade.invalidateLocalOffices();
+  }
+
+  @Override
+  protected String getTisId(LocalOffice entity) {
+    return entity.getTisId();
   }
 }
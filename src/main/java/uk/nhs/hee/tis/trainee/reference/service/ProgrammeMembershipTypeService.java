@@ -26,6 +26,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.List;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import uk.nhs.hee.tis.trainee.reference.dto.ProgrammeMembershipTypePatchDto;
+import uk.nhs.hee.tis.trainee.reference.mapper.PatchMapper;
 import uk.nhs.hee.tis.trainee.reference.mapper.ProgrammeMembershipTypeMapper;
 import uk.nhs.hee.tis.trainee.reference.model.ProgrammeMembershipType;
 import uk.nhs.hee.tis.trainee.reference.repository.ProgrammeMembershipTypeRepository;
@@ -36,7 +38,7 @@ import uk.nhs.hee.tis.trainee.reference.repository.ProgrammeMembershipTypeReposi
 @Service
 @XRayEnabled
 public class ProgrammeMembershipTypeService
-    extends AbstractReferenceService<ProgrammeMembershipType, ProgrammeMembershipType> {
+    extends AbstractReferenceService<ProgrammeMembershipType, ProgrammeMembershipTypePatchDto> {
 
   private final ProgrammeMembershipTypeMapper mapper;
   private final List<String> excludedTypes;
@@ -58,12 +60,17 @@ public class ProgrammeMembershipTypeService
   }
 
   @Override
-  protected String getTisId(ProgrammeMembershipType entity) {
-    return entity.getTisId();
+  protected PatchMapper<ProgrammeMembershipType, ProgrammeMembershipTypePatchDto> getPatchMapper() {
+    return mapper;
   }
 
   @Override
-  protected void copyAttributes(ProgrammeMembershipType target, ProgrammeMembershipType source) {
-    mapper.update(target, source);
+  protected ProgrammeMembershipType newEntity() {
+    return new ProgrammeMembershipType();
+  }
+
+  @Override
+  protected String getTisId(ProgrammeMembershipType entity) {
+    return entity.getTisId();
   }
 }
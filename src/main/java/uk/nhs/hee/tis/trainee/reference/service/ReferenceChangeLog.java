@@ -0,0 +1,269 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.reference.service;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+import com.mongodb.ReadPreference;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Date;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+import uk.nhs.hee.tis.trainee.reference.model.ReferenceChange;
+
+/**
+ * A log of the latest change to each reference entity, ordered by a monotonically increasing
+ * sequence per reference type, so clients can request only the entities changed since their last
+ * sync.
+ *
+ * <p>Sequences are allocated from a counter after the entity is written, and a change is only
+ * recorded once its sequence is allocated. A change with a lower sequence may therefore be recorded
+ * just after one with a higher sequence, so change tokens are never advanced past changes recorded
+ * within the settle window. Recent changes are returned again by the next request instead of being
+ * skipped. Changes are timestamped with the database server's time, so the order of their
+ * timestamps does not depend on the clocks of the instances recording them. The settle window is
+ * measured by this instance's clock, which is expected to be synchronised with the server's to well
+ * within the window.
+ *
+ * <p>The entity write, sequence allocation and change record are separate round trips rather than
+ * a transaction, so an instance stopping between them writes the entity without recording its
+ * change. CDC messages are only acknowledged once their changes are recorded, so they are
+ * redelivered and recorded again, but an API write's change may be lost. Each reference type
+ * therefore has a resync token, advanced to the latest sequence when sequences are allocated at
+ * most once per resync interval, and clients syncing from an older token are sent every entity as
+ * if syncing from zero. A lost change is then sent to every client by the first resync after it,
+ * which is at most a resync interval after the lost change, once another change of that type has
+ * been recorded.
+ *
+ * <p>Changes are always read from the primary, a lagging secondary could otherwise return a
+ * token past changes it has not replicated yet, which the client would then never receive.
+ */
+@Slf4j
+@Component
+public class ReferenceChangeLog {
+
+  static final String SEQUENCE_COLLECTION = "ReferenceChangeSequence";
+  static final String ID_FIELD = "_id";
+  static final String TYPE_FIELD = "type";
+  static final String TIS_ID_FIELD = "tisId";
+  static final String SEQUENCE_FIELD = "sequence";
+  static final String RECORDED_AT_FIELD = "recordedAt";
+  static final String RESYNC_FROM_FIELD = "resyncFrom";
+  static final String RESYNC_AT_FIELD = "resyncAt";
+
+  private static final String NOW = "$$NOW";
+
+  private final MongoOperations mongoOperations;
+  private final Clock clock;
+  private final Duration settleWindow;
+  private final Duration resyncInterval;
+
+  ReferenceChangeLog(MongoOperations mongoOperations, Clock clock,
+      @Value("${application.changes.settle-window}") Duration settleWindow,
+      @Value("${application.changes.resync-interval}") Duration resyncInterval) {
+    this.mongoOperations = mongoOperations;
+    this.clock = clock;
+    this.settleWindow = settleWindow;
+    this.resyncInterval = resyncInterval;
+  }
+
+  /**
+   * Record a change to each of the given entities, whether they were created, updated or deleted.
+   *
+   * @param type   The reference type of the entities.
+   * @param tisIds The TIS IDs of the changed entities.
+   */
+  public void record(String type, Collection<String> tisIds) {
+    Set<String> uniqueTisIds = new LinkedHashSet<>(tisIds);
+
+    if (uniqueTisIds.isEmpty()) {
+      return;
+    }
+
+    long sequence = allocate(type, uniqueTisIds.size()) - uniqueTisIds.size();
+
+    BulkOperations bulkOperations = mongoOperations.bulkOps(BulkMode.UNORDERED,
+        ReferenceChange.class);
+
+    for (String tisId : uniqueTisIds) {
+      Query query = Query.query(where(TYPE_FIELD).is(type).and(TIS_ID_FIELD).is(tisId));
+      long changeSequence = ++sequence;
+      AggregationOperation recordStage = context -> new Document("$set",
+          new Document(SEQUENCE_FIELD,
+              new Document("$max", List.of("$" + SEQUENCE_FIELD, changeSequence)))
+              .append(RECORDED_AT_FIELD, NOW));
+      bulkOperations.upsert(query, AggregationUpdate.from(List.of(recordStage)));
+    }
+
+    bulkOperations.execute();
+    log.debug("Recorded {} {} change(s) up to sequence {}.", uniqueTisIds.size(), type, sequence);
+  }
+
+  /**
+   * Allocate a contiguous block of sequences for the given reference type. The resync token is
+   * advanced to the end of the block if it was last advanced over a resync interval ago.
+   *
+   * @param type  The reference type.
+   * @param count The number of sequences to allocate.
+   * @return The last sequence in the allocated block.
+   */
+  private long allocate(String type, int count) {
+    Document allocated = new Document("$add", List.of(
+        new Document("$ifNull", List.of("$" + SEQUENCE_FIELD, 0L)), (long) count));
+    Document resyncDue = new Document("$lte", List.of(
+        new Document("$ifNull", List.of("$" + RESYNC_AT_FIELD, new Date(0))),
+        new Document("$subtract", List.of(NOW, resyncInterval.toMillis()))));
+
+    AggregationOperation allocateStage = context -> new Document("$set",
+        new Document(SEQUENCE_FIELD, allocated)
+            .append(RESYNC_FROM_FIELD, new Document("$cond",
+                List.of(resyncDue, allocated, "$" + RESYNC_FROM_FIELD)))
+            .append(RESYNC_AT_FIELD, new Document("$cond",
+                List.of(resyncDue, NOW, "$" + RESYNC_AT_FIELD))));
+
+    Document counter = mongoOperations.findAndModify(Query.query(where(ID_FIELD).is(type)),
+        AggregationUpdate.from(List.of(allocateStage)),
+        FindAndModifyOptions.options().upsert(true).returnNew(true), Document.class,
+        SEQUENCE_COLLECTION);
+    return counter.get(SEQUENCE_FIELD, Number.class).longValue();
+  }
+
+  /**
+   * Get the resync token for the given reference type, clients syncing from an older token must
+   * be sent every entity as changes may have been written without being recorded.
+   *
+   * @param type The reference type.
+   * @return The resync token, zero if no changes have been recorded.
+   */
+  public long getResyncToken(String type) {
+    Query query = Query.query(where(ID_FIELD).is(type))
+        .withReadPreference(ReadPreference.primary());
+    query.fields().include(RESYNC_FROM_FIELD);
+    Document counter = mongoOperations.findOne(query, Document.class, SEQUENCE_COLLECTION);
+    Number resyncFrom = counter == null ? null : counter.get(RESYNC_FROM_FIELD, Number.class);
+    return resyncFrom == null ? 0 : resyncFrom.longValue();
+  }
+
+  /**
+   * Get the TIS IDs of the entities changed since the given token, in sequence order.
+   *
+   * @param type  The reference type of the entities.
+   * @param since The token returned by a previous request, zero for all entities.
+   * @return The changed TIS IDs and the token to request the next changes from.
+   */
+  public ChangeSet getChanges(String type, long since) {
+    return getChanges(type, since, false);
+  }
+
+  /**
+   * Get the TIS IDs of the entities changed since the given token, in sequence order, up to and
+   * including the returned token. Changes within the settle window are left for a later request,
+   * so each change is returned once to a caller which always requests from the returned token.
+   *
+   * @param type  The reference type of the entities.
+   * @param since The token returned by a previous request, zero for all entities.
+   * @return The settled changed TIS IDs and the token to request the next changes from.
+   */
+  public ChangeSet getSettledChanges(String type, long since) {
+    return getChanges(type, since, true);
+  }
+
+  /**
+   * Get the TIS IDs of the entities changed since the given token, in sequence order.
+   *
+   * @param type        The reference type of the entities.
+   * @param since       The token returned by a previous request, zero for all entities.
+   * @param settledOnly Whether to exclude changes after the returned token.
+   * @return The changed TIS IDs and the token to request the next changes from.
+   */
+  private ChangeSet getChanges(String type, long since, boolean settledOnly) {
+    Query query = Query.query(where(TYPE_FIELD).is(type).and(SEQUENCE_FIELD).gt(since))
+        .with(Sort.by(SEQUENCE_FIELD))
+        .withReadPreference(ReadPreference.primary());
+    List<ReferenceChange> changes = mongoOperations.find(query, ReferenceChange.class);
+
+    Instant settledBefore = clock.instant().minus(settleWindow);
+    long token = since;
+    int settled = 0;
+
+    for (ReferenceChange change : changes) {
+      if (change.getRecordedAt().isAfter(settledBefore)) {
+        break;
+      }
+      token = change.getSequence();
+      settled++;
+    }
+
+    if (settledOnly) {
+      changes = changes.subList(0, settled);
+    }
+
+    List<String> tisIds = changes.stream()
+        .map(ReferenceChange::getTisId)
+        .toList();
+    return new ChangeSet(tisIds, token);
+  }
+
+  /**
+   * Get the current change token for the given reference type, which is the sequence of the latest
+   * change recorded before the settle window.
+   *
+   * @param type The reference type.
+   * @return The current change token, zero if no changes have been recorded.
+   */
+  public long getToken(String type) {
+    Query query = Query.query(where(TYPE_FIELD).is(type)
+            .and(RECORDED_AT_FIELD).lte(clock.instant().minus(settleWindow)))
+        .with(Sort.by(Direction.DESC, SEQUENCE_FIELD))
+        .limit(1)
+        .withReadPreference(ReadPreference.primary());
+    ReferenceChange latest = mongoOperations.findOne(query, ReferenceChange.class);
+    return latest == null ? 0 : latest.getSequence();
+  }
+
+  /**
+   * The entities changed since a change token.
+   *
+   * @param tisIds The TIS IDs of the changed entities, in sequence order.
+   * @param token  The token to request the next changes from.
+   */
+  public record ChangeSet(List<String> tisIds, long token) {
+
+  }
+}
@@ -0,0 +1,299 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.reference.service;
+
+import com.mongodb.MongoException;
+import com.mongodb.client.ChangeStreamIterable;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.OperationType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.stereotype.Component;
+import uk.nhs.hee.tis.trainee.reference.model.CovidChangeCircumstance;
+import uk.nhs.hee.tis.trainee.reference.model.DeclarationType;
+
+/**
+ * Watches a MongoDB change stream of the reference collections and invalidates the in-memory
+ * caches of a collection whenever it is written, so every instance serves a write as soon as it is
+ * made, whichever instance made it, rather than once its snapshot expires.
+ *
+ * <p>A single change stream is opened on the database and filtered to the reference collections,
+ * rather than one per collection, so only one connection is held open awaiting changes. A failed
+ * stream is resumed after the last received change, or restarted from the current time if the
+ * change has expired from the oplog.
+ *
+ * <p>The resume token is held in memory only, as every instance runs a watcher of its own and a
+ * shared persisted token would be overwritten by each of them in turn, resuming a restarted
+ * instance from another instance's position. Nor does a restarted instance need to resume, its
+ * caches are empty, so its stream is opened from the current time and every cache is invalidated
+ * once the stream is open. Any write made before the stream opened is then read by the next cache
+ * load, and any write made after it is received from the stream.
+ *
+ * <p>The lag between a change being made and it being received is recorded per collection.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(value = "application.change-streams.enabled", havingValue = "true")
+public class ReferenceChangeStreamWatcher implements SmartLifecycle {
+
+  static final String NAMESPACE_COLLECTION_FIELD = "ns.coll";
+  static final int CHANGE_STREAM_HISTORY_LOST = 286;
+  static final String NON_RESUMABLE_ERROR_LABEL = "NonResumableChangeStreamError";
+
+  static final Duration MAX_AWAIT_TIME = Duration.ofSeconds(1);
+  static final Duration RETRY_DELAY = Duration.ofSeconds(5);
+
+  private static final String TAG_COLLECTION = "collection";
+
+  private final MongoDatabaseFactory databaseFactory;
+  private final Clock clock;
+
+  private final Map<String, Runnable> invalidatorsByCollection = new HashMap<>();
+  private final Map<String, Timer> lagTimersByCollection = new HashMap<>();
+  private final Counter errors;
+
+  private volatile boolean running;
+  private Thread thread;
+
+  private BsonDocument resumeToken;
+
+  /**
+   * Create a watcher invalidating the caches of the given services.
+   *
+   * @param databaseFactory                The factory providing the database to watch.
+   * @param mongoOperations                The Mongo operations to get collection names from.
+   * @param clock                          The clock used to measure lag.
+   * @param registry                       The registry to record lag metrics in.
+   * @param services                       The services to invalidate the caches of.
+   * @param declarationTypeService         The declaration type service.
+   * @param covidChangeCircumstanceService The COVID change circumstance service.
+   */
+  ReferenceChangeStreamWatcher(MongoDatabaseFactory databaseFactory,
+      MongoOperations mongoOperations, Clock clock, MeterRegistry registry,
+      List<AbstractReferenceService<?, ?>> services,
+      DeclarationTypeService declarationTypeService,
+      CovidChangeCircumstanceService covidChangeCircumstanceService) {
+    this.databaseFactory = databaseFactory;
+    this.clock = clock;
+
+    for (AbstractReferenceService<?, ?> service : services) {
+      invalidatorsByCollection.put(service.getCollectionName(), service::invalidateCache);
+    }
+    invalidatorsByCollection.put(mongoOperations.getCollectionName(DeclarationType.class),
+        declarationTypeService::invalidateCache);
+    invalidatorsByCollection.put(mongoOperations.getCollectionName(CovidChangeCircumstance.class),
+        covidChangeCircumstanceService::invalidateCache);
+
+    for (String collection : invalidatorsByCollection.keySet()) {
+      Timer lagTimer = Timer.builder("reference.change-stream.lag")
+          .description("The time between a reference collection change and it being received.")
+          .tag(TAG_COLLECTION, collection)
+          .register(registry);
+      lagTimersByCollection.put(collection, lagTimer);
+    }
+
+    errors = Counter.builder("reference.change-stream.errors")
+        .description("The number of times the change stream failed and was reopened.")
+        .register(registry);
+  }
+
+  @Override
+  public void start() {
+    resumeToken = null;
+    running = true;
+    thread = Thread.ofPlatform()
+        .name("reference-change-stream")
+        .daemon()
+        .start(this::watch);
+  }
+
+  @Override
+  public void stop() {
+    running = false;
+
+    if (thread == null) {
+      return;
+    }
+
+    try {
+      thread.join(MAX_AWAIT_TIME.multipliedBy(2).toMillis());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+
+  /**
+   * Watch the change stream until stopped, reopening it after any failure.
+   */
+  private void watch() {
+    while (running) {
+      try (MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor = openCursor()) {
+        while (running) {
+          ChangeStreamDocument<Document> change = cursor.tryNext();
+
+          if (change != null && !onChange(change)) {
+            break;
+          }
+
+          BsonDocument token = cursor.getResumeToken();
+          if (token != null) {
+            resumeToken = token;
+          }
+        }
+      } catch (MongoException e) {
+        onError(e);
+      }
+    }
+  }
+
+  /**
+   * Open a change stream cursor of the reference collections, resuming after the last received
+   * change if known. Every cache is invalidated once a stream which can not be resumed is open, as
+   * changes may have been missed.
+   *
+   * @return The opened cursor.
+   */
+  MongoChangeStreamCursor<ChangeStreamDocument<Document>> openCursor() {
+    ChangeStreamIterable<Document> changeStream = databaseFactory.getMongoDatabase()
+        .watch(List.of(Aggregates.match(
+            Filters.in(NAMESPACE_COLLECTION_FIELD, invalidatorsByCollection.keySet()))))
+        .maxAwaitTime(MAX_AWAIT_TIME.toMillis(), TimeUnit.MILLISECONDS);
+
+    if (resumeToken != null) {
+      log.info("Resuming reference change stream.");
+      return changeStream.resumeAfter(resumeToken).cursor();
+    }
+
+    log.info("Opening reference change stream from the current time.");
+    MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor = changeStream.cursor();
+    invalidateAll();
+    return cursor;
+  }
+
+  /**
+   * Invalidate the caches of a changed collection and record how long the change took to arrive.
+   *
+   * @param change The received change.
+   * @return false if the change stream was invalidated and must be restarted, else true.
+   */
+  boolean onChange(ChangeStreamDocument<Document> change) {
+    if (change.getOperationType() == OperationType.INVALIDATE) {
+      log.warn("Reference change stream invalidated, restarting from the current time.");
+      resumeToken = null;
+      return false;
+    }
+
+    String collection = change.getNamespace() == null ? null
+        : change.getNamespace().getCollectionName();
+    Runnable invalidator = invalidatorsByCollection.get(collection);
+
+    if (invalidator != null) {
+      invalidator.run();
+      log.debug("Invalidated '{}' caches after a {} change.", collection,
+          change.getOperationType());
+
+      Instant changedAt = getChangedAt(change);
+      if (changedAt != null) {
+        Duration lag = Duration.between(changedAt, clock.instant());
+        lagTimersByCollection.get(collection).record(lag.isNegative() ? Duration.ZERO : lag);
+      }
+    }
+
+    resumeToken = change.getResumeToken();
+    return true;
+  }
+
+  /**
+   * Get when a change was made, preferring the wall time of the change over the cluster time as it
+   * has millisecond precision.
+   *
+   * @param change The change.
+   * @return When the change was made, or null if not known.
+   */
+  private static Instant getChangedAt(ChangeStreamDocument<Document> change) {
+    if (change.getWallTime() != null) {
+      return Instant.ofEpochMilli(change.getWallTime().getValue());
+    }
+
+    if (change.getClusterTime() != null) {
+      return Instant.ofEpochSecond(change.getClusterTime().getTime());
+    }
+
+    return null;
+  }
+
+  /**
+   * Handle a change stream failure, the stream is restarted from the current time if it can not be
+   * resumed, otherwise it is resumed after a delay.
+   *
+   * @param e The failure.
+   */
+  void onError(MongoException e) {
+    errors.increment();
+
+    if (e.getCode() == CHANGE_STREAM_HISTORY_LOST || e.hasErrorLabel(NON_RESUMABLE_ERROR_LABEL)) {
+      log.warn("Unable to resume reference change stream, restarting from the current time.", e);
+      resumeToken = null;
+      return;
+    }
+
+    log.warn("Reference change stream failed, reopening in {}.", RETRY_DELAY, e);
+
+    try {
+      Thread.sleep(RETRY_DELAY.toMillis());
+    } catch (InterruptedException ie) {
+      Thread.currentThread().interrupt();
+      running = false;
+    }
+  }
+
+  /**
+   * Invalidate the caches of every reference collection.
+   */
+  private void invalidateAll() {
+    invalidatorsByCollection.values().forEach(Runnable::run);
+  }
+}
@@ -0,0 +1,83 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.reference.service;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * An immutable, pre-sorted view of a reference collection at a point in time.
+ *
+ * <p>The entities are shared between all readers of the snapshot and must be treated as
+ * read-only. Values derived from the entities, such as serialized responses, can be memoized
+ * against the snapshot so they are computed at most once per snapshot and discarded with it.
+ *
+ * @param <T> The entity type.
+ */
+public final class ReferenceSnapshot<T> {
+
+  private final long version;
+  private final List<T> entities;
+  private final Instant created;
+  private final Map<Object, Object> derived = new ConcurrentHashMap<>();
+
+  /**
+   * Create a snapshot.
+   *
+   * @param version  The version of the snapshot, increasing each time the snapshot is rebuilt.
+   * @param entities The sorted entities.
+   * @param created  The time the snapshot was created.
+   */
+  public ReferenceSnapshot(long version, List<T> entities, Instant created) {
+    this.version = version;
+    this.entities = List.copyOf(entities);
+    this.created = created;
+  }
+
+  public long version() {
+    return version;
+  }
+
+  public List<T> entities() {
+    return entities;
+  }
+
+  public Instant created() {
+    return created;
+  }
+
+  /**
+   * Get a value derived from this snapshot, computing it on first use.
+   *
+   * @param key        The key identifying the derived value.
+   * @param derivation The function computing the derived value.
+   * @param <R>        The type of the derived value.
+   * @return The derived value.
+   */
+  @SuppressWarnings("unchecked")
+  public <R> R derive(Object key, Supplier<R> derivation) {
+    return (R) derived.computeIfAbsent(key, k -> derivation.get());
+  }
+}
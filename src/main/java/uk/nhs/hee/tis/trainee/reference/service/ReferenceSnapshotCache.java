@@ -0,0 +1,274 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.reference.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * An in-memory cache holding a single {@link ReferenceSnapshot} of a reference collection.
+ *
+ * <p>Reads are served from the current snapshot until it is invalidated by a write or exceeds
+ * its time-to-live, at which point the next read rebuilds it. A rebuild is only installed if no
+ * invalidation happened while it was loading, so a read racing a write can never install data
+ * older than the write.
+ *
+ * <p>Rebuilds are single-flight: reads which miss while a rebuild is already loading wait for and
+ * share its snapshot, so a burst of concurrent reads of a cold cache costs one load and one copy of
+ * the collection in memory rather than one per read.
+ *
+ * @param <T> The entity type.
+ */
+@Slf4j
+public class ReferenceSnapshotCache<T> {
+
+  private final String name;
+  private final Clock clock;
+
+  private final AtomicReference<Entry<T>> current = new AtomicReference<>(Entry.empty());
+  private final AtomicLong versions = new AtomicLong();
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder coalesced = new LongAdder();
+  private final LongAdder rebuilds = new LongAdder();
+  private final LongAdder loads = new LongAdder();
+  private final LongAdder loadNanos = new LongAdder();
+
+  private volatile Duration ttl;
+
+  /**
+   * Create a snapshot cache.
+   *
+   * @param name The name of the cache, used for logging and metrics.
+   * @param ttl  The maximum age of a snapshot, a zero duration disables caching.
+   */
+  public ReferenceSnapshotCache(String name, Duration ttl) {
+    this(name, ttl, Clock.systemUTC());
+  }
+
+  /**
+   * Create a snapshot cache.
+   *
+   * @param name  The name of the cache, used for logging and metrics.
+   * @param ttl   The maximum age of a snapshot, a zero duration disables caching.
+   * @param clock The clock used to age snapshots.
+   */
+  ReferenceSnapshotCache(String name, Duration ttl, Clock clock) {
+    this.name = name;
+    this.ttl = ttl;
+    this.clock = clock;
+  }
+
+  /**
+   * Get the current snapshot, rebuilding it with the given loader if there is no valid snapshot.
+   *
+   * @param loader The loader providing the sorted entities to build a new snapshot from.
+   * @return The current snapshot.
+   */
+  public ReferenceSnapshot<T> get(Supplier<List<T>> loader) {
+    if (ttl.isZero()) {
+      misses.increment();
+      return load(loader);
+    }
+
+    while (true) {
+      Entry<T> observed = current.get();
+      ReferenceSnapshot<T> snapshot = observed.snapshot();
+
+      if (snapshot != null && !isExpired(snapshot)) {
+        hits.increment();
+        return snapshot;
+      }
+
+      if (observed.loading() != null) {
+        coalesced.increment();
+        return await(observed.loading());
+      }
+
+      CompletableFuture<ReferenceSnapshot<T>> loading = new CompletableFuture<>();
+      Entry<T> pending = new Entry<>(null, loading);
+
+      if (current.compareAndSet(observed, pending)) {
+        misses.increment();
+        return rebuild(pending, loader);
+      }
+    }
+  }
+
+  /**
+   * Rebuild the snapshot and install it, unless the cache was invalidated while loading.
+   *
+   * @param pending The entry marking the rebuild as in-flight.
+   * @param loader  The loader providing the sorted entities to build a new snapshot from.
+   * @return The rebuilt snapshot.
+   */
+  private ReferenceSnapshot<T> rebuild(Entry<T> pending, Supplier<List<T>> loader) {
+    ReferenceSnapshot<T> rebuilt;
+
+    try {
+      rebuilt = load(loader);
+    } catch (Throwable e) {
+      // Errors must also fail the in-flight rebuild, otherwise coalesced readers wait forever.
+      current.compareAndSet(pending, Entry.empty());
+      pending.loading().completeExceptionally(e);
+      throw e;
+    }
+
+    if (current.compareAndSet(pending, new Entry<>(rebuilt, null))) {
+      rebuilds.increment();
+      log.debug("Rebuilt '{}' snapshot version {} with {} entities.", name, rebuilt.version(),
+          rebuilt.entities().size());
+    }
+
+    pending.loading().complete(rebuilt);
+    return rebuilt;
+  }
+
+  /**
+   * Load a new snapshot.
+   *
+   * @param loader The loader providing the sorted entities to build a new snapshot from.
+   * @return The loaded snapshot.
+   */
+  private ReferenceSnapshot<T> load(Supplier<List<T>> loader) {
+    long start = System.nanoTime();
+
+    try {
+      return new ReferenceSnapshot<>(versions.incrementAndGet(), loader.get(), clock.instant());
+    } finally {
+      loads.increment();
+      loadNanos.add(System.nanoTime() - start);
+    }
+  }
+
+  /**
+   * Wait for an in-flight rebuild to complete.
+   *
+   * @param loading The in-flight rebuild.
+   * @return The rebuilt snapshot.
+   * @throws RuntimeException If the rebuild failed.
+   * @throws Error            If the rebuild failed with an error.
+   */
+  private ReferenceSnapshot<T> await(CompletableFuture<ReferenceSnapshot<T>> loading) {
+    try {
+      return loading.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      if (e.getCause() instanceof Error cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * Invalidate the current snapshot, the next read will rebuild it.
+   */
+  public void invalidate() {
+    current.set(Entry.empty());
+  }
+
+  /**
+   * Whether the snapshot has exceeded the time-to-live.
+   *
+   * @param snapshot The snapshot to check.
+   * @return true if the snapshot has expired, else false.
+   */
+  private boolean isExpired(ReferenceSnapshot<T> snapshot) {
+    Duration age = Duration.between(snapshot.created(), clock.instant());
+    return age.compareTo(ttl) >= 0;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public void setTtl(Duration ttl) {
+    this.ttl = ttl;
+  }
+
+  public long getHitCount() {
+    return hits.sum();
+  }
+
+  public long getMissCount() {
+    return misses.sum();
+  }
+
+  public long getCoalescedCount() {
+    return coalesced.sum();
+  }
+
+  public long getRebuildCount() {
+    return rebuilds.sum();
+  }
+
+  public long getLoadCount() {
+    return loads.sum();
+  }
+
+  /**
+   * Get the total time spent loading snapshots, including loads which failed or were discarded.
+   *
+   * @return The total load time in nanoseconds.
+   */
+  public double getLoadNanos() {
+    return loadNanos.sum();
+  }
+
+  /**
+   * Get the number of entities in the current snapshot.
+   *
+   * @return The size of the current snapshot, or zero if there is no snapshot.
+   */
+  public int getSize() {
+    ReferenceSnapshot<T> snapshot = current.get().snapshot();
+    return snapshot == null ? 0 : snapshot.entities().size();
+  }
+
+  /**
+   * A holder for the current snapshot, a new holder is created on every swap so that a rebuild
+   * can detect a concurrent invalidation by identity.
+   *
+   * @param snapshot The current snapshot, or null if invalidated.
+   * @param loading  The in-flight rebuild, or null if no rebuild is loading.
+   * @param <T>      The entity type.
+   */
+  private record Entry<T>(ReferenceSnapshot<T> snapshot,
+      CompletableFuture<ReferenceSnapshot<T>> loading) {
+
+    static <T> Entry<T> empty() {
+      return new Entry<>(null, null);
+    }
+  }
+}
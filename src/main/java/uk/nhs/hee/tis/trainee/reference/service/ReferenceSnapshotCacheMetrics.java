@@ -0,0 +1,107 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.reference.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.springframework.stereotype.Component;
+import uk.nhs.hee.tis.trainee.reference.facade.LocalOfficeContactEnricherFacade;
+
+/**
+ * Binds hit, miss, coalesced, rebuild and load metrics for the snapshot cache of each reference
+ * service and for the local office contact enrichment indexes.
+ */
+@Component
+public class ReferenceSnapshotCacheMetrics implements MeterBinder {
+
+  private static final String TAG_CACHE = "cache";
+  private static final String TAG_RESULT = "result";
+
+  private final List<ReferenceSnapshotCache<?>> caches = new ArrayList<>();
+
+  ReferenceSnapshotCacheMetrics(List<AbstractReferenceService<?, ?>> services,
+      DeclarationTypeService declarationTypeService,
+      CovidChangeCircumstanceService covidChangeCircumstanceService,
+      LocalOfficeContactEnricherFacade enricherFacade) {
+    services.forEach(service -> caches.add(service.getSnapshotCache()));
+    caches.add(declarationTypeService.getSnapshotCache());
+    caches.add(covidChangeCircumstanceService.getSnapshotCache());
+    caches.addAll(enricherFacade.getIndexCaches());
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    caches.forEach(cache -> bindTo(registry, cache));
+  }
+
+  /**
+   * Bind the metrics of a single snapshot cache.
+   *
+   * @param registry The registry to bind the metrics to.
+   * @param cache    The cache to bind.
+   */
+  private void bindTo(MeterRegistry registry, ReferenceSnapshotCache<?> cache) {
+    String name = cache.getName();
+
+    FunctionCounter.builder("reference.cache.gets", cache, ReferenceSnapshotCache::getHitCount)
+        .description("The number of reads of the cached snapshot.")
+        .tag(TAG_CACHE, name)
+        .tag(TAG_RESULT, "hit")
+        .register(registry);
+
+    FunctionCounter.builder("reference.cache.gets", cache, ReferenceSnapshotCache::getMissCount)
+        .description("The number of reads of the cached snapshot.")
+        .tag(TAG_CACHE, name)
+        .tag(TAG_RESULT, "miss")
+        .register(registry);
+
+    FunctionCounter.builder("reference.cache.gets", cache,
+            ReferenceSnapshotCache::getCoalescedCount)
+        .description("The number of reads of the cached snapshot.")
+        .tag(TAG_CACHE, name)
+        .tag(TAG_RESULT, "coalesced")
+        .register(registry);
+
+    FunctionCounter.builder("reference.cache.rebuilds", cache,
+            ReferenceSnapshotCache::getRebuildCount)
+        .description("The number of times the cached snapshot was rebuilt.")
+        .tag(TAG_CACHE, name)
+        .register(registry);
+
+    FunctionTimer.builder("reference.cache.loads", cache, ReferenceSnapshotCache::getLoadCount,
+            ReferenceSnapshotCache::getLoadNanos, TimeUnit.NANOSECONDS)
+        .description("The time taken to load the cached snapshot from the database.")
+        .tag(TAG_CACHE, name)
+        .register(registry);
+
+    Gauge.builder("reference.cache.size", cache, ReferenceSnapshotCache::getSize)
+        .description("The number of entities in the cached snapshot.")
+        .tag(TAG_CACHE, name)
+        .register(registry);
+  }
+}
@@ -0,0 +1,130 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.reference.api;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.OK;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import uk.nhs.hee.tis.trainee.reference.dto.TraineeType;
+
+class BundleResourceTest {
+
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+  private BundleResource controller;
+  private GenderResource genderResource;
+  private GradeResource gradeResource;
+  private LocalOfficeContactResource localOfficeContactResource;
+
+  @BeforeEach
+  void setUp() {
+    genderResource = mock(GenderResource.class);
+    gradeResource = mock(GradeResource.class);
+    localOfficeContactResource = mock(LocalOfficeContactResource.class);
+
+    controller = new BundleResource(mock(CollegeResource.class),
+        mock(CovidChangeCircumstanceResource.class), mock(CurriculumResource.class),
+        mock(DbcResource.class), mock(DeclarationTypeResource.class), genderResource,
+        gradeResource, mock(ImmigrationStatusResource.class), mock(LocalOfficeResource.class),
+        localOfficeContactResource, mock(LocalOfficeContactTypeResource.class),
+        mock(ProgrammeMembershipTypeResource.class), new JsonResponseFactory(OBJECT_MAPPER));
+  }
+
+  @Test
+  void shouldBundleRequestedTypesInTypeOrder() throws IOException {
+    when(gradeResource.getGrades()).thenReturn(part("[{\"label\":\"Grade\"}]", "\"a\""));
+    when(genderResource.getGenders()).thenReturn(part("[{\"label\":\"Gender\"}]", "\"b\""));
+
+    ResponseEntity<byte[]> response = controller.getBundle(List.of("grade", "gender"));
+
+    assertThat("Unexpected status code.", response.getStatusCode(), is(OK));
+
+    JsonNode bundle = OBJECT_MAPPER.readTree(response.getBody());
+    assertThat("Unexpected type count.", bundle.size(), is(2));
+    assertThat("Unexpected first type.", bundle.fieldNames().next(), is("gender"));
+    assertThat("Unexpected grade label.", bundle.get("grade").get(0).get("label").asText(),
+        is("Grade"));
+    assertThat("Unexpected gender label.", bundle.get("gender").get(0).get("label").asText(),
+        is("Gender"));
+  }
+
+  @Test
+  void shouldBundleDuplicateTypesOnce() throws IOException {
+    when(gradeResource.getGrades()).thenReturn(part("[]", "\"a\""));
+
+    ResponseEntity<byte[]> response = controller.getBundle(List.of("grade", "grade"));
+
+    JsonNode bundle = OBJECT_MAPPER.readTree(response.getBody());
+    assertThat("Unexpected type count.", bundle.size(), is(1));
+  }
+
+  @Test
+  void shouldBundleSpecialtyLocalOfficeContacts() throws IOException {
+    when(localOfficeContactResource.getLocalOfficeContacts(TraineeType.SPECIALTY)).thenReturn(
+        part("[{\"contact\":\"Contact\"}]", "\"a\""));
+
+    ResponseEntity<byte[]> response = controller.getBundle(List.of("local-office-contact"));
+
+    JsonNode bundle = OBJECT_MAPPER.readTree(response.getBody());
+    assertThat("Unexpected contact.",
+        bundle.get("local-office-contact").get(0).get("contact").asText(), is("Contact"));
+  }
+
+  @Test
+  void shouldReturnBadRequestWhenTypeNotRecognised() {
+    ResponseEntity<byte[]> response = controller.getBundle(List.of("grade", "unknown"));
+
+    assertThat("Unexpected status code.", response.getStatusCode(), is(BAD_REQUEST));
+    verifyNoInteractions(gradeResource);
+  }
+
+  @Test
+  void shouldReturnBadRequestWhenNoTypes() {
+    ResponseEntity<byte[]> response = controller.getBundle(List.of());
+
+    assertThat("Unexpected status code.", response.getStatusCode(), is(BAD_REQUEST));
+  }
+
+  /**
+   * Create a serialized JSON part for a bundle.
+   *
+   * @param json The serialized JSON.
+   * @param etag The ETag of the JSON.
+   * @return The part's response entity.
+   */
+  private static ResponseEntity<byte[]> part(String json, String etag) {
+    return ResponseEntity.ok().eTag(etag).body(json.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -34,7 +34,11 @@ import static org.springframework.http.HttpStatus.CREATED;
 import static org.springframework.http.HttpStatus.NO_CONTENT;
 import static org.springframework.http.HttpStatus.OK;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
 import java.net.URI;
+import java.time.Instant;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -43,9 +47,12 @@ import uk.nhs.hee.tis.trainee.reference.dto.CollegeDto;
 import uk.nhs.hee.tis.trainee.reference.mapper.CollegeMapperImpl;
 import uk.nhs.hee.tis.trainee.reference.model.College;
 import uk.nhs.hee.tis.trainee.reference.service.CollegeService;
+import uk.nhs.hee.tis.trainee.reference.service.ReferenceSnapshot;
 
 class CollegeResourceTest {
 
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
   private static final String DEFAULT_ID_1 = "DEFAULT_ID_1";
   private static final String DEFAULT_ID_2 = "DEFAULT_ID_2";
 
@@ -61,11 +68,12 @@ class CollegeResourceTest {
   @BeforeEach
   void setup() {
     service = mock(CollegeService.class);
-    controller = new CollegeResource(service, new CollegeMapperImpl());
+    controller = new CollegeResource(service, new CollegeMapperImpl(),
+        new JsonResponseFactory(OBJECT_MAPPER));
   }
 
   @Test
-  void shouldGetAllColleges() {
+  void shouldGetAllColleges() throws IOException {
     College entity1 = new College();
     entity1.setId(DEFAULT_ID_1);
     entity1.setTisId(DEFAULT_TIS_ID_1);
@@ -76,9 +84,15 @@ class CollegeResourceTest {
     entity2.setTisId(DEFAULT_TIS_ID_2);
     entity2.setLabel(DEFAULT_LABEL_2);
 
-    when(service.get()).thenReturn(List.of(entity1, entity2));
+    when(service.getSnapshot()).thenReturn(
+        new ReferenceSnapshot<>(1, List.of(entity1, entity2), Instant.now()));
+
+    ResponseEntity<byte[]> response = controller.getColleges();
+
+    assertThat("Unexpected status code.", response.getStatusCode(), is(OK));
+    assertThat("Unexpected ETag.", response.getHeaders().getETag(), notNullValue());
 
-    List<CollegeDto> dtos = controller.getColleges();
+    List<CollegeDto> dtos = OBJECT_MAPPER.readValue(response.getBody(), new TypeReference<>() {});
 
     assertThat("Unexpected response count.", dtos, hasSize(2));
 
@@ -22,21 +22,31 @@
 package uk.nhs.hee.tis.trainee.reference.api;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
+import static org.springframework.http.HttpStatus.OK;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.time.Instant;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
 import uk.nhs.hee.tis.trainee.reference.dto.CovidChangeCircumstanceDto;
 import uk.nhs.hee.tis.trainee.reference.mapper.CovidChangeCircumstanceMapperImpl;
 import uk.nhs.hee.tis.trainee.reference.model.CovidChangeCircumstance;
 import uk.nhs.hee.tis.trainee.reference.service.CovidChangeCircumstanceService;
+import uk.nhs.hee.tis.trainee.reference.service.ReferenceSnapshot;
 
 class CovidChangeCircumstanceResourceTest {
 
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
   private static final String DEFAULT_ID_1 = "DEFAULT_ID_1";
   private static final String DEFAULT_ID_2 = "DEFAULT_ID_2";
 
@@ -50,11 +60,11 @@ class CovidChangeCircumstanceResourceTest {
   public void setup() {
     service = mock(CovidChangeCircumstanceService.class);
     controller = new CovidChangeCircumstanceResource(service,
-        new CovidChangeCircumstanceMapperImpl());
+        new CovidChangeCircumstanceMapperImpl(), new JsonResponseFactory(OBJECT_MAPPER));
   }
 
   @Test
-  void shouldGetAllCovidChangeCircumstances() {
+  void shouldGetAllCovidChangeCircumstances() throws IOException {
     CovidChangeCircumstance entity1 = new CovidChangeCircumstance();
     entity1.setId(DEFAULT_ID_1);
     entity1.setLabel(DEFAULT_LABEL_1);
@@ -63,9 +73,16 @@ class CovidChangeCircumstanceResourceTest {
     entity2.setId(DEFAULT_ID_2);
     entity2.setLabel(DEFAULT_LABEL_2);
 
-    when(service.getCovidChangeCircumstances()).thenReturn(List.of(entity1, entity2));
+    when(service.getSnapshot()).thenReturn(
+        new ReferenceSnapshot<>(1, List.of(entity1, entity2), Instant.now()));
+
+    ResponseEntity<byte[]> response = controller.getCovidChangeCircumstance();
+
+    assertThat("Unexpected status code.", response.getStatusCode(), is(OK));
+    assertThat("Unexpected ETag.", response.getHeaders().getETag(), notNullValue());
 
-    List<CovidChangeCircumstanceDto> dtos = controller.getCovidChangeCircumstance();
+    List<CovidChangeCircumstanceDto> dtos = OBJECT_MAPPER.readValue(response.getBody(),
+        new TypeReference<>() {});
 
     assertThat("Unexpected response count.", dtos, hasSize(2));
 
@@ -37,7 +37,11 @@ import static org.springframework.http.HttpStatus.UNPROCESSABLE_ENTITY;
 import static uk.nhs.hee.tis.trainee.reference.dto.Status.CURRENT;
 import static uk.nhs.hee.tis.trainee.reference.dto.Status.INACTIVE;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
 import java.net.URI;
+import java.time.Instant;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -47,9 +51,12 @@ import uk.nhs.hee.tis.trainee.reference.dto.validator.CurriculumValidator;
 import uk.nhs.hee.tis.trainee.reference.mapper.CurriculumMapperImpl;
 import uk.nhs.hee.tis.trainee.reference.model.Curriculum;
 import uk.nhs.hee.tis.trainee.reference.service.CurriculumService;
+import uk.nhs.hee.tis.trainee.reference.service.ReferenceSnapshot;
 
 class CurriculumResourceTest {
 
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
   private static final String DEFAULT_ID_1 = "DEFAULT_ID_1";
   private static final String DEFAULT_ID_2 = "DEFAULT_ID_2";
 
@@ -71,11 +78,12 @@ class CurriculumResourceTest {
   void setup() {
     service = mock(CurriculumService.class);
     validator = mock(CurriculumValidator.class);
-    controller = new CurriculumResource(service, new CurriculumMapperImpl(), validator);
+    controller = new CurriculumResource(service, new CurriculumMapperImpl(), validator,
+        new JsonResponseFactory(OBJECT_MAPPER));
   }
 
   @Test
-  void shouldGetAllCurricula() {
+  void shouldGetAllCurricula() throws IOException {
     Curriculum entity1 = new Curriculum();
     entity1.setId(DEFAULT_ID_1);
     entity1.setTisId(DEFAULT_TIS_ID_1);
@@ -88,9 +96,16 @@ class CurriculumResourceTest {
     entity2.setLabel(DEFAULT_LABEL_2);
     entity2.setCurriculumSubType(DEFAULT_CURRICULUM_SUBTYPE_2);
 
-    when(service.get()).thenReturn(List.of(entity1, entity2));
+    when(service.getSnapshot()).thenReturn(
+        new ReferenceSnapshot<>(1, List.of(entity1, entity2), Instant.now()));
+
+    ResponseEntity<byte[]> response = controller.getCurricula();
+
+    assertThat("Unexpected status code.", response.getStatusCode(), is(OK));
+    assertThat("Unexpected ETag.", response.getHeaders().getETag(), notNullValue());
 
-    List<CurriculumDto> dtos = controller.getCurricula();
+    List<CurriculumDto> dtos = OBJECT_MAPPER.readValue(response.getBody(),
+        new TypeReference<>() {});
 
     assertThat("Unexpected response count.", dtos, hasSize(2));
 
@@ -34,7 +34,11 @@ import static org.springframework.http.HttpStatus.CREATED;
 import static org.springframework.http.HttpStatus.NO_CONTENT;
 import static org.springframework.http.HttpStatus.OK;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
 import java.net.URI;
+import java.time.Instant;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -43,9 +47,12 @@ import uk.nhs.hee.tis.trainee.reference.dto.DbcDto;
 import uk.nhs.hee.tis.trainee.reference.mapper.DbcMapperImpl;
 import uk.nhs.hee.tis.trainee.reference.model.Dbc;
 import uk.nhs.hee.tis.trainee.reference.service.DbcService;
+import uk.nhs.hee.tis.trainee.reference.service.ReferenceSnapshot;
 
 class DbcResourceTest {
 
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
   private static final String DEFAULT_ID_1 = "DEFAULT_ID_1";
   private static final String DEFAULT_ID_2 = "DEFAULT_ID_2";
 
@@ -68,7 +75,8 @@ class DbcResourceTest {
   @BeforeEach
   void setup() {
     service = mock(DbcService.class);
-    controller = new DbcResource(service, new DbcMapperImpl());
+    controller = new DbcResource(service, new DbcMapperImpl(),
+        new JsonResponseFactory(OBJECT_MAPPER));
   }
 
   /**
@@ -92,7 +100,7 @@ class DbcResourceTest {
   }
 
   @Test
-  void shouldGetAllDbcs() {
+  void shouldGetAllDbcs() throws IOException {
     Dbc entity1 = new Dbc();
     entity1.setId(DEFAULT_ID_1);
     entity1.setTisId(DEFAULT_TIS_ID_1);
@@ -107,9 +115,15 @@ class DbcResourceTest {
     entity2.setType(DEFAULT_TYPE_2);
     entity2.setInternal(DEFAULT_INTERNAL_2);
 
-    when(service.get()).thenReturn(List.of(entity1, entity2));
+    when(service.getSnapshot()).thenReturn(
+        new ReferenceSnapshot<>(1, List.of(entity1, entity2), Instant.now()));
+
+    ResponseEntity<byte[]> response = controller.getDbcs();
+
+    assertThat("Unexpected status code.", response.getStatusCode(), is(OK));
+    assertThat("Unexpected ETag.", response.getHeaders().getETag(), notNullValue());
 
-    List<DbcDto> dtos = controller.getDbcs();
+    List<DbcDto> dtos = OBJECT_MAPPER.readValue(response.getBody(), new TypeReference<>() {});
 
     assertThat("Unexpected response count.", dtos, hasSize(2));
 
@@ -21,21 +21,31 @@
 package uk.nhs.hee.tis.trainee.reference.api;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
+import static org.springframework.http.HttpStatus.OK;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.time.Instant;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
 import uk.nhs.hee.tis.trainee.reference.dto.DeclarationTypeDto;
 import uk.nhs.hee.tis.trainee.reference.mapper.DeclarationTypeMapperImpl;
 import uk.nhs.hee.tis.trainee.reference.model.DeclarationType;
 import uk.nhs.hee.tis.trainee.reference.service.DeclarationTypeService;
+import uk.nhs.hee.tis.trainee.reference.service.ReferenceSnapshot;
 
 class DeclarationTypeResourceTest {
 
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
   private static final String DEFAULT_ID_1 = "DEFAULT_ID_1";
   private static final String DEFAULT_ID_2 = "DEFAULT_ID_2";
 
@@ -48,11 +58,12 @@ class DeclarationTypeResourceTest {
   @BeforeEach
   public void setup() {
     service = mock(DeclarationTypeService.class);
-    controller = new DeclarationTypeResource(service, new DeclarationTypeMapperImpl());
+    controller = new DeclarationTypeResource(service, new DeclarationTypeMapperImpl(),
+        new JsonResponseFactory(OBJECT_MAPPER));
   }
 
   @Test
-  void shouldGetAllDeclarationType() {
+  void shouldGetAllDeclarationType() throws IOException {
     DeclarationType entity1 = new DeclarationType();
     entity1.setId(DEFAULT_ID_1);
     entity1.setLabel(DEFAULT_LABEL_1);
@@ -61,9 +72,16 @@ class DeclarationTypeResourceTest {
     entity2.setId(DEFAULT_ID_2);
     entity2.setLabel(DEFAULT_LABEL_2);
 
-    when(service.getDeclarationType()).thenReturn(List.of(entity1, entity2));
+    when(service.getSnapshot()).thenReturn(
+        new ReferenceSnapshot<>(1, List.of(entity1, entity2), Instant.now()));
+
+    ResponseEntity<byte[]> response = controller.getDeclarationTypes();
+
+    assertThat("Unexpected status code.", response.getStatusCode(), is(OK));
+    assertThat("Unexpected ETag.", response.getHeaders().getETag(), notNullValue());
 
-    List<DeclarationTypeDto> dtos = controller.getDeclarationTypes();
+    List<DeclarationTypeDto> dtos = OBJECT_MAPPER.readValue(response.getBody(),
+        new TypeReference<>() {});
 
     assertThat("Unexpected response count.", dtos, hasSize(2));
 
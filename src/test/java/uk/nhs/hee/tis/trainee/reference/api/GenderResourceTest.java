@@ -21,6 +21,7 @@
 
 package uk.nhs.hee.tis.trainee.reference.api;
 
+import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -33,7 +34,11 @@ import static org.springframework.http.HttpStatus.CREATED;
 import static org.springframework.http.HttpStatus.NO_CONTENT;
 import static org.springframework.http.HttpStatus.OK;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
 import java.net.URI;
+import java.time.Instant;
 import java.util.List;
 import org.hamcrest.CoreMatchers;
 import org.junit.jupiter.api.BeforeEach;
@@ -43,9 +48,12 @@ import uk.nhs.hee.tis.trainee.reference.dto.GenderDto;
 import uk.nhs.hee.tis.trainee.reference.mapper.GenderMapperImpl;
 import uk.nhs.hee.tis.trainee.reference.model.Gender;
 import uk.nhs.hee.tis.trainee.reference.service.GenderService;
+import uk.nhs.hee.tis.trainee.reference.service.ReferenceSnapshot;
 
 class GenderResourceTest {
 
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
   private static final String DEFAULT_ID_1 = "DEFAULT_ID_1";
   private static final String DEFAULT_ID_2 = "DEFAULT_ID_2";
 
@@ -61,7 +69,8 @@ class GenderResourceTest {
   @BeforeEach
   void setup() {
     service = mock(GenderService.class);
-    controller = new GenderResource(service, new GenderMapperImpl());
+    controller = new GenderResource(service, new GenderMapperImpl(),
+        new JsonResponseFactory(OBJECT_MAPPER));
   }
 
   /**
@@ -81,7 +90,7 @@ class GenderResourceTest {
   }
 
   @Test
-  void shouldGetAllGenders() {
+  void shouldGetAllGenders() throws IOException {
     Gender entity1 = new Gender();
     entity1.setId(DEFAULT_ID_1);
     entity1.setTisId(DEFAULT_TIS_ID_1);
@@ -92,9 +101,15 @@ class GenderResourceTest {
     entity2.setTisId(DEFAULT_TIS_ID_2);
     entity2.setLabel(DEFAULT_LABEL_2);
 
-    when(service.get()).thenReturn(List.of(entity1, entity2));
+    when(service.getSnapshot()).thenReturn(
+        new ReferenceSnapshot<>(1, List.of(entity1, entity2), Instant.now()));
+
+    ResponseEntity<byte[]> response = controller.getGenders();
+
+    assertThat("Unexpected status code.", response.getStatusCode(), is(OK));
+    assertThat("Unexpected ETag.", response.getHeaders().getETag(), notNullValue());
 
-    List<GenderDto> dtos = controller.getGenders();
+    List<GenderDto> dtos = OBJECT_MAPPER.readValue(response.getBody(), new TypeReference<>() {});
 
     assertThat("Unexpected response count.", dtos, hasSize(2));
 
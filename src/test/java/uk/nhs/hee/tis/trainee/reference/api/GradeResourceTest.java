@@ -29,6 +29,7 @@ import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.http.HttpStatus.CREATED;
@@ -38,19 +39,38 @@ import static org.springframework.http.HttpStatus.UNPROCESSABLE_ENTITY;
 import static uk.nhs.hee.tis.trainee.reference.dto.Status.CURRENT;
 import static uk.nhs.hee.tis.trainee.reference.dto.Status.INACTIVE;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import uk.nhs.hee.tis.trainee.reference.dto.BulkWriteResultDto;
+import uk.nhs.hee.tis.trainee.reference.dto.BulkWriteStatus;
 import uk.nhs.hee.tis.trainee.reference.dto.GradeDto;
+import uk.nhs.hee.tis.trainee.reference.dto.ReferenceChangesDto;
 import uk.nhs.hee.tis.trainee.reference.dto.validator.GradeValidator;
 import uk.nhs.hee.tis.trainee.reference.mapper.GradeMapperImpl;
 import uk.nhs.hee.tis.trainee.reference.model.Grade;
+import uk.nhs.hee.tis.trainee.reference.repository.ReferenceWrite;
 import uk.nhs.hee.tis.trainee.reference.service.GradeService;
+import uk.nhs.hee.tis.trainee.reference.service.ReferenceChanges;
+import uk.nhs.hee.tis.trainee.reference.service.ReferenceSnapshot;
 
 class GradeResourceTest {
 
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
   private static final String DEFAULT_ID_1 = "DEFAULT_ID_1";
   private static final String DEFAULT_ID_2 = "DEFAULT_ID_2";
 
@@ -68,7 +88,8 @@ class GradeResourceTest {
   void setup() {
     service = mock(GradeService.class);
     validator = mock(GradeValidator.class);
-    controller = new GradeResource(service, new GradeMapperImpl(), validator);
+    controller = new GradeResource(service, new GradeMapperImpl(), validator,
+        new JsonResponseFactory(OBJECT_MAPPER));
   }
 
   /**
@@ -93,7 +114,7 @@ class GradeResourceTest {
   }
 
   @Test
-  void shouldGetAllGrades() {
+  void shouldGetAllGrades() throws IOException {
     Grade entity1 = new Grade();
     entity1.setId(DEFAULT_ID_1);
     entity1.setTisId(DEFAULT_TIS_ID_1);
@@ -104,13 +125,15 @@ class GradeResourceTest {
     entity2.setTisId(DEFAULT_TIS_ID_2);
     entity2.setLabel(DEFAULT_LABEL_2);
 
-    when(service.get()).thenReturn(List.of(entity1, entity2));
+    when(service.getSnapshot()).thenReturn(
+        new ReferenceSnapshot<>(1, List.of(entity1, entity2), Instant.now()));
 
-    ResponseEntity<List<GradeDto>> response = controller.getGrades();
+    ResponseEntity<byte[]> response = controller.getGrades();
 
     assertThat("Unexpected status code.", response.getStatusCode(), is(OK));
+    assertThat("Unexpected ETag.", response.getHeaders().getETag(), notNullValue());
 
-    List<GradeDto> dtos = response.getBody();
+    List<GradeDto> dtos = OBJECT_MAPPER.readValue(response.getBody(), new TypeReference<>() {});
     assertThat("Unexpected response count.", dtos, hasSize(2));
 
     GradeDto dto1 = dtos.get(0);
@@ -124,6 +147,64 @@ class GradeResourceTest {
     assertThat("Unexpected label.", dto2.getLabel(), is(DEFAULT_LABEL_2));
   }
 
+  @Test
+  void shouldStreamAllGradesAsNdjson() throws IOException {
+    Grade entity1 = new Grade();
+    entity1.setId(DEFAULT_ID_1);
+    entity1.setTisId(DEFAULT_TIS_ID_1);
+    entity1.setLabel(DEFAULT_LABEL_1);
+
+    Grade entity2 = new Grade();
+    entity2.setId(DEFAULT_ID_2);
+    entity2.setTisId(DEFAULT_TIS_ID_2);
+    entity2.setLabel(DEFAULT_LABEL_2);
+
+    when(service.stream()).thenReturn(Stream.of(entity1, entity2));
+
+    ResponseEntity<StreamingResponseBody> response = controller.streamGrades();
+
+    assertThat("Unexpected status code.", response.getStatusCode(), is(OK));
+    assertThat("Unexpected content type.", response.getHeaders().getContentType(),
+        is(MediaType.APPLICATION_NDJSON));
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    response.getBody().writeTo(out);
+    String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+    assertThat("Unexpected response count.", lines.length, is(2));
+
+    GradeDto dto1 = OBJECT_MAPPER.readValue(lines[0], GradeDto.class);
+    assertThat("Unexpected TIS ID.", dto1.getTisId(), is(DEFAULT_TIS_ID_1));
+    assertThat("Unexpected label.", dto1.getLabel(), is(DEFAULT_LABEL_1));
+
+    GradeDto dto2 = OBJECT_MAPPER.readValue(lines[1], GradeDto.class);
+    assertThat("Unexpected TIS ID.", dto2.getTisId(), is(DEFAULT_TIS_ID_2));
+    assertThat("Unexpected label.", dto2.getLabel(), is(DEFAULT_LABEL_2));
+  }
+
+  @Test
+  void shouldGetGradeChangesSinceToken() {
+    Grade entity1 = new Grade();
+    entity1.setId(DEFAULT_ID_1);
+    entity1.setTisId(DEFAULT_TIS_ID_1);
+    entity1.setLabel(DEFAULT_LABEL_1);
+
+    when(service.getChanges(5L)).thenReturn(
+        new ReferenceChanges<>(List.of(entity1), List.of(DEFAULT_TIS_ID_2), 7L, false));
+
+    ResponseEntity<ReferenceChangesDto<GradeDto>> response = controller.getGradeChanges(5L);
+
+    assertThat("Unexpected status code.", response.getStatusCode(), is(OK));
+
+    ReferenceChangesDto<GradeDto> changes = response.getBody();
+    assertThat("Unexpected changed count.", changes.changed(), hasSize(1));
+    GradeDto dto = changes.changed().get(0);
+    assertThat("Unexpected TIS ID.", dto.getTisId(), is(DEFAULT_TIS_ID_1));
+    assertThat("Unexpected label.", dto.getLabel(), is(DEFAULT_LABEL_1));
+    assertThat("Unexpected deleted TIS IDs.", changes.deleted(), is(List.of(DEFAULT_TIS_ID_2)));
+    assertThat("Unexpected token.", changes.token(), is(7L));
+    assertThat("Unexpected full flag.", changes.full(), is(false));
+  }
+
   @Test
   void shouldCreateGradeWhenCreateValid() {
     GradeDto dto = new GradeDto();
@@ -227,6 +308,75 @@ class GradeResourceTest {
     verifyNoMoreInteractions(service);
   }
 
+  @Test
+  void shouldBulkUpsertValidGradesAndDeleteInvalidGrades() {
+    GradeDto validDto = new GradeDto();
+    validDto.setTisId(DEFAULT_TIS_ID_1);
+    validDto.setLabel(DEFAULT_LABEL_1);
+
+    GradeDto invalidDto = new GradeDto();
+    invalidDto.setTisId(DEFAULT_TIS_ID_2);
+    invalidDto.setLabel(DEFAULT_LABEL_2);
+
+    when(validator.isValid(validDto)).thenReturn(true);
+    when(validator.isValid(invalidDto)).thenReturn(false);
+    when(service.writeAll(any())).thenReturn(Set.of());
+
+    ResponseEntity<List<BulkWriteResultDto>> response = controller.bulkUpsertGrades(
+        List.of(validDto, invalidDto));
+
+    assertThat("Unexpected status code.", response.getStatusCode(), is(OK));
+    assertThat("Unexpected results.", response.getBody(), is(List.of(
+        new BulkWriteResultDto(DEFAULT_TIS_ID_1, BulkWriteStatus.UPSERTED),
+        new BulkWriteResultDto(DEFAULT_TIS_ID_2, BulkWriteStatus.INVALID))));
+
+    ArgumentCaptor<List<ReferenceWrite<Grade>>> writesCaptor = ArgumentCaptor.forClass(
+        List.class);
+    verify(service).writeAll(writesCaptor.capture());
+
+    List<ReferenceWrite<Grade>> writes = writesCaptor.getValue();
+    assertThat("Unexpected write count.", writes, hasSize(2));
+    assertThat("Unexpected TIS ID.", writes.get(0).tisId(), is(DEFAULT_TIS_ID_1));
+    assertThat("Unexpected label.", writes.get(0).entity().getLabel(), is(DEFAULT_LABEL_1));
+    assertThat("Unexpected TIS ID.", writes.get(1).tisId(), is(DEFAULT_TIS_ID_2));
+    assertThat("Unexpected delete flag.", writes.get(1).isDelete(), is(true));
+  }
+
+  @Test
+  void shouldNotBulkWriteGradesWithoutTisId() {
+    GradeDto dto = new GradeDto();
+    dto.setLabel(DEFAULT_LABEL_1);
+
+    when(service.writeAll(any())).thenReturn(Set.of());
+
+    ResponseEntity<List<BulkWriteResultDto>> response = controller.bulkUpsertGrades(
+        List.of(dto));
+
+    assertThat("Unexpected results.", response.getBody(),
+        is(List.of(new BulkWriteResultDto(null, BulkWriteStatus.INVALID))));
+    verify(service).writeAll(List.of());
+    verifyNoInteractions(validator);
+  }
+
+  @Test
+  void shouldReturnFailedGradesWhenBulkWriteFails() {
+    GradeDto dto1 = new GradeDto();
+    dto1.setTisId(DEFAULT_TIS_ID_1);
+
+    GradeDto dto2 = new GradeDto();
+    dto2.setTisId(DEFAULT_TIS_ID_2);
+
+    when(validator.isValid(any())).thenReturn(true);
+    when(service.writeAll(any())).thenReturn(Set.of(1));
+
+    ResponseEntity<List<BulkWriteResultDto>> response = controller.bulkUpsertGrades(
+        List.of(dto1, dto2));
+
+    assertThat("Unexpected results.", response.getBody(), is(List.of(
+        new BulkWriteResultDto(DEFAULT_TIS_ID_1, BulkWriteStatus.UPSERTED),
+        new BulkWriteResultDto(DEFAULT_TIS_ID_2, BulkWriteStatus.FAILED))));
+  }
+
   @Test
   void shouldDeleteGrade() {
     ResponseEntity<Void> response = controller.deleteGrade(DEFAULT_TIS_ID_1);
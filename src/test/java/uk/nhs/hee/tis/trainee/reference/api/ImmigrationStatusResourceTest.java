@@ -33,7 +33,11 @@ import static org.springframework.http.HttpStatus.CREATED;
 import static org.springframework.http.HttpStatus.NO_CONTENT;
 import static org.springframework.http.HttpStatus.OK;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
 import java.net.URI;
+import java.time.Instant;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -42,9 +46,12 @@ import uk.nhs.hee.tis.trainee.reference.dto.ImmigrationStatusDto;
 import uk.nhs.hee.tis.trainee.reference.mapper.ImmigrationStatusMapperImpl;
 import uk.nhs.hee.tis.trainee.reference.model.ImmigrationStatus;
 import uk.nhs.hee.tis.trainee.reference.service.ImmigrationStatusService;
+import uk.nhs.hee.tis.trainee.reference.service.ReferenceSnapshot;
 
 class ImmigrationStatusResourceTest {
 
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
   private static final String DEFAULT_ID_1 = "DEFAULT_ID_1";
   private static final String DEFAULT_ID_2 = "DEFAULT_ID_2";
 
@@ -60,7 +67,8 @@ class ImmigrationStatusResourceTest {
   @BeforeEach
   void setup() {
     service = mock(ImmigrationStatusService.class);
-    controller = new ImmigrationStatusResource(service, new ImmigrationStatusMapperImpl());
+    controller = new ImmigrationStatusResource(service, new ImmigrationStatusMapperImpl(),
+        new JsonResponseFactory(OBJECT_MAPPER));
   }
 
   /**
@@ -80,7 +88,7 @@ class ImmigrationStatusResourceTest {
   }
 
   @Test
-  void shouldGetAllImmigrationStatus() {
+  void shouldGetAllImmigrationStatus() throws IOException {
     ImmigrationStatus entity1 = new ImmigrationStatus();
     entity1.setId(DEFAULT_ID_1);
     entity1.setTisId(DEFAULT_TIS_ID_1);
@@ -91,9 +99,16 @@ class ImmigrationStatusResourceTest {
     entity2.setTisId(DEFAULT_TIS_ID_2);
     entity2.setLabel(DEFAULT_LABEL_2);
 
-    when(service.get()).thenReturn(List.of(entity1, entity2));
+    when(service.getSnapshot()).thenReturn(
+        new ReferenceSnapshot<>(1, List.of(entity1, entity2), Instant.now()));
+
+    ResponseEntity<byte[]> response = controller.getImmigrationStatuses();
+
+    assertThat("Unexpected status code.", response.getStatusCode(), is(OK));
+    assertThat("Unexpected ETag.", response.getHeaders().getETag(), notNullValue());
 
-    List<ImmigrationStatusDto> dtos = controller.getImmigrationStatuses();
+    List<ImmigrationStatusDto> dtos = OBJECT_MAPPER.readValue(response.getBody(),
+        new TypeReference<>() {});
 
     assertThat("Unexpected response count.", dtos, hasSize(2));
 
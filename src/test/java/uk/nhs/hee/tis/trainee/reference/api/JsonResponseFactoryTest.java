@@ -0,0 +1,255 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.reference.api;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.http.HttpStatus.OK;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import uk.nhs.hee.tis.trainee.reference.service.ReferenceSnapshot;
+
+class JsonResponseFactoryTest {
+
+  private JsonResponseFactory factory;
+  private Supplier<Object> body;
+
+  @BeforeEach
+  void setUp() {
+    factory = new JsonResponseFactory(new ObjectMapper());
+    body = mock(Supplier.class);
+  }
+
+  @Test
+  void shouldReturnSerializedBodyWithStrongEtag() {
+    when(body.get()).thenReturn(List.of("a", "b"));
+    ReferenceSnapshot<String> snapshot = new ReferenceSnapshot<>(1, List.of(), Instant.now());
+
+    ResponseEntity<byte[]> response = factory.ok(snapshot, body);
+
+    assertThat("Unexpected status.", response.getStatusCode(), is(OK));
+    assertThat("Unexpected content type.", response.getHeaders().getContentType(),
+        is(MediaType.APPLICATION_JSON));
+    assertThat("Unexpected body.", new String(response.getBody(), StandardCharsets.UTF_8),
+        is("[\"a\",\"b\"]"));
+    assertThat("Unexpected ETag.", response.getHeaders().getETag(),
+        matchesPattern("\"[0-9a-f]{64}\""));
+  }
+
+  @Test
+  void shouldSerializeOncePerSnapshot() {
+    when(body.get()).thenReturn(List.of("a"));
+    ReferenceSnapshot<String> snapshot = new ReferenceSnapshot<>(1, List.of(), Instant.now());
+
+    ResponseEntity<byte[]> response1 = factory.ok(snapshot, body);
+    ResponseEntity<byte[]> response2 = factory.ok(snapshot, body);
+
+    assertThat("Unexpected body.", response2.getBody(), sameInstance(response1.getBody()));
+    verify(body).get();
+  }
+
+  @Test
+  void shouldSerializeOncePerVariant() {
+    when(body.get()).thenReturn(List.of("a"), List.of("b"));
+    ReferenceSnapshot<String> snapshot = new ReferenceSnapshot<>(1, List.of(), Instant.now());
+
+    ResponseEntity<byte[]> response1 = factory.ok(snapshot, "one", body);
+    ResponseEntity<byte[]> response2 = factory.ok(snapshot, "two", body);
+
+    assertThat("Unexpected ETag.", response2.getHeaders().getETag(),
+        not(response1.getHeaders().getETag()));
+    verify(body, times(2)).get();
+  }
+
+  @Test
+  void shouldReturnSameEtagForSameContentAcrossSnapshots() {
+    when(body.get()).thenReturn(List.of("a"));
+    ReferenceSnapshot<String> snapshot1 = new ReferenceSnapshot<>(1, List.of(), Instant.now());
+    ReferenceSnapshot<String> snapshot2 = new ReferenceSnapshot<>(2, List.of(), Instant.now());
+
+    ResponseEntity<byte[]> response1 = factory.ok(snapshot1, body);
+    ResponseEntity<byte[]> response2 = factory.ok(snapshot2, body);
+
+    assertThat("Unexpected ETag.", response2.getHeaders().getETag(),
+        is(response1.getHeaders().getETag()));
+  }
+
+  @Test
+  void shouldStreamItemsAsNdjson() throws IOException {
+    ResponseEntity<StreamingResponseBody> response = factory.ndjson(
+        () -> Stream.of(Map.of("id", "1"), Map.of("id", "2")));
+
+    assertThat("Unexpected status code.", response.getStatusCode(), is(OK));
+    assertThat("Unexpected content type.", response.getHeaders().getContentType(),
+        is(MediaType.APPLICATION_NDJSON));
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    response.getBody().writeTo(out);
+
+    assertThat("Unexpected body.", out.toString(StandardCharsets.UTF_8),
+        is("{\"id\":\"1\"}\n{\"id\":\"2\"}\n"));
+  }
+
+  @Test
+  void shouldCloseStreamWhenWritten() throws IOException {
+    AtomicBoolean closed = new AtomicBoolean();
+    Stream<String> items = Stream.of("a").onClose(() -> closed.set(true));
+
+    ResponseEntity<StreamingResponseBody> response = factory.ndjson(() -> items);
+    assertThat("Unexpected closed flag.", closed.get(), is(false));
+
+    response.getBody().writeTo(new ByteArrayOutputStream());
+    assertThat("Unexpected closed flag.", closed.get(), is(true));
+  }
+
+  @Test
+  void shouldNotCloseOutputStreamWhenWritten() throws IOException {
+    OutputStream out = mock(OutputStream.class);
+
+    factory.ndjson(() -> Stream.of("a", "b")).getBody().writeTo(out);
+
+    verify(out, never()).close();
+  }
+
+  @Test
+  void shouldNotFlushOutputStreamAfterEachItem() throws IOException {
+    OutputStream out = mock(OutputStream.class);
+
+    factory.ndjson(() -> Stream.of("a", "b")).getBody().writeTo(out);
+
+    verify(out, never()).flush();
+  }
+
+  @Test
+  void shouldNotOpenStreamUntilWritten() throws IOException {
+    AtomicBoolean opened = new AtomicBoolean();
+
+    ResponseEntity<StreamingResponseBody> response = factory.ndjson(() -> {
+      opened.set(true);
+      return Stream.of("a");
+    });
+    assertThat("Unexpected opened flag.", opened.get(), is(false));
+
+    response.getBody().writeTo(new ByteArrayOutputStream());
+    assertThat("Unexpected opened flag.", opened.get(), is(true));
+  }
+
+  @Test
+  void shouldBundlePartsInTypeOrder() {
+    Map<String, ResponseEntity<byte[]>> parts = new LinkedHashMap<>();
+    parts.put("grade", part("[{\"id\":\"1\"}]", "\"a\""));
+    parts.put("gender", part("[]", "\"b\""));
+
+    ResponseEntity<byte[]> response = factory.bundle(parts);
+
+    assertThat("Unexpected status code.", response.getStatusCode(), is(OK));
+    assertThat("Unexpected content type.", response.getHeaders().getContentType(),
+        is(MediaType.APPLICATION_JSON));
+    assertThat("Unexpected body.", new String(response.getBody(), StandardCharsets.UTF_8),
+        is("{\"gender\":[],\"grade\":[{\"id\":\"1\"}]}"));
+    assertThat("Unexpected ETag.", response.getHeaders().getETag(),
+        matchesPattern("\"[0-9a-f]{64}\""));
+  }
+
+  @Test
+  void shouldReuseBundleWhenPartsUnchanged() {
+    ResponseEntity<byte[]> response1 = factory.bundle(Map.of("grade", part("[]", "\"a\"")));
+    ResponseEntity<byte[]> response2 = factory.bundle(Map.of("grade", part("[]", "\"a\"")));
+
+    assertThat("Unexpected body.", response2.getBody(), sameInstance(response1.getBody()));
+    assertThat("Unexpected ETag.", response2.getHeaders().getETag(),
+        is(response1.getHeaders().getETag()));
+  }
+
+  @Test
+  void shouldReuseBundleWhenTypesRequestedInAnyOrder() {
+    Map<String, ResponseEntity<byte[]>> parts1 = new LinkedHashMap<>();
+    parts1.put("grade", part("[]", "\"a\""));
+    parts1.put("gender", part("[]", "\"b\""));
+    Map<String, ResponseEntity<byte[]>> parts2 = new LinkedHashMap<>();
+    parts2.put("gender", part("[]", "\"b\""));
+    parts2.put("grade", part("[]", "\"a\""));
+
+    ResponseEntity<byte[]> response1 = factory.bundle(parts1);
+    ResponseEntity<byte[]> response2 = factory.bundle(parts2);
+
+    assertThat("Unexpected body.", response2.getBody(), sameInstance(response1.getBody()));
+    assertThat("Unexpected ETag.", response2.getHeaders().getETag(),
+        is(response1.getHeaders().getETag()));
+  }
+
+  @Test
+  void shouldRebuildBundleWhenAnyPartChanges() {
+    ResponseEntity<byte[]> response1 = factory.bundle(Map.of("grade", part("[]", "\"a\"")));
+    ResponseEntity<byte[]> response2 = factory.bundle(
+        Map.of("grade", part("[{\"id\":\"1\"}]", "\"b\"")));
+
+    assertThat("Unexpected ETag.", response2.getHeaders().getETag(),
+        not(response1.getHeaders().getETag()));
+    assertThat("Unexpected body.", new String(response2.getBody(), StandardCharsets.UTF_8),
+        is("{\"grade\":[{\"id\":\"1\"}]}"));
+  }
+
+  @Test
+  void shouldUseDifferentEtagsForDifferentTypesWithSameParts() {
+    ResponseEntity<byte[]> response1 = factory.bundle(Map.of("grade", part("[]", "\"a\"")));
+    ResponseEntity<byte[]> response2 = factory.bundle(Map.of("gender", part("[]", "\"a\"")));
+
+    assertThat("Unexpected ETag.", response2.getHeaders().getETag(),
+        not(response1.getHeaders().getETag()));
+  }
+
+  /**
+   * Create a serialized JSON part for a bundle.
+   *
+   * @param json The serialized JSON.
+   * @param etag The ETag of the JSON.
+   * @return The part's response entity.
+   */
+  private static ResponseEntity<byte[]> part(String json, String etag) {
+    return ResponseEntity.ok().eTag(etag).body(json.getBytes(StandardCharsets.UTF_8));
+  }
+}
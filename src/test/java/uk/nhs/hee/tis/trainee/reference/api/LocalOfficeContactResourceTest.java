@@ -34,7 +34,11 @@ import static org.springframework.http.HttpStatus.CREATED;
 import static org.springframework.http.HttpStatus.NO_CONTENT;
 import static org.springframework.http.HttpStatus.OK;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
 import java.net.URI;
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
@@ -49,9 +53,12 @@ import uk.nhs.hee.tis.trainee.reference.dto.TraineeType;
 import uk.nhs.hee.tis.trainee.reference.mapper.LocalOfficeContactMapperImpl;
 import uk.nhs.hee.tis.trainee.reference.model.LocalOfficeContact;
 import uk.nhs.hee.tis.trainee.reference.service.LocalOfficeContactService;
+import uk.nhs.hee.tis.trainee.reference.service.ReferenceSnapshot;
 
 class LocalOfficeContactResourceTest {
 
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
   private static final String DEFAULT_TIS_ID_1 = "1";
   private static final String DEFAULT_TIS_ID_2 = "2";
 
@@ -79,7 +86,8 @@ class LocalOfficeContactResourceTest {
   @BeforeEach
   void setup() {
     service = mock(LocalOfficeContactService.class);
-    controller = new LocalOfficeContactResource(service, new LocalOfficeContactMapperImpl());
+    controller = new LocalOfficeContactResource(service, new LocalOfficeContactMapperImpl(),
+        new JsonResponseFactory(OBJECT_MAPPER));
   }
 
   /**
@@ -102,7 +110,7 @@ class LocalOfficeContactResourceTest {
 
   @ParameterizedTest
   @EnumSource(TraineeType.class)
-  void shouldGetAllLocalOfficeContacts(TraineeType traineeType) {
+  void shouldGetAllLocalOfficeContacts(TraineeType traineeType) throws IOException {
     LocalOfficeContact entity1 = new LocalOfficeContact();
     entity1.setTisId(DEFAULT_TIS_ID_1);
     entity1.setLocalOfficeId(DEFAULT_LOCAL_OFFICE_ID_1);
@@ -111,6 +119,7 @@ class LocalOfficeContactResourceTest {
     entity1.setLabel(DEFAULT_LABEL_1);
     entity1.setLocalOfficeName(DEFAULT_LOCAL_OFFICE_NAME_1);
     entity1.setContactTypeName(DEFAULT_CONTACT_TYPE_NAME_1);
+    entity1.setContactTypeDisplayName(DEFAULT_CONTACT_TYPE_NAME_1);
 
     LocalOfficeContact entity2 = new LocalOfficeContact();
     entity2.setTisId(DEFAULT_TIS_ID_2);
@@ -120,10 +129,20 @@ class LocalOfficeContactResourceTest {
     entity2.setLabel(DEFAULT_LABEL_2);
     entity2.setLocalOfficeName(DEFAULT_LOCAL_OFFICE_NAME_2);
     entity2.setContactTypeName(DEFAULT_CONTACT_TYPE_NAME_2);
+    entity2.setContactTypeDisplayName(DEFAULT_CONTACT_TYPE_NAME_2);
+
+    ReferenceSnapshot<LocalOfficeContact> snapshot = new ReferenceSnapshot<>(1,
+        List.of(), Instant.now());
+    when(service.getSnapshot()).thenReturn(snapshot);
+    when(service.get(snapshot, traineeType)).thenReturn(List.of(entity1, entity2));
+
+    ResponseEntity<byte[]> response = controller.getLocalOfficeContacts(traineeType);
 
-    when(service.get(traineeType)).thenReturn(List.of(entity1, entity2));
+    assertThat("Unexpected status code.", response.getStatusCode(), is(OK));
+    assertThat("Unexpected ETag.", response.getHeaders().getETag(), notNullValue());
 
-    List<LocalOfficeContactDetailsDto> dtos = controller.getLocalOfficeContacts(traineeType);
+    List<LocalOfficeContactDetailsDto> dtos = OBJECT_MAPPER.readValue(response.getBody(),
+        new TypeReference<>() {});
 
     assertThat("Unexpected response count.", dtos, hasSize(2));
 
@@ -160,14 +179,24 @@ class LocalOfficeContactResourceTest {
       SPECIALTY     | ''
       """)
   void shouldGetAllLocalOfficeContactsWithoutTraineeTypeSuffix(TraineeType traineeType,
-      String suffix) {
+      String suffix) throws IOException {
     LocalOfficeContact entity = new LocalOfficeContact();
     entity.setTisId(DEFAULT_TIS_ID_1);
     entity.setContactTypeName(DEFAULT_CONTACT_TYPE_NAME_1 + suffix);
+    entity.setContactTypeDisplayName(DEFAULT_CONTACT_TYPE_NAME_1);
+
+    ReferenceSnapshot<LocalOfficeContact> snapshot = new ReferenceSnapshot<>(1,
+        List.of(), Instant.now());
+    when(service.getSnapshot()).thenReturn(snapshot);
+    when(service.get(snapshot, traineeType)).thenReturn(List.of(entity));
 
-    when(service.get(traineeType)).thenReturn(List.of(entity));
+    ResponseEntity<byte[]> response = controller.getLocalOfficeContacts(traineeType);
 
-    List<LocalOfficeContactDetailsDto> dtos = controller.getLocalOfficeContacts(traineeType);
+    assertThat("Unexpected status code.", response.getStatusCode(), is(OK));
+    assertThat("Unexpected ETag.", response.getHeaders().getETag(), notNullValue());
+
+    List<LocalOfficeContactDetailsDto> dtos = OBJECT_MAPPER.readValue(response.getBody(),
+        new TypeReference<>() {});
 
     assertThat("Unexpected response count.", dtos, hasSize(1));
 
@@ -180,125 +209,35 @@ class LocalOfficeContactResourceTest {
   @ParameterizedTest
   @EnumSource(TraineeType.class)
   void shouldGetLocalOfficeContactsByLoUuid(TraineeType traineeType) {
-    LocalOfficeContact entity = new LocalOfficeContact();
-    entity.setTisId(DEFAULT_TIS_ID_1);
-    entity.setLocalOfficeId(DEFAULT_LOCAL_OFFICE_ID_1);
-    entity.setContactTypeId(DEFAULT_CONTACT_TYPE_ID_1);
-    entity.setContact(DEFAULT_CONTACT_1);
-    entity.setLabel(DEFAULT_LABEL_1);
-    entity.setLocalOfficeName(DEFAULT_LOCAL_OFFICE_NAME_1);
-    entity.setContactTypeName(DEFAULT_CONTACT_TYPE_NAME_1);
+    LocalOfficeContactDetailsDto details = new LocalOfficeContactDetailsDto();
+    details.setTisId(DEFAULT_TIS_ID_1);
+    details.setLocalOfficeId(DEFAULT_LOCAL_OFFICE_ID_1);
+    details.setContactTypeName(DEFAULT_CONTACT_TYPE_NAME_1);
 
     when(service.getByLocalOfficeUuid(DEFAULT_LOCAL_OFFICE_ID_1, traineeType)).thenReturn(
-        List.of(entity));
+        List.of(details));
 
     List<LocalOfficeContactDetailsDto> dtos = controller.getLocalOfficeContactsByLoUuid(
         DEFAULT_LOCAL_OFFICE_ID_1, traineeType);
 
-    assertThat("Unexpected response count.", dtos, hasSize(1));
-
-    LocalOfficeContactDetailsDto dto1 = dtos.get(0);
-    assertThat("Unexpected TIS ID.", dto1.getTisId(), is(DEFAULT_TIS_ID_1));
-    assertThat("Unexpected local office ID.", dto1.getLocalOfficeId(),
-        is(DEFAULT_LOCAL_OFFICE_ID_1));
-    assertThat("Unexpected contact type ID.", dto1.getContactTypeId(),
-        is(DEFAULT_CONTACT_TYPE_ID_1));
-    assertThat("Unexpected contact.", dto1.getContact(), is(DEFAULT_CONTACT_1));
-    assertThat("Unexpected label.", dto1.getLabel(), is(DEFAULT_LABEL_1));
-    assertThat("Unexpected local office name.", dto1.getLocalOfficeName(),
-        is(DEFAULT_LOCAL_OFFICE_NAME_1));
-    assertThat("Unexpected contact type name.", dto1.getContactTypeName(),
-        is(DEFAULT_CONTACT_TYPE_NAME_1));
-  }
-
-  @ParameterizedTest
-  @CsvSource(delimiter = '|', textBlock = """
-      FOUNDATION    | ' - Foundation'
-      SPECIALTY     | ''
-      """)
-  void shouldGetLocalOfficeContactsByLoUuidWithoutTraineeTypeSuffix(TraineeType traineeType,
-      String suffix) {
-    LocalOfficeContact entity = new LocalOfficeContact();
-    entity.setTisId(DEFAULT_TIS_ID_1);
-    entity.setLocalOfficeId(DEFAULT_LOCAL_OFFICE_ID_1);
-    entity.setContactTypeName(DEFAULT_CONTACT_TYPE_NAME_1 + suffix);
-
-    when(service.getByLocalOfficeUuid(DEFAULT_LOCAL_OFFICE_ID_1, traineeType)).thenReturn(
-        List.of(entity));
-
-    List<LocalOfficeContactDetailsDto> dtos = controller.getLocalOfficeContactsByLoUuid(
-        DEFAULT_LOCAL_OFFICE_ID_1, traineeType);
-
-    assertThat("Unexpected response count.", dtos, hasSize(1));
-
-    LocalOfficeContactDetailsDto dto = dtos.get(0);
-    assertThat("Unexpected TIS ID.", dto.getTisId(), is(DEFAULT_TIS_ID_1));
-    assertThat("Unexpected local office ID.", dto.getLocalOfficeId(),
-        is(DEFAULT_LOCAL_OFFICE_ID_1));
-    assertThat("Unexpected contact type name.", dto.getContactTypeName(),
-        is(DEFAULT_CONTACT_TYPE_NAME_1));
+    assertThat("Unexpected response.", dtos, is(List.of(details)));
   }
 
   @ParameterizedTest
   @EnumSource(TraineeType.class)
   void shouldGetLocalOfficeContactsByLoName(TraineeType traineeType) {
-    LocalOfficeContact entity = new LocalOfficeContact();
-    entity.setTisId(DEFAULT_TIS_ID_1);
-    entity.setLocalOfficeId(DEFAULT_LOCAL_OFFICE_ID_1);
-    entity.setContactTypeId(DEFAULT_CONTACT_TYPE_ID_1);
-    entity.setContact(DEFAULT_CONTACT_1);
-    entity.setLabel(DEFAULT_LABEL_1);
-    entity.setLocalOfficeName(DEFAULT_LOCAL_OFFICE_NAME_1);
-    entity.setContactTypeName(DEFAULT_CONTACT_TYPE_NAME_1);
-
-    when(service.getByLocalOfficeName(DEFAULT_LOCAL_OFFICE_NAME_1, traineeType)).thenReturn(
-        List.of(entity));
-
-    List<LocalOfficeContactDetailsDto> dtos = controller.getLocalOfficeContactsByLoName(
-        DEFAULT_LOCAL_OFFICE_NAME_1, traineeType);
-
-    assertThat("Unexpected response count.", dtos, hasSize(1));
-
-    LocalOfficeContactDetailsDto dto1 = dtos.get(0);
-    assertThat("Unexpected TIS ID.", dto1.getTisId(), is(DEFAULT_TIS_ID_1));
-    assertThat("Unexpected local office ID.", dto1.getLocalOfficeId(),
-        is(DEFAULT_LOCAL_OFFICE_ID_1));
-    assertThat("Unexpected contact type ID.", dto1.getContactTypeId(),
-        is(DEFAULT_CONTACT_TYPE_ID_1));
-    assertThat("Unexpected contact.", dto1.getContact(), is(DEFAULT_CONTACT_1));
-    assertThat("Unexpected label.", dto1.getLabel(), is(DEFAULT_LABEL_1));
-    assertThat("Unexpected local office name.", dto1.getLocalOfficeName(),
-        is(DEFAULT_LOCAL_OFFICE_NAME_1));
-    assertThat("Unexpected contact type name.", dto1.getContactTypeName(),
-        is(DEFAULT_CONTACT_TYPE_NAME_1));
-  }
-
-  @ParameterizedTest
-  @CsvSource(delimiter = '|', textBlock = """
-      FOUNDATION    | ' - Foundation'
-      SPECIALTY     | ''
-      """)
-  void shouldGetLocalOfficeContactsByLoNameWithoutTraineeTypeSuffix(TraineeType traineeType,
-      String suffix) {
-    LocalOfficeContact entity = new LocalOfficeContact();
-    entity.setTisId(DEFAULT_TIS_ID_1);
-    entity.setLocalOfficeName(DEFAULT_LOCAL_OFFICE_NAME_1);
-    entity.setContactTypeName(DEFAULT_CONTACT_TYPE_NAME_1 + suffix);
+    LocalOfficeContactDetailsDto details = new LocalOfficeContactDetailsDto();
+    details.setTisId(DEFAULT_TIS_ID_1);
+    details.setLocalOfficeName(DEFAULT_LOCAL_OFFICE_NAME_1);
+    details.setContactTypeName(DEFAULT_CONTACT_TYPE_NAME_1);
 
     when(service.getByLocalOfficeName(DEFAULT_LOCAL_OFFICE_NAME_1, traineeType)).thenReturn(
-        List.of(entity));
+        List.of(details));
 
     List<LocalOfficeContactDetailsDto> dtos = controller.getLocalOfficeContactsByLoName(
         DEFAULT_LOCAL_OFFICE_NAME_1, traineeType);
 
-    assertThat("Unexpected response count.", dtos, hasSize(1));
-
-    LocalOfficeContactDetailsDto dto = dtos.get(0);
-    assertThat("Unexpected TIS ID.", dto.getTisId(), is(DEFAULT_TIS_ID_1));
-    assertThat("Unexpected local office name.", dto.getLocalOfficeName(),
-        is(DEFAULT_LOCAL_OFFICE_NAME_1));
-    assertThat("Unexpected contact type name.", dto.getContactTypeName(),
-        is(DEFAULT_CONTACT_TYPE_NAME_1));
+    assertThat("Unexpected response.", dtos, is(List.of(details)));
   }
 
   @Test
@@ -33,7 +33,11 @@ import static org.springframework.http.HttpStatus.CREATED;
 import static org.springframework.http.HttpStatus.NO_CONTENT;
 import static org.springframework.http.HttpStatus.OK;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
 import java.net.URI;
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
@@ -43,9 +47,12 @@ import uk.nhs.hee.tis.trainee.reference.dto.LocalOfficeContactTypeDto;
 import uk.nhs.hee.tis.trainee.reference.mapper.LocalOfficeContactTypeMapperImpl;
 import uk.nhs.hee.tis.trainee.reference.model.LocalOfficeContactType;
 import uk.nhs.hee.tis.trainee.reference.service.LocalOfficeContactTypeService;
+import uk.nhs.hee.tis.trainee.reference.service.ReferenceSnapshot;
 
 class LocalOfficeContactTypeResourceTest {
 
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
   private static final String DEFAULT_TIS_ID_1 = UUID.randomUUID().toString();
   private static final String DEFAULT_TIS_ID_2 = UUID.randomUUID().toString();
 
@@ -62,11 +69,12 @@ class LocalOfficeContactTypeResourceTest {
   void setup() {
     service = mock(LocalOfficeContactTypeService.class);
     controller = new LocalOfficeContactTypeResource(service,
-        new LocalOfficeContactTypeMapperImpl());
+        new LocalOfficeContactTypeMapperImpl(),
+        new JsonResponseFactory(OBJECT_MAPPER));
   }
 
   @Test
-  void shouldGetAllLocalOfficeContactTypes() {
+  void shouldGetAllLocalOfficeContactTypes() throws IOException {
     LocalOfficeContactType entity1 = new LocalOfficeContactType();
     entity1.setTisId(DEFAULT_TIS_ID_1);
     entity1.setCode(DEFAULT_CODE_1);
@@ -77,9 +85,16 @@ class LocalOfficeContactTypeResourceTest {
     entity2.setCode(DEFAULT_CODE_2);
     entity2.setLabel(DEFAULT_LABEL_2);
 
-    when(service.get()).thenReturn(List.of(entity1, entity2));
+    when(service.getSnapshot()).thenReturn(
+        new ReferenceSnapshot<>(1, List.of(entity1, entity2), Instant.now()));
+
+    ResponseEntity<byte[]> response = controller.getLocalOfficeContactTypes();
+
+    assertThat("Unexpected status code.", response.getStatusCode(), is(OK));
+    assertThat("Unexpected ETag.", response.getHeaders().getETag(), notNullValue());
 
-    List<LocalOfficeContactTypeDto> dtos = controller.getLocalOfficeContactTypes();
+    List<LocalOfficeContactTypeDto> dtos = OBJECT_MAPPER.readValue(response.getBody(),
+        new TypeReference<>() {});
 
     assertThat("Unexpected response count.", dtos, hasSize(2));
 
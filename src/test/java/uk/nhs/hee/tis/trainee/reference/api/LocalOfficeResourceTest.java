@@ -34,7 +34,11 @@ import static org.springframework.http.HttpStatus.CREATED;
 import static org.springframework.http.HttpStatus.NO_CONTENT;
 import static org.springframework.http.HttpStatus.OK;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
 import java.net.URI;
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
@@ -44,9 +48,12 @@ import uk.nhs.hee.tis.trainee.reference.dto.LocalOfficeDto;
 import uk.nhs.hee.tis.trainee.reference.mapper.LocalOfficeMapperImpl;
 import uk.nhs.hee.tis.trainee.reference.model.LocalOffice;
 import uk.nhs.hee.tis.trainee.reference.service.LocalOfficeService;
+import uk.nhs.hee.tis.trainee.reference.service.ReferenceSnapshot;
 
 class LocalOfficeResourceTest {
 
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
   private static final String DEFAULT_ID_1 = "DEFAULT_ID_1";
   private static final String DEFAULT_ID_2 = "DEFAULT_ID_2";
 
@@ -66,11 +73,12 @@ class LocalOfficeResourceTest {
   @BeforeEach
   void setup() {
     service = mock(LocalOfficeService.class);
-    controller = new LocalOfficeResource(service, new LocalOfficeMapperImpl());
+    controller = new LocalOfficeResource(service, new LocalOfficeMapperImpl(),
+        new JsonResponseFactory(OBJECT_MAPPER));
   }
 
   @Test
-  void shouldGetAllLocalOffices() {
+  void shouldGetAllLocalOffices() throws IOException {
     LocalOffice entity1 = new LocalOffice();
     entity1.setId(DEFAULT_ID_1);
     entity1.setTisId(DEFAULT_TIS_ID_1);
@@ -83,9 +91,16 @@ class LocalOfficeResourceTest {
     entity2.setLabel(DEFAULT_LABEL_2);
     entity2.setUuid(DEFAULT_UUID_2);
 
-    when(service.get()).thenReturn(List.of(entity1, entity2));
+    when(service.getSnapshot()).thenReturn(
+        new ReferenceSnapshot<>(1, List.of(entity1, entity2), Instant.now()));
+
+    ResponseEntity<byte[]> response = controller.getLocalOffices();
+
+    assertThat("Unexpected status code.", response.getStatusCode(), is(OK));
+    assertThat("Unexpected ETag.", response.getHeaders().getETag(), notNullValue());
 
-    List<LocalOfficeDto> dtos = controller.getLocalOffices();
+    List<LocalOfficeDto> dtos = OBJECT_MAPPER.readValue(response.getBody(),
+        new TypeReference<>() {});
 
     assertThat("Unexpected response count.", dtos, hasSize(2));
 
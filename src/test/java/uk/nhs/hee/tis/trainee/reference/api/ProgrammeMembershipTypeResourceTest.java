@@ -34,7 +34,11 @@ import static org.springframework.http.HttpStatus.CREATED;
 import static org.springframework.http.HttpStatus.NO_CONTENT;
 import static org.springframework.http.HttpStatus.OK;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
 import java.net.URI;
+import java.time.Instant;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -43,9 +47,12 @@ import uk.nhs.hee.tis.trainee.reference.dto.ProgrammeMembershipTypeDto;
 import uk.nhs.hee.tis.trainee.reference.mapper.ProgrammeMembershipTypeMapperImpl;
 import uk.nhs.hee.tis.trainee.reference.model.ProgrammeMembershipType;
 import uk.nhs.hee.tis.trainee.reference.service.ProgrammeMembershipTypeService;
+import uk.nhs.hee.tis.trainee.reference.service.ReferenceSnapshot;
 
 class ProgrammeMembershipTypeResourceTest {
 
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
   private static final String DEFAULT_ID_1 = "DEFAULT_ID_1";
   private static final String DEFAULT_ID_2 = "DEFAULT_ID_2";
 
@@ -62,11 +69,12 @@ class ProgrammeMembershipTypeResourceTest {
   void setup() {
     service = mock(ProgrammeMembershipTypeService.class);
     controller = new ProgrammeMembershipTypeResource(service,
-        new ProgrammeMembershipTypeMapperImpl());
+        new ProgrammeMembershipTypeMapperImpl(),
+        new JsonResponseFactory(OBJECT_MAPPER));
   }
 
   @Test
-  void shouldGetAllProgrammeMembershipTypes() {
+  void shouldGetAllProgrammeMembershipTypes() throws IOException {
     ProgrammeMembershipType entity1 = new ProgrammeMembershipType();
     entity1.setId(DEFAULT_ID_1);
     entity1.setTisId(DEFAULT_TIS_ID_1);
@@ -77,14 +85,16 @@ class ProgrammeMembershipTypeResourceTest {
     entity2.setTisId(DEFAULT_TIS_ID_2);
     entity2.setLabel(DEFAULT_LABEL_2);
 
-    when(service.get()).thenReturn(List.of(entity1, entity2));
+    when(service.getSnapshot()).thenReturn(
+        new ReferenceSnapshot<>(1, List.of(entity1, entity2), Instant.now()));
 
-    ResponseEntity<List<ProgrammeMembershipTypeDto>> response
-        = controller.getProgrammeMembershipTypes();
+    ResponseEntity<byte[]> response = controller.getProgrammeMembershipTypes();
 
     assertThat("Unexpected status code.", response.getStatusCode(), is(OK));
+    assertThat("Unexpected ETag.", response.getHeaders().getETag(), notNullValue());
 
-    List<ProgrammeMembershipTypeDto> dtos = response.getBody();
+    List<ProgrammeMembershipTypeDto> dtos = OBJECT_MAPPER.readValue(response.getBody(),
+        new TypeReference<>() {});
     assertThat("Unexpected response count.", dtos, hasSize(2));
 
     ProgrammeMembershipTypeDto dto1 = dtos.get(0);
@@ -0,0 +1,237 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.reference.api;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import uk.nhs.hee.tis.trainee.reference.service.GradeService;
+import uk.nhs.hee.tis.trainee.reference.service.LocalOfficeContactTypeService;
+import uk.nhs.hee.tis.trainee.reference.service.ReferenceChangeLog;
+import uk.nhs.hee.tis.trainee.reference.service.ReferenceChangeLog.ChangeSet;
+
+class ReferenceChangeBroadcasterTest {
+
+  private static final Duration TIMEOUT = Duration.ofMinutes(30);
+  private static final Duration POLL_INTERVAL = Duration.ofSeconds(1);
+
+  private ReferenceChangeBroadcaster broadcaster;
+  private ReferenceChangeLog changeLog;
+  private ScheduledExecutorService executor;
+  private ExecutorService senders;
+
+  @BeforeEach
+  void setUp() {
+    changeLog = mock(ReferenceChangeLog.class);
+    executor = mock(ScheduledExecutorService.class);
+    senders = mock(ExecutorService.class);
+
+    GradeService gradeService = mock(GradeService.class);
+    when(gradeService.getName()).thenReturn("Grade");
+    LocalOfficeContactTypeService contactTypeService = mock(LocalOfficeContactTypeService.class);
+    when(contactTypeService.getName()).thenReturn("LocalOfficeContactType");
+
+    broadcaster = new ReferenceChangeBroadcaster(changeLog,
+        List.of(contactTypeService, gradeService), TIMEOUT, POLL_INTERVAL, executor, senders);
+  }
+
+  @Test
+  void shouldConvertNamesToTypes() {
+    assertThat("Unexpected type.", ReferenceChangeBroadcaster.toType("Grade"), is("grade"));
+    assertThat("Unexpected type.", ReferenceChangeBroadcaster.toType("LocalOfficeContactType"),
+        is("local-office-contact-type"));
+  }
+
+  @Test
+  void shouldGetTypesOfAllServicesInNameOrder() {
+    Set<String> types = broadcaster.getTypes();
+
+    assertThat("Unexpected types.", List.copyOf(types),
+        is(List.of("grade", "local-office-contact-type")));
+  }
+
+  @Test
+  void shouldScheduleHeartbeats() {
+    long interval = ReferenceChangeBroadcaster.HEARTBEAT_INTERVAL.toMillis();
+    verify(executor).scheduleWithFixedDelay(any(), eq(interval), eq(interval),
+        eq(TimeUnit.MILLISECONDS));
+  }
+
+  @Test
+  void shouldSchedulePolling() {
+    long interval = POLL_INTERVAL.toMillis();
+    verify(executor).scheduleWithFixedDelay(any(), eq(interval), eq(interval),
+        eq(TimeUnit.MILLISECONDS));
+  }
+
+  @Test
+  void shouldStartSubscriptionFromCurrentTokenWhenNoLastEventId() {
+    SseEmitter emitter = broadcaster.subscribe(Set.of("grade"), null);
+
+    assertThat("Unexpected emitter.", emitter, notNullValue());
+    assertThat("Unexpected timeout.", emitter.getTimeout(), is(TIMEOUT.toMillis()));
+
+    runSubmittedTask();
+
+    verify(changeLog).getToken("Grade");
+    verify(changeLog, never()).getSettledChanges(anyString(), anyLong());
+  }
+
+  @Test
+  void shouldReplayChangesSinceLastEventId() {
+    when(changeLog.getSettledChanges("Grade", 5L)).thenReturn(new ChangeSet(List.of("1"), 6L));
+
+    broadcaster.subscribe(Set.of("grade", "local-office-contact-type"),
+        "grade:5,college:3");
+    runSubmittedTask();
+
+    verify(changeLog).getSettledChanges("Grade", 5L);
+    verify(changeLog).getToken("LocalOfficeContactType");
+    verify(changeLog, never()).getSettledChanges(eq("College"), anyLong());
+  }
+
+  @Test
+  void shouldStartFromCurrentTokenWhenLastEventIdInvalid() {
+    broadcaster.subscribe(Set.of("grade"), "grade:invalid");
+    runSubmittedTask();
+
+    verify(changeLog).getToken("Grade");
+    verify(changeLog, never()).getSettledChanges(anyString(), anyLong());
+  }
+
+  @Test
+  void shouldNotPollTypesWithoutSubscribers() {
+    poll();
+
+    verifyNoInteractions(changeLog);
+  }
+
+  @Test
+  void shouldPollChangesSinceSubscriptionStarted() {
+    when(changeLog.getToken("Grade")).thenReturn(5L);
+    when(changeLog.getSettledChanges("Grade", 5L)).thenReturn(new ChangeSet(List.of("1"), 6L));
+    when(changeLog.getSettledChanges("Grade", 6L)).thenReturn(new ChangeSet(List.of(), 6L));
+
+    broadcaster.subscribe(Set.of("grade"), null);
+    runSubmittedTask();
+    poll();
+    poll();
+
+    verify(changeLog).getSettledChanges("Grade", 5L);
+    verify(changeLog).getSettledChanges("Grade", 6L);
+    verify(changeLog, never()).getSettledChanges(eq("LocalOfficeContactType"), anyLong());
+  }
+
+  @Test
+  void shouldNotAdvancePollTokenWhenNoChangesSettled() {
+    when(changeLog.getToken("Grade")).thenReturn(5L);
+    when(changeLog.getSettledChanges("Grade", 5L)).thenReturn(new ChangeSet(List.of(), 5L));
+
+    broadcaster.subscribe(Set.of("grade"), null);
+    runSubmittedTask();
+    poll();
+    poll();
+
+    verify(changeLog, times(2)).getSettledChanges("Grade", 5L);
+  }
+
+  @Test
+  void shouldContinuePollingWhenPollFails() {
+    when(changeLog.getToken("Grade")).thenReturn(5L);
+    when(changeLog.getSettledChanges("Grade", 5L))
+        .thenThrow(new IllegalStateException("Expected"))
+        .thenReturn(new ChangeSet(List.of(), 5L));
+
+    broadcaster.subscribe(Set.of("grade"), null);
+    runSubmittedTask();
+    poll();
+    poll();
+
+    verify(changeLog, times(2)).getSettledChanges("Grade", 5L);
+  }
+
+  @Test
+  void shouldSendEventsFromSubscriberSender() {
+    broadcaster.subscribe(Set.of("grade"), null);
+    runSubmittedTask();
+
+    verify(senders).execute(any());
+  }
+
+  @Test
+  void shouldUnsubscribeSubscribersWithTooManyPendingEvents() {
+    when(changeLog.getSettledChanges(eq("Grade"), anyLong())).thenAnswer(
+        inv -> new ChangeSet(List.of("1"), inv.getArgument(1, Long.class) + 1));
+
+    broadcaster.subscribe(Set.of("grade"), null);
+    runSubmittedTask();
+
+    // The subscribed event is pending, as the senders never run.
+    for (int i = 0; i <= ReferenceChangeBroadcaster.MAX_PENDING_EVENTS; i++) {
+      poll();
+    }
+
+    verify(changeLog, times(ReferenceChangeBroadcaster.MAX_PENDING_EVENTS))
+        .getSettledChanges(eq("Grade"), anyLong());
+  }
+
+  /**
+   * Run the scheduled poll of the change log.
+   */
+  private void poll() {
+    long interval = POLL_INTERVAL.toMillis();
+    ArgumentCaptor<Runnable> taskCaptor = ArgumentCaptor.forClass(Runnable.class);
+    verify(executor).scheduleWithFixedDelay(taskCaptor.capture(), eq(interval), eq(interval),
+        eq(TimeUnit.MILLISECONDS));
+    taskCaptor.getValue().run();
+  }
+
+  /**
+   * Run the task submitted to the broadcasting executor.
+   */
+  private void runSubmittedTask() {
+    ArgumentCaptor<Runnable> taskCaptor = ArgumentCaptor.forClass(Runnable.class);
+    verify(executor).execute(taskCaptor.capture());
+    taskCaptor.getValue().run();
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.reference.api;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.OK;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+class ReferenceChangeStreamResourceTest {
+
+  private static final Set<String> TYPES = new LinkedHashSet<>(List.of("college", "grade"));
+
+  private ReferenceChangeStreamResource controller;
+  private ReferenceChangeBroadcaster broadcaster;
+
+  @BeforeEach
+  void setUp() {
+    broadcaster = mock(ReferenceChangeBroadcaster.class);
+    when(broadcaster.getTypes()).thenReturn(TYPES);
+    controller = new ReferenceChangeStreamResource(broadcaster);
+  }
+
+  @Test
+  void shouldSubscribeToAllTypesWhenNoTypesGiven() {
+    SseEmitter emitter = new SseEmitter();
+    when(broadcaster.subscribe(TYPES, null)).thenReturn(emitter);
+
+    ResponseEntity<SseEmitter> response = controller.streamChanges(null, null);
+
+    assertThat("Unexpected status code.", response.getStatusCode(), is(OK));
+    assertThat("Unexpected emitter.", response.getBody(), is(emitter));
+  }
+
+  @Test
+  void shouldSubscribeToGivenTypesOnceInOrder() {
+    SseEmitter emitter = new SseEmitter();
+    when(broadcaster.subscribe(any(), any())).thenReturn(emitter);
+
+    ResponseEntity<SseEmitter> response = controller.streamChanges(
+        List.of("grade", "college", "grade"), "grade:4");
+
+    assertThat("Unexpected status code.", response.getStatusCode(), is(OK));
+
+    ArgumentCaptor<Set<String>> typesCaptor = ArgumentCaptor.forClass(Set.class);
+    verify(broadcaster).subscribe(typesCaptor.capture(), eq("grade:4"));
+    assertThat("Unexpected types.", List.copyOf(typesCaptor.getValue()),
+        is(List.of("grade", "college")));
+  }
+
+  @Test
+  void shouldReturnBadRequestWhenTypeNotRecognised() {
+    ResponseEntity<SseEmitter> response = controller.streamChanges(List.of("grade", "unknown"),
+        null);
+
+    assertThat("Unexpected status code.", response.getStatusCode(), is(BAD_REQUEST));
+    verify(broadcaster, never()).subscribe(any(), any());
+  }
+}
@@ -0,0 +1,171 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.reference.api;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.actuate.info.Info;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.boot.web.server.WebServer;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+class ReferenceWarmUpTest {
+
+  private static final Instant START = Instant.parse("2026-01-01T12:00:00Z");
+  private static final Instant END = START.plusMillis(1500);
+
+  private static final String GRADE_PATH = "/api/grade";
+  private static final String GENDER_PATH = "/api/gender";
+  private static final String GRADE_URL = "http://localhost:8205/reference/api/grade";
+  private static final String GENDER_URL = "http://localhost:8205/reference/api/gender";
+  private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+  private ReferenceWarmUp warmUp;
+  private RestTemplate restTemplate;
+  private WebServerApplicationContext context;
+  private Clock clock;
+  private MeterRegistry registry;
+
+  @BeforeEach
+  void setUp() {
+    restTemplate = mock(RestTemplate.class);
+    when(restTemplate.getForEntity(GRADE_URL, byte[].class))
+        .thenReturn(ResponseEntity.ok().build());
+    when(restTemplate.getForEntity(GENDER_URL, byte[].class))
+        .thenReturn(ResponseEntity.ok().build());
+
+    context = mock(WebServerApplicationContext.class);
+    WebServer webServer = mock(WebServer.class);
+    when(context.getWebServer()).thenReturn(webServer);
+    when(webServer.getPort()).thenReturn(8205);
+
+    clock = mock(Clock.class);
+    when(clock.instant()).thenReturn(START, END);
+
+    registry = new SimpleMeterRegistry();
+    warmUp = new ReferenceWarmUp(restTemplate, context, clock, registry, "/reference",
+        List.of(GRADE_PATH, GENDER_PATH), 2, TIMEOUT);
+  }
+
+  @Test
+  void shouldRequestEachPath() {
+    warmUp.run(mock(ApplicationArguments.class));
+
+    verify(restTemplate).getForEntity(GRADE_URL, byte[].class);
+    verify(restTemplate).getForEntity(GENDER_URL, byte[].class);
+  }
+
+  @Test
+  void shouldReportDurationAndOutcomesAsInfo() {
+    warmUp.run(mock(ApplicationArguments.class));
+
+    Info.Builder builder = new Info.Builder();
+    warmUp.contribute(builder);
+    Map<String, Object> details = builder.build().getDetails();
+
+    assertThat("Unexpected warm-up info.", details.get("warmUp"), is(Map.of(
+        "duration", "PT1.5S",
+        "endpoints", Map.of(GRADE_PATH, "200", GENDER_PATH, "200"))));
+  }
+
+  @Test
+  void shouldReportDurationAsMetric() {
+    warmUp.run(mock(ApplicationArguments.class));
+
+    double duration = registry.get("reference.warm-up.duration").timeGauge()
+        .value(TimeUnit.MILLISECONDS);
+    assertThat("Unexpected warm-up duration.", duration, is(1500.0));
+  }
+
+  @Test
+  void shouldRecordFailedRequestsWithoutFailing() {
+    when(restTemplate.getForEntity(GRADE_URL, byte[].class)).thenThrow(
+        new HttpServerErrorException(HttpStatus.INTERNAL_SERVER_ERROR));
+    when(restTemplate.getForEntity(GENDER_URL, byte[].class)).thenThrow(
+        new ResourceAccessException("Connection refused"));
+
+    warmUp.run(mock(ApplicationArguments.class));
+
+    Info.Builder builder = new Info.Builder();
+    warmUp.contribute(builder);
+    Map<?, ?> warmUpInfo = (Map<?, ?>) builder.build().getDetails().get("warmUp");
+
+    assertThat("Unexpected warm-up outcomes.", warmUpInfo.get("endpoints"), is(Map.of(
+        GRADE_PATH, "500",
+        GENDER_PATH, ReferenceWarmUp.FAILED)));
+  }
+
+  @Test
+  void shouldRecordTimedOutRequestsWithoutWaitingForThem() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    when(restTemplate.getForEntity(GRADE_URL, byte[].class)).thenAnswer(inv -> {
+      release.await();
+      return ResponseEntity.ok().build();
+    });
+    warmUp = new ReferenceWarmUp(restTemplate, context, clock, registry, "/reference",
+        List.of(GRADE_PATH, GENDER_PATH), 2, Duration.ofMillis(100));
+
+    try {
+      assertTimeoutPreemptively(Duration.ofSeconds(5),
+          () -> warmUp.run(mock(ApplicationArguments.class)));
+    } finally {
+      release.countDown();
+    }
+
+    Info.Builder builder = new Info.Builder();
+    warmUp.contribute(builder);
+    Map<?, ?> warmUpInfo = (Map<?, ?>) builder.build().getDetails().get("warmUp");
+
+    assertThat("Unexpected warm-up outcomes.", warmUpInfo.get("endpoints"), is(Map.of(
+        GRADE_PATH, ReferenceWarmUp.TIMED_OUT,
+        GENDER_PATH, "200")));
+  }
+
+  @Test
+  void shouldNotReportInfoBeforeWarmUp() {
+    Info.Builder builder = new Info.Builder();
+    warmUp.contribute(builder);
+
+    assertThat("Unexpected warm-up info.", builder.build().getDetails().isEmpty(), is(true));
+  }
+}
@@ -0,0 +1,108 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.reference.changelog;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.mongodb.client.result.UpdateResult;
+import java.util.List;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.query.Query;
+import uk.nhs.hee.tis.trainee.reference.model.LocalOfficeContact;
+
+@ExtendWith(MockitoExtension.class)
+class AddLocalOfficeContactTraineeTypeTest {
+
+  private AddLocalOfficeContactTraineeType migration;
+
+  @Mock
+  private MongoTemplate template;
+
+  @Mock
+  private IndexOperations indexOps;
+
+  @BeforeEach
+  void setUp() {
+    migration = new AddLocalOfficeContactTraineeType(template);
+  }
+
+  @Test
+  void shouldDeriveTraineeTypeForAllContacts() {
+    when(template.updateMulti(any(), any(AggregationUpdate.class), eq(LocalOfficeContact.class)))
+        .thenReturn(UpdateResult.acknowledged(2, 2L, null));
+    when(template.indexOps(LocalOfficeContact.class)).thenReturn(indexOps);
+
+    migration.migrate();
+
+    ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+    ArgumentCaptor<AggregationUpdate> updateCaptor = ArgumentCaptor.forClass(
+        AggregationUpdate.class);
+    verify(template).updateMulti(queryCaptor.capture(), updateCaptor.capture(),
+        eq(LocalOfficeContact.class));
+
+    assertThat("Unexpected query.", queryCaptor.getValue().getQueryObject().isEmpty(), is(true));
+
+    List<Document> pipeline = updateCaptor.getValue().toPipeline(Aggregation.DEFAULT_CONTEXT);
+    assertThat("Unexpected pipeline size.", pipeline.size(), is(1));
+    Document set = pipeline.get(0).get("$set", Document.class);
+    assertThat("Unexpected trainee type derivation.", set.containsKey("traineeType"), is(true));
+    assertThat("Unexpected display name derivation.", set.containsKey("contactTypeDisplayName"),
+        is(true));
+  }
+
+  @Test
+  void shouldCreateTraineeTypeIndexes() {
+    when(template.updateMulti(any(), any(AggregationUpdate.class), eq(LocalOfficeContact.class)))
+        .thenReturn(UpdateResult.acknowledged(0, 0L, null));
+    when(template.indexOps(LocalOfficeContact.class)).thenReturn(indexOps);
+
+    migration.migrate();
+
+    ArgumentCaptor<Index> indexCaptor = ArgumentCaptor.forClass(Index.class);
+    verify(indexOps, times(2)).ensureIndex(indexCaptor.capture());
+
+    List<Index> indexes = indexCaptor.getAllValues();
+    Document byId = indexes.get(0).getIndexKeys();
+    assertThat("Unexpected index keys.", byId.keySet().stream().toList(),
+        is(List.of("localOfficeId", "traineeType")));
+    Document byName = indexes.get(1).getIndexKeys();
+    assertThat("Unexpected index keys.", byName.keySet().stream().toList(),
+        is(List.of("localOfficeName", "traineeType")));
+  }
+}
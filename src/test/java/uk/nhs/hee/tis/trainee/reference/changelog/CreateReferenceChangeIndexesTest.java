@@ -0,0 +1,78 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.reference.changelog;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import uk.nhs.hee.tis.trainee.reference.model.ReferenceChange;
+
+@ExtendWith(MockitoExtension.class)
+class CreateReferenceChangeIndexesTest {
+
+  private CreateReferenceChangeIndexes migration;
+
+  @Mock
+  private MongoTemplate template;
+
+  @Mock
+  private IndexOperations indexOps;
+
+  @BeforeEach
+  void setUp() {
+    migration = new CreateReferenceChangeIndexes(template);
+  }
+
+  @Test
+  void shouldCreateReferenceChangeIndexes() {
+    when(template.indexOps(ReferenceChange.class)).thenReturn(indexOps);
+
+    migration.migrate();
+
+    ArgumentCaptor<Index> indexCaptor = ArgumentCaptor.forClass(Index.class);
+    verify(indexOps, times(2)).ensureIndex(indexCaptor.capture());
+
+    List<Index> indexes = indexCaptor.getAllValues();
+    Document byTisId = indexes.get(0).getIndexKeys();
+    assertThat("Unexpected index keys.", byTisId.keySet().stream().toList(),
+        is(List.of("type", "tisId")));
+    assertThat("Unexpected index uniqueness.",
+        indexes.get(0).getIndexOptions().getBoolean("unique"), is(true));
+    Document bySequence = indexes.get(1).getIndexKeys();
+    assertThat("Unexpected index keys.", bySequence.keySet().stream().toList(),
+        is(List.of("type", "sequence")));
+  }
+}
@@ -0,0 +1,84 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.reference.changelog;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import uk.nhs.hee.tis.trainee.reference.model.Grade;
+
+@ExtendWith(MockitoExtension.class)
+class DropReferenceLabelIndexesTest {
+
+  private DropReferenceLabelIndexes migration;
+
+  @Mock
+  private MongoTemplate template;
+
+  @Mock
+  private IndexOperations indexOps;
+
+  @BeforeEach
+  void setUp() {
+    migration = new DropReferenceLabelIndexes(template);
+  }
+
+  @Test
+  void shouldDropLabelIndexWhenExists() {
+    IndexOperations otherIndexOps = mock(IndexOperations.class);
+    when(template.indexOps(any(Class.class))).thenReturn(otherIndexOps);
+    when(template.indexOps(Grade.class)).thenReturn(indexOps);
+    when(indexOps.getIndexInfo()).thenReturn(List.of(
+        new IndexInfo(List.of(), "_id_", false, false, null),
+        new IndexInfo(List.of(), "label", false, false, null)));
+
+    migration.migrate();
+
+    verify(indexOps).dropIndex("label");
+    verify(otherIndexOps, never()).dropIndex(anyString());
+  }
+
+  @Test
+  void shouldNotDropLabelIndexWhenNotExists() {
+    when(template.indexOps(any(Class.class))).thenReturn(indexOps);
+    when(indexOps.getIndexInfo()).thenReturn(List.of(
+        new IndexInfo(List.of(), "_id_", false, false, null),
+        new IndexInfo(List.of(), "label_covering", false, false, null)));
+
+    migration.migrate();
+
+    verify(indexOps, never()).dropIndex(anyString());
+  }
+}
@@ -0,0 +1,236 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.reference.changelog;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.nullable;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationResults;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexField;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import uk.nhs.hee.tis.trainee.reference.model.Grade;
+import uk.nhs.hee.tis.trainee.reference.model.LocalOffice;
+import uk.nhs.hee.tis.trainee.reference.model.LocalOfficeContact;
+import uk.nhs.hee.tis.trainee.reference.repository.ReferenceIndexes;
+
+@ExtendWith(MockitoExtension.class)
+class EnsureReferenceIndexesTest {
+
+  private EnsureReferenceIndexes migration;
+
+  @Mock
+  private MongoTemplate template;
+
+  @Mock
+  private IndexOperations indexOps;
+
+  @BeforeEach
+  void setUp() {
+    migration = new EnsureReferenceIndexes(template);
+  }
+
+  /**
+   * Stub the duplicate checks of every collection to find no duplicates.
+   */
+  private void stubNoDuplicates() {
+    when(template.aggregate(any(Aggregation.class), nullable(String.class), eq(Document.class)))
+        .thenReturn(new AggregationResults<>(List.of(), new Document()));
+  }
+
+  @Test
+  void shouldEnsureEveryDeclaredIndex() {
+    Map<Class<?>, List<Index>> declared = ReferenceIndexes.getIndexes();
+    when(template.indexOps(any(Class.class))).thenReturn(indexOps);
+    stubNoDuplicates();
+
+    migration.migrate();
+
+    int count = declared.values().stream().mapToInt(List::size).sum();
+    verify(indexOps, times(count)).ensureIndex(any());
+    declared.keySet().forEach(type -> verify(template).indexOps(type));
+  }
+
+  @Test
+  void shouldEnsureLocalOfficeUuidIndex() {
+    when(template.indexOps(any(Class.class))).thenReturn(mock(IndexOperations.class));
+    when(template.indexOps(LocalOffice.class)).thenReturn(indexOps);
+    stubNoDuplicates();
+
+    migration.migrate();
+
+    ArgumentCaptor<Index> indexCaptor = ArgumentCaptor.forClass(Index.class);
+    verify(indexOps, times(3)).ensureIndex(indexCaptor.capture());
+
+    List<String> names = indexCaptor.getAllValues().stream()
+        .map(index -> index.getIndexOptions().getString("name"))
+        .toList();
+    assertThat("Unexpected index names.", names, is(List.of("tisId", "uuid", "label_covering")));
+    assertThat("Unexpected index uniqueness.",
+        indexCaptor.getAllValues().get(0).getIndexOptions().getBoolean("unique"), is(true));
+  }
+
+  @Test
+  void shouldEnsureLocalOfficeContactLookupIndexes() {
+    when(template.indexOps(any(Class.class))).thenReturn(mock(IndexOperations.class));
+    when(template.indexOps(LocalOfficeContact.class)).thenReturn(indexOps);
+    stubNoDuplicates();
+
+    migration.migrate();
+
+    ArgumentCaptor<Index> indexCaptor = ArgumentCaptor.forClass(Index.class);
+    verify(indexOps, times(5)).ensureIndex(indexCaptor.capture());
+
+    List<List<String>> keys = indexCaptor.getAllValues().stream()
+        .map(index -> index.getIndexKeys().keySet().stream().toList())
+        .toList();
+    assertThat("Unexpected index keys.", keys, hasItem(List.of("contactTypeId")));
+    assertThat("Unexpected index keys.", keys, hasItem(List.of("localOfficeName", "traineeType")));
+    assertThat("Unexpected index keys.", keys, hasItem(List.of("traineeType", "label")));
+  }
+
+  @Test
+  void shouldCreateNonUniqueIndexWhenDuplicatesExist() {
+    when(template.indexOps(any(Class.class))).thenReturn(mock(IndexOperations.class));
+    when(template.indexOps(Grade.class)).thenReturn(indexOps);
+    when(template.getCollectionName(any(Class.class))).thenReturn("Other");
+    when(template.getCollectionName(Grade.class)).thenReturn("Grade");
+    stubNoDuplicates();
+    when(template.aggregate(any(Aggregation.class), eq("Grade"), eq(Document.class)))
+        .thenReturn(new AggregationResults<>(
+            List.of(new Document("_id", "1").append("count", 2)), new Document()));
+
+    migration.migrate();
+
+    ArgumentCaptor<Index> indexCaptor = ArgumentCaptor.forClass(Index.class);
+    verify(indexOps, times(2)).ensureIndex(indexCaptor.capture());
+
+    Index tisIdIndex = indexCaptor.getAllValues().get(0);
+    assertThat("Unexpected index name.", tisIdIndex.getIndexOptions().getString("name"),
+        is("tisId"));
+    assertThat("Unexpected index keys.", tisIdIndex.getIndexKeys(),
+        is(new Document("tisId", 1)));
+    assertThat("Unexpected index uniqueness.",
+        tisIdIndex.getIndexOptions().getBoolean("unique", false), is(false));
+  }
+
+  @Test
+  void shouldNotCheckDuplicatesWhenUniqueIndexExists() {
+    when(template.indexOps(any(Class.class))).thenReturn(mock(IndexOperations.class));
+    when(template.indexOps(Grade.class)).thenReturn(indexOps);
+    when(template.getCollectionName(any(Class.class))).thenReturn("Other");
+    when(template.getCollectionName(Grade.class)).thenReturn("Grade");
+    when(indexOps.getIndexInfo()).thenReturn(List.of(
+        new IndexInfo(List.of(IndexField.create("tisId", Direction.ASC)), "tisId", true, false,
+            null)));
+    stubNoDuplicates();
+
+    migration.migrate();
+
+    verify(template, never()).aggregate(any(Aggregation.class), eq("Grade"), eq(Document.class));
+    verify(indexOps, never()).dropIndex(any());
+
+    ArgumentCaptor<Index> indexCaptor = ArgumentCaptor.forClass(Index.class);
+    verify(indexOps, times(2)).ensureIndex(indexCaptor.capture());
+    assertThat("Unexpected index uniqueness.",
+        indexCaptor.getAllValues().get(0).getIndexOptions().getBoolean("unique"), is(true));
+  }
+
+  @Test
+  void shouldRecreateNonUniqueIndexAsUniqueWhenNoDuplicatesExist() {
+    when(template.indexOps(any(Class.class))).thenReturn(mock(IndexOperations.class));
+    when(template.indexOps(Grade.class)).thenReturn(indexOps);
+    when(indexOps.getIndexInfo()).thenReturn(List.of(
+        new IndexInfo(List.of(IndexField.create("tisId", Direction.ASC)), "tisId", false, false,
+            null)));
+    stubNoDuplicates();
+
+    migration.migrate();
+
+    verify(indexOps).dropIndex("tisId");
+
+    ArgumentCaptor<Index> indexCaptor = ArgumentCaptor.forClass(Index.class);
+    verify(indexOps, times(2)).ensureIndex(indexCaptor.capture());
+    assertThat("Unexpected index uniqueness.",
+        indexCaptor.getAllValues().get(0).getIndexOptions().getBoolean("unique"), is(true));
+  }
+
+  @Test
+  void shouldRecreateIndexWhenKeysChanged() {
+    when(template.indexOps(any(Class.class))).thenReturn(mock(IndexOperations.class));
+    when(template.indexOps(Grade.class)).thenReturn(indexOps);
+    when(indexOps.getIndexInfo()).thenReturn(List.of(
+        new IndexInfo(List.of(IndexField.create("tisId", Direction.ASC)), "tisId", true, false,
+            null),
+        new IndexInfo(List.of(IndexField.create("label", Direction.ASC),
+            IndexField.create("tisId", Direction.ASC)), "label_covering", false, false, null)));
+    stubNoDuplicates();
+
+    migration.migrate();
+
+    verify(indexOps).dropIndex("label_covering");
+    verify(indexOps, never()).dropIndex("tisId");
+    verify(indexOps, times(2)).ensureIndex(any());
+  }
+
+  @Test
+  void shouldNotRecreateIndexWhenKeysUnchanged() {
+    when(template.indexOps(any(Class.class))).thenReturn(mock(IndexOperations.class));
+    when(template.indexOps(Grade.class)).thenReturn(indexOps);
+    Index covering = ReferenceIndexes.getIndexes().get(Grade.class).get(1);
+    List<IndexField> fields = covering.getIndexKeys().keySet().stream()
+        .map(key -> IndexField.create(key, Direction.ASC))
+        .toList();
+    when(indexOps.getIndexInfo()).thenReturn(List.of(
+        new IndexInfo(List.of(IndexField.create("tisId", Direction.ASC)), "tisId", true, false,
+            null),
+        new IndexInfo(fields, "label_covering", false, false, null)));
+    stubNoDuplicates();
+
+    migration.migrate();
+
+    verify(indexOps, never()).dropIndex(any());
+    verify(indexOps, times(2)).ensureIndex(any());
+  }
+}
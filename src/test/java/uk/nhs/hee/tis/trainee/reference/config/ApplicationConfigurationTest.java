@@ -21,9 +21,13 @@
 
 package uk.nhs.hee.tis.trainee.reference.config;
 
+import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Clock;
+import java.time.ZoneOffset;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.web.client.RestTemplateBuilder;
@@ -46,4 +50,19 @@ class ApplicationConfigurationTest {
 
     assertThat("Unexpected rest template.", restTemplate, notNullValue());
   }
+
+  @Test
+  void ndjsonHttpMessageConverter() {
+    NdjsonHttpMessageConverter converter = configuration.ndjsonHttpMessageConverter(
+        new ObjectMapper());
+
+    assertThat("Unexpected message converter.", converter, notNullValue());
+  }
+
+  @Test
+  void clock() {
+    Clock clock = configuration.clock();
+
+    assertThat("Unexpected clock zone.", clock.getZone(), is(ZoneOffset.UTC));
+  }
 }
@@ -0,0 +1,120 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.reference.config;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.mock.http.MockHttpInputMessage;
+import uk.nhs.hee.tis.trainee.reference.dto.GradeDto;
+
+class NdjsonHttpMessageConverterTest {
+
+  private static final Type GRADE_LIST_TYPE = new ParameterizedTypeReference<List<GradeDto>>() {
+  }.getType();
+
+  private NdjsonHttpMessageConverter converter;
+
+  @BeforeEach
+  void setUp() {
+    converter = new NdjsonHttpMessageConverter(new ObjectMapper());
+  }
+
+  @Test
+  void shouldReadListsOfNdjson() {
+    boolean canRead = converter.canRead(GRADE_LIST_TYPE, null, MediaType.APPLICATION_NDJSON);
+
+    assertThat("Unexpected read support.", canRead, is(true));
+  }
+
+  @Test
+  void shouldNotReadNonListsOfNdjson() {
+    boolean canRead = converter.canRead(GradeDto.class, null, MediaType.APPLICATION_NDJSON);
+
+    assertThat("Unexpected read support.", canRead, is(false));
+  }
+
+  @Test
+  void shouldNotReadListsOfJson() {
+    boolean canRead = converter.canRead(GRADE_LIST_TYPE, null, MediaType.APPLICATION_JSON);
+
+    assertThat("Unexpected read support.", canRead, is(false));
+  }
+
+  @Test
+  void shouldNotWriteNdjson() {
+    boolean canWrite = converter.canWrite(GRADE_LIST_TYPE, List.class,
+        MediaType.APPLICATION_NDJSON);
+
+    assertThat("Unexpected write support.", canWrite, is(false));
+  }
+
+  @Test
+  void shouldReadEachLineAsListElement() throws IOException {
+    String body = """
+        {"tisId":"1","label":"Grade One"}
+        {"tisId":"2","label":"Grade Two"}
+
+        {"tisId":"3","label":"Grade Three"}
+        """;
+    MockHttpInputMessage input = new MockHttpInputMessage(body.getBytes(StandardCharsets.UTF_8));
+
+    List<?> grades = converter.read(GRADE_LIST_TYPE, null, input);
+
+    assertThat("Unexpected grade count.", grades.size(), is(3));
+    GradeDto grade = (GradeDto) grades.get(2);
+    assertThat("Unexpected TIS ID.", grade.getTisId(), is("3"));
+    assertThat("Unexpected label.", grade.getLabel(), is("Grade Three"));
+  }
+
+  @Test
+  void shouldReadEmptyBodyAsEmptyList() throws IOException {
+    MockHttpInputMessage input = new MockHttpInputMessage(new byte[0]);
+
+    List<?> grades = converter.read(GRADE_LIST_TYPE, null, input);
+
+    assertThat("Unexpected grade count.", grades.size(), is(0));
+  }
+
+  @Test
+  void shouldThrowNotReadableWhenLineInvalid() {
+    String body = """
+        {"tisId":"1","label":"Grade One"}
+        {"tisId":"2",
+        """;
+    MockHttpInputMessage input = new MockHttpInputMessage(body.getBytes(StandardCharsets.UTF_8));
+
+    assertThrows(HttpMessageNotReadableException.class,
+        () -> converter.read(GRADE_LIST_TYPE, null, input));
+  }
+}
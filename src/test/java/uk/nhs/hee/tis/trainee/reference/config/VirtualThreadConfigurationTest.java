@@ -0,0 +1,122 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.reference.config;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import io.awspring.cloud.sqs.config.SqsMessageListenerContainerFactory;
+import io.awspring.cloud.sqs.listener.SqsContainerOptionsBuilder;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+
+class VirtualThreadConfigurationTest {
+
+  private static final String VIRTUAL_PROPERTY = "spring.threads.virtual.enabled";
+
+  private final ApplicationContextRunner runner = new ApplicationContextRunner()
+      .withUserConfiguration(VirtualThreadConfiguration.class);
+
+  @Test
+  void shouldDisableConfigByDefault() {
+    runner.run(context -> assertThat("Unexpected bean presence.",
+        context.containsBean("sqsVirtualThreadPostProcessor"), is(false)));
+  }
+
+  @Test
+  void shouldDisableConfigWhenVirtualThreadsDisabled() {
+    runner
+        .withPropertyValues(VIRTUAL_PROPERTY + "=false")
+        .run(context -> assertThat("Unexpected bean presence.",
+            context.containsBean("sqsVirtualThreadPostProcessor"), is(false)));
+  }
+
+  @Test
+  void shouldEnableConfigWhenVirtualThreadsEnabled() {
+    runner
+        .withPropertyValues(VIRTUAL_PROPERTY + "=true")
+        .run(context -> assertThat("Unexpected bean presence.",
+            context.containsBean("sqsVirtualThreadPostProcessor"), is(true)));
+  }
+
+  @Test
+  void shouldConfigureSqsContainerFactoryWithVirtualThreadExecutor() {
+    BeanPostProcessor postProcessor = VirtualThreadConfiguration.sqsVirtualThreadPostProcessor();
+    SqsMessageListenerContainerFactory<?> factory = mock(SqsMessageListenerContainerFactory.class);
+
+    Object processed = postProcessor.postProcessAfterInitialization(factory, "factory");
+
+    assertThat("Unexpected processed bean.", processed, sameInstance(factory));
+
+    ArgumentCaptor<Consumer<SqsContainerOptionsBuilder>> configurerCaptor =
+        ArgumentCaptor.forClass(Consumer.class);
+    verify(factory).configure(configurerCaptor.capture());
+
+    SqsContainerOptionsBuilder options = mock(SqsContainerOptionsBuilder.class);
+    configurerCaptor.getValue().accept(options);
+
+    ArgumentCaptor<TaskExecutor> executorCaptor = ArgumentCaptor.forClass(TaskExecutor.class);
+    verify(options).componentsTaskExecutor(executorCaptor.capture());
+    assertThat("Unexpected executor.", executorCaptor.getValue(),
+        instanceOf(SimpleAsyncTaskExecutor.class));
+  }
+
+  @Test
+  void shouldNotConfigureOtherBeans() {
+    BeanPostProcessor postProcessor = VirtualThreadConfiguration.sqsVirtualThreadPostProcessor();
+    Object bean = new Object();
+
+    Object processed = postProcessor.postProcessAfterInitialization(bean, "bean");
+
+    assertThat("Unexpected processed bean.", processed, sameInstance(bean));
+  }
+
+  @Test
+  void shouldRunSqsTasksOnVirtualThreads() throws InterruptedException {
+    SimpleAsyncTaskExecutor executor = VirtualThreadConfiguration.sqsTaskExecutor();
+    AtomicReference<Thread> thread = new AtomicReference<>();
+    CountDownLatch latch = new CountDownLatch(1);
+
+    executor.execute(() -> {
+      thread.set(Thread.currentThread());
+      latch.countDown();
+    });
+
+    assertThat("Unexpected task completion.", latch.await(5, TimeUnit.SECONDS), is(true));
+    assertThat("Unexpected thread type.", thread.get().isVirtual(), is(true));
+    assertThat("Unexpected thread name.", thread.get().getName(),
+        startsWith(VirtualThreadConfiguration.SQS_THREAD_NAME_PREFIX));
+  }
+}
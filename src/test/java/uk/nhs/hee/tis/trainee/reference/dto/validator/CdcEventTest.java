@@ -21,17 +21,24 @@
 
 package uk.nhs.hee.tis.trainee.reference.dto.validator;
 
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.TextNode;
 import com.github.fge.jackson.jsonpointer.JsonPointer;
 import com.github.fge.jackson.jsonpointer.JsonPointerException;
 import com.github.fge.jsonpatch.AddOperation;
 import com.github.fge.jsonpatch.JsonPatch;
 import com.github.fge.jsonpatch.JsonPatchException;
 import com.github.fge.jsonpatch.JsonPatchOperation;
+import com.github.fge.jsonpatch.MoveOperation;
 import com.github.fge.jsonpatch.RemoveOperation;
 import com.github.fge.jsonpatch.ReplaceOperation;
 import com.github.fge.jsonpatch.TestOperation;
@@ -39,8 +46,12 @@ import java.io.IOException;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import uk.nhs.hee.tis.trainee.reference.dto.CdcEvent;
+import uk.nhs.hee.tis.trainee.reference.dto.CdcEvent.CdcKeys;
 import uk.nhs.hee.tis.trainee.reference.dto.CdcEventType;
+import uk.nhs.hee.tis.trainee.reference.dto.PatchOperation;
 
 class CdcEventTest {
 
@@ -140,4 +151,140 @@ class CdcEventTest {
     assertThat("Unexpected name.", result.path("name").asText(), is("Updated"));
     assertThat("Unexpected id.", result.path("id").asText(), is(TIS_ID));
   }
+
+  @ParameterizedTest
+  @CsvSource(delimiter = '|', textBlock = """
+      [{"op":"add","path":"","value":{"id":"abc-123"}}]                       | INSERT
+      [{"op":"remove","path":""}]                                            | DELETE
+      [{"op":"replace","path":"","value":{"id":"abc-123"}}]                   | UPDATE
+      [{"op":"replace","path":"/name","value":"Updated"}]                    | UPDATE
+      [{"op":"test","path":"/name","value":"Original"},{"op":"remove","path":""}] | DELETE
+      []                                                                     | UPDATE
+      """)
+  void shouldDeserializeEventType(String patch, CdcEventType eventType) throws IOException {
+    CdcEvent event = MAPPER.readValue("""
+        {"patch": %s, "keys": {"id": "%s"}}
+        """.formatted(patch, TIS_ID), CdcEvent.class);
+
+    assertThat("Unexpected event type.", event.getEventType(), is(eventType));
+  }
+
+  @Test
+  void shouldDeserializeEvent() throws IOException {
+    CdcEvent event = MAPPER.readValue("""
+        {
+          "table": "College",
+          "patch": [
+            {"op": "test", "path": "/name", "value": "Original"},
+            {"op": "replace", "path": "/name", "value": "Updated"}
+          ],
+          "keys": {"id": "%s"}
+        }
+        """.formatted(TIS_ID), CdcEvent.class);
+
+    assertThat("Unexpected keys.", event.keys(), is(new CdcKeys(TIS_ID)));
+    assertThat("Unexpected operation count.", event.operations().size(), is(2));
+    assertThat("Unexpected test operation.", event.operations().get(0),
+        instanceOf(TestOperation.class));
+    assertThat("Unexpected replace operation.", event.operations().get(1),
+        instanceOf(ReplaceOperation.class));
+    assertThat("Unexpected event type.", event.getEventType(), is(CdcEventType.UPDATE));
+  }
+
+  @Test
+  void shouldDeserializePatchWithoutTests() throws IOException, JsonPatchException {
+    CdcEvent event = MAPPER.readValue("""
+        {
+          "patch": [
+            {"op": "test", "path": "/name", "value": "Original"},
+            {"op": "replace", "path": "/name", "value": "Updated"}
+          ]
+        }
+        """, CdcEvent.class);
+
+    JsonNode target = MAPPER.readTree("""
+        {"name": "Different"}
+        """);
+    JsonNode result = event.getPatchWithoutTests().apply(target);
+
+    assertThat("Unexpected keys.", event.keys(), nullValue());
+    assertThat("Unexpected name.", result.path("name").asText(), is("Updated"));
+  }
+
+  @Test
+  void shouldRecordOperationPathsWhenDeserializing() throws IOException {
+    CdcEvent event = MAPPER.readValue("""
+        {
+          "patch": [
+            {"op": "test", "path": "/name", "value": "Original"},
+            {"op": "replace", "path": "/name", "value": "Updated"},
+            {"op": "move", "from": "/intrepidId", "path": "/legacyId"},
+            {"op": "remove", "path": "/status"}
+          ]
+        }
+        """, CdcEvent.class);
+
+    assertThat("Unexpected paths.", event.getPaths(),
+        is(List.of("/name", "/name", "/legacyId", "/status")));
+    assertThat("Unexpected move operation.", event.operations().get(2),
+        instanceOf(MoveOperation.class));
+  }
+
+  @Test
+  void shouldKeepParsedOperationsWithoutTestsWhenDeserializing() throws IOException {
+    CdcEvent event = MAPPER.readValue("""
+        {
+          "patch": [
+            {"op": "test", "path": "/name", "value": "Original"},
+            {"op": "replace", "path": "/name", "value": "Updated"},
+            {"op": "remove", "path": "/status"}
+          ]
+        }
+        """, CdcEvent.class);
+
+    List<PatchOperation> operations = event.getOperationsWithoutTests();
+    assertThat("Unexpected operation count.", operations, hasSize(2));
+    assertThat("Unexpected operation.", operations.get(0),
+        is(new PatchOperation("replace", "/name", TextNode.valueOf("Updated"))));
+    assertThat("Unexpected operation.", operations.get(1),
+        is(new PatchOperation("remove", "/status", null)));
+  }
+
+  @Test
+  void shouldParseOperationsOfConstructedEvent() {
+    CdcEvent event = new CdcEvent(updatePatchWithTest, null);
+
+    assertThat("Unexpected paths.", event.getPaths(), is(List.of("/name", "")));
+    assertThat("Unexpected operation count.", event.getOperationsWithoutTests(), hasSize(1));
+    assertThat("Unexpected operation.", event.getOperationsWithoutTests().get(0).op(),
+        is("replace"));
+  }
+
+  @ParameterizedTest
+  @CsvSource(delimiter = '|', textBlock = """
+      [{"op":"unknown","path":"/name","value":"Updated"}]
+      [{"path":"/name","value":"Updated"}]
+      [{"op":"replace","value":"Updated"}]
+      [{"op":"replace","path":"name","value":"Updated"}]
+      [{"op":"move","path":"/name"}]
+      ["replace"]
+      """)
+  void shouldRejectInvalidOperations(String patch) {
+    String event = """
+        {"patch": %s, "keys": {"id": "%s"}}
+        """.formatted(patch, TIS_ID);
+
+    assertThrows(JsonMappingException.class, () -> MAPPER.readValue(event, CdcEvent.class));
+  }
+
+  @Test
+  void shouldMatchEventTypeOfConstructedEvent() throws IOException {
+    CdcEvent event = new CdcEvent(updatePatchWithTest, new CdcKeys(TIS_ID));
+
+    CdcEvent deserialized = MAPPER.readValue(MAPPER.writeValueAsString(event), CdcEvent.class);
+
+    assertThat("Unexpected keys.", deserialized.keys(), is(event.keys()));
+    assertThat("Unexpected operation count.", deserialized.operations().size(), is(2));
+    assertThat("Unexpected event type.", deserialized.getEventType(), is(event.getEventType()));
+  }
 }
@@ -20,18 +20,31 @@
 
 package uk.nhs.hee.tis.trainee.reference.facade;
 
+import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertNull;
-import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
+import static uk.nhs.hee.tis.trainee.reference.model.LocalOfficeContact.FOUNDATION_SUFFIX;
+import static uk.nhs.hee.tis.trainee.reference.repository.LocalOfficeContactRepository.DERIVE_CONTACT_TYPE_FIELDS_STAGE;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+import uk.nhs.hee.tis.trainee.reference.dto.TraineeType;
 import uk.nhs.hee.tis.trainee.reference.model.LocalOffice;
 import uk.nhs.hee.tis.trainee.reference.model.LocalOfficeContact;
 import uk.nhs.hee.tis.trainee.reference.model.LocalOfficeContactType;
@@ -62,7 +75,8 @@ class LocalOfficeContactEnricherFacadeTest {
    */
   @BeforeEach
   void initData() {
-    facade = new LocalOfficeContactEnricherFacade(localOfficeRepository, contactTypeRepository);
+    facade = new LocalOfficeContactEnricherFacade(localOfficeRepository, contactTypeRepository,
+        Duration.ofMinutes(5));
 
     localOfficeContact1 = new LocalOfficeContact();
     localOfficeContact1.setTisId(DEFAULT_TIS_ID_1);
@@ -76,12 +90,14 @@ class LocalOfficeContactEnricherFacadeTest {
     LocalOffice localOffice = new LocalOffice();
     localOffice.setUuid(DEFAULT_LOCAL_OFFICE_ID_1);
     localOffice.setLabel(DEFAULT_LOCAL_OFFICE_1);
-    when(localOfficeRepository.findByUuid(DEFAULT_LOCAL_OFFICE_ID_1)).thenReturn(localOffice);
+    when(localOfficeRepository.findAllFromPrimary(Sort.unsorted()))
+        .thenReturn(List.of(localOffice));
 
     LocalOfficeContactType contactType = new LocalOfficeContactType();
     contactType.setTisId(DEFAULT_CONTACT_TYPE_ID_1);
     contactType.setLabel(DEFAULT_CONTACT_TYPE_1);
-    when(contactTypeRepository.findByTisId(DEFAULT_CONTACT_TYPE_ID_1)).thenReturn(contactType);
+    when(contactTypeRepository.findAllFromPrimary(Sort.unsorted()))
+        .thenReturn(List.of(contactType));
 
     facade.enrich(localOfficeContact1);
 
@@ -115,6 +131,41 @@ class LocalOfficeContactEnricherFacadeTest {
         is(facade.generateLabel(localOfficeContact1)));
   }
 
+  @ParameterizedTest
+  @CsvSource(delimiter = '|', textBlock = """
+      Base Name | SPECIALTY | Base Name
+      Base Name - Foundation | FOUNDATION | Base Name
+      Base Name - Not Foundation | SPECIALTY | Base Name - Not Foundation
+      """)
+  void enrichWithContactTypeShouldDeriveTraineeTypeFields(String contactTypeName,
+      TraineeType traineeType, String displayName) {
+    facade.enrichWithContactType(localOfficeContact1, contactTypeName);
+
+    assertThat("Unexpected trainee type", localOfficeContact1.getTraineeType(), is(traineeType));
+    assertThat("Unexpected contact type display name",
+        localOfficeContact1.getContactTypeDisplayName(), is(displayName));
+  }
+
+  @Test
+  void foundationSuffixShouldMatchDerivationUpdatePipeline() {
+    assertThat("Unexpected suffix length", FOUNDATION_SUFFIX.length(), is(13));
+    assertThat("Unexpected suffix regex", DERIVE_CONTACT_TYPE_FIELDS_STAGE,
+        containsString("'regex': '" + FOUNDATION_SUFFIX + "$'"));
+    assertThat("Unexpected suffix length", DERIVE_CONTACT_TYPE_FIELDS_STAGE,
+        containsString("{ '$strLenCP': '$contactTypeName' }, " + FOUNDATION_SUFFIX.length() + "]"));
+  }
+
+  @Test
+  void enrichShouldDeriveSpecialtyTraineeTypeWhenContactTypeMissing() {
+    localOfficeContact1.setContactTypeId(null);
+    when(localOfficeRepository.findAllFromPrimary(Sort.unsorted())).thenReturn(List.of());
+
+    facade.enrich(localOfficeContact1);
+
+    assertThat("Unexpected trainee type", localOfficeContact1.getTraineeType(),
+        is(TraineeType.SPECIALTY));
+  }
+
   @Test
   void enrichShouldReturnNullLocalOfficeContact() {
     LocalOfficeContact enriched = facade.enrich(null);
@@ -135,12 +186,13 @@ class LocalOfficeContactEnricherFacadeTest {
 
   @Test
   void enrichShouldIgnoreMissingLocalOfficeRecord() {
-    when(localOfficeRepository.findByUuid(any())).thenReturn(null);
+    when(localOfficeRepository.findAllFromPrimary(Sort.unsorted())).thenReturn(List.of());
 
     LocalOfficeContactType contactType = new LocalOfficeContactType();
     contactType.setTisId(DEFAULT_CONTACT_TYPE_ID_1);
     contactType.setLabel(DEFAULT_CONTACT_TYPE_1);
-    when(contactTypeRepository.findByTisId(DEFAULT_CONTACT_TYPE_ID_1)).thenReturn(contactType);
+    when(contactTypeRepository.findAllFromPrimary(Sort.unsorted()))
+        .thenReturn(List.of(contactType));
 
     facade.enrich(localOfficeContact1);
 
@@ -154,9 +206,10 @@ class LocalOfficeContactEnricherFacadeTest {
     LocalOffice localOffice = new LocalOffice();
     localOffice.setUuid(DEFAULT_LOCAL_OFFICE_ID_1);
     localOffice.setLabel(DEFAULT_LOCAL_OFFICE_1);
-    when(localOfficeRepository.findByUuid(DEFAULT_LOCAL_OFFICE_ID_1)).thenReturn(localOffice);
+    when(localOfficeRepository.findAllFromPrimary(Sort.unsorted()))
+        .thenReturn(List.of(localOffice));
 
-    when(contactTypeRepository.findByTisId(any())).thenReturn(null);
+    when(contactTypeRepository.findAllFromPrimary(Sort.unsorted())).thenReturn(List.of());
 
     facade.enrich(localOfficeContact1);
 
@@ -172,7 +225,8 @@ class LocalOfficeContactEnricherFacadeTest {
     LocalOfficeContactType contactType = new LocalOfficeContactType();
     contactType.setTisId(DEFAULT_CONTACT_TYPE_ID_1);
     contactType.setLabel(DEFAULT_CONTACT_TYPE_1);
-    when(contactTypeRepository.findByTisId(DEFAULT_CONTACT_TYPE_ID_1)).thenReturn(contactType);
+    when(contactTypeRepository.findAllFromPrimary(Sort.unsorted()))
+        .thenReturn(List.of(contactType));
 
     facade.enrich(localOfficeContact1);
 
@@ -188,7 +242,8 @@ class LocalOfficeContactEnricherFacadeTest {
     LocalOffice localOffice = new LocalOffice();
     localOffice.setUuid(DEFAULT_LOCAL_OFFICE_ID_1);
     localOffice.setLabel(DEFAULT_LOCAL_OFFICE_1);
-    when(localOfficeRepository.findByUuid(DEFAULT_LOCAL_OFFICE_ID_1)).thenReturn(localOffice);
+    when(localOfficeRepository.findAllFromPrimary(Sort.unsorted()))
+        .thenReturn(List.of(localOffice));
 
     facade.enrich(localOfficeContact1);
 
@@ -222,4 +277,116 @@ class LocalOfficeContactEnricherFacadeTest {
     assertThat("Unexpected label.", facade.generateLabel(localOfficeContact1),
         is(expectedLabel));
   }
+
+  @Test
+  void enrichShouldReuseIndexesForSubsequentContacts() {
+    LocalOffice localOffice = new LocalOffice();
+    localOffice.setUuid(DEFAULT_LOCAL_OFFICE_ID_1);
+    localOffice.setLabel(DEFAULT_LOCAL_OFFICE_1);
+    when(localOfficeRepository.findAllFromPrimary(Sort.unsorted()))
+        .thenReturn(List.of(localOffice));
+
+    LocalOfficeContactType contactType = new LocalOfficeContactType();
+    contactType.setTisId(DEFAULT_CONTACT_TYPE_ID_1);
+    contactType.setLabel(DEFAULT_CONTACT_TYPE_1);
+    when(contactTypeRepository.findAllFromPrimary(Sort.unsorted()))
+        .thenReturn(List.of(contactType));
+
+    LocalOfficeContact localOfficeContact2 = new LocalOfficeContact();
+    localOfficeContact2.setLocalOfficeId(DEFAULT_LOCAL_OFFICE_ID_1);
+    localOfficeContact2.setContactTypeId(DEFAULT_CONTACT_TYPE_ID_1);
+
+    facade.enrich(localOfficeContact1);
+    facade.enrich(localOfficeContact2);
+
+    assertThat("Unexpected local office name", localOfficeContact2.getLocalOfficeName(),
+        is(DEFAULT_LOCAL_OFFICE_1));
+    assertThat("Unexpected contact type name", localOfficeContact2.getContactTypeName(),
+        is(DEFAULT_CONTACT_TYPE_1));
+    verify(localOfficeRepository).findAllFromPrimary(Sort.unsorted());
+    verify(contactTypeRepository).findAllFromPrimary(Sort.unsorted());
+    verifyNoMoreInteractions(localOfficeRepository, contactTypeRepository);
+  }
+
+  @Test
+  void enrichShouldReloadLocalOfficesWhenInvalidated() {
+    LocalOffice localOffice = new LocalOffice();
+    localOffice.setUuid(DEFAULT_LOCAL_OFFICE_ID_1);
+    localOffice.setLabel(DEFAULT_LOCAL_OFFICE_1);
+
+    LocalOffice renamedLocalOffice = new LocalOffice();
+    renamedLocalOffice.setUuid(DEFAULT_LOCAL_OFFICE_ID_1);
+    renamedLocalOffice.setLabel("North London");
+
+    when(localOfficeRepository.findAllFromPrimary(Sort.unsorted())).thenReturn(List.of(localOffice),
+        List.of(renamedLocalOffice));
+    localOfficeContact1.setContactTypeId(null);
+
+    facade.enrich(localOfficeContact1);
+    facade.invalidateLocalOffices();
+    facade.enrich(localOfficeContact1);
+
+    assertThat("Unexpected local office name", localOfficeContact1.getLocalOfficeName(),
+        is("North London"));
+    verify(localOfficeRepository, times(2)).findAllFromPrimary(Sort.unsorted());
+  }
+
+  @Test
+  void enrichShouldReloadContactTypesWhenInvalidated() {
+    LocalOfficeContactType contactType = new LocalOfficeContactType();
+    contactType.setTisId(DEFAULT_CONTACT_TYPE_ID_1);
+    contactType.setLabel(DEFAULT_CONTACT_TYPE_1);
+
+    LocalOfficeContactType renamedContactType = new LocalOfficeContactType();
+    renamedContactType.setTisId(DEFAULT_CONTACT_TYPE_ID_1);
+    renamedContactType.setLabel("Deferral");
+
+    when(contactTypeRepository.findAllFromPrimary(Sort.unsorted())).thenReturn(List.of(contactType),
+        List.of(renamedContactType));
+    localOfficeContact1.setLocalOfficeId(null);
+
+    facade.enrich(localOfficeContact1);
+    facade.invalidateContactTypes();
+    facade.enrich(localOfficeContact1);
+
+    assertThat("Unexpected contact type name", localOfficeContact1.getContactTypeName(),
+        is("Deferral"));
+    verify(contactTypeRepository, times(2)).findAllFromPrimary(Sort.unsorted());
+  }
+
+  @Test
+  void loadIndexesShouldLoadLocalOfficesAndContactTypes() {
+    when(localOfficeRepository.findAllFromPrimary(Sort.unsorted())).thenReturn(List.of());
+    when(contactTypeRepository.findAllFromPrimary(Sort.unsorted())).thenReturn(List.of());
+
+    facade.loadIndexes();
+    facade.enrich(localOfficeContact1);
+
+    verify(localOfficeRepository).findAllFromPrimary(Sort.unsorted());
+    verify(contactTypeRepository).findAllFromPrimary(Sort.unsorted());
+  }
+
+  @Test
+  void enrichShouldCountIndexLookups() {
+    LocalOffice localOffice = new LocalOffice();
+    localOffice.setUuid(DEFAULT_LOCAL_OFFICE_ID_1);
+    localOffice.setLabel(DEFAULT_LOCAL_OFFICE_1);
+    when(localOfficeRepository.findAllFromPrimary(Sort.unsorted()))
+        .thenReturn(List.of(localOffice));
+    when(contactTypeRepository.findAllFromPrimary(Sort.unsorted())).thenReturn(List.of());
+
+    MeterRegistry registry = new SimpleMeterRegistry();
+    facade.bindTo(registry);
+
+    facade.enrich(localOfficeContact1);
+
+    assertThat("Unexpected local office hits.", registry.get("reference.enricher.lookups")
+        .tag("index", "local-office").tag("result", "hit").functionCounter().count(), is(1.0));
+    assertThat("Unexpected local office misses.", registry.get("reference.enricher.lookups")
+        .tag("index", "local-office").tag("result", "miss").functionCounter().count(), is(0.0));
+    assertThat("Unexpected contact type hits.", registry.get("reference.enricher.lookups")
+        .tag("index", "contact-type").tag("result", "hit").functionCounter().count(), is(0.0));
+    assertThat("Unexpected contact type misses.", registry.get("reference.enricher.lookups")
+        .tag("index", "contact-type").tag("result", "miss").functionCounter().count(), is(1.0));
+  }
 }
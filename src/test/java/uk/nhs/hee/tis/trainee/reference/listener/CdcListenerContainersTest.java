@@ -0,0 +1,142 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.reference.listener;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.awspring.cloud.sqs.config.SqsMessageListenerContainerFactory;
+import io.awspring.cloud.sqs.listener.MessageListener;
+import io.awspring.cloud.sqs.listener.MessageListenerContainerRegistry;
+import io.awspring.cloud.sqs.listener.SqsHeaders;
+import io.awspring.cloud.sqs.listener.SqsMessageListenerContainer;
+import io.awspring.cloud.sqs.listener.acknowledgement.AcknowledgementCallback;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+import uk.nhs.hee.tis.trainee.reference.dto.CdcEvent;
+
+class CdcListenerContainersTest {
+
+  private static final String COLLEGE_QUEUE = "college-queue";
+  private static final String GRADE_QUEUE = "grade-queue";
+
+  private CdcListenerContainers containers;
+  private CdcListener listener;
+  private SqsMessageListenerContainerFactory<Object> containerFactory;
+  private MessageListenerContainerRegistry containerRegistry;
+  private SqsMessageListenerContainer<Object> collegeContainer;
+  private SqsMessageListenerContainer<Object> gradeContainer;
+
+  @BeforeEach
+  void setUp() {
+    listener = mock(CdcListener.class);
+    when(listener.getQueues()).thenReturn(Set.of(COLLEGE_QUEUE, GRADE_QUEUE));
+
+    collegeContainer = mock(SqsMessageListenerContainer.class);
+    gradeContainer = mock(SqsMessageListenerContainer.class);
+    containerFactory = mock(SqsMessageListenerContainerFactory.class);
+    when(containerFactory.createContainer(COLLEGE_QUEUE)).thenReturn(collegeContainer);
+    when(containerFactory.createContainer(GRADE_QUEUE)).thenReturn(gradeContainer);
+
+    containerRegistry = mock(MessageListenerContainerRegistry.class);
+    containers = new CdcListenerContainers(listener, containerFactory, containerRegistry,
+        new ObjectMapper(), 10, 10);
+  }
+
+  @Test
+  void shouldRegisterContainerForEachBoundQueue() {
+    containers.afterSingletonsInstantiated();
+
+    verify(collegeContainer).setId("cdc-" + COLLEGE_QUEUE);
+    verify(gradeContainer).setId("cdc-" + GRADE_QUEUE);
+    verify(containerRegistry).registerListenerContainer(collegeContainer);
+    verify(containerRegistry).registerListenerContainer(gradeContainer);
+  }
+
+  @Test
+  void shouldAcknowledgeMessagesOfAppliedEvents() {
+    containers.afterSingletonsInstantiated();
+    MessageListener<Object> messageListener = captureListener(collegeContainer);
+
+    AcknowledgementCallback<Object> callback = mock(AcknowledgementCallback.class);
+    when(callback.onAcknowledge(any(List.class))).thenReturn(CompletableFuture.completedFuture(
+        null));
+    Message<Object> message1 = toMessage(callback);
+    Message<Object> message2 = toMessage(callback);
+
+    Message<CdcEvent> applied = (Message<CdcEvent>) (Message<?>) message2;
+    when(listener.handlePatches(any())).thenReturn(List.of(applied));
+
+    messageListener.onMessage(List.of(message1, message2));
+
+    verify(callback).onAcknowledge(List.of(message2));
+  }
+
+  @Test
+  void shouldNotAcknowledgeWhenNoEventsApplied() {
+    containers.afterSingletonsInstantiated();
+    MessageListener<Object> messageListener = captureListener(collegeContainer);
+
+    AcknowledgementCallback<Object> callback = mock(AcknowledgementCallback.class);
+    when(listener.handlePatches(any())).thenReturn(List.of());
+
+    messageListener.onMessage(List.of(toMessage(callback)));
+
+    verify(callback, never()).onAcknowledge(any(List.class));
+  }
+
+  /**
+   * Capture the message listener set on the given container.
+   *
+   * @param container The container to capture the listener of.
+   * @return The captured listener.
+   */
+  private MessageListener<Object> captureListener(SqsMessageListenerContainer<Object> container) {
+    ArgumentCaptor<MessageListener<Object>> listenerCaptor =
+        ArgumentCaptor.forClass(MessageListener.class);
+    verify(container).setMessageListener(listenerCaptor.capture());
+    return listenerCaptor.getValue();
+  }
+
+  /**
+   * Create a message with a CDC event payload and the given acknowledgement callback.
+   *
+   * @param callback The acknowledgement callback of the message.
+   * @return The created message.
+   */
+  private Message<Object> toMessage(AcknowledgementCallback<Object> callback) {
+    return MessageBuilder.<Object>withPayload(mock(CdcEvent.class))
+        .setHeader(SqsHeaders.SQS_QUEUE_NAME_HEADER, COLLEGE_QUEUE)
+        .setHeader(SqsHeaders.SQS_ACKNOWLEDGMENT_CALLBACK_HEADER, callback)
+        .build();
+  }
+}
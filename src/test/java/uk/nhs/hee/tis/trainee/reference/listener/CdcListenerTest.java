@@ -0,0 +1,230 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.reference.listener;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.awspring.cloud.sqs.listener.SqsHeaders;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.mock.env.MockEnvironment;
+import uk.nhs.hee.tis.trainee.reference.dto.CdcEvent;
+import uk.nhs.hee.tis.trainee.reference.dto.CdcEventType;
+import uk.nhs.hee.tis.trainee.reference.service.CollegeService;
+import uk.nhs.hee.tis.trainee.reference.service.LocalOfficeContactTypeService;
+
+class CdcListenerTest {
+
+  private static final String COLLEGE_QUEUE = "college-queue";
+  private static final String CONTACT_TYPE_QUEUE = "contact-type-queue";
+  private static final Instant NOW = Instant.parse("2026-01-01T12:00:00Z");
+
+  private CdcListener listener;
+  private CollegeService collegeService;
+  private LocalOfficeContactTypeService contactTypeService;
+  private MeterRegistry registry;
+  private Clock clock;
+
+  @BeforeEach
+  void setUp() {
+    collegeService = mock(CollegeService.class);
+    when(collegeService.getName()).thenReturn("College");
+
+    contactTypeService = mock(LocalOfficeContactTypeService.class);
+    when(contactTypeService.getName()).thenReturn("LocalOfficeContactType");
+
+    MockEnvironment environment = new MockEnvironment()
+        .withProperty("application.queues.college-patch", COLLEGE_QUEUE)
+        .withProperty("application.queues.local-office-contact-type-patch", CONTACT_TYPE_QUEUE);
+
+    registry = new SimpleMeterRegistry();
+    clock = Clock.fixed(NOW, ZoneOffset.UTC);
+    listener = new CdcListener(List.of(collegeService, contactTypeService), environment, registry,
+        clock);
+  }
+
+  @Test
+  void shouldThrowExceptionWhenServiceHasNoQueue() {
+    MockEnvironment environment = new MockEnvironment();
+
+    assertThrows(IllegalStateException.class,
+        () -> new CdcListener(List.of(collegeService), environment, registry, clock));
+  }
+
+  @Test
+  void shouldBindQueuesDerivedFromServiceNames() {
+    assertThat("Unexpected queues.", listener.getQueues(),
+        is(Set.of(COLLEGE_QUEUE, CONTACT_TYPE_QUEUE)));
+  }
+
+  @Test
+  void shouldApplyEventsInOrderWithBoundService() {
+    CdcEvent event1 = mock(CdcEvent.class);
+    CdcEvent event2 = mock(CdcEvent.class);
+    List<Message<CdcEvent>> messages = List.of(
+        toMessage(event1, CONTACT_TYPE_QUEUE),
+        toMessage(event2, CONTACT_TYPE_QUEUE));
+
+    when(contactTypeService.applyEvents(any())).thenReturn(Set.of(0, 1));
+
+    listener.handlePatches(messages);
+
+    verify(contactTypeService).applyEvents(List.of(event1, event2));
+    verify(collegeService, never()).applyEvents(any());
+  }
+
+  @Test
+  void shouldApplyEventsSeparatelyForEachQueue() {
+    CdcEvent collegeEvent = mock(CdcEvent.class);
+    CdcEvent contactTypeEvent = mock(CdcEvent.class);
+    List<Message<CdcEvent>> messages = List.of(
+        toMessage(collegeEvent, COLLEGE_QUEUE),
+        toMessage(contactTypeEvent, CONTACT_TYPE_QUEUE));
+
+    when(collegeService.applyEvents(any())).thenReturn(Set.of(0));
+    when(contactTypeService.applyEvents(any())).thenReturn(Set.of(0));
+
+    List<Message<CdcEvent>> acknowledged = listener.handlePatches(messages);
+
+    verify(collegeService).applyEvents(List.of(collegeEvent));
+    verify(contactTypeService).applyEvents(List.of(contactTypeEvent));
+    assertThat("Unexpected acknowledged messages.", acknowledged, is(messages));
+  }
+
+  @Test
+  void shouldAcknowledgeAllMessagesWhenAllEventsApplied() {
+    List<Message<CdcEvent>> messages = List.of(
+        toMessage(mock(CdcEvent.class), COLLEGE_QUEUE),
+        toMessage(mock(CdcEvent.class), COLLEGE_QUEUE));
+
+    when(collegeService.applyEvents(any())).thenReturn(Set.of(0, 1));
+
+    List<Message<CdcEvent>> acknowledged = listener.handlePatches(messages);
+
+    assertThat("Unexpected acknowledged messages.", acknowledged, is(messages));
+  }
+
+  @Test
+  void shouldOnlyAcknowledgeMessagesForAppliedEvents() {
+    Message<CdcEvent> message1 = toMessage(mock(CdcEvent.class), COLLEGE_QUEUE);
+    Message<CdcEvent> message2 = toMessage(mock(CdcEvent.class), COLLEGE_QUEUE);
+    Message<CdcEvent> message3 = toMessage(mock(CdcEvent.class), COLLEGE_QUEUE);
+
+    when(collegeService.applyEvents(any())).thenReturn(Set.of(0, 2));
+
+    List<Message<CdcEvent>> acknowledged = listener.handlePatches(
+        List.of(message1, message2, message3));
+
+    assertThat("Unexpected acknowledged messages.", acknowledged,
+        is(List.of(message1, message3)));
+  }
+
+  @Test
+  void shouldNotAcknowledgeMessagesFromUnboundQueue() {
+    List<Message<CdcEvent>> messages = List.of(toMessage(mock(CdcEvent.class), "unknown"));
+
+    List<Message<CdcEvent>> acknowledged = listener.handlePatches(messages);
+
+    assertThat("Unexpected acknowledged messages.", acknowledged, is(List.of()));
+    verify(collegeService, never()).applyEvents(any());
+    verify(contactTypeService, never()).applyEvents(any());
+  }
+
+  @Test
+  void shouldCountEventsByTypeAndResult() {
+    CdcEvent insert = mock(CdcEvent.class);
+    when(insert.getEventType()).thenReturn(CdcEventType.INSERT);
+    CdcEvent update = mock(CdcEvent.class);
+    when(update.getEventType()).thenReturn(CdcEventType.UPDATE);
+
+    when(collegeService.applyEvents(any())).thenReturn(Set.of(0));
+
+    listener.handlePatches(List.of(toMessage(insert, COLLEGE_QUEUE),
+        toMessage(update, COLLEGE_QUEUE)));
+
+    double applied = registry.get(CdcListener.EVENTS_COUNTER)
+        .tag("type", "College")
+        .tag("event", "INSERT")
+        .tag("result", "applied")
+        .counter()
+        .count();
+    assertThat("Unexpected applied count.", applied, is(1.0));
+
+    double failed = registry.get(CdcListener.EVENTS_COUNTER)
+        .tag("type", "College")
+        .tag("event", "UPDATE")
+        .tag("result", "failed")
+        .counter()
+        .count();
+    assertThat("Unexpected failed count.", failed, is(1.0));
+  }
+
+  @Test
+  void shouldRecordLagOfSentEvents() {
+    Message<CdcEvent> message = MessageBuilder.withPayload(mock(CdcEvent.class))
+        .setHeader(SqsHeaders.SQS_QUEUE_NAME_HEADER, COLLEGE_QUEUE)
+        .setHeader(SqsHeaders.MessageSystemAttributes.SQS_SENT_TIMESTAMP,
+            String.valueOf(NOW.minusSeconds(3).toEpochMilli()))
+        .build();
+
+    when(collegeService.applyEvents(any())).thenReturn(Set.of(0));
+
+    listener.handlePatches(List.of(message));
+
+    Timer lag = registry.get(CdcListener.LAG_TIMER)
+        .tag("type", "College")
+        .timer();
+    assertThat("Unexpected lag count.", lag.count(), is(1L));
+    assertThat("Unexpected lag.", lag.totalTime(TimeUnit.SECONDS), is(3.0));
+  }
+
+  /**
+   * Create a message for the given event, received from the given queue.
+   *
+   * @param event The event payload.
+   * @param queue The queue the message was received from.
+   * @return The created message.
+   */
+  private Message<CdcEvent> toMessage(CdcEvent event, String queue) {
+    return MessageBuilder.withPayload(event)
+        .setHeader(SqsHeaders.SQS_QUEUE_NAME_HEADER, queue)
+        .build();
+  }
+}
@@ -1,91 +0,0 @@
-/*
- * The MIT License (MIT)
- *
- * Copyright 2026 Crown Copyright (Health Education England)
- *
- * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
- * and associated documentation files (the "Software"), to deal in the Software without
- * restriction, including without limitation the rights to use, copy, modify, merge, publish,
- * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
- * Software is furnished to do so, subject to the following conditions:
- *
- * The above copyright notice and this permission notice shall be included in all copies or
- * substantial portions of the Software.
- *
- * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING
- * BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
- * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
- * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
- * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
- */
-
-package uk.nhs.hee.tis.trainee.reference.listener;
-
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.when;
-
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.github.fge.jsonpatch.JsonPatch;
-import com.github.fge.jsonpatch.JsonPatchException;
-import org.junit.jupiter.api.BeforeEach;
-import org.junit.jupiter.api.Test;
-import uk.nhs.hee.tis.trainee.reference.dto.CdcEvent;
-import uk.nhs.hee.tis.trainee.reference.dto.CdcEvent.CdcKeys;
-import uk.nhs.hee.tis.trainee.reference.dto.CdcEventType;
-import uk.nhs.hee.tis.trainee.reference.model.College;
-import uk.nhs.hee.tis.trainee.reference.service.CollegeService;
-
-class CollegeListenerTest {
-
-  private static final String TIS_ID = "abc-123";
-
-  private CollegeListener listener;
-  private CollegeService service;
-
-  @BeforeEach
-  void setUp() {
-    service = mock(CollegeService.class);
-    listener = new CollegeListener(service);
-  }
-
-  @Test
-  void shouldCallCreateOnInsertEvent() throws JsonPatchException, JsonProcessingException {
-    CdcEvent event = mock(CdcEvent.class);
-    JsonPatch patch = mock(JsonPatch.class);
-    when(event.getEventType()).thenReturn(CdcEventType.INSERT);
-    when(event.getPatchWithoutTests()).thenReturn(patch);
-
-    listener.handleCollegePatch(event);
-
-    verify(service).create(any(College.class), eq(patch));
-  }
-
-  @Test
-  void shouldCallDeleteByTisIdOnDeleteEvent() throws JsonPatchException, JsonProcessingException {
-    CdcEvent event = mock(CdcEvent.class);
-    CdcKeys keys = new CdcKeys(TIS_ID);
-    when(event.getEventType()).thenReturn(CdcEventType.DELETE);
-    when(event.keys()).thenReturn(keys);
-
-    listener.handleCollegePatch(event);
-
-    verify(service).deleteByTisId(TIS_ID);
-  }
-
-  @Test
-  void shouldCallUpdateOnUpdateEvent() throws JsonPatchException, JsonProcessingException {
-    CdcEvent event = mock(CdcEvent.class);
-    JsonPatch patch = mock(JsonPatch.class);
-    CdcKeys keys = new CdcKeys(TIS_ID);
-    when(event.getEventType()).thenReturn(CdcEventType.UPDATE);
-    when(event.keys()).thenReturn(keys);
-    when(event.getPatchWithoutTests()).thenReturn(patch);
-
-    listener.handleCollegePatch(event);
-
-    verify(service).update(TIS_ID, patch);
-  }
-}
\ No newline at end of file
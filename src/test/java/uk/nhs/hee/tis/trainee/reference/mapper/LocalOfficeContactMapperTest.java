@@ -27,12 +27,12 @@ import static org.hamcrest.Matchers.nullValue;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.params.ParameterizedTest;
-import org.junit.jupiter.params.provider.CsvSource;
 import uk.nhs.hee.tis.trainee.reference.dto.LocalOfficeContactDetailsDto;
+import uk.nhs.hee.tis.trainee.reference.dto.LocalOfficeContactPatchDto;
+import uk.nhs.hee.tis.trainee.reference.model.LocalOfficeContact;
 
 /**
- * Tests for default {@link LocalOfficeContactMapper} methods.
+ * Tests for {@link LocalOfficeContactMapper}.
  */
 class LocalOfficeContactMapperTest {
 
@@ -44,26 +44,35 @@ class LocalOfficeContactMapperTest {
   }
 
   @Test
-  void shouldNotTrimSuffixFromContactTypeNameWhenNull() {
-    LocalOfficeContactDetailsDto dto = new LocalOfficeContactDetailsDto();
+  void shouldMapContactTypeDisplayNameToDetailsContactTypeName() {
+    LocalOfficeContact entity = new LocalOfficeContact();
+    entity.setContactTypeName("Base Name - Foundation");
+    entity.setContactTypeDisplayName("Base Name");
 
-    mapper.trimTraineeTypeSuffix(dto);
+    LocalOfficeContactDetailsDto dto = mapper.toDetailsDto(entity);
+
+    assertThat("Unexpected contact type name.", dto.getContactTypeName(), is("Base Name"));
+  }
+
+  @Test
+  void shouldMapNullContactTypeDisplayNameToDetailsContactTypeName() {
+    LocalOfficeContact entity = new LocalOfficeContact();
+    entity.setContactTypeName("Base Name");
+
+    LocalOfficeContactDetailsDto dto = mapper.toDetailsDto(entity);
 
     assertThat("Unexpected contact type name.", dto.getContactTypeName(), nullValue());
   }
 
-  @ParameterizedTest
-  @CsvSource(delimiter = '|', textBlock = """
-      Base Name | Base Name
-      Base Name - Foundation | Base Name
-      Base Name - Not Foundation | Base Name - Not Foundation
-      """)
-  void shouldTrimSuffixFromContactTypeNameWhenNotNull(String before, String after) {
-    LocalOfficeContactDetailsDto dto = new LocalOfficeContactDetailsDto();
-    dto.setContactTypeName(before);
+  @Test
+  void shouldNotMapDerivedFieldsFromPatchDto() {
+    LocalOfficeContactPatchDto dto = new LocalOfficeContactPatchDto();
+    dto.setId("40");
 
-    mapper.trimTraineeTypeSuffix(dto);
+    LocalOfficeContact entity = mapper.toEntity(dto);
 
-    assertThat("Unexpected contact type name.", dto.getContactTypeName(), is(after));
+    assertThat("Unexpected trainee type.", entity.getTraineeType(), nullValue());
+    assertThat("Unexpected contact type display name.", entity.getContactTypeDisplayName(),
+        nullValue());
   }
 }
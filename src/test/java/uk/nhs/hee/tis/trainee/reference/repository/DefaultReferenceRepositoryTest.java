@@ -0,0 +1,311 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.reference.repository;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.mongodb.ReadPreference;
+import com.mongodb.bulk.BulkWriteError;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.mongodb.repository.query.MongoEntityInformation;
+import uk.nhs.hee.tis.trainee.reference.model.College;
+
+class DefaultReferenceRepositoryTest {
+
+  private static final String COLLECTION_NAME = "College";
+  private static final String TIS_ID_1 = "1";
+  private static final String TIS_ID_2 = "2";
+
+  private DefaultReferenceRepository<College, String> repository;
+  private MongoOperations mongoOperations;
+  private BulkOperations bulkOperations;
+
+  @BeforeEach
+  void setUp() {
+    MongoEntityInformation<College, String> entityInformation = mock(MongoEntityInformation.class);
+    when(entityInformation.getJavaType()).thenReturn(College.class);
+    when(entityInformation.getCollectionName()).thenReturn(COLLECTION_NAME);
+
+    mongoOperations = mock(MongoOperations.class);
+    bulkOperations = mock(BulkOperations.class);
+    when(mongoOperations.bulkOps(BulkMode.UNORDERED, College.class, COLLECTION_NAME))
+        .thenReturn(bulkOperations);
+    when(mongoOperations.getConverter()).thenReturn(
+        new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, new MongoMappingContext()));
+
+    repository = new DefaultReferenceRepository<>(entityInformation, mongoOperations);
+  }
+
+  @Test
+  void shouldNotBulkWriteWhenNoWrites() {
+    Set<Integer> failed = repository.bulkWriteByTisId(List.of());
+
+    assertThat("Unexpected failed writes.", failed, is(Set.of()));
+    verify(mongoOperations, never()).bulkOps(any(), any(Class.class), any());
+  }
+
+  @Test
+  void shouldUpsertEntitiesByTisId() {
+    College college = new College();
+    college.setTisId(TIS_ID_1);
+
+    Set<Integer> failed = repository.bulkWriteByTisId(
+        List.of(ReferenceWrite.upsert(TIS_ID_1, college)));
+
+    assertThat("Unexpected failed writes.", failed, is(Set.of()));
+
+    ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+    ArgumentCaptor<FindAndReplaceOptions> optionsCaptor = ArgumentCaptor.forClass(
+        FindAndReplaceOptions.class);
+    verify(bulkOperations).replaceOne(queryCaptor.capture(), eq(college),
+        optionsCaptor.capture());
+    verify(bulkOperations).execute();
+
+    Query query = queryCaptor.getValue();
+    assertThat("Unexpected query.", query.getQueryObject().get("tisId"), is(TIS_ID_1));
+    assertThat("Unexpected upsert flag.", optionsCaptor.getValue().isUpsert(), is(true));
+  }
+
+  @Test
+  void shouldDeleteEntitiesByTisId() {
+    Set<Integer> failed = repository.bulkWriteByTisId(List.of(ReferenceWrite.delete(TIS_ID_1)));
+
+    assertThat("Unexpected failed writes.", failed, is(Set.of()));
+
+    ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+    verify(bulkOperations).remove(queryCaptor.capture());
+    verify(bulkOperations).execute();
+
+    Query query = queryCaptor.getValue();
+    assertThat("Unexpected query.", query.getQueryObject().get("tisId"), is(TIS_ID_1));
+  }
+
+  @Test
+  void shouldReturnPositionsOfFailedWrites() {
+    BulkOperationException exception = mock(BulkOperationException.class);
+    when(exception.getErrors()).thenReturn(
+        List.of(new BulkWriteError(11000, "Duplicate key.", new BsonDocument(), 1)));
+    when(bulkOperations.execute()).thenThrow(exception);
+
+    Set<Integer> failed = repository.bulkWriteByTisId(List.of(
+        ReferenceWrite.upsert(TIS_ID_1, new College()),
+        ReferenceWrite.upsert(TIS_ID_2, new College())));
+
+    assertThat("Unexpected failed writes.", failed, is(Set.of(1)));
+  }
+
+  @Test
+  void shouldUpsertEntityByTisIdAtomically() {
+    College college = new College();
+    college.setTisId(TIS_ID_1);
+    college.setLabel("label");
+    when(mongoOperations.findAndModify(any(Query.class), any(Update.class),
+        any(FindAndModifyOptions.class), eq(College.class), eq(COLLECTION_NAME)))
+        .thenReturn(college);
+
+    College upserted = repository.upsertByTisId(TIS_ID_1, college);
+
+    assertThat("Unexpected upserted entity.", upserted, is(college));
+
+    ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+    ArgumentCaptor<FindAndModifyOptions> optionsCaptor = ArgumentCaptor.forClass(
+        FindAndModifyOptions.class);
+    verify(mongoOperations).findAndModify(queryCaptor.capture(), any(Update.class),
+        optionsCaptor.capture(), eq(College.class), eq(COLLECTION_NAME));
+
+    Query query = queryCaptor.getValue();
+    assertThat("Unexpected query.", query.getQueryObject().get("tisId"), is(TIS_ID_1));
+
+    FindAndModifyOptions options = optionsCaptor.getValue();
+    assertThat("Unexpected upsert flag.", options.isUpsert(), is(true));
+    assertThat("Unexpected return new flag.", options.isReturnNew(), is(true));
+  }
+
+  @Test
+  void shouldSetPopulatedFieldsAndUnsetMissingFieldsWhenUpserting() {
+    College college = new College();
+    college.setTisId(TIS_ID_1);
+    college.setLabel("label");
+
+    repository.upsertByTisId(TIS_ID_1, college);
+
+    ArgumentCaptor<Update> updateCaptor = ArgumentCaptor.forClass(Update.class);
+    verify(mongoOperations).findAndModify(any(Query.class), updateCaptor.capture(),
+        any(FindAndModifyOptions.class), eq(College.class), eq(COLLECTION_NAME));
+
+    Document update = updateCaptor.getValue().getUpdateObject();
+    Document set = update.get("$set", Document.class);
+    assertThat("Unexpected label.", set.get("label"), is("label"));
+    assertThat("Unexpected tisId set.", set.containsKey("tisId"), is(false));
+    assertThat("Unexpected id set.", set.containsKey("_id"), is(false));
+    assertThat("Unexpected set on insert.", update.containsKey("$setOnInsert"), is(false));
+  }
+
+  @Test
+  void shouldUnsetNullFieldsWhenUpserting() {
+    College college = new College();
+    college.setTisId(TIS_ID_1);
+
+    repository.upsertByTisId(TIS_ID_1, college);
+
+    ArgumentCaptor<Update> updateCaptor = ArgumentCaptor.forClass(Update.class);
+    verify(mongoOperations).findAndModify(any(Query.class), updateCaptor.capture(),
+        any(FindAndModifyOptions.class), eq(College.class), eq(COLLECTION_NAME));
+
+    Document unset = updateCaptor.getValue().getUpdateObject().get("$unset", Document.class);
+    assertThat("Unexpected unset fields.", unset.keySet(), is(Set.of("label")));
+  }
+
+  @Test
+  void shouldOnlySetIdOnInsertWhenUpserting() {
+    College college = new College();
+    college.setId("40");
+    college.setTisId(TIS_ID_1);
+    college.setLabel("label");
+
+    repository.upsertByTisId(TIS_ID_1, college);
+
+    ArgumentCaptor<Update> updateCaptor = ArgumentCaptor.forClass(Update.class);
+    verify(mongoOperations).findAndModify(any(Query.class), updateCaptor.capture(),
+        any(FindAndModifyOptions.class), eq(College.class), eq(COLLECTION_NAME));
+
+    Document update = updateCaptor.getValue().getUpdateObject();
+    Document setOnInsert = update.get("$setOnInsert", Document.class);
+    assertThat("Unexpected id.", setOnInsert.get("_id"), is("40"));
+    assertThat("Unexpected id set.", update.get("$set", Document.class).containsKey("_id"),
+        is(false));
+  }
+
+  @Test
+  void shouldStreamAllEntitiesInOrder() {
+    College college = new College();
+    when(mongoOperations.stream(any(Query.class), eq(College.class), eq(COLLECTION_NAME)))
+        .thenReturn(Stream.of(college));
+
+    List<College> colleges = repository.streamAll(Sort.by("label")).toList();
+
+    assertThat("Unexpected entities.", colleges, is(List.of(college)));
+
+    ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+    verify(mongoOperations).stream(queryCaptor.capture(), eq(College.class), eq(COLLECTION_NAME));
+
+    Query query = queryCaptor.getValue();
+    assertThat("Unexpected filter.", query.getQueryObject().isEmpty(), is(true));
+    assertThat("Unexpected sort.", query.getSortObject().get("label"), is(1));
+    assertThat("Unexpected projection.", query.getFieldsObject(),
+        is(new Document("_id", 1).append("tisId", 1).append("label", 1)));
+  }
+
+  @Test
+  void shouldFindAllEntitiesInOrderWithMappedFields() {
+    College college = new College();
+    when(mongoOperations.find(any(Query.class), eq(College.class), eq(COLLECTION_NAME)))
+        .thenReturn(List.of(college));
+
+    List<College> colleges = repository.findAll(Sort.by("label"));
+
+    assertThat("Unexpected entities.", colleges, is(List.of(college)));
+
+    ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+    verify(mongoOperations).find(queryCaptor.capture(), eq(College.class), eq(COLLECTION_NAME));
+
+    Query query = queryCaptor.getValue();
+    assertThat("Unexpected filter.", query.getQueryObject().isEmpty(), is(true));
+    assertThat("Unexpected sort.", query.getSortObject().get("label"), is(1));
+    assertThat("Unexpected projection.", query.getFieldsObject(),
+        is(new Document("_id", 1).append("tisId", 1).append("label", 1)));
+  }
+
+  @Test
+  void shouldFindAllEntitiesFromPrimary() {
+    College college = new College();
+    when(mongoOperations.find(any(Query.class), eq(College.class), eq(COLLECTION_NAME)))
+        .thenReturn(List.of(college));
+
+    List<College> colleges = repository.findAllFromPrimary(Sort.by("label"));
+
+    assertThat("Unexpected entities.", colleges, is(List.of(college)));
+
+    ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+    verify(mongoOperations).find(queryCaptor.capture(), eq(College.class), eq(COLLECTION_NAME));
+
+    Query query = queryCaptor.getValue();
+    assertThat("Unexpected sort.", query.getSortObject().get("label"), is(1));
+    assertThat("Unexpected projection.", query.getFieldsObject(),
+        is(new Document("_id", 1).append("tisId", 1).append("label", 1)));
+    assertThat("Unexpected read preference.", query.getReadPreference(),
+        is(ReadPreference.primary()));
+  }
+
+  @Test
+  void shouldFindEntitiesByTisIdFromPrimary() {
+    College college = new College();
+    when(mongoOperations.find(any(Query.class), eq(College.class), eq(COLLECTION_NAME)))
+        .thenReturn(List.of(college));
+
+    List<College> colleges = repository.findByTisIdInFromPrimary(List.of("1", "2"));
+
+    assertThat("Unexpected entities.", colleges, is(List.of(college)));
+
+    ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+    verify(mongoOperations).find(queryCaptor.capture(), eq(College.class), eq(COLLECTION_NAME));
+
+    Query query = queryCaptor.getValue();
+    Document tisId = query.getQueryObject().get("tisId", Document.class);
+    assertThat("Unexpected TIS IDs.", tisId.get("$in"), is(List.of("1", "2")));
+    assertThat("Unexpected read preference.", query.getReadPreference(),
+        is(ReadPreference.primary()));
+  }
+
+  @Test
+  void shouldGetCollectionName() {
+    String collectionName = repository.getCollectionName();
+
+    assertThat("Unexpected collection name.", collectionName, is(COLLECTION_NAME));
+  }
+}
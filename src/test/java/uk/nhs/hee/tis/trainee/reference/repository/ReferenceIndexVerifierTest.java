@@ -0,0 +1,259 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.reference.repository;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.mongodb.ExplainVerbosity;
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoCollection;
+import java.util.List;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import uk.nhs.hee.tis.trainee.reference.model.Grade;
+import uk.nhs.hee.tis.trainee.reference.repository.ReferenceIndexes.HotQuery;
+
+@ExtendWith(MockitoExtension.class)
+class ReferenceIndexVerifierTest {
+
+  private static final String COLLECTION = "collection";
+
+  private static final Document COVERED_INDEX_SCAN = new Document("stage", "PROJECTION_COVERED")
+      .append("inputStage", new Document("stage", "IXSCAN").append("indexName", "label_covering"));
+  private static final Document INDEX_SCAN = new Document("stage", "FETCH")
+      .append("inputStage", new Document("stage", "IXSCAN").append("indexName", "tisId"));
+  private static final Document COLLECTION_SCAN = new Document("stage", "SORT")
+      .append("inputStage", new Document("stage", "COLLSCAN"));
+
+  private ReferenceIndexVerifier verifier;
+
+  @Mock
+  private MongoTemplate template;
+
+  @Mock
+  private IndexOperations indexOps;
+
+  @Mock
+  private MongoCollection<Document> collection;
+
+  @Mock
+  private FindIterable<Document> findIterable;
+
+  @BeforeEach
+  void setUp() {
+    verifier = new ReferenceIndexVerifier(template);
+  }
+
+  @Test
+  void shouldNotReportProblemsWhenIndexesExistAndQueriesUseThem() {
+    stubIndexes(declaredIndexNames());
+    stubWinningPlan(COVERED_INDEX_SCAN);
+
+    List<String> problems = verifier.verify();
+
+    assertThat("Unexpected problems.", problems, is(List.of()));
+  }
+
+  @Test
+  void shouldReportMissingIndexes() {
+    stubIndexes(List.of("_id_"));
+    stubWinningPlan(COVERED_INDEX_SCAN);
+
+    List<String> problems = verifier.verify();
+
+    int declaredCount = ReferenceIndexes.getIndexes().values().stream()
+        .mapToInt(List::size)
+        .sum();
+    assertThat("Unexpected problem count.", problems, hasSize(declaredCount));
+    assertThat("Unexpected problems.", problems,
+        hasItem("Index 'uuid' of collection 'collection' is missing."));
+  }
+
+  @Test
+  void shouldReportCollectionScansOfHotQueries() {
+    stubIndexes(declaredIndexNames());
+    stubWinningPlan(COLLECTION_SCAN);
+
+    List<String> problems = verifier.verify();
+
+    assertThat("Unexpected problem count.", problems,
+        hasSize(ReferenceIndexes.getHotQueries().size()));
+    assertThat("Unexpected problems.", problems, everyItem(containsString("scans the whole")));
+    assertThat("Unexpected problems.", problems, hasItem(
+        "Query 'LocalOffice.findByUuid' scans the whole 'collection' collection, plan "
+            + "[SORT, COLLSCAN]."));
+  }
+
+  @Test
+  void shouldReportFetchesOfCoveredQueries() {
+    stubIndexes(declaredIndexNames());
+    stubWinningPlan(INDEX_SCAN);
+
+    List<String> problems = verifier.verify();
+
+    long coveredCount = ReferenceIndexes.getHotQueries().stream()
+        .filter(HotQuery::covered)
+        .count();
+    assertThat("Unexpected problem count.", problems, hasSize((int) coveredCount));
+    assertThat("Unexpected problems.", problems, hasItem(
+        "Query 'Curriculum.findAll' is not covered by an index, plan [FETCH, IXSCAN]."));
+  }
+
+  @Test
+  void shouldReportSortsOfCoveredQueries() {
+    stubIndexes(declaredIndexNames());
+    stubWinningPlan(new Document("stage", "SORT")
+        .append("inputStage", new Document("stage", "PROJECTION_COVERED")
+            .append("inputStage", new Document("stage", "IXSCAN"))));
+
+    List<String> problems = verifier.verify();
+
+    assertThat("Unexpected problems.", problems, hasItem(
+        "Query 'LocalOfficeContact.findAll' is not covered by an index, plan "
+            + "[SORT, PROJECTION_COVERED, IXSCAN]."));
+  }
+
+  @Test
+  void shouldExplainHotQueryWithProjectionAndSort() {
+    stubWinningPlan(COVERED_INDEX_SCAN);
+    HotQuery query = gradeQuery();
+
+    verifier.getPlanStages(query);
+
+    verify(collection).find(query.filter());
+    verify(findIterable).projection(query.projection());
+    verify(findIterable).sort(query.sort());
+  }
+
+  @Test
+  void shouldGetStagesOfSlotBasedPlan() {
+    stubWinningPlan(new Document("queryPlan", COLLECTION_SCAN)
+        .append("slotBasedPlan", new Document("stages", "[1] scan s1")));
+
+    List<String> stages = verifier.getPlanStages(gradeQuery());
+
+    assertThat("Unexpected stages.", stages, is(List.of("SORT", "COLLSCAN")));
+  }
+
+  @Test
+  void shouldGetStagesOfIndexIntersectionPlan() {
+    stubWinningPlan(new Document("stage", "FETCH")
+        .append("inputStage", new Document("stage", "AND_SORTED")
+            .append("inputStages", List.of(
+                new Document("stage", "IXSCAN").append("indexName", "tisId"),
+                new Document("stage", "IXSCAN").append("indexName", "label")))));
+
+    List<String> stages = verifier.getPlanStages(gradeQuery());
+
+    assertThat("Unexpected stages.", stages,
+        is(List.of("FETCH", "AND_SORTED", "IXSCAN", "IXSCAN")));
+  }
+
+  @Test
+  void shouldFailStartupWhenProblemsFound() {
+    stubIndexes(declaredIndexNames());
+    stubWinningPlan(COLLECTION_SCAN);
+
+    IllegalStateException exception = assertThrows(IllegalStateException.class,
+        () -> verifier.verifyOnStartup());
+
+    assertThat("Unexpected message.", exception.getMessage(),
+        containsString("Index verification failed"));
+  }
+
+  @Test
+  void shouldNotFailStartupWhenNoProblemsFound() {
+    stubIndexes(declaredIndexNames());
+    stubWinningPlan(COVERED_INDEX_SCAN);
+
+    assertDoesNotThrow(() -> verifier.verifyOnStartup());
+  }
+
+  /**
+   * Get the names of every declared index.
+   *
+   * @return The index names.
+   */
+  private static List<String> declaredIndexNames() {
+    return ReferenceIndexes.getIndexes().values().stream()
+        .flatMap(List::stream)
+        .map(index -> index.getIndexOptions().getString("name"))
+        .distinct()
+        .toList();
+  }
+
+  /**
+   * Get a sorted query of the grade collection.
+   *
+   * @return The hot query.
+   */
+  private static HotQuery gradeQuery() {
+    return new HotQuery("Grade.findAll", Grade.class, new Document(), new Document("label", 1),
+        new Document("label", 1).append("tisId", 1).append("_id", 1), true);
+  }
+
+  /**
+   * Stub the existing indexes of every collection.
+   *
+   * @param names The names of the existing indexes.
+   */
+  private void stubIndexes(List<String> names) {
+    List<IndexInfo> indexInfo = names.stream()
+        .map(name -> new IndexInfo(List.of(), name, false, false, null))
+        .toList();
+    when(template.indexOps(any(Class.class))).thenReturn(indexOps);
+    when(indexOps.getIndexInfo()).thenReturn(indexInfo);
+  }
+
+  /**
+   * Stub the winning plan of every explained query.
+   *
+   * @param winningPlan The winning plan.
+   */
+  private void stubWinningPlan(Document winningPlan) {
+    when(template.getCollectionName(any())).thenReturn(COLLECTION);
+    when(template.getCollection(COLLECTION)).thenReturn(collection);
+    when(collection.find(any(Bson.class))).thenReturn(findIterable);
+    when(findIterable.projection(any())).thenReturn(findIterable);
+    when(findIterable.sort(any())).thenReturn(findIterable);
+    when(findIterable.explain(ExplainVerbosity.QUERY_PLANNER)).thenReturn(
+        new Document("queryPlanner", new Document("winningPlan", winningPlan)));
+  }
+}
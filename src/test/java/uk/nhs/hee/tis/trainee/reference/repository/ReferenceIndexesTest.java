@@ -0,0 +1,85 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.reference.repository;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+import uk.nhs.hee.tis.trainee.reference.model.ReferenceChange;
+import uk.nhs.hee.tis.trainee.reference.repository.ReferenceIndexes.HotQuery;
+
+class ReferenceIndexesTest {
+
+  @Test
+  void shouldCoverEveryMappedFieldOfReferenceCollections() {
+    MongoMappingContext mappingContext = new MongoMappingContext();
+
+    for (Map.Entry<Class<?>, List<Index>> entry : ReferenceIndexes.getIndexes().entrySet()) {
+      if (entry.getKey() == ReferenceChange.class) {
+        continue;
+      }
+
+      Index covering = entry.getValue().stream()
+          .filter(index -> ReferenceIndexes.COVERING_INDEX.equals(
+              index.getIndexOptions().getString("name")))
+          .findFirst()
+          .orElseThrow(() -> new AssertionError("No covering index of " + entry.getKey()));
+
+      Set<String> mappedFields = new HashSet<>();
+      mappingContext.getRequiredPersistentEntity(entry.getKey())
+          .doWithProperties((PropertyHandler<MongoPersistentProperty>) property ->
+              mappedFields.add(property.getFieldName()));
+
+      assertThat("Unexpected covered fields of " + entry.getKey().getSimpleName() + ".",
+          covering.getIndexKeys().keySet(), is(mappedFields));
+      assertThat("Unexpected first covered field.",
+          covering.getIndexKeys().keySet().iterator().next(), is("label"));
+    }
+  }
+
+  @Test
+  void shouldProjectOnlyCoveredFieldsOfCoveredQueries() {
+    Map<Class<?>, List<Index>> indexes = ReferenceIndexes.getIndexes();
+
+    for (HotQuery query : ReferenceIndexes.getHotQueries()) {
+      if (query.covered()) {
+        Index covering = indexes.get(query.entityType()).stream()
+            .filter(index -> ReferenceIndexes.COVERING_INDEX.equals(
+                index.getIndexOptions().getString("name")))
+            .findFirst()
+            .orElseThrow();
+
+        assertThat("Unexpected projection of " + query.name() + ".",
+            query.projection().keySet(), is(covering.getIndexKeys().keySet()));
+      }
+    }
+  }
+}
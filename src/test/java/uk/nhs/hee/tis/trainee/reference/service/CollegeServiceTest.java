@@ -25,9 +25,12 @@ import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.hasItem;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
 import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.AdditionalAnswers.returnsLastArg;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -37,16 +40,21 @@ import com.github.fge.jsonpatch.JsonPatchException;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mapstruct.factory.Mappers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Sort;
+import uk.nhs.hee.tis.trainee.reference.dto.CdcEvent;
 import uk.nhs.hee.tis.trainee.reference.mapper.CollegeMapper;
 import uk.nhs.hee.tis.trainee.reference.model.College;
 import uk.nhs.hee.tis.trainee.reference.repository.CollegeRepository;
+import uk.nhs.hee.tis.trainee.reference.repository.ReferenceWrite;
 
 @ExtendWith(MockitoExtension.class)
 class CollegeServiceTest {
@@ -65,6 +73,15 @@ class CollegeServiceTest {
   @Mock
   private CollegeRepository repository;
 
+  @Mock
+  private ReferenceChangeLog changeLog;
+
+  @Mock
+  private ExcludedReferenceStore excludedReferences;
+
+  @Captor
+  private ArgumentCaptor<List<ReferenceWrite<College>>> writesCaptor;
+
   private College college1;
   private College college2;
 
@@ -74,6 +91,8 @@ class CollegeServiceTest {
   @BeforeEach
   void initData() {
     service = new CollegeService(repository, Mappers.getMapper(CollegeMapper.class), new ObjectMapper());
+    service.setChangeLog(changeLog);
+    service.setExcludedReferences(excludedReferences);
 
     college1 = new College();
     college1.setId(DEFAULT_ID_1);
@@ -91,7 +110,7 @@ class CollegeServiceTest {
     List<College> colleges = new ArrayList<>();
     colleges.add(college1);
     colleges.add(college2);
-    when(repository.findAll(Sort.by("label"))).thenReturn(colleges);
+    when(repository.findAllFromPrimary(Sort.by("label"))).thenReturn(colleges);
     List<College> allColleges = service.get();
     assertThat("Unexpected size of returned College list",
         allColleges.size(), equalTo(colleges.size()));
@@ -100,35 +119,34 @@ class CollegeServiceTest {
   }
 
   @Test
-  void createCollegeShouldCreateCollegeWhenNewTisId() {
-    when(repository.findByTisId(DEFAULT_TIS_ID_2)).thenReturn(null);
-    when(repository.insert(any(College.class))).thenAnswer(returnsFirstArg());
+  void getAllCollegeShouldNotQueryRepositoryWhenCached() {
+    when(repository.findAllFromPrimary(Sort.by("label"))).thenReturn(List.of(college1, college2));
 
-    College college = service.create(college2);
+    service.get();
+    List<College> allColleges = service.get();
 
-    assertThat("Unexpected id.", college.getId(), is(DEFAULT_ID_2));
-    assertThat("Unexpected TIS id.", college.getTisId(), is(DEFAULT_TIS_ID_2));
-    assertThat("Unexpected label.", college.getLabel(), is(DEFAULT_LABEL_2));
+    assertThat("Unexpected size of returned College list", allColleges.size(), equalTo(2));
+    verify(repository, times(1)).findAllFromPrimary(Sort.by("label"));
   }
 
   @Test
-  void createCollegeShouldUpdateCollegeWhenExistingTisId() {
-    when(repository.findByTisId(DEFAULT_TIS_ID_2)).thenReturn(college1);
-    when(repository.save(any())).thenAnswer(returnsFirstArg());
+  void getAllCollegeShouldQueryRepositoryAfterWrite() {
+    when(repository.findAllFromPrimary(Sort.by("label"))).thenReturn(List.of(college1),
+        List.of(college1, college2));
 
-    College college = service.create(college2);
+    service.get();
+    service.deleteByTisId(DEFAULT_TIS_ID_2);
+    List<College> allColleges = service.get();
 
-    assertThat("Unexpected id.", college.getId(), is(DEFAULT_ID_1));
-    assertThat("Unexpected TIS id.", college.getTisId(), is(DEFAULT_TIS_ID_1));
-    assertThat("Unexpected label.", college.getLabel(), is(DEFAULT_LABEL_2));
+    assertThat("Unexpected size of returned College list", allColleges.size(), equalTo(2));
+    verify(repository, times(2)).findAllFromPrimary(Sort.by("label"));
   }
 
   @Test
-  void updateCollegeShouldCreateCollegeWhenNewTisId() {
-    when(repository.findByTisId(DEFAULT_TIS_ID_2)).thenReturn(null);
-    when(repository.insert(any(College.class))).thenAnswer(returnsFirstArg());
+  void createCollegeShouldUpsertCollegeByTisId() {
+    when(repository.upsertByTisId(DEFAULT_TIS_ID_2, college2)).thenAnswer(returnsLastArg());
 
-    College college = service.update(college2);
+    College college = service.create(college2);
 
     assertThat("Unexpected id.", college.getId(), is(DEFAULT_ID_2));
     assertThat("Unexpected TIS id.", college.getTisId(), is(DEFAULT_TIS_ID_2));
@@ -136,14 +154,13 @@ class CollegeServiceTest {
   }
 
   @Test
-  void updateCollegeShouldUpdateCollegeWhenExistingTisId() {
-    when(repository.findByTisId(DEFAULT_TIS_ID_2)).thenReturn(college1);
-    when(repository.save(any())).thenAnswer(returnsFirstArg());
+  void updateCollegeShouldUpsertCollegeByTisId() {
+    when(repository.upsertByTisId(DEFAULT_TIS_ID_2, college2)).thenAnswer(returnsLastArg());
 
     College college = service.update(college2);
 
-    assertThat("Unexpected id.", college.getId(), is(DEFAULT_ID_1));
-    assertThat("Unexpected TIS id.", college.getTisId(), is(DEFAULT_TIS_ID_1));
+    assertThat("Unexpected id.", college.getId(), is(DEFAULT_ID_2));
+    assertThat("Unexpected TIS id.", college.getTisId(), is(DEFAULT_TIS_ID_2));
     assertThat("Unexpected label.", college.getLabel(), is(DEFAULT_LABEL_2));
   }
 
@@ -161,7 +178,8 @@ class CollegeServiceTest {
         """.formatted(DEFAULT_TIS_ID_1);
     JsonPatch jsonPatch = JsonPatch.fromJson(new ObjectMapper().readTree(patch));
 
-    when(repository.insert(any(College.class))).thenAnswer(inv -> inv.getArgument(0));
+    when(repository.upsertByTisId(any(), any(College.class))).thenAnswer(
+        inv -> inv.getArgument(1));
 
     College result = service.create(new College(), jsonPatch);
 
@@ -197,4 +215,135 @@ class CollegeServiceTest {
     assertThrows(IllegalArgumentException.class,
         () -> service.update(DEFAULT_TIS_ID_1, jsonPatch));
   }
+
+  @Test
+  void shouldApplyEventsWithSingleBulkWrite() throws IOException {
+    List<CdcEvent> events = List.of(
+        toEvent(DEFAULT_TIS_ID_1, """
+            [{"op":"replace","path":"/name","value":"First Update"}]
+            """),
+        toEvent(DEFAULT_TIS_ID_1, """
+            [{"op":"replace","path":"/name","value":"Second Update"}]
+            """),
+        toEvent(DEFAULT_TIS_ID_2, """
+            [{"op":"add","path":"","value":{"id":"%s","name":"New College"}}]
+            """.formatted(DEFAULT_TIS_ID_2)));
+
+    when(repository.findByTisIdIn(any())).thenReturn(List.of(college1));
+    when(repository.bulkWriteByTisId(any())).thenReturn(Set.of());
+
+    Set<Integer> applied = service.applyEvents(events);
+
+    assertThat("Unexpected applied positions.", applied, is(Set.of(0, 1, 2)));
+
+    verify(repository).bulkWriteByTisId(writesCaptor.capture());
+
+    List<ReferenceWrite<College>> writes = writesCaptor.getValue();
+    assertThat("Unexpected write count.", writes, hasSize(2));
+
+    ReferenceWrite<College> write1 = writes.get(0);
+    assertThat("Unexpected TIS ID.", write1.tisId(), is(DEFAULT_TIS_ID_1));
+    assertThat("Unexpected ID.", write1.entity().getId(), is(DEFAULT_ID_1));
+    assertThat("Unexpected label.", write1.entity().getLabel(), is("Second Update"));
+
+    ReferenceWrite<College> write2 = writes.get(1);
+    assertThat("Unexpected TIS ID.", write2.tisId(), is(DEFAULT_TIS_ID_2));
+    assertThat("Unexpected TIS ID.", write2.entity().getTisId(), is(DEFAULT_TIS_ID_2));
+    assertThat("Unexpected label.", write2.entity().getLabel(), is("New College"));
+  }
+
+  @Test
+  void shouldApplyDeleteEventsAsBulkDelete() throws IOException {
+    List<CdcEvent> events = List.of(toEvent(DEFAULT_TIS_ID_1, """
+        [{"op":"remove","path":""}]
+        """));
+
+    when(repository.findByTisIdIn(any())).thenReturn(List.of(college1));
+    when(repository.bulkWriteByTisId(any())).thenReturn(Set.of());
+
+    Set<Integer> applied = service.applyEvents(events);
+
+    assertThat("Unexpected applied positions.", applied, is(Set.of(0)));
+
+    verify(repository).bulkWriteByTisId(writesCaptor.capture());
+
+    List<ReferenceWrite<College>> writes = writesCaptor.getValue();
+    assertThat("Unexpected write count.", writes, hasSize(1));
+    assertThat("Unexpected TIS ID.", writes.get(0).tisId(), is(DEFAULT_TIS_ID_1));
+    assertThat("Unexpected delete flag.", writes.get(0).isDelete(), is(true));
+  }
+
+  @Test
+  void shouldSkipRemainingEventsForEntityWhenEventFails() throws IOException {
+    List<CdcEvent> events = List.of(
+        toEvent(DEFAULT_TIS_ID_2, """
+            [{"op":"replace","path":"/name","value":"Unknown College"}]
+            """),
+        toEvent(DEFAULT_TIS_ID_1, """
+            [{"op":"replace","path":"/name","value":"Updated College"}]
+            """),
+        toEvent(DEFAULT_TIS_ID_2, """
+            [{"op":"add","path":"","value":{"id":"%s","name":"New College"}}]
+            """.formatted(DEFAULT_TIS_ID_2)));
+
+    when(repository.findByTisIdIn(any())).thenReturn(List.of(college1));
+    when(repository.bulkWriteByTisId(any())).thenReturn(Set.of());
+
+    Set<Integer> applied = service.applyEvents(events);
+
+    assertThat("Unexpected applied positions.", applied, is(Set.of(1)));
+
+    verify(repository).bulkWriteByTisId(writesCaptor.capture());
+
+    List<ReferenceWrite<College>> writes = writesCaptor.getValue();
+    assertThat("Unexpected write count.", writes, hasSize(1));
+    assertThat("Unexpected TIS ID.", writes.get(0).tisId(), is(DEFAULT_TIS_ID_1));
+  }
+
+  @Test
+  void shouldNotReturnEventPositionsWhenBulkWriteFails() throws IOException {
+    List<CdcEvent> events = List.of(
+        toEvent(DEFAULT_TIS_ID_1, """
+            [{"op":"replace","path":"/name","value":"Updated College"}]
+            """),
+        toEvent(DEFAULT_TIS_ID_2, """
+            [{"op":"replace","path":"/name","value":"Updated College"}]
+            """));
+
+    when(repository.findByTisIdIn(any())).thenReturn(List.of(college1, college2));
+    when(repository.bulkWriteByTisId(any())).thenReturn(Set.of(0));
+
+    Set<Integer> applied = service.applyEvents(events);
+
+    assertThat("Unexpected applied positions.", applied, is(Set.of(1)));
+  }
+
+  @Test
+  void shouldNotBulkWriteWhenNoEventsApplied() throws IOException {
+    List<CdcEvent> events = List.of(toEvent(DEFAULT_TIS_ID_1, """
+        [{"op":"replace","path":"/name","value":"Updated College"}]
+        """));
+
+    when(repository.findByTisIdIn(any())).thenReturn(List.of());
+
+    Set<Integer> applied = service.applyEvents(events);
+
+    assertThat("Unexpected applied positions.", applied, is(Set.of()));
+    verify(repository, never()).bulkWriteByTisId(any());
+  }
+
+  /**
+   * Create a CDC event for the given TIS ID and patch.
+   *
+   * @param tisId The TIS ID of the event.
+   * @param patch The patch operations, as JSON.
+   * @return The created CDC event.
+   * @throws IOException If the patch could not be parsed.
+   */
+  private CdcEvent toEvent(String tisId, String patch) throws IOException {
+    String event = """
+        {"patch":%s,"keys":{"id":"%s"}}
+        """.formatted(patch, tisId);
+    return new ObjectMapper().readValue(event, CdcEvent.class);
+  }
 }
@@ -24,29 +24,35 @@ import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.hasItem;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
-import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.AdditionalAnswers.returnsLastArg;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.fge.jsonpatch.JsonPatch;
+import com.github.fge.jsonpatch.JsonPatchException;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
-import org.apache.commons.lang3.NotImplementedException;
+import java.util.Map;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mapstruct.factory.Mappers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Sort;
+import uk.nhs.hee.tis.trainee.reference.dto.CdcEvent;
 import uk.nhs.hee.tis.trainee.reference.mapper.CurriculumMapper;
 import uk.nhs.hee.tis.trainee.reference.model.Curriculum;
 import uk.nhs.hee.tis.trainee.reference.repository.CurriculumRepository;
+import uk.nhs.hee.tis.trainee.reference.repository.ReferenceWrite;
 
 @ExtendWith(MockitoExtension.class)
 class CurriculumServiceTest {
@@ -65,6 +71,18 @@ class CurriculumServiceTest {
   @Mock
   private CurriculumRepository repository;
 
+  @Mock
+  private ReferenceChangeLog changeLog;
+
+  @Mock
+  private ExcludedReferenceStore excludedReferences;
+
+  @Captor
+  private ArgumentCaptor<List<ReferenceWrite<Curriculum>>> writesCaptor;
+
+  @Captor
+  private ArgumentCaptor<Map<String, Map<String, Object>>> exclusionsCaptor;
+
   private Curriculum curriculum1;
   private Curriculum curriculum2;
 
@@ -75,6 +93,8 @@ class CurriculumServiceTest {
   void setUp() {
     service = new CurriculumService(repository, Mappers.getMapper(CurriculumMapper.class),
         new ObjectMapper());
+    service.setChangeLog(changeLog);
+    service.setExcludedReferences(excludedReferences);
 
     curriculum1 = new Curriculum();
     curriculum1.setId(DEFAULT_ID_1);
@@ -92,7 +112,7 @@ class CurriculumServiceTest {
     List<Curriculum> curriculums = new ArrayList<>();
     curriculums.add(curriculum1);
     curriculums.add(curriculum2);
-    when(repository.findAll(Sort.by("label"))).thenReturn(curriculums);
+    when(repository.findAllFromPrimary(Sort.by("label"))).thenReturn(curriculums);
     List<Curriculum> allCurriculums = service.get();
     assertThat("Unexpected size of returned Curriculum list",
         allCurriculums.size(), equalTo(curriculums.size()));
@@ -101,9 +121,8 @@ class CurriculumServiceTest {
   }
 
   @Test
-  void createCurriculumShouldCreateCurriculumWhenNewTisId() {
-    when(repository.findByTisId(DEFAULT_TIS_ID_2)).thenReturn(null);
-    when(repository.insert(any(Curriculum.class))).thenAnswer(returnsFirstArg());
+  void createCurriculumShouldUpsertCurriculumByTisId() {
+    when(repository.upsertByTisId(DEFAULT_TIS_ID_2, curriculum2)).thenAnswer(returnsLastArg());
 
     Curriculum curriculum = service.create(curriculum2);
 
@@ -113,21 +132,8 @@ class CurriculumServiceTest {
   }
 
   @Test
-  void createCurriculumShouldUpdateCurriculumWhenExistingTisId() {
-    when(repository.findByTisId(DEFAULT_TIS_ID_2)).thenReturn(curriculum1);
-    when(repository.save(any())).thenAnswer(returnsFirstArg());
-
-    Curriculum curriculum = service.create(curriculum2);
-
-    assertThat("Unexpected id.", curriculum.getId(), is(DEFAULT_ID_1));
-    assertThat("Unexpected TIS id.", curriculum.getTisId(), is(DEFAULT_TIS_ID_1));
-    assertThat("Unexpected label.", curriculum.getLabel(), is(DEFAULT_LABEL_2));
-  }
-
-  @Test
-  void updateCurriculumShouldCreateCurriculumWhenNewTisId() {
-    when(repository.findByTisId(DEFAULT_TIS_ID_2)).thenReturn(null);
-    when(repository.insert(any(Curriculum.class))).thenAnswer(returnsFirstArg());
+  void updateCurriculumShouldUpsertCurriculumByTisId() {
+    when(repository.upsertByTisId(DEFAULT_TIS_ID_2, curriculum2)).thenAnswer(returnsLastArg());
 
     Curriculum curriculum = service.update(curriculum2);
 
@@ -136,18 +142,6 @@ class CurriculumServiceTest {
     assertThat("Unexpected label.", curriculum.getLabel(), is(DEFAULT_LABEL_2));
   }
 
-  @Test
-  void updateCurriculumShouldUpdateCurriculumWhenExistingTisId() {
-    when(repository.findByTisId(DEFAULT_TIS_ID_2)).thenReturn(curriculum1);
-    when(repository.save(any())).thenAnswer(returnsFirstArg());
-
-    Curriculum curriculum = service.update(curriculum2);
-
-    assertThat("Unexpected id.", curriculum.getId(), is(DEFAULT_ID_1));
-    assertThat("Unexpected TIS id.", curriculum.getTisId(), is(DEFAULT_TIS_ID_1));
-    assertThat("Unexpected label.", curriculum.getLabel(), is(DEFAULT_LABEL_2));
-  }
-
   @Test
   void shouldDeleteCurriculumsByTisId() {
     service.deleteByTisId(DEFAULT_TIS_ID_1);
@@ -156,28 +150,112 @@ class CurriculumServiceTest {
   }
 
   @Test
-  void shouldThrowExceptionCreatingCurriculumWithPatch() throws IOException {
+  void shouldCreateCurriculumWithPatch() throws JsonPatchException, IOException {
     String patch = """
-        [{"op":"add","path":"","value":{"id":"%s","name":"New"}}]
+        [{"op":"add","path":"","value":{"id":"%s","name":"New Curriculum"}}]
         """.formatted(DEFAULT_TIS_ID_1);
     JsonPatch jsonPatch = JsonPatch.fromJson(new ObjectMapper().readTree(patch));
 
-    assertThrows(NotImplementedException.class, () -> service.create(new Curriculum(), jsonPatch));
+    when(repository.upsertByTisId(any(), any(Curriculum.class))).thenAnswer(
+        inv -> inv.getArgument(1));
+
+    Curriculum result = service.create(new Curriculum(), jsonPatch);
 
-    verify(repository, never()).insert(any(Curriculum.class));
+    assertThat("Unexpected TIS ID.", result.getTisId(), is(DEFAULT_TIS_ID_1));
+    assertThat("Unexpected label.", result.getLabel(), is("New Curriculum"));
   }
 
   @Test
-  void shouldThrowExceptionUpdatingCurriculumWithPatch() throws IOException {
+  void shouldUpdateCurriculumWithPatch() throws JsonPatchException, IOException {
     String patch = """
-        [{"op":"replace","path":"","value":{"id":"%s","name":"Updated"}}]
+        [{"op":"replace","path":"","value":{"id":"%s","name":"Updated Curriculum"}}]
         """.formatted(DEFAULT_TIS_ID_1);
     JsonPatch jsonPatch = JsonPatch.fromJson(new ObjectMapper().readTree(patch));
 
     when(repository.findByTisId(DEFAULT_TIS_ID_1)).thenReturn(curriculum1);
+    when(repository.save(any(Curriculum.class))).thenAnswer(inv -> inv.getArgument(0));
+
+    Curriculum result = service.update(DEFAULT_TIS_ID_1, jsonPatch);
+
+    assertThat("Unexpected ID.", result.getId(), is(curriculum1.getId()));
+    assertThat("Unexpected TIS ID.", result.getTisId(), is(DEFAULT_TIS_ID_1));
+    assertThat("Unexpected label.", result.getLabel(), is("Updated Curriculum"));
+  }
+
+  @Test
+  void shouldRetainCurrentMedicalCurriculaWhenApplyingEvents() throws IOException {
+    List<CdcEvent> events = List.of(toEvent(DEFAULT_TIS_ID_2, """
+        [{"op":"add","path":"","value":{"id":"%s","name":"New Curriculum","status":"CURRENT",
+          "curriculumSubType":"MEDICAL_CURRICULUM"}}]
+        """.formatted(DEFAULT_TIS_ID_2)));
+
+    when(repository.findByTisIdIn(any())).thenReturn(List.of());
+    when(repository.bulkWriteByTisId(any())).thenReturn(Set.of());
+
+    Set<Integer> applied = service.applyEvents(events);
+
+    assertThat("Unexpected applied positions.", applied, is(Set.of(0)));
+
+    verify(repository).bulkWriteByTisId(writesCaptor.capture());
+    ReferenceWrite<Curriculum> write = writesCaptor.getValue().get(0);
+    assertThat("Unexpected delete flag.", write.isDelete(), is(false));
+    assertThat("Unexpected label.", write.entity().getLabel(), is("New Curriculum"));
+    assertThat("Unexpected sub type.", write.entity().getCurriculumSubType(),
+        is("MEDICAL_CURRICULUM"));
+  }
+
+  @Test
+  void shouldExcludeCurriculaWithExcludedSubTypeWhenApplyingEvents() throws IOException {
+    List<CdcEvent> events = List.of(toEvent(DEFAULT_TIS_ID_2, """
+        [{"op":"add","path":"","value":{"id":"%s","name":"New Curriculum","status":"CURRENT",
+          "curriculumSubType":"DENTAL_CURRICULUM"}}]
+        """.formatted(DEFAULT_TIS_ID_2)));
+
+    when(repository.findByTisIdIn(any())).thenReturn(List.of());
+
+    Set<Integer> applied = service.applyEvents(events);
 
-    assertThrows(NotImplementedException.class, () -> service.update(DEFAULT_TIS_ID_1, jsonPatch));
+    assertThat("Unexpected applied positions.", applied, is(Set.of(0)));
+    verify(repository, never()).bulkWriteByTisId(any());
 
-    verify(repository, never()).save(any());
+    verify(excludedReferences).saveAll(eq("Curriculum"), exclusionsCaptor.capture());
+    Map<String, Object> excluded = exclusionsCaptor.getValue().get(DEFAULT_TIS_ID_2);
+    assertThat("Unexpected excluded sub type.", excluded.get("curriculumSubType"),
+        is("DENTAL_CURRICULUM"));
+  }
+
+  @Test
+  void shouldDeleteCurriculaNoLongerCurrentWhenApplyingEvents() throws IOException {
+    List<CdcEvent> events = List.of(toEvent(DEFAULT_TIS_ID_1, """
+        [{"op":"replace","path":"/status","value":"INACTIVE"}]
+        """));
+
+    when(repository.findByTisIdIn(any())).thenReturn(List.of(curriculum1));
+    when(repository.bulkWriteByTisId(any())).thenReturn(Set.of());
+
+    service.applyEvents(events);
+
+    verify(repository).bulkWriteByTisId(writesCaptor.capture());
+    ReferenceWrite<Curriculum> write = writesCaptor.getValue().get(0);
+    assertThat("Unexpected delete flag.", write.isDelete(), is(true));
+
+    verify(excludedReferences).saveAll(eq("Curriculum"), exclusionsCaptor.capture());
+    assertThat("Unexpected excluded TIS IDs.", exclusionsCaptor.getValue().keySet(),
+        is(Set.of(DEFAULT_TIS_ID_1)));
+  }
+
+  /**
+   * Create a CDC event for the given TIS ID and patch.
+   *
+   * @param tisId The TIS ID of the event.
+   * @param patch The patch operations, as JSON.
+   * @return The created CDC event.
+   * @throws IOException If the patch could not be parsed.
+   */
+  private CdcEvent toEvent(String tisId, String patch) throws IOException {
+    String event = """
+        {"patch":%s,"keys":{"id":"%s"}}
+        """.formatted(patch, tisId);
+    return new ObjectMapper().readValue(event, CdcEvent.class);
   }
 }
@@ -25,19 +25,17 @@ import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.hasItem;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
-import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.AdditionalAnswers.returnsLastArg;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.fge.jsonpatch.JsonPatch;
+import com.github.fge.jsonpatch.JsonPatchException;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
-import org.apache.commons.lang3.NotImplementedException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -73,6 +71,12 @@ class DbcServiceTest {
   @Mock
   private DbcRepository repository;
 
+  @Mock
+  private ReferenceChangeLog changeLog;
+
+  @Mock
+  private ExcludedReferenceStore excludedReferences;
+
   private Dbc dbc1;
   private Dbc dbc2;
 
@@ -82,6 +86,8 @@ class DbcServiceTest {
   @BeforeEach
   void initData() {
     service = new DbcService(repository, Mappers.getMapper(DbcMapper.class), new ObjectMapper());
+    service.setChangeLog(changeLog);
+    service.setExcludedReferences(excludedReferences);
 
     dbc1 = new Dbc();
     dbc1.setId(DEFAULT_ID_1);
@@ -103,7 +109,7 @@ class DbcServiceTest {
     List<Dbc> dbcs = new ArrayList<>();
     dbcs.add(dbc1);
     dbcs.add(dbc2);
-    when(repository.findAll(Sort.by("label"))).thenReturn(dbcs);
+    when(repository.findAllFromPrimary(Sort.by("label"))).thenReturn(dbcs);
     List<Dbc> allDbcs = service.get();
     assertThat("Unexpected size of returned Dbc list",
         allDbcs.size(), equalTo(dbcs.size()));
@@ -112,9 +118,8 @@ class DbcServiceTest {
   }
 
   @Test
-  void createDbcShouldCreateDbcWhenNewTisId() {
-    when(repository.findByTisId(DEFAULT_TIS_ID_2)).thenReturn(null);
-    when(repository.insert(any(Dbc.class))).thenAnswer(returnsFirstArg());
+  void createDbcShouldUpsertDbcByTisId() {
+    when(repository.upsertByTisId(DEFAULT_TIS_ID_2, dbc2)).thenAnswer(returnsLastArg());
 
     Dbc dbc = service.create(dbc2);
 
@@ -126,23 +131,8 @@ class DbcServiceTest {
   }
 
   @Test
-  void createDbcShouldUpdateDbcWhenExistingTisId() {
-    when(repository.findByTisId(DEFAULT_TIS_ID_2)).thenReturn(dbc1);
-    when(repository.save(any())).thenAnswer(returnsFirstArg());
-
-    Dbc dbc = service.create(dbc2);
-
-    assertThat("Unexpected id.", dbc.getId(), is(DEFAULT_ID_1));
-    assertThat("Unexpected TIS id.", dbc.getTisId(), is(DEFAULT_TIS_ID_1));
-    assertThat("Unexpected label.", dbc.getLabel(), is(DEFAULT_LABEL_2));
-    assertThat("Unexpected type.", dbc.getType(), is(DEFAULT_TYPE_2));
-    assertThat("Unexpected internal flag.", dbc.isInternal(), is(DEFAULT_INTERNAL_2));
-  }
-
-  @Test
-  void updateDbcShouldCreateDbcWhenNewTisId() {
-    when(repository.findByTisId(DEFAULT_TIS_ID_2)).thenReturn(null);
-    when(repository.insert(any(Dbc.class))).thenAnswer(returnsFirstArg());
+  void updateDbcShouldUpsertDbcByTisId() {
+    when(repository.upsertByTisId(DEFAULT_TIS_ID_2, dbc2)).thenAnswer(returnsLastArg());
 
     Dbc dbc = service.update(dbc2);
 
@@ -153,20 +143,6 @@ class DbcServiceTest {
     assertThat("Unexpected internal flag.", dbc.isInternal(), is(DEFAULT_INTERNAL_2));
   }
 
-  @Test
-  void updateDbcShouldUpdateDbcWhenExistingTisId() {
-    when(repository.findByTisId(DEFAULT_TIS_ID_2)).thenReturn(dbc1);
-    when(repository.save(any())).thenAnswer(returnsFirstArg());
-
-    Dbc dbc = service.update(dbc2);
-
-    assertThat("Unexpected id.", dbc.getId(), is(DEFAULT_ID_1));
-    assertThat("Unexpected TIS id.", dbc.getTisId(), is(DEFAULT_TIS_ID_1));
-    assertThat("Unexpected label.", dbc.getLabel(), is(DEFAULT_LABEL_2));
-    assertThat("Unexpected type.", dbc.getType(), is(DEFAULT_TYPE_2));
-    assertThat("Unexpected internal flag.", dbc.isInternal(), is(DEFAULT_INTERNAL_2));
-  }
-
   @Test
   void shouldDeleteDbcsByTisId() {
     service.deleteByTisId(DEFAULT_TIS_ID_1);
@@ -175,28 +151,35 @@ class DbcServiceTest {
   }
 
   @Test
-  void shouldThrowExceptionCreatingDbcWithPatch() throws IOException {
+  void shouldCreateDbcWithPatch() throws JsonPatchException, IOException {
     String patch = """
-        [{"op":"add","path":"","value":{"id":"%s","name":"New"}}]
+        [{"op":"add","path":"","value":{"id":"%s","name":"New Dbc"}}]
         """.formatted(DEFAULT_TIS_ID_1);
     JsonPatch jsonPatch = JsonPatch.fromJson(new ObjectMapper().readTree(patch));
 
-    assertThrows(NotImplementedException.class, () -> service.create(new Dbc(), jsonPatch));
+    when(repository.upsertByTisId(any(), any(Dbc.class))).thenAnswer(
+        inv -> inv.getArgument(1));
+
+    Dbc result = service.create(new Dbc(), jsonPatch);
 
-    verify(repository, never()).insert(any(Dbc.class));
+    assertThat("Unexpected TIS ID.", result.getTisId(), is(DEFAULT_TIS_ID_1));
+    assertThat("Unexpected label.", result.getLabel(), is("New Dbc"));
   }
 
   @Test
-  void shouldThrowExceptionUpdatingDbcWithPatch() throws IOException {
+  void shouldUpdateDbcWithPatch() throws JsonPatchException, IOException {
     String patch = """
-        [{"op":"replace","path":"","value":{"id":"%s","name":"Updated"}}]
+        [{"op":"replace","path":"","value":{"id":"%s","name":"Updated Dbc"}}]
         """.formatted(DEFAULT_TIS_ID_1);
     JsonPatch jsonPatch = JsonPatch.fromJson(new ObjectMapper().readTree(patch));
 
     when(repository.findByTisId(DEFAULT_TIS_ID_1)).thenReturn(dbc1);
+    when(repository.save(any(Dbc.class))).thenAnswer(inv -> inv.getArgument(0));
 
-    assertThrows(NotImplementedException.class, () -> service.update(DEFAULT_TIS_ID_1, jsonPatch));
+    Dbc result = service.update(DEFAULT_TIS_ID_1, jsonPatch);
 
-    verify(repository, never()).save(any());
+    assertThat("Unexpected ID.", result.getId(), is(dbc1.getId()));
+    assertThat("Unexpected TIS ID.", result.getTisId(), is(DEFAULT_TIS_ID_1));
+    assertThat("Unexpected label.", result.getLabel(), is("Updated Dbc"));
   }
 }
@@ -0,0 +1,134 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.reference.service;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import uk.nhs.hee.tis.trainee.reference.model.ExcludedReference;
+
+class ExcludedReferenceStoreTest {
+
+  private static final Instant NOW = Instant.parse("2026-01-01T12:00:00Z");
+
+  private ExcludedReferenceStore store;
+  private MongoOperations mongoOperations;
+  private BulkOperations bulkOperations;
+
+  @BeforeEach
+  void setUp() {
+    mongoOperations = mock(MongoOperations.class);
+    bulkOperations = mock(BulkOperations.class);
+    when(mongoOperations.bulkOps(BulkMode.UNORDERED, ExcludedReference.class)).thenReturn(
+        bulkOperations);
+
+    store = new ExcludedReferenceStore(mongoOperations, Clock.fixed(NOW, ZoneOffset.UTC));
+  }
+
+  @Test
+  void shouldNotQueryWhenNoTisIdsToFind() {
+    List<ExcludedReference> excluded = store.findAll("Grade", List.of());
+
+    assertThat("Unexpected excluded records.", excluded, is(List.of()));
+    verifyNoInteractions(mongoOperations);
+  }
+
+  @Test
+  void shouldFindExcludedRecordsByTypeAndTisId() {
+    ExcludedReference excluded = new ExcludedReference();
+    when(mongoOperations.find(any(Query.class), eq(ExcludedReference.class)))
+        .thenReturn(List.of(excluded));
+
+    List<ExcludedReference> found = store.findAll("Grade", List.of("1", "2"));
+
+    assertThat("Unexpected excluded records.", found, is(List.of(excluded)));
+
+    ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+    verify(mongoOperations).find(queryCaptor.capture(), eq(ExcludedReference.class));
+    Document id = queryCaptor.getValue().getQueryObject().get("_id", Document.class);
+    assertThat("Unexpected IDs.", id.get("$in"), is(List.of("Grade:1", "Grade:2")));
+  }
+
+  @Test
+  void shouldNotWriteWhenNoRecordsToSave() {
+    store.saveAll("Grade", Map.of());
+
+    verifyNoInteractions(mongoOperations);
+  }
+
+  @Test
+  void shouldUpsertExcludedRecordsById() {
+    Map<String, Object> record = Map.of("id", "1", "status", "INACTIVE");
+
+    store.saveAll("Grade", Map.of("1", record));
+
+    ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+    ArgumentCaptor<Update> updateCaptor = ArgumentCaptor.forClass(Update.class);
+    verify(bulkOperations).upsert(queryCaptor.capture(), updateCaptor.capture());
+    verify(bulkOperations).execute();
+
+    assertThat("Unexpected ID.", queryCaptor.getValue().getQueryObject().get("_id"),
+        is("Grade:1"));
+    Document set = updateCaptor.getValue().getUpdateObject().get("$set", Document.class);
+    assertThat("Unexpected type.", set.get("type"), is("Grade"));
+    assertThat("Unexpected TIS ID.", set.get("tisId"), is("1"));
+    assertThat("Unexpected record.", set.get("record"), is(record));
+    assertThat("Unexpected excluded at.", set.get("excludedAt"), is(NOW));
+  }
+
+  @Test
+  void shouldNotDeleteWhenNoTisIdsToDelete() {
+    store.deleteAll("Grade", List.of());
+
+    verifyNoInteractions(mongoOperations);
+  }
+
+  @Test
+  void shouldDeleteExcludedRecordsById() {
+    store.deleteAll("Grade", List.of("1"));
+
+    ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+    verify(mongoOperations).remove(queryCaptor.capture(), eq(ExcludedReference.class));
+    Document id = queryCaptor.getValue().getQueryObject().get("_id", Document.class);
+    assertThat("Unexpected IDs.", id.get("$in"), is(List.of("Grade:1")));
+  }
+}
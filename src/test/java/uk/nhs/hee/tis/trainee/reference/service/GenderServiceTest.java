@@ -25,19 +25,17 @@ import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.hasItem;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
-import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.AdditionalAnswers.returnsLastArg;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.fge.jsonpatch.JsonPatch;
+import com.github.fge.jsonpatch.JsonPatchException;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
-import org.apache.commons.lang3.NotImplementedException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -66,6 +64,12 @@ class GenderServiceTest {
   @Mock
   private GenderRepository repository;
 
+  @Mock
+  private ReferenceChangeLog changeLog;
+
+  @Mock
+  private ExcludedReferenceStore excludedReferences;
+
   private Gender gender1;
   private Gender gender2;
 
@@ -76,6 +80,8 @@ class GenderServiceTest {
   void initData() {
     service = new GenderService(repository, Mappers.getMapper(GenderMapper.class),
         new ObjectMapper());
+    service.setChangeLog(changeLog);
+    service.setExcludedReferences(excludedReferences);
 
     gender1 = new Gender();
     gender1.setId(DEFAULT_ID_1);
@@ -93,7 +99,7 @@ class GenderServiceTest {
     List<Gender> genders = new ArrayList<>();
     genders.add(gender1);
     genders.add(gender2);
-    when(repository.findAll(Sort.by("label"))).thenReturn(genders);
+    when(repository.findAllFromPrimary(Sort.by("label"))).thenReturn(genders);
     List<Gender> allGenders = service.get();
     assertThat("Unexpected size of returned Gender list",
         allGenders.size(), equalTo(genders.size()));
@@ -102,9 +108,8 @@ class GenderServiceTest {
   }
 
   @Test
-  void createGenderShouldCreateGenderWhenNewTisId() {
-    when(repository.findByTisId(DEFAULT_TIS_ID_2)).thenReturn(null);
-    when(repository.insert(any(Gender.class))).thenAnswer(returnsFirstArg());
+  void createGenderShouldUpsertGenderByTisId() {
+    when(repository.upsertByTisId(DEFAULT_TIS_ID_2, gender2)).thenAnswer(returnsLastArg());
 
     Gender gender = service.create(gender2);
 
@@ -114,21 +119,8 @@ class GenderServiceTest {
   }
 
   @Test
-  void createGenderShouldUpdateGenderWhenExistingTisId() {
-    when(repository.findByTisId(DEFAULT_TIS_ID_2)).thenReturn(gender1);
-    when(repository.save(any())).thenAnswer(returnsFirstArg());
-
-    Gender gender = service.create(gender2);
-
-    assertThat("Unexpected id.", gender.getId(), is(DEFAULT_ID_1));
-    assertThat("Unexpected TIS id.", gender.getTisId(), is(DEFAULT_TIS_ID_1));
-    assertThat("Unexpected label.", gender.getLabel(), is(DEFAULT_LABEL_2));
-  }
-
-  @Test
-  void updateGenderShouldCreateGenderWhenNewTisId() {
-    when(repository.findByTisId(DEFAULT_TIS_ID_2)).thenReturn(null);
-    when(repository.insert(any(Gender.class))).thenAnswer(returnsFirstArg());
+  void updateGenderShouldUpsertGenderByTisId() {
+    when(repository.upsertByTisId(DEFAULT_TIS_ID_2, gender2)).thenAnswer(returnsLastArg());
 
     Gender gender = service.update(gender2);
 
@@ -137,18 +129,6 @@ class GenderServiceTest {
     assertThat("Unexpected label.", gender.getLabel(), is(DEFAULT_LABEL_2));
   }
 
-  @Test
-  void updateGenderShouldUpdateGenderWhenExistingTisId() {
-    when(repository.findByTisId(DEFAULT_TIS_ID_2)).thenReturn(gender1);
-    when(repository.save(any())).thenAnswer(returnsFirstArg());
-
-    Gender gender = service.update(gender2);
-
-    assertThat("Unexpected id.", gender.getId(), is(DEFAULT_ID_1));
-    assertThat("Unexpected TIS id.", gender.getTisId(), is(DEFAULT_TIS_ID_1));
-    assertThat("Unexpected label.", gender.getLabel(), is(DEFAULT_LABEL_2));
-  }
-
   @Test
   void shouldDeleteGendersByTisId() {
     service.deleteByTisId(DEFAULT_TIS_ID_1);
@@ -157,28 +137,35 @@ class GenderServiceTest {
   }
 
   @Test
-  void shouldThrowExceptionCreatingGenderWithPatch() throws IOException {
+  void shouldCreateGenderWithPatch() throws JsonPatchException, IOException {
     String patch = """
-        [{"op":"add","path":"","value":{"id":"%s","name":"New"}}]
+        [{"op":"add","path":"","value":{"id":"%s","label":"New Gender"}}]
         """.formatted(DEFAULT_TIS_ID_1);
     JsonPatch jsonPatch = JsonPatch.fromJson(new ObjectMapper().readTree(patch));
 
-    assertThrows(NotImplementedException.class, () -> service.create(new Gender(), jsonPatch));
+    when(repository.upsertByTisId(any(), any(Gender.class))).thenAnswer(
+        inv -> inv.getArgument(1));
+
+    Gender result = service.create(new Gender(), jsonPatch);
 
-    verify(repository, never()).insert(any(Gender.class));
+    assertThat("Unexpected TIS ID.", result.getTisId(), is(DEFAULT_TIS_ID_1));
+    assertThat("Unexpected label.", result.getLabel(), is("New Gender"));
   }
 
   @Test
-  void shouldThrowExceptionUpdatingGenderWithPatch() throws IOException {
+  void shouldUpdateGenderWithPatch() throws JsonPatchException, IOException {
     String patch = """
-        [{"op":"replace","path":"","value":{"id":"%s","name":"Updated"}}]
+        [{"op":"replace","path":"","value":{"id":"%s","label":"Updated Gender"}}]
         """.formatted(DEFAULT_TIS_ID_1);
     JsonPatch jsonPatch = JsonPatch.fromJson(new ObjectMapper().readTree(patch));
 
     when(repository.findByTisId(DEFAULT_TIS_ID_1)).thenReturn(gender1);
+    when(repository.save(any(Gender.class))).thenAnswer(inv -> inv.getArgument(0));
 
-    assertThrows(NotImplementedException.class, () -> service.update(DEFAULT_TIS_ID_1, jsonPatch));
+    Gender result = service.update(DEFAULT_TIS_ID_1, jsonPatch);
 
-    verify(repository, never()).save(any());
+    assertThat("Unexpected ID.", result.getId(), is(gender1.getId()));
+    assertThat("Unexpected TIS ID.", result.getTisId(), is(DEFAULT_TIS_ID_1));
+    assertThat("Unexpected label.", result.getLabel(), is("Updated Gender"));
   }
 }
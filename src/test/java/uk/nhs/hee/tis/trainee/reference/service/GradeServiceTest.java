@@ -25,29 +25,45 @@ import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.hasItem;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
-import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.AdditionalAnswers.returnsLastArg;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.fge.jsonpatch.JsonPatch;
+import com.github.fge.jsonpatch.JsonPatchException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
-import org.apache.commons.lang3.NotImplementedException;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mapstruct.factory.Mappers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Sort;
+import uk.nhs.hee.tis.trainee.reference.dto.CdcEvent;
 import uk.nhs.hee.tis.trainee.reference.mapper.GradeMapper;
+import uk.nhs.hee.tis.trainee.reference.model.ExcludedReference;
 import uk.nhs.hee.tis.trainee.reference.model.Grade;
 import uk.nhs.hee.tis.trainee.reference.repository.GradeRepository;
+import uk.nhs.hee.tis.trainee.reference.repository.ReferenceWrite;
+import uk.nhs.hee.tis.trainee.reference.service.ReferenceChangeLog.ChangeSet;
 
 @ExtendWith(MockitoExtension.class)
 class GradeServiceTest {
@@ -66,6 +82,18 @@ class GradeServiceTest {
   @Mock
   private GradeRepository repository;
 
+  @Mock
+  private ReferenceChangeLog changeLog;
+
+  @Mock
+  private ExcludedReferenceStore excludedReferences;
+
+  @Captor
+  private ArgumentCaptor<List<ReferenceWrite<Grade>>> writesCaptor;
+
+  @Captor
+  private ArgumentCaptor<Map<String, Map<String, Object>>> exclusionsCaptor;
+
   private Grade grade1;
   private Grade grade2;
 
@@ -76,6 +104,8 @@ class GradeServiceTest {
   void initData() {
     service = new GradeService(repository, Mappers.getMapper(GradeMapper.class),
         new ObjectMapper());
+    service.setChangeLog(changeLog);
+    service.setExcludedReferences(excludedReferences);
 
     grade1 = new Grade();
     grade1.setId(DEFAULT_ID_1);
@@ -93,7 +123,7 @@ class GradeServiceTest {
     List<Grade> grades = new ArrayList<>();
     grades.add(grade1);
     grades.add(grade2);
-    when(repository.findAll(Sort.by("label"))).thenReturn(grades);
+    when(repository.findAllFromPrimary(Sort.by("label"))).thenReturn(grades);
     List<Grade> allGrades = service.get();
     assertThat("Unexpected size of returned Grade list",
         allGrades.size(), equalTo(grades.size()));
@@ -102,50 +132,34 @@ class GradeServiceTest {
   }
 
   @Test
-  void createGradeShouldCreateGradeWhenNewTisId() {
-    when(repository.findByTisId(DEFAULT_TIS_ID_2)).thenReturn(null);
-    when(repository.insert(any(Grade.class))).thenAnswer(returnsFirstArg());
+  void streamGradesShouldStreamAllGradesSortedByLabel() {
+    when(repository.streamAll(Sort.by("label"))).thenReturn(Stream.of(grade1, grade2));
 
-    Grade grade = service.create(grade2);
+    List<Grade> streamedGrades = service.stream().toList();
 
-    assertThat("Unexpected id.", grade.getId(), is(DEFAULT_ID_2));
-    assertThat("Unexpected TIS id.", grade.getTisId(), is(DEFAULT_TIS_ID_2));
-    assertThat("Unexpected label.", grade.getLabel(), is(DEFAULT_LABEL_2));
+    assertThat("Unexpected streamed grades.", streamedGrades, is(List.of(grade1, grade2)));
   }
 
   @Test
-  void createGradeShouldUpdateGradeWhenExistingTisId() {
-    when(repository.findByTisId(DEFAULT_TIS_ID_2)).thenReturn(grade1);
-    when(repository.save(any())).thenAnswer(returnsFirstArg());
+  void createGradeShouldUpsertGradeByTisId() {
+    when(repository.upsertByTisId(DEFAULT_TIS_ID_2, grade2)).thenAnswer(returnsLastArg());
 
     Grade grade = service.create(grade2);
 
-    assertThat("Unexpected id.", grade.getId(), is(DEFAULT_ID_1));
-    assertThat("Unexpected TIS id.", grade.getTisId(), is(DEFAULT_TIS_ID_1));
-    assertThat("Unexpected label.", grade.getLabel(), is(DEFAULT_LABEL_2));
-  }
-
-  @Test
-  void updateGradeShouldCreateGradeWhenNewTisId() {
-    when(repository.findByTisId(DEFAULT_TIS_ID_2)).thenReturn(null);
-    when(repository.insert(any(Grade.class))).thenAnswer(returnsFirstArg());
-
-    Grade grade = service.update(grade2);
-
     assertThat("Unexpected id.", grade.getId(), is(DEFAULT_ID_2));
     assertThat("Unexpected TIS id.", grade.getTisId(), is(DEFAULT_TIS_ID_2));
     assertThat("Unexpected label.", grade.getLabel(), is(DEFAULT_LABEL_2));
+    verify(changeLog).record("Grade", List.of(DEFAULT_TIS_ID_2));
   }
 
   @Test
-  void updateGradeShouldUpdateGradeWhenExistingTisId() {
-    when(repository.findByTisId(DEFAULT_TIS_ID_2)).thenReturn(grade1);
-    when(repository.save(any())).thenAnswer(returnsFirstArg());
+  void updateGradeShouldUpsertGradeByTisId() {
+    when(repository.upsertByTisId(DEFAULT_TIS_ID_2, grade2)).thenAnswer(returnsLastArg());
 
     Grade grade = service.update(grade2);
 
-    assertThat("Unexpected id.", grade.getId(), is(DEFAULT_ID_1));
-    assertThat("Unexpected TIS id.", grade.getTisId(), is(DEFAULT_TIS_ID_1));
+    assertThat("Unexpected id.", grade.getId(), is(DEFAULT_ID_2));
+    assertThat("Unexpected TIS id.", grade.getTisId(), is(DEFAULT_TIS_ID_2));
     assertThat("Unexpected label.", grade.getLabel(), is(DEFAULT_LABEL_2));
   }
 
@@ -154,31 +168,373 @@ class GradeServiceTest {
     service.deleteByTisId(DEFAULT_TIS_ID_1);
 
     verify(repository).deleteByTisId(DEFAULT_TIS_ID_1);
+    verify(excludedReferences).deleteAll("Grade", List.of(DEFAULT_TIS_ID_1));
+    verify(changeLog).record("Grade", List.of(DEFAULT_TIS_ID_1));
   }
 
   @Test
-  void shouldThrowExceptionCreatingGradeWithPatch() throws IOException {
+  void shouldCreateGradeWithPatch() throws JsonPatchException, IOException {
     String patch = """
-        [{"op":"add","path":"","value":{"id":"%s","name":"New"}}]
+        [{"op":"add","path":"","value":{"id":"%s","name":"New Grade"}}]
         """.formatted(DEFAULT_TIS_ID_1);
     JsonPatch jsonPatch = JsonPatch.fromJson(new ObjectMapper().readTree(patch));
 
-    assertThrows(NotImplementedException.class, () -> service.create(new Grade(), jsonPatch));
+    when(repository.upsertByTisId(any(), any(Grade.class))).thenAnswer(
+        inv -> inv.getArgument(1));
 
-    verify(repository, never()).insert(any(Grade.class));
+    Grade result = service.create(new Grade(), jsonPatch);
+
+    assertThat("Unexpected TIS ID.", result.getTisId(), is(DEFAULT_TIS_ID_1));
+    assertThat("Unexpected label.", result.getLabel(), is("New Grade"));
+    verify(repository).upsertByTisId(DEFAULT_TIS_ID_1, result);
   }
 
   @Test
-  void shouldThrowExceptionUpdatingGradeWithPatch() throws IOException {
+  void shouldUpdateGradeWithPatch() throws JsonPatchException, IOException {
     String patch = """
-        [{"op":"replace","path":"","value":{"id":"%s","name":"Updated"}}]
+        [{"op":"replace","path":"","value":{"id":"%s","name":"Updated Grade"}}]
         """.formatted(DEFAULT_TIS_ID_1);
     JsonPatch jsonPatch = JsonPatch.fromJson(new ObjectMapper().readTree(patch));
 
     when(repository.findByTisId(DEFAULT_TIS_ID_1)).thenReturn(grade1);
+    when(repository.save(any(Grade.class))).thenAnswer(inv -> inv.getArgument(0));
+
+    Grade result = service.update(DEFAULT_TIS_ID_1, jsonPatch);
+
+    assertThat("Unexpected ID.", result.getId(), is(grade1.getId()));
+    assertThat("Unexpected TIS ID.", result.getTisId(), is(DEFAULT_TIS_ID_1));
+    assertThat("Unexpected label.", result.getLabel(), is("Updated Grade"));
+    verify(changeLog).record("Grade", List.of(DEFAULT_TIS_ID_1));
+  }
+
+  @Test
+  void shouldRetainCurrentGradesWhenApplyingEvents() throws IOException {
+    List<CdcEvent> events = List.of(toEvent(DEFAULT_TIS_ID_2, """
+        [{"op":"add","path":"","value":{"id":"%s","name":"New Grade","status":"CURRENT",
+          "placementGrade":true,"trainingGrade":true}}]
+        """.formatted(DEFAULT_TIS_ID_2)));
+
+    when(repository.findByTisIdIn(any())).thenReturn(List.of());
+    when(repository.bulkWriteByTisId(any())).thenReturn(Set.of());
+
+    Set<Integer> applied = service.applyEvents(events);
+
+    assertThat("Unexpected applied positions.", applied, is(Set.of(0)));
+
+    verify(repository).bulkWriteByTisId(writesCaptor.capture());
+    ReferenceWrite<Grade> write = writesCaptor.getValue().get(0);
+    assertThat("Unexpected delete flag.", write.isDelete(), is(false));
+    assertThat("Unexpected label.", write.entity().getLabel(), is("New Grade"));
+  }
 
-    assertThrows(NotImplementedException.class, () -> service.update(DEFAULT_TIS_ID_1, jsonPatch));
+  @Test
+  void shouldSkipEventsWithoutTisIdWhenApplyingEvents() throws IOException {
+    ObjectMapper objectMapper = new ObjectMapper();
+    List<CdcEvent> events = List.of(
+        objectMapper.readValue("""
+            {"patch":[{"op":"replace","path":"/status","value":"INACTIVE"}],"keys":null}
+            """, CdcEvent.class),
+        objectMapper.readValue("""
+            {"patch":[{"op":"replace","path":"/status","value":"INACTIVE"}]}
+            """, CdcEvent.class),
+        toEvent(DEFAULT_TIS_ID_1, """
+            [{"op":"replace","path":"/label","value":"Updated Grade"}]
+            """));
+
+    when(repository.findByTisIdIn(any())).thenReturn(List.of(grade1));
+    when(repository.bulkWriteByTisId(any())).thenReturn(Set.of());
+
+    Set<Integer> applied = service.applyEvents(events);
+
+    assertThat("Unexpected applied positions.", applied, is(Set.of(2)));
+
+    verify(repository).findByTisIdIn(Set.of(DEFAULT_TIS_ID_1));
+    verify(repository).bulkWriteByTisId(writesCaptor.capture());
+    assertThat("Unexpected write count.", writesCaptor.getValue().size(), is(1));
+    assertThat("Unexpected TIS ID.", writesCaptor.getValue().get(0).tisId(),
+        is(DEFAULT_TIS_ID_1));
+  }
+
+  @Test
+  void shouldDeleteGradesNoLongerCurrentWhenApplyingEvents() throws IOException {
+    List<CdcEvent> events = List.of(toEvent(DEFAULT_TIS_ID_1, """
+        [{"op":"replace","path":"/status","value":"INACTIVE"}]
+        """));
+
+    when(repository.findByTisIdIn(any())).thenReturn(List.of(grade1));
+    when(repository.bulkWriteByTisId(any())).thenReturn(Set.of());
+
+    Set<Integer> applied = service.applyEvents(events);
+
+    assertThat("Unexpected applied positions.", applied, is(Set.of(0)));
+
+    verify(repository).bulkWriteByTisId(writesCaptor.capture());
+    ReferenceWrite<Grade> write = writesCaptor.getValue().get(0);
+    assertThat("Unexpected TIS ID.", write.tisId(), is(DEFAULT_TIS_ID_1));
+    assertThat("Unexpected delete flag.", write.isDelete(), is(true));
+  }
+
+  @Test
+  void shouldDeleteGradesNoLongerPlacementGradesWhenApplyingEvents() throws IOException {
+    List<CdcEvent> events = List.of(toEvent(DEFAULT_TIS_ID_1, """
+        [{"op":"replace","path":"/placementGrade","value":false}]
+        """));
+
+    when(repository.findByTisIdIn(any())).thenReturn(List.of(grade1));
+    when(repository.bulkWriteByTisId(any())).thenReturn(Set.of());
+
+    service.applyEvents(events);
+
+    verify(repository).bulkWriteByTisId(writesCaptor.capture());
+    ReferenceWrite<Grade> write = writesCaptor.getValue().get(0);
+    assertThat("Unexpected delete flag.", write.isDelete(), is(true));
+  }
+
+  @Test
+  void shouldExcludeInactiveGradesWhenApplyingInsertEvents() throws IOException {
+    List<CdcEvent> events = List.of(toEvent(DEFAULT_TIS_ID_2, """
+        [{"op":"add","path":"","value":{"id":"%s","name":"New Grade","status":"INACTIVE",
+          "placementGrade":true,"trainingGrade":true}}]
+        """.formatted(DEFAULT_TIS_ID_2)));
+
+    when(repository.findByTisIdIn(any())).thenReturn(List.of());
+
+    Set<Integer> applied = service.applyEvents(events);
+
+    assertThat("Unexpected applied positions.", applied, is(Set.of(0)));
+    verify(repository, never()).bulkWriteByTisId(any());
+
+    verify(excludedReferences).saveAll(eq("Grade"), exclusionsCaptor.capture());
+    Map<String, Object> excluded = exclusionsCaptor.getValue().get(DEFAULT_TIS_ID_2);
+    assertThat("Unexpected excluded name.", excluded.get("name"), is("New Grade"));
+    assertThat("Unexpected excluded status.", excluded.get("status"), is("INACTIVE"));
+  }
+
+  @Test
+  void shouldSkipUpdatesToUnknownGradesWhichAreNotRetained() throws IOException {
+    List<CdcEvent> events = List.of(toEvent(DEFAULT_TIS_ID_2, """
+        [{"op":"replace","path":"/status","value":"INACTIVE"}]
+        """));
+
+    when(repository.findByTisIdIn(any())).thenReturn(List.of());
+
+    Set<Integer> applied = service.applyEvents(events);
+
+    assertThat("Unexpected applied positions.", applied, is(Set.of(0)));
+    verify(repository, never()).bulkWriteByTisId(any());
+    verify(excludedReferences).saveAll("Grade", Map.of());
+  }
+
+  @Test
+  void shouldNotSkipUpdatesToUnknownGradesWhichWouldBeRetained() throws IOException {
+    List<CdcEvent> events = List.of(toEvent(DEFAULT_TIS_ID_2, """
+        [{"op":"replace","path":"/name","value":"Updated Grade"}]
+        """));
 
-    verify(repository, never()).save(any());
+    when(repository.findByTisIdIn(any())).thenReturn(List.of());
+
+    Set<Integer> applied = service.applyEvents(events);
+
+    assertThat("Unexpected applied positions.", applied, is(Set.of()));
+    verify(repository, never()).bulkWriteByTisId(any());
+  }
+
+  @Test
+  void shouldRestoreExcludedGradesWhenTheyBecomeCurrent() throws IOException {
+    when(repository.findByTisIdIn(any())).thenReturn(List.of());
+
+    service.applyEvents(List.of(toEvent(DEFAULT_TIS_ID_2, """
+        [{"op":"add","path":"","value":{"id":"%s","name":"New Grade","status":"INACTIVE",
+          "placementGrade":true,"trainingGrade":true}}]
+        """.formatted(DEFAULT_TIS_ID_2))));
+
+    verify(excludedReferences).saveAll(eq("Grade"), exclusionsCaptor.capture());
+    ExcludedReference excluded = new ExcludedReference();
+    excluded.setTisId(DEFAULT_TIS_ID_2);
+    excluded.setRecord(exclusionsCaptor.getValue().get(DEFAULT_TIS_ID_2));
+
+    when(excludedReferences.findAll(eq("Grade"), any()))
+        .thenReturn(List.of(excluded), List.of());
+    when(repository.bulkWriteByTisId(any())).thenReturn(Set.of());
+
+    Set<Integer> applied = service.applyEvents(List.of(toEvent(DEFAULT_TIS_ID_2, """
+        [{"op":"replace","path":"/status","value":"CURRENT"}]
+        """)));
+
+    assertThat("Unexpected applied positions.", applied, is(Set.of(0)));
+    verify(excludedReferences).deleteAll("Grade", List.of(DEFAULT_TIS_ID_2));
+
+    verify(repository).bulkWriteByTisId(writesCaptor.capture());
+    ReferenceWrite<Grade> restore = writesCaptor.getValue().get(0);
+    assertThat("Unexpected TIS ID.", restore.tisId(), is(DEFAULT_TIS_ID_2));
+    assertThat("Unexpected delete flag.", restore.isDelete(), is(false));
+    assertThat("Unexpected label.", restore.entity().getLabel(), is("New Grade"));
+
+    when(repository.findByTisIdIn(any())).thenReturn(List.of(restore.entity()));
+
+    applied = service.applyEvents(List.of(toEvent(DEFAULT_TIS_ID_2, """
+        [{"op":"replace","path":"/name","value":"Updated Grade"}]
+        """)));
+
+    assertThat("Unexpected applied positions.", applied, is(Set.of(0)));
+
+    verify(repository, times(2)).bulkWriteByTisId(writesCaptor.capture());
+    ReferenceWrite<Grade> update = writesCaptor.getValue().get(0);
+    assertThat("Unexpected delete flag.", update.isDelete(), is(false));
+    assertThat("Unexpected label.", update.entity().getLabel(), is("Updated Grade"));
+  }
+
+  @Test
+  void shouldWriteAllGradesWithSingleBulkWrite() {
+    when(repository.bulkWriteByTisId(any())).thenReturn(Set.of());
+
+    Set<Integer> failed = service.writeAll(List.of(
+        ReferenceWrite.upsert(DEFAULT_TIS_ID_1, grade1),
+        ReferenceWrite.delete(DEFAULT_TIS_ID_2)));
+
+    assertThat("Unexpected failed positions.", failed, is(Set.of()));
+
+    verify(repository).bulkWriteByTisId(writesCaptor.capture());
+    List<ReferenceWrite<Grade>> writes = writesCaptor.getValue();
+    assertThat("Unexpected write count.", writes.size(), is(2));
+    assertThat("Unexpected entity.", writes.get(0).entity(), is(grade1));
+    assertThat("Unexpected TIS ID.", writes.get(1).tisId(), is(DEFAULT_TIS_ID_2));
+    assertThat("Unexpected delete flag.", writes.get(1).isDelete(), is(true));
+
+    verify(changeLog).record("Grade", List.of(DEFAULT_TIS_ID_1, DEFAULT_TIS_ID_2));
+  }
+
+  @Test
+  void shouldRecordWriteAllMetrics() {
+    MeterRegistry registry = new SimpleMeterRegistry();
+    service.setMeterRegistry(registry);
+    when(repository.bulkWriteByTisId(any())).thenReturn(Set.of());
+
+    service.writeAll(List.of(
+        ReferenceWrite.upsert(DEFAULT_TIS_ID_1, grade1),
+        ReferenceWrite.delete(DEFAULT_TIS_ID_2)));
+
+    Timer timer = registry.get(AbstractReferenceService.OPERATIONS_TIMER)
+        .tag("type", "Grade")
+        .tag("operation", "write-all")
+        .timer();
+    assertThat("Unexpected operation count.", timer.count(), is(1L));
+
+    DistributionSummary documents = registry.get(AbstractReferenceService.DOCUMENTS_SUMMARY)
+        .tag("type", "Grade")
+        .tag("operation", "write-all")
+        .summary();
+    assertThat("Unexpected document count.", documents.totalAmount(), is(2.0));
+  }
+
+  @Test
+  void shouldOnlyWriteLastGradeWhenTisIdWrittenMoreThanOnce() {
+    when(repository.bulkWriteByTisId(any())).thenReturn(Set.of());
+
+    Grade updatedGrade1 = new Grade();
+    updatedGrade1.setTisId(DEFAULT_TIS_ID_1);
+    updatedGrade1.setLabel("Updated label");
+
+    service.writeAll(List.of(
+        ReferenceWrite.upsert(DEFAULT_TIS_ID_1, grade1),
+        ReferenceWrite.upsert(DEFAULT_TIS_ID_2, grade2),
+        ReferenceWrite.upsert(DEFAULT_TIS_ID_1, updatedGrade1)));
+
+    verify(repository).bulkWriteByTisId(writesCaptor.capture());
+    List<ReferenceWrite<Grade>> writes = writesCaptor.getValue();
+    assertThat("Unexpected write count.", writes.size(), is(2));
+    assertThat("Unexpected entity.", writes.get(0).entity(), is(updatedGrade1));
+    assertThat("Unexpected entity.", writes.get(1).entity(), is(grade2));
+  }
+
+  @Test
+  void shouldReturnAllPositionsOfFailedGradeWrites() {
+    when(repository.bulkWriteByTisId(any())).thenReturn(Set.of(0));
+
+    Set<Integer> failed = service.writeAll(List.of(
+        ReferenceWrite.upsert(DEFAULT_TIS_ID_1, grade1),
+        ReferenceWrite.upsert(DEFAULT_TIS_ID_2, grade2),
+        ReferenceWrite.upsert(DEFAULT_TIS_ID_1, grade1)));
+
+    assertThat("Unexpected failed positions.", failed, is(Set.of(0, 2)));
+    verify(changeLog).record("Grade", List.of(DEFAULT_TIS_ID_2));
+  }
+
+  @Test
+  void shouldNotWriteWhenNoGradesGiven() {
+    Set<Integer> failed = service.writeAll(List.of());
+
+    assertThat("Unexpected failed positions.", failed, is(Set.of()));
+    verifyNoInteractions(repository);
+    verifyNoInteractions(changeLog);
+  }
+
+  @Test
+  void shouldGetChangedAndDeletedGradesSinceToken() {
+    when(changeLog.getChanges("Grade", 5L)).thenReturn(
+        new ChangeSet(List.of(DEFAULT_TIS_ID_1, DEFAULT_TIS_ID_2), 7L));
+    when(repository.findByTisIdInFromPrimary(List.of(DEFAULT_TIS_ID_1, DEFAULT_TIS_ID_2)))
+        .thenReturn(List.of(grade1));
+
+    ReferenceChanges<Grade> changes = service.getChanges(5L);
+
+    assertThat("Unexpected changed grades.", changes.changed(), is(List.of(grade1)));
+    assertThat("Unexpected deleted grades.", changes.deleted(), is(List.of(DEFAULT_TIS_ID_2)));
+    assertThat("Unexpected token.", changes.token(), is(7L));
+  }
+
+  @Test
+  void shouldGetAllGradesFromPrimaryWhenTokenIsZero() {
+    when(changeLog.getToken("Grade")).thenReturn(7L);
+    when(repository.findAllFromPrimary(Sort.by("label"))).thenReturn(List.of(grade1, grade2));
+
+    ReferenceChanges<Grade> changes = service.getChanges(0L);
+
+    assertThat("Unexpected changed grades.", changes.changed(), is(List.of(grade1, grade2)));
+    assertThat("Unexpected deleted grades.", changes.deleted(), is(List.of()));
+    assertThat("Unexpected token.", changes.token(), is(7L));
+    verify(changeLog, never()).getChanges(any(), anyLong());
+  }
+
+  @Test
+  void shouldGetAllGradesWhenTokenOlderThanResyncToken() {
+    when(changeLog.getResyncToken("Grade")).thenReturn(9L);
+    when(changeLog.getToken("Grade")).thenReturn(8L);
+    when(repository.findAllFromPrimary(Sort.by("label"))).thenReturn(List.of(grade1, grade2));
+
+    ReferenceChanges<Grade> changes = service.getChanges(5L);
+
+    assertThat("Unexpected changed grades.", changes.changed(), is(List.of(grade1, grade2)));
+    assertThat("Unexpected deleted grades.", changes.deleted(), is(List.of()));
+    assertThat("Unexpected token.", changes.token(), is(9L));
+    assertThat("Unexpected full flag.", changes.full(), is(true));
+    verify(changeLog, never()).getChanges(any(), anyLong());
+  }
+
+  @Test
+  void shouldNotQueryGradesWhenNoChangesSinceToken() {
+    when(changeLog.getChanges("Grade", 7L)).thenReturn(new ChangeSet(List.of(), 7L));
+
+    ReferenceChanges<Grade> changes = service.getChanges(7L);
+
+    assertThat("Unexpected changed grades.", changes.changed(), is(List.of()));
+    assertThat("Unexpected deleted grades.", changes.deleted(), is(List.of()));
+    assertThat("Unexpected token.", changes.token(), is(7L));
+    verifyNoInteractions(repository);
+  }
+
+  /**
+   * Create a CDC event for the given TIS ID and patch.
+   *
+   * @param tisId The TIS ID of the event.
+   * @param patch The patch operations, as JSON.
+   * @return The created CDC event.
+   * @throws IOException If the patch could not be parsed.
+   */
+  private CdcEvent toEvent(String tisId, String patch) throws IOException {
+    String event = """
+        {"patch":%s,"keys":{"id":"%s"}}
+        """.formatted(patch, tisId);
+    return new ObjectMapper().readValue(event, CdcEvent.class);
   }
 }
@@ -24,19 +24,17 @@ import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.hasItem;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
-import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.AdditionalAnswers.returnsLastArg;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.fge.jsonpatch.JsonPatch;
+import com.github.fge.jsonpatch.JsonPatchException;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
-import org.apache.commons.lang3.NotImplementedException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -65,6 +63,12 @@ class ImmigrationStatusServiceTest {
   @Mock
   private ImmigrationStatusRepository repository;
 
+  @Mock
+  private ReferenceChangeLog changeLog;
+
+  @Mock
+  private ExcludedReferenceStore excludedReferences;
+
   private ImmigrationStatus immigrationStatus1;
   private ImmigrationStatus immigrationStatus2;
 
@@ -75,6 +79,8 @@ class ImmigrationStatusServiceTest {
   void initData() {
     service = new ImmigrationStatusService(repository,
         Mappers.getMapper(ImmigrationStatusMapper.class), new ObjectMapper());
+    service.setChangeLog(changeLog);
+    service.setExcludedReferences(excludedReferences);
 
     immigrationStatus1 = new ImmigrationStatus();
     immigrationStatus1.setId(DEFAULT_ID_1);
@@ -92,7 +98,7 @@ class ImmigrationStatusServiceTest {
     List<ImmigrationStatus> immigrationStatus = new ArrayList<>();
     immigrationStatus.add(immigrationStatus1);
     immigrationStatus.add(immigrationStatus2);
-    when(repository.findAll(Sort.by("label"))).thenReturn(immigrationStatus);
+    when(repository.findAllFromPrimary(Sort.by("label"))).thenReturn(immigrationStatus);
     List<ImmigrationStatus> allImmigrationStatus = service.get();
     assertThat("Unexpected size of returned ImmigrationStatus list",
         allImmigrationStatus.size(), equalTo(immigrationStatus.size()));
@@ -101,9 +107,9 @@ class ImmigrationStatusServiceTest {
   }
 
   @Test
-  void createImmigrationStatusShouldCreateImmigrationStatusWhenNewTisId() {
-    when(repository.findByTisId(DEFAULT_TIS_ID_2)).thenReturn(null);
-    when(repository.insert(any(ImmigrationStatus.class))).thenAnswer(returnsFirstArg());
+  void createImmigrationStatusShouldUpsertImmigrationStatusByTisId() {
+    when(repository.upsertByTisId(DEFAULT_TIS_ID_2, immigrationStatus2))
+        .thenAnswer(returnsLastArg());
 
     ImmigrationStatus immigrationStatus = service.create(immigrationStatus2);
 
@@ -113,21 +119,9 @@ class ImmigrationStatusServiceTest {
   }
 
   @Test
-  void createImmigrationStatusShouldUpdateImmigrationStatusWhenExistingTisId() {
-    when(repository.findByTisId(DEFAULT_TIS_ID_2)).thenReturn(immigrationStatus1);
-    when(repository.save(any())).thenAnswer(returnsFirstArg());
-
-    ImmigrationStatus immigrationStatus = service.create(immigrationStatus2);
-
-    assertThat("Unexpected id.", immigrationStatus.getId(), is(DEFAULT_ID_1));
-    assertThat("Unexpected TIS id.", immigrationStatus.getTisId(), is(DEFAULT_TIS_ID_1));
-    assertThat("Unexpected label.", immigrationStatus.getLabel(), is(DEFAULT_LABEL_2));
-  }
-
-  @Test
-  void updateImmigrationStatusShouldCreateImmigrationStatusWhenNewTisId() {
-    when(repository.findByTisId(DEFAULT_TIS_ID_2)).thenReturn(null);
-    when(repository.insert(any(ImmigrationStatus.class))).thenAnswer(returnsFirstArg());
+  void updateImmigrationStatusShouldUpsertImmigrationStatusByTisId() {
+    when(repository.upsertByTisId(DEFAULT_TIS_ID_2, immigrationStatus2))
+        .thenAnswer(returnsLastArg());
 
     ImmigrationStatus immigrationStatus = service.update(immigrationStatus2);
 
@@ -136,18 +130,6 @@ class ImmigrationStatusServiceTest {
     assertThat("Unexpected label.", immigrationStatus.getLabel(), is(DEFAULT_LABEL_2));
   }
 
-  @Test
-  void updateImmigrationStatusShouldUpdateImmigrationStatusWhenExistingTisId() {
-    when(repository.findByTisId(DEFAULT_TIS_ID_2)).thenReturn(immigrationStatus1);
-    when(repository.save(any())).thenAnswer(returnsFirstArg());
-
-    ImmigrationStatus immigrationStatus = service.update(immigrationStatus2);
-
-    assertThat("Unexpected id.", immigrationStatus.getId(), is(DEFAULT_ID_1));
-    assertThat("Unexpected TIS id.", immigrationStatus.getTisId(), is(DEFAULT_TIS_ID_1));
-    assertThat("Unexpected label.", immigrationStatus.getLabel(), is(DEFAULT_LABEL_2));
-  }
-
   @Test
   void shouldDeleteImmigrationStatussByTisId() {
     service.deleteByTisId(DEFAULT_TIS_ID_1);
@@ -156,29 +138,35 @@ class ImmigrationStatusServiceTest {
   }
 
   @Test
-  void shouldThrowExceptionCreatingImmigrationStatusWithPatch() throws IOException {
+  void shouldCreateImmigrationStatusWithPatch() throws JsonPatchException, IOException {
     String patch = """
-        [{"op":"add","path":"","value":{"id":"%s","name":"New"}}]
+        [{"op":"add","path":"","value":{"id":"%s","label":"New ImmigrationStatus"}}]
         """.formatted(DEFAULT_TIS_ID_1);
     JsonPatch jsonPatch = JsonPatch.fromJson(new ObjectMapper().readTree(patch));
 
-    assertThrows(NotImplementedException.class,
-        () -> service.create(new ImmigrationStatus(), jsonPatch));
+    when(repository.upsertByTisId(any(), any(ImmigrationStatus.class))).thenAnswer(
+        inv -> inv.getArgument(1));
+
+    ImmigrationStatus result = service.create(new ImmigrationStatus(), jsonPatch);
 
-    verify(repository, never()).insert(any(ImmigrationStatus.class));
+    assertThat("Unexpected TIS ID.", result.getTisId(), is(DEFAULT_TIS_ID_1));
+    assertThat("Unexpected label.", result.getLabel(), is("New ImmigrationStatus"));
   }
 
   @Test
-  void shouldThrowExceptionUpdatingImmigrationStatusWithPatch() throws IOException {
+  void shouldUpdateImmigrationStatusWithPatch() throws JsonPatchException, IOException {
     String patch = """
-        [{"op":"replace","path":"","value":{"id":"%s","name":"Updated"}}]
+        [{"op":"replace","path":"","value":{"id":"%s","label":"Updated ImmigrationStatus"}}]
         """.formatted(DEFAULT_TIS_ID_1);
     JsonPatch jsonPatch = JsonPatch.fromJson(new ObjectMapper().readTree(patch));
 
     when(repository.findByTisId(DEFAULT_TIS_ID_1)).thenReturn(immigrationStatus1);
+    when(repository.save(any(ImmigrationStatus.class))).thenAnswer(inv -> inv.getArgument(0));
 
-    assertThrows(NotImplementedException.class, () -> service.update(DEFAULT_TIS_ID_1, jsonPatch));
+    ImmigrationStatus result = service.update(DEFAULT_TIS_ID_1, jsonPatch);
 
-    verify(repository, never()).save(any());
+    assertThat("Unexpected ID.", result.getId(), is(immigrationStatus1.getId()));
+    assertThat("Unexpected TIS ID.", result.getTisId(), is(DEFAULT_TIS_ID_1));
+    assertThat("Unexpected label.", result.getLabel(), is("Updated ImmigrationStatus"));
   }
 }
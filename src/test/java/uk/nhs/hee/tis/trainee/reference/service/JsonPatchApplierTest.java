@@ -0,0 +1,213 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.reference.service;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.fge.jsonpatch.JsonPatch;
+import com.github.fge.jsonpatch.JsonPatchException;
+import java.io.IOException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import uk.nhs.hee.tis.trainee.reference.dto.CdcEvent;
+import uk.nhs.hee.tis.trainee.reference.dto.CurriculumPatchDto;
+import uk.nhs.hee.tis.trainee.reference.dto.DbcPatchDto;
+import uk.nhs.hee.tis.trainee.reference.dto.Status;
+
+class JsonPatchApplierTest {
+
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  private JsonPatchApplier<CurriculumPatchDto> applier;
+
+  @BeforeEach
+  void setUp() {
+    applier = new JsonPatchApplier<>(CurriculumPatchDto.class, MAPPER);
+  }
+
+  @Test
+  void shouldPatchPropertiesInPlace() throws Exception {
+    CurriculumPatchDto dto = createDto();
+
+    CurriculumPatchDto patchedDto = applier.apply(dto, toPatch("""
+        [
+          {"op": "replace", "path": "/name", "value": "name2"},
+          {"op": "add", "path": "/status", "value": "INACTIVE"},
+          {"op": "remove", "path": "/curriculumSubType"}
+        ]
+        """));
+
+    assertThat("Unexpected DTO.", patchedDto, sameInstance(dto));
+    assertThat("Unexpected entity ID.", patchedDto.getEntityId(), is("1"));
+    assertThat("Unexpected ID.", patchedDto.getId(), is("10"));
+    assertThat("Unexpected name.", patchedDto.getName(), is("name2"));
+    assertThat("Unexpected status.", patchedDto.getStatus(), is(Status.INACTIVE));
+    assertThat("Unexpected sub type.", patchedDto.getCurriculumSubType(), nullValue());
+  }
+
+  @Test
+  void shouldReplaceDtoWhenRootAdded() throws Exception {
+    CurriculumPatchDto dto = createDto();
+
+    CurriculumPatchDto patchedDto = applier.apply(dto, toPatch("""
+        [
+          {"op": "add", "path": "", "value": {"id": "20", "name": "name2", "intrepidId": "x"}}
+        ]
+        """));
+
+    assertThat("Unexpected DTO.", patchedDto, not(sameInstance(dto)));
+    assertThat("Unexpected entity ID.", patchedDto.getEntityId(), nullValue());
+    assertThat("Unexpected ID.", patchedDto.getId(), is("20"));
+    assertThat("Unexpected name.", patchedDto.getName(), is("name2"));
+    assertThat("Unexpected sub type.", patchedDto.getCurriculumSubType(), nullValue());
+  }
+
+  @Test
+  void shouldIgnoreAddedUnknownProperties() throws Exception {
+    CurriculumPatchDto dto = createDto();
+
+    CurriculumPatchDto patchedDto = applier.apply(dto, toPatch("""
+        [
+          {"op": "add", "path": "/intrepidId", "value": "x"},
+          {"op": "replace", "path": "/name", "value": "name2"}
+        ]
+        """));
+
+    assertThat("Unexpected DTO.", patchedDto, sameInstance(dto));
+    assertThat("Unexpected name.", patchedDto.getName(), is("name2"));
+  }
+
+  @Test
+  void shouldApplyUnsupportedOperationsAsTree() throws Exception {
+    CurriculumPatchDto dto = createDto();
+
+    CurriculumPatchDto patchedDto = applier.apply(dto, toPatch("""
+        [
+          {"op": "copy", "from": "/name", "path": "/curriculumSubType"}
+        ]
+        """));
+
+    assertThat("Unexpected DTO.", patchedDto, not(sameInstance(dto)));
+    assertThat("Unexpected name.", patchedDto.getName(), is("name1"));
+    assertThat("Unexpected sub type.", patchedDto.getCurriculumSubType(), is("name1"));
+    assertThat("Unexpected original sub type.", dto.getCurriculumSubType(), is("MEDICAL_SPR"));
+  }
+
+  @Test
+  void shouldThrowExceptionWhenReplacingUnknownProperty() throws Exception {
+    CurriculumPatchDto dto = createDto();
+    JsonPatch patch = toPatch("""
+        [
+          {"op": "replace", "path": "/intrepidId", "value": "x"}
+        ]
+        """);
+
+    assertThrows(JsonPatchException.class, () -> applier.apply(dto, patch));
+  }
+
+  @Test
+  void shouldNotModifyDtoWhenValueCannotBeConverted() throws Exception {
+    CurriculumPatchDto dto = createDto();
+    JsonPatch patch = toPatch("""
+        [
+          {"op": "replace", "path": "/name", "value": "name2"},
+          {"op": "replace", "path": "/status", "value": "UNKNOWN"}
+        ]
+        """);
+
+    assertThrows(JsonProcessingException.class, () -> applier.apply(dto, patch));
+    assertThat("Unexpected name.", dto.getName(), is("name1"));
+  }
+
+  @Test
+  void shouldResetPrimitivePropertiesWhenRemoved() throws Exception {
+    DbcPatchDto dto = new DbcPatchDto();
+    dto.setInternal(true);
+    JsonPatchApplier<DbcPatchDto> dbcApplier = new JsonPatchApplier<>(DbcPatchDto.class, MAPPER);
+
+    DbcPatchDto patchedDto = dbcApplier.apply(dto, toPatch("""
+        [
+          {"op": "remove", "path": "/internal"}
+        ]
+        """));
+
+    assertThat("Unexpected internal flag.", patchedDto.isInternal(), is(false));
+  }
+
+  @Test
+  void shouldMatchTreePatchResult() throws Exception {
+    JsonPatch patch = toPatch("""
+        [
+          {"op": "replace", "path": "/name", "value": "name2"},
+          {"op": "replace", "path": "/status", "value": null},
+          {"op": "add", "path": "/intrepidId", "value": "x"}
+        ]
+        """);
+
+    CurriculumPatchDto patchedDto = applier.apply(createDto(), patch);
+    CurriculumPatchDto treePatchedDto = applier.applyToTree(createDto(), patch);
+
+    assertThat("Unexpected patched DTO.", patchedDto, is(treePatchedDto));
+  }
+
+  @Test
+  void shouldPatchEventOperationsWithoutTestOperations() throws Exception {
+    CdcEvent event = MAPPER.readValue("""
+        {
+          "patch": [
+            {"op": "test", "path": "/name", "value": "unexpected"},
+            {"op": "replace", "path": "/name", "value": "name2"},
+            {"op": "remove", "path": "/curriculumSubType"}
+          ],
+          "keys": {"id": "10"}
+        }
+        """, CdcEvent.class);
+    CurriculumPatchDto dto = createDto();
+
+    CurriculumPatchDto patchedDto = applier.apply(dto, event);
+
+    assertThat("Unexpected DTO.", patchedDto, sameInstance(dto));
+    assertThat("Unexpected name.", patchedDto.getName(), is("name2"));
+    assertThat("Unexpected sub type.", patchedDto.getCurriculumSubType(), nullValue());
+  }
+
+  private CurriculumPatchDto createDto() {
+    CurriculumPatchDto dto = new CurriculumPatchDto();
+    dto.setEntityId("1");
+    dto.setId("10");
+    dto.setName("name1");
+    dto.setCurriculumSubType("MEDICAL_SPR");
+    dto.setStatus(Status.CURRENT);
+    return dto;
+  }
+
+  private JsonPatch toPatch(String patch) throws IOException {
+    return JsonPatch.fromJson(MAPPER.readTree(patch));
+  }
+}
@@ -21,27 +21,31 @@
 
 package uk.nhs.hee.tis.trainee.reference.service;
 
-import static org.hamcrest.CoreMatchers.hasItem;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.Matchers.hasSize;
-import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.AdditionalAnswers.returnsLastArg;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static uk.nhs.hee.tis.trainee.reference.dto.TraineeType.FOUNDATION;
+import static uk.nhs.hee.tis.trainee.reference.dto.TraineeType.SPECIALTY;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.fge.jsonpatch.JsonPatch;
+import com.github.fge.jsonpatch.JsonPatchException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
-import org.apache.commons.lang3.NotImplementedException;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -50,9 +54,12 @@ import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.EnumSource.Mode;
 import org.junit.jupiter.params.provider.NullSource;
 import org.mapstruct.factory.Mappers;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Sort;
+import uk.nhs.hee.tis.trainee.reference.dto.CdcEvent;
+import uk.nhs.hee.tis.trainee.reference.dto.LocalOfficeContactDetailsDto;
 import uk.nhs.hee.tis.trainee.reference.dto.TraineeType;
 import uk.nhs.hee.tis.trainee.reference.facade.LocalOfficeContactEnricherFacade;
 import uk.nhs.hee.tis.trainee.reference.mapper.LocalOfficeContactMapper;
@@ -60,6 +67,8 @@ import uk.nhs.hee.tis.trainee.reference.model.LocalOffice;
 import uk.nhs.hee.tis.trainee.reference.model.LocalOfficeContact;
 import uk.nhs.hee.tis.trainee.reference.model.LocalOfficeContactType;
 import uk.nhs.hee.tis.trainee.reference.repository.LocalOfficeContactRepository;
+import uk.nhs.hee.tis.trainee.reference.repository.ReferenceWrite;
+import uk.nhs.hee.tis.trainee.reference.service.ReferenceChangeLog.ChangeSet;
 
 @ExtendWith(MockitoExtension.class)
 class LocalOfficeContactServiceTest {
@@ -97,6 +106,12 @@ class LocalOfficeContactServiceTest {
   @Mock
   private LocalOfficeContactRepository repository;
 
+  @Mock
+  private ReferenceChangeLog changeLog;
+
+  @Mock
+  private ExcludedReferenceStore excludedReferences;
+
   @Mock
   private LocalOfficeContactEnricherFacade facade;
 
@@ -112,6 +127,8 @@ class LocalOfficeContactServiceTest {
   void initData() {
     service = new LocalOfficeContactService(repository,
         Mappers.getMapper(LocalOfficeContactMapper.class), facade, new ObjectMapper());
+    service.setChangeLog(changeLog);
+    service.setExcludedReferences(excludedReferences);
 
     localOfficeContact1 = new LocalOfficeContact();
     localOfficeContact1.setTisId(DEFAULT_TIS_ID_1);
@@ -121,6 +138,7 @@ class LocalOfficeContactServiceTest {
     localOfficeContact1.setLocalOfficeName(DEFAULT_LOCAL_OFFICE_1);
     localOfficeContact1.setContactTypeName(DEFAULT_CONTACT_TYPE_1);
     localOfficeContact1.setLabel(DEFAULT_LABEL_1);
+    localOfficeContact1.setTraineeType(SPECIALTY);
 
     localOfficeContact2 = new LocalOfficeContact();
     localOfficeContact2.setTisId(DEFAULT_TIS_ID_2);
@@ -130,6 +148,7 @@ class LocalOfficeContactServiceTest {
     localOfficeContact2.setLocalOfficeName(DEFAULT_LOCAL_OFFICE_2);
     localOfficeContact2.setContactTypeName(DEFAULT_CONTACT_TYPE_2);
     localOfficeContact2.setLabel(DEFAULT_LABEL_2);
+    localOfficeContact2.setTraineeType(SPECIALTY);
 
     localOfficeFoundationContact1 = new LocalOfficeContact();
     localOfficeFoundationContact1.setTisId(DEFAULT_FOUNDATION_TIS_ID_1);
@@ -139,6 +158,7 @@ class LocalOfficeContactServiceTest {
     localOfficeFoundationContact1.setLocalOfficeName(DEFAULT_LOCAL_OFFICE_1);
     localOfficeFoundationContact1.setContactTypeName(DEFAULT_FOUNDATION_CONTACT_TYPE_1);
     localOfficeFoundationContact1.setLabel(DEFAULT_LABEL_1);
+    localOfficeFoundationContact1.setTraineeType(FOUNDATION);
 
     localOfficeFoundationContact2 = new LocalOfficeContact();
     localOfficeFoundationContact2.setTisId(DEFAULT_FOUNDATION_TIS_ID_2);
@@ -148,6 +168,7 @@ class LocalOfficeContactServiceTest {
     localOfficeFoundationContact2.setLocalOfficeName(DEFAULT_LOCAL_OFFICE_2);
     localOfficeFoundationContact2.setContactTypeName(DEFAULT_FOUNDATION_CONTACT_TYPE_2);
     localOfficeFoundationContact2.setLabel(DEFAULT_LABEL_2);
+    localOfficeFoundationContact2.setTraineeType(FOUNDATION);
   }
 
   @Test
@@ -158,7 +179,7 @@ class LocalOfficeContactServiceTest {
         localOfficeFoundationContact1,
         localOfficeFoundationContact2
     );
-    when(repository.findAll(Sort.by("label"))).thenReturn(localOfficeContacts);
+    when(repository.findAllFromPrimary(Sort.by("label"))).thenReturn(localOfficeContacts);
 
     List<LocalOfficeContact> allLocalOfficeContacts = service.get();
 
@@ -180,7 +201,7 @@ class LocalOfficeContactServiceTest {
         localOfficeFoundationContact1,
         localOfficeFoundationContact2
     );
-    when(repository.findAll(Sort.by("label"))).thenReturn(localOfficeContacts);
+    when(repository.findAllFromPrimary(Sort.by("label"))).thenReturn(localOfficeContacts);
 
     List<LocalOfficeContact> allLocalOfficeContacts = service.get(traineeType);
 
@@ -191,6 +212,42 @@ class LocalOfficeContactServiceTest {
         hasItems(localOfficeContact1, localOfficeContact2));
   }
 
+  @Test
+  void streamLocalOfficeContactShouldStreamSpecialtyLocalOfficeContacts() {
+    when(repository.streamByTraineeType(SPECIALTY, Sort.by("label"))).thenReturn(
+        Stream.of(localOfficeContact1, localOfficeContact2));
+
+    List<LocalOfficeContact> streamedContacts = service.stream().toList();
+
+    assertThat("Unexpected streamed local office contacts.", streamedContacts,
+        is(List.of(localOfficeContact1, localOfficeContact2)));
+  }
+
+  @ParameterizedTest
+  @NullSource
+  @EnumSource(value = TraineeType.class, mode = Mode.EXCLUDE, names = "FOUNDATION")
+  void streamLocalOfficeContactShouldStreamSpecialtyLocalOfficeContactsForNonFoundation(
+      TraineeType traineeType) {
+    when(repository.streamByTraineeType(SPECIALTY, Sort.by("label"))).thenReturn(
+        Stream.of(localOfficeContact1, localOfficeContact2));
+
+    List<LocalOfficeContact> streamedContacts = service.stream(traineeType).toList();
+
+    assertThat("Unexpected streamed local office contacts.", streamedContacts,
+        is(List.of(localOfficeContact1, localOfficeContact2)));
+  }
+
+  @Test
+  void streamLocalOfficeContactShouldStreamFoundationLocalOfficeContactsForFoundation() {
+    when(repository.streamByTraineeType(FOUNDATION, Sort.by("label"))).thenReturn(
+        Stream.of(localOfficeFoundationContact1, localOfficeFoundationContact2));
+
+    List<LocalOfficeContact> streamedContacts = service.stream(FOUNDATION).toList();
+
+    assertThat("Unexpected streamed local office contacts.", streamedContacts,
+        is(List.of(localOfficeFoundationContact1, localOfficeFoundationContact2)));
+  }
+
   @Test
   void getAllLocalOfficeContactShouldReturnFoundationLocalOfficeContactsForFoundation() {
     List<LocalOfficeContact> localOfficeContacts = List.of(
@@ -199,7 +256,7 @@ class LocalOfficeContactServiceTest {
         localOfficeFoundationContact1,
         localOfficeFoundationContact2
     );
-    when(repository.findAll(Sort.by("label"))).thenReturn(localOfficeContacts);
+    when(repository.findAllFromPrimary(Sort.by("label"))).thenReturn(localOfficeContacts);
 
     List<LocalOfficeContact> allLocalOfficeContacts = service.get(FOUNDATION);
 
@@ -210,35 +267,61 @@ class LocalOfficeContactServiceTest {
         hasItems(localOfficeFoundationContact1, localOfficeFoundationContact2));
   }
 
+  @ParameterizedTest
+  @NullSource
+  @EnumSource(value = TraineeType.class, mode = Mode.EXCLUDE, names = "FOUNDATION")
+  void streamDetailsShouldStreamSpecialtyDetailsForNonFoundation(TraineeType traineeType) {
+    LocalOfficeContactDetailsDto details = new LocalOfficeContactDetailsDto();
+    details.setTisId(DEFAULT_TIS_ID_1);
+    when(repository.streamDetailsByTraineeType(SPECIALTY, Sort.by("label"))).thenReturn(
+        Stream.of(details));
+
+    List<LocalOfficeContactDetailsDto> streamedDetails = service.streamDetails(traineeType)
+        .toList();
+
+    assertThat("Unexpected streamed details.", streamedDetails, is(List.of(details)));
+  }
+
+  @Test
+  void streamDetailsShouldStreamFoundationDetailsForFoundation() {
+    LocalOfficeContactDetailsDto details = new LocalOfficeContactDetailsDto();
+    details.setTisId(DEFAULT_TIS_ID_1);
+    when(repository.streamDetailsByTraineeType(FOUNDATION, Sort.by("label"))).thenReturn(
+        Stream.of(details));
+
+    List<LocalOfficeContactDetailsDto> streamedDetails = service.streamDetails(FOUNDATION)
+        .toList();
+
+    assertThat("Unexpected streamed details.", streamedDetails, is(List.of(details)));
+  }
+
   @ParameterizedTest
   @NullSource
   @EnumSource(value = TraineeType.class, mode = Mode.EXCLUDE, names = "FOUNDATION")
   void getLocalOfficeContactByUuidShouldReturnCorrectLocalOfficeContactsForNonFoundation(
       TraineeType traineeType) {
-    when(repository.findByLocalOfficeId(DEFAULT_LOCAL_OFFICE_ID_1))
-        .thenReturn(List.of(localOfficeContact1, localOfficeFoundationContact1));
+    LocalOfficeContactDetailsDto details = new LocalOfficeContactDetailsDto();
+    details.setTisId(DEFAULT_TIS_ID_1);
+    when(repository.findDetailsByLocalOfficeIdAndTraineeType(DEFAULT_LOCAL_OFFICE_ID_1,
+        SPECIALTY)).thenReturn(List.of(details));
 
-    List<LocalOfficeContact> foundLocalOfficeContacts
+    List<LocalOfficeContactDetailsDto> foundDetails
         = service.getByLocalOfficeUuid(DEFAULT_LOCAL_OFFICE_ID_1, traineeType);
 
-    assertThat("Unexpected size of returned LocalOfficeContact list", foundLocalOfficeContacts,
-        hasSize(1));
-    assertThat("The returned local office contact list doesn't contain the expected "
-        + "local office contact", foundLocalOfficeContacts, hasItem(localOfficeContact1));
+    assertThat("Unexpected local office contact details.", foundDetails, is(List.of(details)));
   }
 
   @Test
   void getLocalOfficeContactByUuidShouldReturnCorrectLocalOfficeContactsForFoundation() {
-    when(repository.findByLocalOfficeId(DEFAULT_LOCAL_OFFICE_ID_1))
-        .thenReturn(List.of(localOfficeContact1, localOfficeFoundationContact1));
+    LocalOfficeContactDetailsDto details = new LocalOfficeContactDetailsDto();
+    details.setTisId(DEFAULT_TIS_ID_1);
+    when(repository.findDetailsByLocalOfficeIdAndTraineeType(DEFAULT_LOCAL_OFFICE_ID_1,
+        FOUNDATION)).thenReturn(List.of(details));
 
-    List<LocalOfficeContact> foundLocalOfficeContacts
+    List<LocalOfficeContactDetailsDto> foundDetails
         = service.getByLocalOfficeUuid(DEFAULT_LOCAL_OFFICE_ID_1, FOUNDATION);
 
-    assertThat("Unexpected size of returned LocalOfficeContact list", foundLocalOfficeContacts,
-        hasSize(1));
-    assertThat("The returned local office contact list doesn't contain the expected "
-        + "local office contact", foundLocalOfficeContacts, hasItem(localOfficeFoundationContact1));
+    assertThat("Unexpected local office contact details.", foundDetails, is(List.of(details)));
   }
 
   @ParameterizedTest
@@ -246,36 +329,34 @@ class LocalOfficeContactServiceTest {
   @EnumSource(value = TraineeType.class, mode = Mode.EXCLUDE, names = "FOUNDATION")
   void getLocalOfficeContactByNameShouldReturnCorrectLocalOfficeContactsForNonFoundation(
       TraineeType traineeType) {
-    when(repository.findByLocalOfficeName(DEFAULT_LOCAL_OFFICE_1))
-        .thenReturn(List.of(localOfficeContact1, localOfficeFoundationContact1));
+    LocalOfficeContactDetailsDto details = new LocalOfficeContactDetailsDto();
+    details.setTisId(DEFAULT_TIS_ID_1);
+    when(repository.findDetailsByLocalOfficeNameAndTraineeType(DEFAULT_LOCAL_OFFICE_1,
+        SPECIALTY)).thenReturn(List.of(details));
 
-    List<LocalOfficeContact> foundLocalOfficeContacts
+    List<LocalOfficeContactDetailsDto> foundDetails
         = service.getByLocalOfficeName(DEFAULT_LOCAL_OFFICE_1, traineeType);
 
-    assertThat("Unexpected size of returned LocalOfficeContact list", foundLocalOfficeContacts,
-        hasSize(1));
-    assertThat("The returned local office contact list doesn't contain the expected "
-        + "local office contact", foundLocalOfficeContacts, hasItem(localOfficeContact1));
+    assertThat("Unexpected local office contact details.", foundDetails, is(List.of(details)));
   }
 
   @Test
   void getLocalOfficeContactByNameShouldReturnCorrectLocalOfficeContactsForFoundation() {
-    when(repository.findByLocalOfficeName(DEFAULT_LOCAL_OFFICE_1))
-        .thenReturn(List.of(localOfficeContact1, localOfficeFoundationContact1));
+    LocalOfficeContactDetailsDto details = new LocalOfficeContactDetailsDto();
+    details.setTisId(DEFAULT_TIS_ID_1);
+    when(repository.findDetailsByLocalOfficeNameAndTraineeType(DEFAULT_LOCAL_OFFICE_1,
+        FOUNDATION)).thenReturn(List.of(details));
 
-    List<LocalOfficeContact> foundLocalOfficeContacts
+    List<LocalOfficeContactDetailsDto> foundDetails
         = service.getByLocalOfficeName(DEFAULT_LOCAL_OFFICE_1, FOUNDATION);
 
-    assertThat("Unexpected size of returned LocalOfficeContact list", foundLocalOfficeContacts,
-        hasSize(1));
-    assertThat("The returned local office contact list doesn't contain the expected "
-        + "local office contact", foundLocalOfficeContacts, hasItem(localOfficeFoundationContact1));
+    assertThat("Unexpected local office contact details.", foundDetails, is(List.of(details)));
   }
 
   @Test
-  void createLocalOfficeContactShouldCreateLocalOfficeContactWhenNewTisId() {
-    when(repository.findByTisId(DEFAULT_TIS_ID_2)).thenReturn(null);
-    when(repository.insert(any(LocalOfficeContact.class))).thenAnswer(returnsFirstArg());
+  void createLocalOfficeContactShouldUpsertLocalOfficeContactByTisId() {
+    when(repository.upsertByTisId(DEFAULT_TIS_ID_2, localOfficeContact2))
+        .thenAnswer(returnsLastArg());
     when(facade.enrich(localOfficeContact2)).thenReturn(localOfficeContact2);
 
     LocalOfficeContact localOfficeContact = service.create(localOfficeContact2);
@@ -298,34 +379,9 @@ class LocalOfficeContactServiceTest {
   }
 
   @Test
-  void createLocalOfficeContactShouldUpdateLocalOfficeContactWhenExistingTisId() {
-    when(repository.findByTisId(DEFAULT_TIS_ID_2)).thenReturn(localOfficeContact1);
-    when(repository.save(any())).thenAnswer(returnsFirstArg());
-    when(facade.enrich(localOfficeContact2)).thenReturn(localOfficeContact2);
-
-    LocalOfficeContact localOfficeContact = service.create(localOfficeContact2);
-
-    verify(facade, atLeastOnce()).enrich(localOfficeContact2);
-
-    assertThat("Unexpected TIS id.", localOfficeContact.getTisId(), is(DEFAULT_TIS_ID_1));
-    assertThat("Unexpected local office id.", localOfficeContact.getLocalOfficeId(),
-        is(DEFAULT_LOCAL_OFFICE_ID_2));
-    assertThat("Unexpected contact type id.", localOfficeContact.getContactTypeId(),
-        is(DEFAULT_CONTACT_TYPE_ID_2));
-    assertThat("Unexpected contact.", localOfficeContact.getContact(),
-        is(DEFAULT_CONTACT_2));
-    assertThat("Unexpected local office name.", localOfficeContact.getLocalOfficeName(),
-        is(DEFAULT_LOCAL_OFFICE_2));
-    assertThat("Unexpected contact type name.", localOfficeContact.getContactTypeName(),
-        is(DEFAULT_CONTACT_TYPE_2));
-    assertThat("Unexpected label.", localOfficeContact.getLabel(),
-        is(DEFAULT_LABEL_2));
-  }
-
-  @Test
-  void updateLocalOfficeContactShouldCreateLocalOfficeContactWhenNewTisId() {
-    when(repository.findByTisId(DEFAULT_TIS_ID_2)).thenReturn(null);
-    when(repository.insert(any(LocalOfficeContact.class))).thenAnswer(returnsFirstArg());
+  void updateLocalOfficeContactShouldUpsertLocalOfficeContactByTisId() {
+    when(repository.upsertByTisId(DEFAULT_TIS_ID_2, localOfficeContact2))
+        .thenAnswer(returnsLastArg());
     when(facade.enrich(localOfficeContact2)).thenReturn(localOfficeContact2);
 
     LocalOfficeContact localOfficeContact = service.update(localOfficeContact2);
@@ -347,31 +403,6 @@ class LocalOfficeContactServiceTest {
         is(DEFAULT_LABEL_2));
   }
 
-  @Test
-  void updateLocalOfficeContactShouldUpdateLocalOfficeContactWhenExistingTisId() {
-    when(repository.findByTisId(DEFAULT_TIS_ID_2)).thenReturn(localOfficeContact1);
-    when(repository.save(any())).thenAnswer(returnsFirstArg());
-    when(facade.enrich(localOfficeContact2)).thenReturn(localOfficeContact2);
-
-    LocalOfficeContact localOfficeContact = service.update(localOfficeContact2);
-
-    verify(facade).enrich(localOfficeContact2);
-
-    assertThat("Unexpected TIS id.", localOfficeContact.getTisId(), is(DEFAULT_TIS_ID_1));
-    assertThat("Unexpected local office id.", localOfficeContact.getLocalOfficeId(),
-        is(DEFAULT_LOCAL_OFFICE_ID_2));
-    assertThat("Unexpected contact type id.", localOfficeContact.getContactTypeId(),
-        is(DEFAULT_CONTACT_TYPE_ID_2));
-    assertThat("Unexpected contact.", localOfficeContact.getContact(),
-        is(DEFAULT_CONTACT_2));
-    assertThat("Unexpected local office name.", localOfficeContact.getLocalOfficeName(),
-        is(DEFAULT_LOCAL_OFFICE_2));
-    assertThat("Unexpected contact type name.", localOfficeContact.getContactTypeName(),
-        is(DEFAULT_CONTACT_TYPE_2));
-    assertThat("Unexpected label.", localOfficeContact.getLabel(),
-        is(DEFAULT_LABEL_2));
-  }
-
   @Test
   void shouldDeleteLocalOfficeContactByTisId() {
     service.deleteByTisId(DEFAULT_TIS_ID_1);
@@ -381,90 +412,203 @@ class LocalOfficeContactServiceTest {
 
   @Test
   void updateAllForLocalOfficeShouldUpdateAllRelevantContacts() {
-    List<LocalOfficeContact> localOfficeContacts = new ArrayList<>();
-    localOfficeContacts.add(localOfficeContact1);
-    localOfficeContact2.setLocalOfficeId(DEFAULT_LOCAL_OFFICE_ID_1);
-    localOfficeContacts.add(localOfficeContact2);
+    LocalOffice localOffice = new LocalOffice();
+    localOffice.setUuid(DEFAULT_LOCAL_OFFICE_ID_1);
+    localOffice.setLabel("some local office");
+
+    when(repository.updateLocalOfficeNameByLocalOfficeId(DEFAULT_LOCAL_OFFICE_ID_1,
+        "some local office")).thenReturn(2L);
+    when(repository.findTisIdsByLocalOfficeId(DEFAULT_LOCAL_OFFICE_ID_1)).thenReturn(
+        List.of(localOfficeContact1, localOfficeFoundationContact1));
+
+    long updated = service.updateAllForLocalOffice(localOffice);
+
+    assertThat("Unexpected updated count.", updated, is(2L));
+    verify(repository, never()).findByLocalOfficeId(any());
+    verify(repository, never()).save(any());
+    verify(changeLog).record("LocalOfficeContact",
+        List.of(DEFAULT_TIS_ID_1, DEFAULT_FOUNDATION_TIS_ID_1));
+  }
+
+  @Test
+  void updateAllForLocalOfficeShouldRecordUpdatedContactCount() {
+    MeterRegistry registry = new SimpleMeterRegistry();
+    service.setMeterRegistry(registry);
 
     LocalOffice localOffice = new LocalOffice();
     localOffice.setUuid(DEFAULT_LOCAL_OFFICE_ID_1);
     localOffice.setLabel("some local office");
 
-    when(repository.save(any())).thenAnswer(returnsFirstArg());
-    when(repository.findByLocalOfficeId(DEFAULT_LOCAL_OFFICE_ID_1)).thenReturn(localOfficeContacts);
-    when(repository.findByTisId(DEFAULT_TIS_ID_1)).thenReturn(localOfficeContact1);
-    when(repository.findByTisId(DEFAULT_TIS_ID_2)).thenReturn(localOfficeContact2);
-    when(facade.enrichWithLocalOffice(any(), any())).thenAnswer(returnsFirstArg());
+    when(repository.updateLocalOfficeNameByLocalOfficeId(DEFAULT_LOCAL_OFFICE_ID_1,
+        "some local office")).thenReturn(2L);
+    when(repository.findTisIdsByLocalOfficeId(DEFAULT_LOCAL_OFFICE_ID_1)).thenReturn(
+        List.of(localOfficeContact1, localOfficeFoundationContact1));
 
     service.updateAllForLocalOffice(localOffice);
 
-    verify(repository).save(localOfficeContact1);
-    verify(repository).save(localOfficeContact2);
+    DistributionSummary documents = registry.get(AbstractReferenceService.DOCUMENTS_SUMMARY)
+        .tag("type", "LocalOfficeContact")
+        .tag("operation", "update-for-local-office")
+        .summary();
+    assertThat("Unexpected update count.", documents.count(), is(1L));
+    assertThat("Unexpected document count.", documents.totalAmount(), is(2.0));
   }
 
   @Test
   void updateAllForLocalOfficeShouldUpdateNothingIfLocalOfficeEmpty() {
 
-    service.updateAllForLocalOffice(new LocalOffice());
+    long updated = service.updateAllForLocalOffice(new LocalOffice());
 
-    verify(repository, never()).save(any());
+    assertThat("Unexpected updated count.", updated, is(0L));
+    verifyNoInteractions(repository);
   }
 
   @Test
   void updateAllForContactTypeShouldUpdateAllRelevantContacts() {
-    List<LocalOfficeContact> localOfficeContacts = new ArrayList<>();
-    localOfficeContacts.add(localOfficeContact1);
-    localOfficeContact2.setContactTypeId(DEFAULT_CONTACT_TYPE_ID_1);
-    localOfficeContacts.add(localOfficeContact2);
-
     LocalOfficeContactType contactType = new LocalOfficeContactType();
     contactType.setTisId(DEFAULT_CONTACT_TYPE_ID_1);
     contactType.setLabel("some label");
 
-    when(repository.save(any())).thenAnswer(returnsFirstArg());
-    when(repository.findByContactTypeId(DEFAULT_CONTACT_TYPE_ID_1)).thenReturn(localOfficeContacts);
-    when(repository.findByTisId(DEFAULT_TIS_ID_1)).thenReturn(localOfficeContact1);
-    when(repository.findByTisId(DEFAULT_TIS_ID_2)).thenReturn(localOfficeContact2);
-    when(facade.enrichWithContactType(any(), any())).thenAnswer(returnsFirstArg());
+    when(repository.updateContactTypeNameByContactTypeId(DEFAULT_CONTACT_TYPE_ID_1,
+        "some label")).thenReturn(2L);
+    when(repository.findTisIdsByContactTypeId(DEFAULT_CONTACT_TYPE_ID_1)).thenReturn(
+        List.of(localOfficeContact1));
+
+    long updated = service.updateAllForContactType(contactType);
+
+    assertThat("Unexpected updated count.", updated, is(2L));
+    verify(repository, never()).findByContactTypeId(any());
+    verify(repository, never()).save(any());
+    verify(changeLog).record("LocalOfficeContact", List.of(DEFAULT_TIS_ID_1));
+  }
+
+  @Test
+  void getChangesShouldReturnSpecialtyContactsAndTreatOthersAsDeleted() {
+    when(changeLog.getChanges("LocalOfficeContact", 5L)).thenReturn(new ChangeSet(
+        List.of(DEFAULT_TIS_ID_1, DEFAULT_FOUNDATION_TIS_ID_1, DEFAULT_TIS_ID_2), 8L));
+    when(repository.findByTisIdInFromPrimary(
+        List.of(DEFAULT_TIS_ID_1, DEFAULT_FOUNDATION_TIS_ID_1, DEFAULT_TIS_ID_2))).thenReturn(
+        List.of(localOfficeContact1, localOfficeFoundationContact1));
+
+    ReferenceChanges<LocalOfficeContact> changes = service.getChanges(5L);
+
+    assertThat("Unexpected changed contacts.", changes.changed(), is(List.of(localOfficeContact1)));
+    assertThat("Unexpected deleted contacts.", changes.deleted(),
+        is(List.of(DEFAULT_TIS_ID_2, DEFAULT_FOUNDATION_TIS_ID_1)));
+    assertThat("Unexpected token.", changes.token(), is(8L));
+  }
 
-    service.updateAllForContactType(contactType);
+  @Test
+  void getChangesShouldReturnFoundationContactsAndTreatOthersAsDeletedForFoundation() {
+    when(changeLog.getChanges("LocalOfficeContact", 5L)).thenReturn(new ChangeSet(
+        List.of(DEFAULT_TIS_ID_1, DEFAULT_FOUNDATION_TIS_ID_1), 8L));
+    when(repository.findByTisIdInFromPrimary(List.of(DEFAULT_TIS_ID_1,
+        DEFAULT_FOUNDATION_TIS_ID_1)))
+        .thenReturn(List.of(localOfficeContact1, localOfficeFoundationContact1));
 
-    verify(repository).save(localOfficeContact1);
-    verify(repository).save(localOfficeContact2);
+    ReferenceChanges<LocalOfficeContact> changes = service.getChanges(5L, FOUNDATION);
+
+    assertThat("Unexpected changed contacts.", changes.changed(),
+        is(List.of(localOfficeFoundationContact1)));
+    assertThat("Unexpected deleted contacts.", changes.deleted(), is(List.of(DEFAULT_TIS_ID_1)));
   }
 
   @Test
   void updateAllForContactTypeShouldUpdateNothingIfContactTypeEmpty() {
 
-    service.updateAllForContactType(new LocalOfficeContactType());
+    long updated = service.updateAllForContactType(new LocalOfficeContactType());
 
-    verify(repository, never()).save(any());
+    assertThat("Unexpected updated count.", updated, is(0L));
+    verifyNoInteractions(repository);
   }
 
   @Test
-  void shouldThrowExceptionCreatingLocalOfficeContactWithPatch() throws IOException {
+  void shouldCreateLocalOfficeContactWithPatch() throws JsonPatchException, IOException {
     String patch = """
-        [{"op":"add","path":"","value":{"id":"%s","name":"New"}}]
+        [{"op":"add","path":"","value":{"id":"%s","contact":"New LocalOfficeContact"}}]
         """.formatted(DEFAULT_TIS_ID_1);
     JsonPatch jsonPatch = JsonPatch.fromJson(new ObjectMapper().readTree(patch));
 
-    assertThrows(NotImplementedException.class,
-        () -> service.create(new LocalOfficeContact(), jsonPatch));
+    when(repository.upsertByTisId(any(), any(LocalOfficeContact.class))).thenAnswer(
+        inv -> inv.getArgument(1));
 
-    verify(repository, never()).insert(any(LocalOfficeContact.class));
+    LocalOfficeContact result = service.create(new LocalOfficeContact(), jsonPatch);
+
+    assertThat("Unexpected TIS ID.", result.getTisId(), is(DEFAULT_TIS_ID_1));
+    assertThat("Unexpected contact.", result.getContact(), is("New LocalOfficeContact"));
   }
 
   @Test
-  void shouldThrowExceptionUpdatingLocalOfficeContactWithPatch() throws IOException {
+  void shouldUpdateLocalOfficeContactWithPatch() throws JsonPatchException, IOException {
     String patch = """
-        [{"op":"replace","path":"","value":{"id":"%s","name":"Updated"}}]
+        [{"op":"replace","path":"","value":{"id":"%s","contact":"Updated LocalOfficeContact"}}]
         """.formatted(DEFAULT_TIS_ID_1);
     JsonPatch jsonPatch = JsonPatch.fromJson(new ObjectMapper().readTree(patch));
 
     when(repository.findByTisId(DEFAULT_TIS_ID_1)).thenReturn(localOfficeContact1);
+    when(repository.save(any(LocalOfficeContact.class))).thenAnswer(inv -> inv.getArgument(0));
 
-    assertThrows(NotImplementedException.class, () -> service.update(DEFAULT_TIS_ID_1, jsonPatch));
+    LocalOfficeContact result = service.update(DEFAULT_TIS_ID_1, jsonPatch);
 
-    verify(repository, never()).save(any());
+    assertThat("Unexpected TIS ID.", result.getTisId(), is(DEFAULT_TIS_ID_1));
+    assertThat("Unexpected contact.", result.getContact(), is("Updated LocalOfficeContact"));
+  }
+
+  @Test
+  void shouldEnrichContactsWhenApplyingEvents() throws IOException {
+    List<CdcEvent> events = List.of(toEvent(DEFAULT_TIS_ID_1, """
+        [{"op":"replace","path":"/contact","value":"updated@example.com"}]
+        """));
+
+    when(repository.findByTisIdIn(any())).thenReturn(List.of(localOfficeContact1));
+    when(repository.bulkWriteByTisId(any())).thenReturn(Set.of());
+    when(facade.enrich(any())).thenAnswer(inv -> {
+      LocalOfficeContact contact = inv.getArgument(0);
+      contact.setLabel("Enriched Label");
+      return contact;
+    });
+
+    service.applyEvents(events);
+
+    ArgumentCaptor<List<ReferenceWrite<LocalOfficeContact>>> captor = ArgumentCaptor.forClass(
+        List.class);
+    verify(repository).bulkWriteByTisId(captor.capture());
+
+    LocalOfficeContact contact = captor.getValue().get(0).entity();
+    assertThat("Unexpected TIS ID.", contact.getTisId(), is(DEFAULT_TIS_ID_1));
+    assertThat("Unexpected contact.", contact.getContact(), is("updated@example.com"));
+    assertThat("Unexpected local office ID.", contact.getLocalOfficeId(),
+        is(DEFAULT_LOCAL_OFFICE_ID_1));
+    assertThat("Unexpected label.", contact.getLabel(), is("Enriched Label"));
+  }
+
+  @Test
+  void shouldEnrichContactsWhenWritingAll() {
+    when(repository.bulkWriteByTisId(any())).thenReturn(Set.of());
+    when(facade.enrich(localOfficeContact1)).thenReturn(localOfficeFoundationContact1);
+
+    service.writeAll(List.of(ReferenceWrite.upsert(DEFAULT_TIS_ID_1, localOfficeContact1)));
+
+    ArgumentCaptor<List<ReferenceWrite<LocalOfficeContact>>> captor = ArgumentCaptor.forClass(
+        List.class);
+    verify(repository).bulkWriteByTisId(captor.capture());
+
+    LocalOfficeContact contact = captor.getValue().get(0).entity();
+    assertThat("Unexpected contact.", contact, is(localOfficeFoundationContact1));
+  }
+
+  /**
+   * Create a CDC event for the given TIS ID and patch.
+   *
+   * @param tisId The TIS ID of the event.
+   * @param patch The patch operations, as JSON.
+   * @return The created CDC event.
+   * @throws IOException If the patch could not be parsed.
+   */
+  private CdcEvent toEvent(String tisId, String patch) throws IOException {
+    String event = """
+        {"patch":%s,"keys":{"id":"%s"}}
+        """.formatted(patch, tisId);
+    return new ObjectMapper().readValue(event, CdcEvent.class);
   }
 }
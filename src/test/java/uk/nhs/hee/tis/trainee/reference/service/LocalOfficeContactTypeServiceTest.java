@@ -25,28 +25,30 @@ import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.hasItem;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
-import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.AdditionalAnswers.returnsLastArg;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeastOnce;
-import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.fge.jsonpatch.JsonPatch;
+import com.github.fge.jsonpatch.JsonPatchException;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
-import org.apache.commons.lang3.NotImplementedException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mapstruct.factory.Mappers;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Sort;
+import uk.nhs.hee.tis.trainee.reference.dto.CdcEvent;
+import uk.nhs.hee.tis.trainee.reference.facade.LocalOfficeContactEnricherFacade;
 import uk.nhs.hee.tis.trainee.reference.mapper.LocalOfficeContactTypeMapper;
 import uk.nhs.hee.tis.trainee.reference.model.LocalOfficeContactType;
 import uk.nhs.hee.tis.trainee.reference.repository.LocalOfficeContactTypeRepository;
@@ -69,9 +71,18 @@ class LocalOfficeContactTypeServiceTest {
   @Mock
   private LocalOfficeContactTypeRepository repository;
 
+  @Mock
+  private ReferenceChangeLog changeLog;
+
+  @Mock
+  private ExcludedReferenceStore excludedReferences;
+
   @Mock
   private LocalOfficeContactService contactService;
 
+  @Mock
+  private LocalOfficeContactEnricherFacade enricherFacade;
+
   private LocalOfficeContactType contactType1;
   private LocalOfficeContactType contactType2;
 
@@ -81,7 +92,10 @@ class LocalOfficeContactTypeServiceTest {
   @BeforeEach
   void initData() {
     service = new LocalOfficeContactTypeService(repository,
-        Mappers.getMapper(LocalOfficeContactTypeMapper.class), contactService, new ObjectMapper());
+        Mappers.getMapper(LocalOfficeContactTypeMapper.class), contactService, enricherFacade,
+        new ObjectMapper());
+    service.setChangeLog(changeLog);
+    service.setExcludedReferences(excludedReferences);
 
     contactType1 = new LocalOfficeContactType();
     contactType1.setTisId(DEFAULT_TIS_ID_1);
@@ -99,7 +113,7 @@ class LocalOfficeContactTypeServiceTest {
     List<LocalOfficeContactType> contactTypes = new ArrayList<>();
     contactTypes.add(contactType1);
     contactTypes.add(contactType2);
-    when(repository.findAll(Sort.by("label"))).thenReturn(contactTypes);
+    when(repository.findAllFromPrimary(Sort.by("label"))).thenReturn(contactTypes);
     List<LocalOfficeContactType> allContactTypes = service.get();
     assertThat("Unexpected size of returned LocalOfficeContactTypes list",
         allContactTypes.size(), equalTo(contactTypes.size()));
@@ -108,9 +122,8 @@ class LocalOfficeContactTypeServiceTest {
   }
 
   @Test
-  void createLocalOfficeContactTypesShouldCreateLocalOfficeContactTypeWhenNewTisId() {
-    when(repository.findByTisId(DEFAULT_TIS_ID_2)).thenReturn(null);
-    when(repository.insert(any(LocalOfficeContactType.class))).thenAnswer(returnsFirstArg());
+  void createLocalOfficeContactTypesShouldUpsertLocalOfficeContactTypeByTisId() {
+    when(repository.upsertByTisId(DEFAULT_TIS_ID_2, contactType2)).thenAnswer(returnsLastArg());
 
     LocalOfficeContactType contactType = service.create(contactType2);
 
@@ -122,23 +135,8 @@ class LocalOfficeContactTypeServiceTest {
   }
 
   @Test
-  void createLocalOfficeContactTypeShouldUpdateLocalOfficeContactTypeWhenExistingTisId() {
-    when(repository.findByTisId(DEFAULT_TIS_ID_2)).thenReturn(contactType1);
-    when(repository.save(any())).thenAnswer(returnsFirstArg());
-
-    LocalOfficeContactType contactType = service.create(contactType2);
-
-    verify(contactService, atLeastOnce()).updateAllForContactType(contactType1);
-
-    assertThat("Unexpected TIS id.", contactType.getTisId(), is(DEFAULT_TIS_ID_1));
-    assertThat("Unexpected label.", contactType.getLabel(), is(DEFAULT_LABEL_2));
-    assertThat("Unexpected code.", contactType.getCode(), is(DEFAULT_CODE_2));
-  }
-
-  @Test
-  void updateLocalOfficeContactTypeShouldCreateLocalOfficeContactTypeWhenNewTisId() {
-    when(repository.findByTisId(DEFAULT_TIS_ID_2)).thenReturn(null);
-    when(repository.insert(any(LocalOfficeContactType.class))).thenAnswer(returnsFirstArg());
+  void updateLocalOfficeContactTypeShouldUpsertLocalOfficeContactTypeByTisId() {
+    when(repository.upsertByTisId(DEFAULT_TIS_ID_2, contactType2)).thenAnswer(returnsLastArg());
 
     LocalOfficeContactType contactType = service.update(contactType2);
 
@@ -150,50 +148,83 @@ class LocalOfficeContactTypeServiceTest {
   }
 
   @Test
-  void updateLocalOfficeContactTypeShouldUpdateLocalOfficeContactTypeWhenExistingTisId() {
-    when(repository.findByTisId(DEFAULT_TIS_ID_2)).thenReturn(contactType1);
-    when(repository.save(any())).thenAnswer(returnsFirstArg());
-
-    LocalOfficeContactType contactType = service.update(contactType2);
-
-    verify(contactService).updateAllForContactType(contactType1);
+  void shouldDeleteLocalOfficeContactTypeByTisId() {
+    service.deleteByTisId(DEFAULT_TIS_ID_1);
 
-    assertThat("Unexpected TIS id.", contactType.getTisId(), is(DEFAULT_TIS_ID_1));
-    assertThat("Unexpected label.", contactType.getLabel(), is(DEFAULT_LABEL_2));
-    assertThat("Unexpected code.", contactType.getCode(), is(DEFAULT_CODE_2));
+    verify(repository).deleteByTisId(DEFAULT_TIS_ID_1);
   }
 
   @Test
-  void shouldDeleteLocalOfficeContactTypeByTisId() {
+  void shouldInvalidateEnrichmentIndexWhenDeleted() {
     service.deleteByTisId(DEFAULT_TIS_ID_1);
 
-    verify(repository).deleteByTisId(DEFAULT_TIS_ID_1);
+    verify(enricherFacade).invalidateContactTypes();
   }
 
   @Test
-  void shouldThrowExceptionCreatingLocalOfficeContactTypeWithPatch() throws IOException {
+  void shouldCreateLocalOfficeContactTypeWithPatch() throws JsonPatchException, IOException {
     String patch = """
-        [{"op":"add","path":"","value":{"id":"%s","name":"New"}}]
+        [{"op":"add","path":"","value":{"id":"%s","label":"New LocalOfficeContactType"}}]
         """.formatted(DEFAULT_TIS_ID_1);
     JsonPatch jsonPatch = JsonPatch.fromJson(new ObjectMapper().readTree(patch));
 
-    assertThrows(NotImplementedException.class,
-        () -> service.create(new LocalOfficeContactType(), jsonPatch));
+    when(repository.upsertByTisId(any(), any(LocalOfficeContactType.class))).thenAnswer(
+        inv -> inv.getArgument(1));
+
+    LocalOfficeContactType result = service.create(new LocalOfficeContactType(), jsonPatch);
 
-    verify(repository, never()).insert(any(LocalOfficeContactType.class));
+    assertThat("Unexpected TIS ID.", result.getTisId(), is(DEFAULT_TIS_ID_1));
+    assertThat("Unexpected label.", result.getLabel(), is("New LocalOfficeContactType"));
   }
 
   @Test
-  void shouldThrowExceptionUpdatingLocalOfficeContactTypeWithPatch() throws IOException {
+  void shouldUpdateLocalOfficeContactTypeWithPatch() throws JsonPatchException, IOException {
     String patch = """
-        [{"op":"replace","path":"","value":{"id":"%s","name":"Updated"}}]
+        [{"op":"replace","path":"","value":{"id":"%s","label":"Updated LocalOfficeContactType"}}]
         """.formatted(DEFAULT_TIS_ID_1);
     JsonPatch jsonPatch = JsonPatch.fromJson(new ObjectMapper().readTree(patch));
 
     when(repository.findByTisId(DEFAULT_TIS_ID_1)).thenReturn(contactType1);
+    when(repository.save(any(LocalOfficeContactType.class))).thenAnswer(inv -> inv.getArgument(0));
+
+    LocalOfficeContactType result = service.update(DEFAULT_TIS_ID_1, jsonPatch);
+
+    assertThat("Unexpected TIS ID.", result.getTisId(), is(DEFAULT_TIS_ID_1));
+    assertThat("Unexpected label.", result.getLabel(), is("Updated LocalOfficeContactType"));
+  }
+
+  @Test
+  void shouldUpdateContactsAfterApplyingEvents() throws IOException {
+    List<CdcEvent> events = List.of(toEvent(DEFAULT_TIS_ID_1, """
+        [{"op":"replace","path":"/label","value":"Updated Contact Type"}]
+        """));
+
+    when(repository.findByTisIdIn(any())).thenReturn(List.of(contactType1));
+    when(repository.bulkWriteByTisId(any())).thenReturn(Set.of());
+
+    service.applyEvents(events);
 
-    assertThrows(NotImplementedException.class, () -> service.update(DEFAULT_TIS_ID_1, jsonPatch));
+    ArgumentCaptor<LocalOfficeContactType> captor = ArgumentCaptor.forClass(
+        LocalOfficeContactType.class);
+    verify(contactService).updateAllForContactType(captor.capture());
 
-    verify(repository, never()).save(any());
+    LocalOfficeContactType contactType = captor.getValue();
+    assertThat("Unexpected TIS ID.", contactType.getTisId(), is(DEFAULT_TIS_ID_1));
+    assertThat("Unexpected label.", contactType.getLabel(), is("Updated Contact Type"));
+  }
+
+  /**
+   * Create a CDC event for the given TIS ID and patch.
+   *
+   * @param tisId The TIS ID of the event.
+   * @param patch The patch operations, as JSON.
+   * @return The created CDC event.
+   * @throws IOException If the patch could not be parsed.
+   */
+  private CdcEvent toEvent(String tisId, String patch) throws IOException {
+    String event = """
+        {"patch":%s,"keys":{"id":"%s"}}
+        """.formatted(patch, tisId);
+    return new ObjectMapper().readValue(event, CdcEvent.class);
   }
 }
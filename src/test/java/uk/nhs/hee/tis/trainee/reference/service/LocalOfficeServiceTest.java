@@ -25,31 +25,35 @@ import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.hasItem;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
-import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.AdditionalAnswers.returnsLastArg;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeastOnce;
-import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.fge.jsonpatch.JsonPatch;
+import com.github.fge.jsonpatch.JsonPatchException;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
-import org.apache.commons.lang3.NotImplementedException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mapstruct.factory.Mappers;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Sort;
+import uk.nhs.hee.tis.trainee.reference.dto.CdcEvent;
+import uk.nhs.hee.tis.trainee.reference.facade.LocalOfficeContactEnricherFacade;
 import uk.nhs.hee.tis.trainee.reference.mapper.LocalOfficeMapper;
 import uk.nhs.hee.tis.trainee.reference.model.LocalOffice;
 import uk.nhs.hee.tis.trainee.reference.repository.LocalOfficeRepository;
+import uk.nhs.hee.tis.trainee.reference.repository.ReferenceWrite;
 
 @ExtendWith(MockitoExtension.class)
 class LocalOfficeServiceTest {
@@ -72,9 +76,18 @@ class LocalOfficeServiceTest {
   @Mock
   private LocalOfficeRepository repository;
 
+  @Mock
+  private ReferenceChangeLog changeLog;
+
+  @Mock
+  private ExcludedReferenceStore excludedReferences;
+
   @Mock
   private LocalOfficeContactService contactService;
 
+  @Mock
+  private LocalOfficeContactEnricherFacade enricherFacade;
+
   private LocalOffice localOffice1;
   private LocalOffice localOffice2;
 
@@ -84,7 +97,9 @@ class LocalOfficeServiceTest {
   @BeforeEach
   void initData() {
     service = new LocalOfficeService(repository, Mappers.getMapper(LocalOfficeMapper.class),
-        contactService, new ObjectMapper());
+        contactService, enricherFacade, new ObjectMapper());
+    service.setChangeLog(changeLog);
+    service.setExcludedReferences(excludedReferences);
 
     localOffice1 = new LocalOffice();
     localOffice1.setId(DEFAULT_ID_1);
@@ -104,7 +119,7 @@ class LocalOfficeServiceTest {
     List<LocalOffice> localOffices = new ArrayList<>();
     localOffices.add(localOffice1);
     localOffices.add(localOffice2);
-    when(repository.findAll(Sort.by("label"))).thenReturn(localOffices);
+    when(repository.findAllFromPrimary(Sort.by("label"))).thenReturn(localOffices);
     List<LocalOffice> allLocalOffices = service.get();
     assertThat("Unexpected size of returned local office list",
         allLocalOffices.size(), equalTo(localOffices.size()));
@@ -113,9 +128,8 @@ class LocalOfficeServiceTest {
   }
 
   @Test
-  void createLocalOfficeShouldCreateLocalOfficeWhenNewTisId() {
-    when(repository.findByTisId(DEFAULT_TIS_ID_2)).thenReturn(null);
-    when(repository.insert(any(LocalOffice.class))).thenAnswer(returnsFirstArg());
+  void createLocalOfficeShouldUpsertLocalOfficeByTisId() {
+    when(repository.upsertByTisId(DEFAULT_TIS_ID_2, localOffice2)).thenAnswer(returnsLastArg());
 
     LocalOffice localOffice = service.create(localOffice2);
 
@@ -128,24 +142,8 @@ class LocalOfficeServiceTest {
   }
 
   @Test
-  void createLocalOfficeShouldUpdateLocalOfficeWhenExistingTisId() {
-    when(repository.findByTisId(DEFAULT_TIS_ID_2)).thenReturn(localOffice1);
-    when(repository.save(any())).thenAnswer(returnsFirstArg());
-
-    LocalOffice localOffice = service.create(localOffice2);
-
-    verify(contactService, atLeastOnce()).updateAllForLocalOffice(localOffice1);
-
-    assertThat("Unexpected id.", localOffice.getId(), is(DEFAULT_ID_1));
-    assertThat("Unexpected TIS id.", localOffice.getTisId(), is(DEFAULT_TIS_ID_1));
-    assertThat("Unexpected label.", localOffice.getLabel(), is(DEFAULT_LABEL_2));
-    assertThat("Unexpected UUID.", localOffice.getUuid(), is(DEFAULT_UUID_2));
-  }
-
-  @Test
-  void updateLocalOfficeShouldCreateLocalOfficeWhenNewTisId() {
-    when(repository.findByTisId(DEFAULT_TIS_ID_2)).thenReturn(null);
-    when(repository.insert(any(LocalOffice.class))).thenAnswer(returnsFirstArg());
+  void updateLocalOfficeShouldUpsertLocalOfficeByTisId() {
+    when(repository.upsertByTisId(DEFAULT_TIS_ID_2, localOffice2)).thenAnswer(returnsLastArg());
 
     LocalOffice localOffice = service.update(localOffice2);
 
@@ -158,50 +156,117 @@ class LocalOfficeServiceTest {
   }
 
   @Test
-  void updateLocalOfficeShouldUpdateLocalOfficeWhenExistingTisId() {
-    when(repository.findByTisId(DEFAULT_TIS_ID_2)).thenReturn(localOffice1);
-    when(repository.save(any())).thenAnswer(returnsFirstArg());
-
-    LocalOffice localOffice = service.update(localOffice2);
-
-    verify(contactService).updateAllForLocalOffice(localOffice1);
+  void shouldDeleteLocalOfficesByTisId() {
+    service.deleteByTisId(DEFAULT_TIS_ID_1);
 
-    assertThat("Unexpected id.", localOffice.getId(), is(DEFAULT_ID_1));
-    assertThat("Unexpected TIS id.", localOffice.getTisId(), is(DEFAULT_TIS_ID_1));
-    assertThat("Unexpected label.", localOffice.getLabel(), is(DEFAULT_LABEL_2));
-    assertThat("Unexpected UUID.", localOffice.getUuid(), is(DEFAULT_UUID_2));
+    verify(repository).deleteByTisId(DEFAULT_TIS_ID_1);
   }
 
   @Test
-  void shouldDeleteLocalOfficesByTisId() {
+  void shouldInvalidateEnrichmentIndexWhenDeleted() {
     service.deleteByTisId(DEFAULT_TIS_ID_1);
 
-    verify(repository).deleteByTisId(DEFAULT_TIS_ID_1);
+    verify(enricherFacade).invalidateLocalOffices();
   }
 
   @Test
-  void shouldThrowExceptionCreatingLocalOfficeWithPatch() throws IOException {
+  void shouldCreateLocalOfficeWithPatch() throws JsonPatchException, IOException {
     String patch = """
-        [{"op":"add","path":"","value":{"id":"%s","name":"New"}}]
+        [{"op":"add","path":"","value":{"id":"%s","name":"New LocalOffice"}}]
         """.formatted(DEFAULT_TIS_ID_1);
     JsonPatch jsonPatch = JsonPatch.fromJson(new ObjectMapper().readTree(patch));
 
-    assertThrows(NotImplementedException.class, () -> service.create(new LocalOffice(), jsonPatch));
+    when(repository.upsertByTisId(any(), any(LocalOffice.class))).thenAnswer(
+        inv -> inv.getArgument(1));
+
+    LocalOffice result = service.create(new LocalOffice(), jsonPatch);
 
-    verify(repository, never()).insert(any(LocalOffice.class));
+    assertThat("Unexpected TIS ID.", result.getTisId(), is(DEFAULT_TIS_ID_1));
+    assertThat("Unexpected label.", result.getLabel(), is("New LocalOffice"));
   }
 
   @Test
-  void shouldThrowExceptionUpdatingLocalOfficeWithPatch() throws IOException {
+  void shouldUpdateLocalOfficeWithPatch() throws JsonPatchException, IOException {
     String patch = """
-        [{"op":"replace","path":"","value":{"id":"%s","name":"Updated"}}]
+        [{"op":"replace","path":"","value":{"id":"%s","name":"Updated LocalOffice"}}]
         """.formatted(DEFAULT_TIS_ID_1);
     JsonPatch jsonPatch = JsonPatch.fromJson(new ObjectMapper().readTree(patch));
 
     when(repository.findByTisId(DEFAULT_TIS_ID_1)).thenReturn(localOffice1);
+    when(repository.save(any(LocalOffice.class))).thenAnswer(inv -> inv.getArgument(0));
 
-    assertThrows(NotImplementedException.class, () -> service.update(DEFAULT_TIS_ID_1, jsonPatch));
+    LocalOffice result = service.update(DEFAULT_TIS_ID_1, jsonPatch);
 
-    verify(repository, never()).save(any());
+    assertThat("Unexpected ID.", result.getId(), is(localOffice1.getId()));
+    assertThat("Unexpected TIS ID.", result.getTisId(), is(DEFAULT_TIS_ID_1));
+    assertThat("Unexpected label.", result.getLabel(), is("Updated LocalOffice"));
+  }
+
+  @Test
+  void shouldUpdateContactsAfterApplyingEvents() throws IOException {
+    List<CdcEvent> events = List.of(toEvent(DEFAULT_TIS_ID_1, """
+        [{"op":"replace","path":"/name","value":"Updated Local Office"}]
+        """));
+
+    when(repository.findByTisIdIn(any())).thenReturn(List.of(localOffice1));
+    when(repository.bulkWriteByTisId(any())).thenReturn(Set.of());
+
+    service.applyEvents(events);
+
+    ArgumentCaptor<LocalOffice> captor = ArgumentCaptor.forClass(LocalOffice.class);
+    verify(contactService).updateAllForLocalOffice(captor.capture());
+
+    LocalOffice localOffice = captor.getValue();
+    assertThat("Unexpected UUID.", localOffice.getUuid(), is(DEFAULT_UUID_1));
+    assertThat("Unexpected label.", localOffice.getLabel(), is("Updated Local Office"));
+  }
+
+  @Test
+  void shouldNotUpdateContactsAfterApplyingDeleteEvents() throws IOException {
+    List<CdcEvent> events = List.of(toEvent(DEFAULT_TIS_ID_1, """
+        [{"op":"remove","path":""}]
+        """));
+
+    when(repository.findByTisIdIn(any())).thenReturn(List.of(localOffice1));
+    when(repository.bulkWriteByTisId(any())).thenReturn(Set.of());
+
+    service.applyEvents(events);
+
+    verifyNoInteractions(contactService);
+  }
+
+  @Test
+  void shouldUpdateContactsAfterWritingAll() {
+    when(repository.bulkWriteByTisId(any())).thenReturn(Set.of());
+
+    service.writeAll(List.of(ReferenceWrite.upsert(DEFAULT_TIS_ID_1, localOffice1)));
+
+    verify(contactService).updateAllForLocalOffice(localOffice1);
+  }
+
+  @Test
+  void shouldNotUpdateContactsAfterFailedWriteAll() {
+    when(repository.bulkWriteByTisId(any())).thenReturn(Set.of(0));
+
+    Set<Integer> failed = service.writeAll(
+        List.of(ReferenceWrite.upsert(DEFAULT_TIS_ID_1, localOffice1)));
+
+    assertThat("Unexpected failed positions.", failed, is(Set.of(0)));
+    verifyNoInteractions(contactService);
+  }
+
+  /**
+   * Create a CDC event for the given TIS ID and patch.
+   *
+   * @param tisId The TIS ID of the event.
+   * @param patch The patch operations, as JSON.
+   * @return The created CDC event.
+   * @throws IOException If the patch could not be parsed.
+   */
+  private CdcEvent toEvent(String tisId, String patch) throws IOException {
+    String event = """
+        {"patch":%s,"keys":{"id":"%s"}}
+        """.formatted(patch, tisId);
+    return new ObjectMapper().readValue(event, CdcEvent.class);
   }
 }
@@ -23,19 +23,17 @@ package uk.nhs.hee.tis.trainee.reference.service;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
-import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.AdditionalAnswers.returnsLastArg;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.fge.jsonpatch.JsonPatch;
+import com.github.fge.jsonpatch.JsonPatchException;
 import java.io.IOException;
 import java.util.List;
 import java.util.UUID;
-import org.apache.commons.lang3.NotImplementedException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -66,6 +64,12 @@ class ProgrammeMembershipTypeServiceTest {
   @Mock
   private ProgrammeMembershipTypeRepository repository;
 
+  @Mock
+  private ReferenceChangeLog changeLog;
+
+  @Mock
+  private ExcludedReferenceStore excludedReferences;
+
   private ProgrammeMembershipType programmeMembershipType1;
   private ProgrammeMembershipType programmeMembershipType2;
 
@@ -77,6 +81,8 @@ class ProgrammeMembershipTypeServiceTest {
     service = new ProgrammeMembershipTypeService(repository,
         new ProgrammeMembershipTypeMapperImpl(), List.of(EXCLUDED_LABEL_1, EXCLUDED_LABEL_2),
         new ObjectMapper());
+    service.setChangeLog(changeLog);
+    service.setExcludedReferences(excludedReferences);
 
     programmeMembershipType1 = new ProgrammeMembershipType();
     programmeMembershipType1.setId(DEFAULT_ID_1);
@@ -107,7 +113,7 @@ class ProgrammeMembershipTypeServiceTest {
         excludedType1,
         excludedType2
     );
-    when(repository.findAll(Sort.by("label"))).thenReturn(programmeMembershipTypes);
+    when(repository.findAllFromPrimary(Sort.by("label"))).thenReturn(programmeMembershipTypes);
     List<ProgrammeMembershipType> returnedTypes = service.get();
     assertThat("Unexpected number of PM types", returnedTypes.size(), is(2));
 
@@ -119,9 +125,9 @@ class ProgrammeMembershipTypeServiceTest {
   }
 
   @Test
-  void createProgrammeMembershipTypeShouldCreateProgrammeMembershipTypeWhenNewTisId() {
-    when(repository.findByTisId(DEFAULT_TIS_ID_2)).thenReturn(null);
-    when(repository.insert(any(ProgrammeMembershipType.class))).thenAnswer(returnsFirstArg());
+  void createProgrammeMembershipTypeShouldUpsertProgrammeMembershipTypeByTisId() {
+    when(repository.upsertByTisId(DEFAULT_TIS_ID_2, programmeMembershipType2))
+        .thenAnswer(returnsLastArg());
 
     ProgrammeMembershipType programmeMembershipType = service.create(programmeMembershipType2);
 
@@ -132,22 +138,9 @@ class ProgrammeMembershipTypeServiceTest {
   }
 
   @Test
-  void createProgrammeMembershipTypeShouldUpdateProgrammeMembershipTypeWhenExistingTisId() {
-    when(repository.findByTisId(DEFAULT_TIS_ID_2)).thenReturn(programmeMembershipType1);
-    when(repository.save(any())).thenAnswer(returnsFirstArg());
-
-    ProgrammeMembershipType programmeMembershipType = service.create(programmeMembershipType2);
-
-    assertThat("Unexpected id.", programmeMembershipType.getId(), is(DEFAULT_ID_1));
-    assertThat("Unexpected TIS id.", programmeMembershipType.getTisId(),
-        is(DEFAULT_TIS_ID_1));
-    assertThat("Unexpected label.", programmeMembershipType.getLabel(), is(DEFAULT_LABEL_2));
-  }
-
-  @Test
-  void updateProgrammeMembershipTypeShouldCreateProgrammeMembershipTypeWhenNewTisId() {
-    when(repository.findByTisId(DEFAULT_TIS_ID_2)).thenReturn(null);
-    when(repository.insert(any(ProgrammeMembershipType.class))).thenAnswer(returnsFirstArg());
+  void updateProgrammeMembershipTypeShouldUpsertProgrammeMembershipTypeByTisId() {
+    when(repository.upsertByTisId(DEFAULT_TIS_ID_2, programmeMembershipType2))
+        .thenAnswer(returnsLastArg());
 
     ProgrammeMembershipType programmeMembershipType = service.update(programmeMembershipType2);
 
@@ -157,19 +150,6 @@ class ProgrammeMembershipTypeServiceTest {
     assertThat("Unexpected label.", programmeMembershipType.getLabel(), is(DEFAULT_LABEL_2));
   }
 
-  @Test
-  void updateProgrammeMembershipTypeShouldUpdateProgrammeMembershipTypeWhenExistingTisId() {
-    when(repository.findByTisId(DEFAULT_TIS_ID_2)).thenReturn(programmeMembershipType1);
-    when(repository.save(any())).thenAnswer(returnsFirstArg());
-
-    ProgrammeMembershipType programmeMembershipType = service.update(programmeMembershipType2);
-
-    assertThat("Unexpected id.", programmeMembershipType.getId(), is(DEFAULT_ID_1));
-    assertThat("Unexpected TIS id.", programmeMembershipType.getTisId(),
-        is(DEFAULT_TIS_ID_1));
-    assertThat("Unexpected label.", programmeMembershipType.getLabel(), is(DEFAULT_LABEL_2));
-  }
-
   @Test
   void shouldDeleteProgrammeMembershipTypeByTisId() {
     service.deleteByTisId(DEFAULT_TIS_ID_1);
@@ -178,29 +158,35 @@ class ProgrammeMembershipTypeServiceTest {
   }
 
   @Test
-  void shouldThrowExceptionCreatingProgrammeMembershipTypeWithPatch() throws IOException {
+  void shouldCreateProgrammeMembershipTypeWithPatch() throws JsonPatchException, IOException {
     String patch = """
-        [{"op":"add","path":"","value":{"id":"%s","name":"New"}}]
+        [{"op":"add","path":"","value":{"id":"%s","label":"New ProgrammeMembershipType"}}]
         """.formatted(DEFAULT_TIS_ID_1);
     JsonPatch jsonPatch = JsonPatch.fromJson(new ObjectMapper().readTree(patch));
 
-    assertThrows(NotImplementedException.class,
-        () -> service.create(new ProgrammeMembershipType(), jsonPatch));
+    when(repository.upsertByTisId(any(), any(ProgrammeMembershipType.class))).thenAnswer(
+        inv -> inv.getArgument(1));
+
+    ProgrammeMembershipType result = service.create(new ProgrammeMembershipType(), jsonPatch);
 
-    verify(repository, never()).insert(any(ProgrammeMembershipType.class));
+    assertThat("Unexpected TIS ID.", result.getTisId(), is(DEFAULT_TIS_ID_1));
+    assertThat("Unexpected label.", result.getLabel(), is("New ProgrammeMembershipType"));
   }
 
   @Test
-  void shouldThrowExceptionUpdatingProgrammeMembershipTypeWithPatch() throws IOException {
+  void shouldUpdateProgrammeMembershipTypeWithPatch() throws JsonPatchException, IOException {
     String patch = """
-        [{"op":"replace","path":"","value":{"id":"%s","name":"Updated"}}]
+        [{"op":"replace","path":"","value":{"id":"%s","label":"Updated ProgrammeMembershipType"}}]
         """.formatted(DEFAULT_TIS_ID_1);
     JsonPatch jsonPatch = JsonPatch.fromJson(new ObjectMapper().readTree(patch));
 
     when(repository.findByTisId(DEFAULT_TIS_ID_1)).thenReturn(programmeMembershipType1);
+    when(repository.save(any(ProgrammeMembershipType.class))).thenAnswer(inv -> inv.getArgument(0));
 
-    assertThrows(NotImplementedException.class, () -> service.update(DEFAULT_TIS_ID_1, jsonPatch));
+    ProgrammeMembershipType result = service.update(DEFAULT_TIS_ID_1, jsonPatch);
 
-    verify(repository, never()).save(any());
+    assertThat("Unexpected ID.", result.getId(), is(programmeMembershipType1.getId()));
+    assertThat("Unexpected TIS ID.", result.getTisId(), is(DEFAULT_TIS_ID_1));
+    assertThat("Unexpected label.", result.getLabel(), is("Updated ProgrammeMembershipType"));
   }
 }
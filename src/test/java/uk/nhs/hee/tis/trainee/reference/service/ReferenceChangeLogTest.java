@@ -0,0 +1,301 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.reference.service;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.mongodb.ReadPreference;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.List;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
+import uk.nhs.hee.tis.trainee.reference.model.ReferenceChange;
+import uk.nhs.hee.tis.trainee.reference.service.ReferenceChangeLog.ChangeSet;
+
+class ReferenceChangeLogTest {
+
+  private static final Instant NOW = Instant.parse("2026-01-01T12:00:00Z");
+  private static final Duration SETTLE_WINDOW = Duration.ofSeconds(5);
+  private static final Duration RESYNC_INTERVAL = Duration.ofDays(1);
+
+  private ReferenceChangeLog changeLog;
+  private MongoOperations mongoOperations;
+  private BulkOperations bulkOperations;
+
+  @BeforeEach
+  void setUp() {
+    mongoOperations = mock(MongoOperations.class);
+    bulkOperations = mock(BulkOperations.class);
+    when(mongoOperations.bulkOps(BulkMode.UNORDERED, ReferenceChange.class)).thenReturn(
+        bulkOperations);
+
+    changeLog = new ReferenceChangeLog(mongoOperations, Clock.fixed(NOW, ZoneOffset.UTC),
+        SETTLE_WINDOW, RESYNC_INTERVAL);
+  }
+
+  @Test
+  void shouldNotRecordWhenNoTisIds() {
+    changeLog.record("Grade", List.of());
+
+    verifyNoInteractions(mongoOperations);
+  }
+
+  @Test
+  void shouldAllocateOneSequencePerUniqueTisId() {
+    when(mongoOperations.findAndModify(any(), any(), any(), eq(Document.class),
+        eq(ReferenceChangeLog.SEQUENCE_COLLECTION))).thenReturn(new Document("sequence", 12L));
+
+    changeLog.record("Grade", List.of("1", "2", "1"));
+
+    ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+    ArgumentCaptor<AggregationUpdate> updateCaptor = ArgumentCaptor.forClass(
+        AggregationUpdate.class);
+    verify(mongoOperations).findAndModify(queryCaptor.capture(), updateCaptor.capture(),
+        any(FindAndModifyOptions.class), eq(Document.class),
+        eq(ReferenceChangeLog.SEQUENCE_COLLECTION));
+
+    assertThat("Unexpected counter.", queryCaptor.getValue().getQueryObject().get("_id"),
+        is("Grade"));
+    Document set = getSetStage(updateCaptor.getValue());
+    Document allocated = new Document("$add",
+        List.of(new Document("$ifNull", List.of("$sequence", 0L)), 2L));
+    assertThat("Unexpected allocation.", set.get("sequence"), is(allocated));
+  }
+
+  @Test
+  void shouldAdvanceResyncTokenToAllocatedSequenceWhenResyncDue() {
+    when(mongoOperations.findAndModify(any(), any(), any(), eq(Document.class),
+        eq(ReferenceChangeLog.SEQUENCE_COLLECTION))).thenReturn(new Document("sequence", 12L));
+
+    changeLog.record("Grade", List.of("1"));
+
+    ArgumentCaptor<AggregationUpdate> updateCaptor = ArgumentCaptor.forClass(
+        AggregationUpdate.class);
+    verify(mongoOperations).findAndModify(any(), updateCaptor.capture(),
+        any(FindAndModifyOptions.class), eq(Document.class),
+        eq(ReferenceChangeLog.SEQUENCE_COLLECTION));
+
+    Document set = getSetStage(updateCaptor.getValue());
+    List<?> resyncFrom = set.get("resyncFrom", Document.class).getList("$cond", Object.class);
+    assertThat("Unexpected resync token.", resyncFrom.get(1), is(set.get("sequence")));
+    assertThat("Unexpected previous resync token.", resyncFrom.get(2), is("$resyncFrom"));
+
+    List<?> resyncAt = set.get("resyncAt", Document.class).getList("$cond", Object.class);
+    assertThat("Unexpected resync time.", resyncAt.get(1), is("$$NOW"));
+
+    Document due = new Document("$lte", List.of(
+        new Document("$ifNull", List.of("$resyncAt", new Date(0))),
+        new Document("$subtract", List.of("$$NOW", RESYNC_INTERVAL.toMillis()))));
+    assertThat("Unexpected resync condition.", resyncFrom.get(0), is(due));
+  }
+
+  @Test
+  void shouldRecordAllocatedSequencesInOrder() {
+    when(mongoOperations.findAndModify(any(), any(), any(), eq(Document.class),
+        eq(ReferenceChangeLog.SEQUENCE_COLLECTION))).thenReturn(new Document("sequence", 12L));
+
+    changeLog.record("Grade", List.of("1", "2"));
+
+    ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+    ArgumentCaptor<UpdateDefinition> updateCaptor = ArgumentCaptor.forClass(
+        UpdateDefinition.class);
+    verify(bulkOperations, times(2)).upsert(queryCaptor.capture(), updateCaptor.capture());
+    verify(bulkOperations).execute();
+
+    Document query1 = queryCaptor.getAllValues().get(0).getQueryObject();
+    assertThat("Unexpected type.", query1.get("type"), is("Grade"));
+    assertThat("Unexpected TIS ID.", query1.get("tisId"), is("1"));
+    Document set1 = getSetStage((AggregationUpdate) updateCaptor.getAllValues().get(0));
+    assertThat("Unexpected sequence.", set1.get("sequence"),
+        is(new Document("$max", List.of("$sequence", 11L))));
+    assertThat("Unexpected recorded at.", set1.get("recordedAt"), is("$$NOW"));
+
+    Document query2 = queryCaptor.getAllValues().get(1).getQueryObject();
+    assertThat("Unexpected TIS ID.", query2.get("tisId"), is("2"));
+    Document set2 = getSetStage((AggregationUpdate) updateCaptor.getAllValues().get(1));
+    assertThat("Unexpected sequence.", set2.get("sequence"),
+        is(new Document("$max", List.of("$sequence", 12L))));
+  }
+
+  @Test
+  void shouldGetResyncTokenFromPrimary() {
+    when(mongoOperations.findOne(any(), eq(Document.class),
+        eq(ReferenceChangeLog.SEQUENCE_COLLECTION))).thenReturn(new Document("resyncFrom", 8L));
+
+    long token = changeLog.getResyncToken("Grade");
+
+    assertThat("Unexpected resync token.", token, is(8L));
+
+    ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+    verify(mongoOperations).findOne(queryCaptor.capture(), eq(Document.class),
+        eq(ReferenceChangeLog.SEQUENCE_COLLECTION));
+    Query query = queryCaptor.getValue();
+    assertThat("Unexpected counter.", query.getQueryObject().get("_id"), is("Grade"));
+    assertThat("Unexpected read preference.", query.getReadPreference(),
+        is(ReadPreference.primary()));
+  }
+
+  @Test
+  void shouldGetZeroResyncTokenWhenNoChangesRecorded() {
+    long token = changeLog.getResyncToken("Grade");
+
+    assertThat("Unexpected resync token.", token, is(0L));
+  }
+
+  @Test
+  void shouldGetTokenOfLatestSettledChange() {
+    when(mongoOperations.findOne(any(), eq(ReferenceChange.class))).thenReturn(
+        change("1", 9L, NOW.minusSeconds(60)));
+
+    long token = changeLog.getToken("Grade");
+
+    assertThat("Unexpected token.", token, is(9L));
+
+    ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+    verify(mongoOperations).findOne(queryCaptor.capture(), eq(ReferenceChange.class));
+    Query query = queryCaptor.getValue();
+    assertThat("Unexpected type.", query.getQueryObject().get("type"), is("Grade"));
+    assertThat("Unexpected settled time.",
+        query.getQueryObject().get("recordedAt", Document.class).get("$lte"),
+        is(NOW.minus(SETTLE_WINDOW)));
+    assertThat("Unexpected sort.", query.getSortObject().get("sequence"), is(-1));
+    assertThat("Unexpected limit.", query.getLimit(), is(1));
+    assertThat("Unexpected read preference.", query.getReadPreference(),
+        is(ReadPreference.primary()));
+  }
+
+  @Test
+  void shouldGetZeroTokenWhenNoSettledChanges() {
+    long token = changeLog.getToken("Grade");
+
+    assertThat("Unexpected token.", token, is(0L));
+  }
+
+  @Test
+  void shouldGetChangedTisIdsAndAdvanceTokenToLastChange() {
+    when(mongoOperations.find(any(), eq(ReferenceChange.class))).thenReturn(List.of(
+        change("1", 6L, NOW.minusSeconds(60)),
+        change("2", 9L, NOW.minusSeconds(30))));
+
+    ChangeSet changeSet = changeLog.getChanges("Grade", 5L);
+
+    assertThat("Unexpected TIS IDs.", changeSet.tisIds(), is(List.of("1", "2")));
+    assertThat("Unexpected token.", changeSet.token(), is(9L));
+
+    ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+    verify(mongoOperations).find(queryCaptor.capture(), eq(ReferenceChange.class));
+    Query query = queryCaptor.getValue();
+    assertThat("Unexpected type.", query.getQueryObject().get("type"), is("Grade"));
+    assertThat("Unexpected since.",
+        query.getQueryObject().get("sequence", Document.class).get("$gt"), is(5L));
+    assertThat("Unexpected sort.", query.getSortObject().get("sequence"), is(1));
+    assertThat("Unexpected read preference.", query.getReadPreference(),
+        is(ReadPreference.primary()));
+  }
+
+  @Test
+  void shouldNotAdvanceTokenPastUnsettledChanges() {
+    when(mongoOperations.find(any(), eq(ReferenceChange.class))).thenReturn(List.of(
+        change("1", 6L, NOW.minusSeconds(60)),
+        change("2", 7L, NOW.minusSeconds(1)),
+        change("3", 8L, NOW.minusSeconds(60))));
+
+    ChangeSet changeSet = changeLog.getChanges("Grade", 5L);
+
+    assertThat("Unexpected TIS IDs.", changeSet.tisIds(), is(List.of("1", "2", "3")));
+    assertThat("Unexpected token.", changeSet.token(), is(6L));
+  }
+
+  @Test
+  void shouldNotGetSettledChangesAfterToken() {
+    when(mongoOperations.find(any(), eq(ReferenceChange.class))).thenReturn(List.of(
+        change("1", 6L, NOW.minusSeconds(60)),
+        change("2", 7L, NOW.minusSeconds(1)),
+        change("3", 8L, NOW.minusSeconds(60))));
+
+    ChangeSet changeSet = changeLog.getSettledChanges("Grade", 5L);
+
+    assertThat("Unexpected TIS IDs.", changeSet.tisIds(), is(List.of("1")));
+    assertThat("Unexpected token.", changeSet.token(), is(6L));
+  }
+
+  @Test
+  void shouldKeepTokenWhenNoChanges() {
+    when(mongoOperations.find(any(), eq(ReferenceChange.class))).thenReturn(List.of());
+
+    ChangeSet changeSet = changeLog.getChanges("Grade", 5L);
+
+    assertThat("Unexpected TIS IDs.", changeSet.tisIds(), is(List.of()));
+    assertThat("Unexpected token.", changeSet.token(), is(5L));
+  }
+
+  /**
+   * Get the fields set by the single stage of an update pipeline.
+   *
+   * @param update The update pipeline.
+   * @return The set fields.
+   */
+  private static Document getSetStage(AggregationUpdate update) {
+    List<Document> pipeline = update.toPipeline(Aggregation.DEFAULT_CONTEXT);
+    assertThat("Unexpected pipeline size.", pipeline.size(), is(1));
+    return pipeline.get(0).get("$set", Document.class);
+  }
+
+  /**
+   * Create a recorded change.
+   *
+   * @param tisId      The TIS ID of the changed entity.
+   * @param sequence   The sequence of the change.
+   * @param recordedAt When the change was recorded.
+   * @return The recorded change.
+   */
+  private static ReferenceChange change(String tisId, long sequence, Instant recordedAt) {
+    ReferenceChange change = new ReferenceChange();
+    change.setType("Grade");
+    change.setTisId(tisId);
+    change.setSequence(sequence);
+    change.setRecordedAt(recordedAt);
+    return change;
+  }
+}
@@ -0,0 +1,206 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.reference.service;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.mongodb.MongoException;
+import com.mongodb.MongoNamespace;
+import com.mongodb.client.ChangeStreamIterable;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.OperationType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.bson.BsonDateTime;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.core.MongoOperations;
+import uk.nhs.hee.tis.trainee.reference.model.CovidChangeCircumstance;
+import uk.nhs.hee.tis.trainee.reference.model.DeclarationType;
+
+class ReferenceChangeStreamWatcherTest {
+
+  private static final Instant NOW = Instant.parse("2026-01-01T12:00:00Z");
+  private static final BsonDocument RESUME_TOKEN = new BsonDocument("_data",
+      new BsonString("token1"));
+
+  private ReferenceChangeStreamWatcher watcher;
+  private MongoDatabase database;
+  private MeterRegistry registry;
+  private GradeService gradeService;
+  private DeclarationTypeService declarationTypeService;
+  private CovidChangeCircumstanceService covidChangeCircumstanceService;
+
+  @BeforeEach
+  void setUp() {
+    MongoDatabaseFactory databaseFactory = mock(MongoDatabaseFactory.class);
+    database = mock(MongoDatabase.class);
+    when(databaseFactory.getMongoDatabase()).thenReturn(database);
+
+    MongoOperations mongoOperations = mock(MongoOperations.class);
+    when(mongoOperations.getCollectionName(DeclarationType.class)).thenReturn("DeclarationType");
+    when(mongoOperations.getCollectionName(CovidChangeCircumstance.class))
+        .thenReturn("CovidChangeCircumstance");
+
+    gradeService = mock(GradeService.class);
+    when(gradeService.getCollectionName()).thenReturn("Grade");
+    declarationTypeService = mock(DeclarationTypeService.class);
+    covidChangeCircumstanceService = mock(CovidChangeCircumstanceService.class);
+
+    registry = new SimpleMeterRegistry();
+    watcher = new ReferenceChangeStreamWatcher(databaseFactory, mongoOperations,
+        Clock.fixed(NOW, ZoneOffset.UTC), registry, List.of(gradeService), declarationTypeService,
+        covidChangeCircumstanceService);
+  }
+
+  @Test
+  void shouldInvalidateCachesOfChangedCollection() {
+    boolean keepWatching = watcher.onChange(change(OperationType.UPDATE, "Grade"));
+
+    assertThat("Unexpected keep watching flag.", keepWatching, is(true));
+    verify(gradeService).invalidateCache();
+    verifyNoInteractions(declarationTypeService, covidChangeCircumstanceService);
+  }
+
+  @Test
+  void shouldInvalidateCachesOfCollectionsWrittenByChangeLogs() {
+    watcher.onChange(change(OperationType.INSERT, "DeclarationType"));
+
+    verify(declarationTypeService).invalidateCache();
+    verify(gradeService, never()).invalidateCache();
+  }
+
+  @Test
+  void shouldIgnoreChangesOfUnknownCollections() {
+    boolean keepWatching = watcher.onChange(change(OperationType.DELETE, "Unknown"));
+
+    assertThat("Unexpected keep watching flag.", keepWatching, is(true));
+    verify(gradeService, never()).invalidateCache();
+    verifyNoInteractions(declarationTypeService, covidChangeCircumstanceService);
+  }
+
+  @Test
+  void shouldRecordLagOfChanges() {
+    watcher.onChange(change(OperationType.REPLACE, "Grade"));
+
+    Timer timer = registry.get("reference.change-stream.lag").tag("collection", "Grade").timer();
+    assertThat("Unexpected lag count.", timer.count(), is(1L));
+    assertThat("Unexpected lag.", timer.totalTime(TimeUnit.MILLISECONDS), is(2000.0));
+  }
+
+  @Test
+  void shouldStopWatchingWhenStreamInvalidated() {
+    boolean keepWatching = watcher.onChange(change(OperationType.INVALIDATE, null));
+
+    assertThat("Unexpected keep watching flag.", keepWatching, is(false));
+  }
+
+  @Test
+  void shouldInvalidateAllCachesWhenOpenedWithoutResumeToken() {
+    ChangeStreamIterable<Document> changeStream = mockChangeStream();
+
+    watcher.openCursor();
+
+    verify(changeStream, never()).resumeAfter(any());
+    verify(gradeService).invalidateCache();
+    verify(declarationTypeService).invalidateCache();
+    verify(covidChangeCircumstanceService).invalidateCache();
+  }
+
+  @Test
+  void shouldResumeAfterLastChangeWhenReopened() {
+    watcher.onChange(change(OperationType.UPDATE, "Grade"));
+    ChangeStreamIterable<Document> changeStream = mockChangeStream();
+
+    watcher.openCursor();
+
+    verify(changeStream).resumeAfter(RESUME_TOKEN);
+    verify(declarationTypeService, never()).invalidateCache();
+  }
+
+  @Test
+  void shouldRestartFromCurrentTimeWhenHistoryLost() {
+    watcher.onChange(change(OperationType.UPDATE, "Grade"));
+
+    watcher.onError(new MongoException(ReferenceChangeStreamWatcher.CHANGE_STREAM_HISTORY_LOST,
+        "Resume point no longer in the oplog."));
+    ChangeStreamIterable<Document> changeStream = mockChangeStream();
+    watcher.openCursor();
+
+    verify(changeStream, never()).resumeAfter(any());
+    verify(declarationTypeService).invalidateCache();
+    assertThat("Unexpected error count.",
+        registry.get("reference.change-stream.errors").counter().count(), is(1.0));
+  }
+
+  /**
+   * Create a change made two seconds ago.
+   *
+   * @param operationType The operation type of the change.
+   * @param collection    The changed collection, or null if no namespace.
+   * @return The change.
+   */
+  private ChangeStreamDocument<Document> change(OperationType operationType, String collection) {
+    ChangeStreamDocument<Document> change = mock(ChangeStreamDocument.class);
+    when(change.getOperationType()).thenReturn(operationType);
+    when(change.getNamespace()).thenReturn(
+        collection == null ? null : new MongoNamespace("reference", collection));
+    when(change.getWallTime()).thenReturn(new BsonDateTime(NOW.minusSeconds(2).toEpochMilli()));
+    when(change.getResumeToken()).thenReturn(RESUME_TOKEN);
+    return change;
+  }
+
+  /**
+   * Mock the change stream of the database.
+   *
+   * @return The mocked change stream.
+   */
+  private ChangeStreamIterable<Document> mockChangeStream() {
+    ChangeStreamIterable<Document> changeStream = mock(ChangeStreamIterable.class);
+    when(database.watch(anyList())).thenReturn(changeStream);
+    when(changeStream.maxAwaitTime(anyLong(), any())).thenReturn(changeStream);
+    when(changeStream.resumeAfter(any())).thenReturn(changeStream);
+    when(changeStream.cursor()).thenReturn(mock(MongoChangeStreamCursor.class));
+    return changeStream;
+  }
+}
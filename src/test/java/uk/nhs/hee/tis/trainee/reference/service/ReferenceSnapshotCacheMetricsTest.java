@@ -0,0 +1,127 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.reference.service;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.springframework.data.domain.Sort;
+import uk.nhs.hee.tis.trainee.reference.facade.LocalOfficeContactEnricherFacade;
+import uk.nhs.hee.tis.trainee.reference.mapper.GradeMapper;
+import uk.nhs.hee.tis.trainee.reference.model.Grade;
+import uk.nhs.hee.tis.trainee.reference.repository.CovidChangeCircumstanceRepository;
+import uk.nhs.hee.tis.trainee.reference.repository.DeclarationTypeRepository;
+import uk.nhs.hee.tis.trainee.reference.repository.GradeRepository;
+
+class ReferenceSnapshotCacheMetricsTest {
+
+  private GradeService service;
+  private GradeRepository repository;
+  private MeterRegistry registry;
+
+  @BeforeEach
+  void setUp() {
+    repository = mock(GradeRepository.class);
+    service = new GradeService(repository, Mappers.getMapper(GradeMapper.class),
+        new ObjectMapper());
+
+    LocalOfficeContactEnricherFacade enricherFacade = mock(LocalOfficeContactEnricherFacade.class);
+    when(enricherFacade.getIndexCaches()).thenReturn(
+        List.of(new ReferenceSnapshotCache<>("LocalOfficeIndex", Duration.ofMinutes(5))));
+
+    registry = new SimpleMeterRegistry();
+    new ReferenceSnapshotCacheMetrics(List.of(service),
+        new DeclarationTypeService(mock(DeclarationTypeRepository.class)),
+        new CovidChangeCircumstanceService(mock(CovidChangeCircumstanceRepository.class)),
+        enricherFacade).bindTo(registry);
+  }
+
+  @Test
+  void shouldRecordCacheActivity() {
+    when(repository.findAllFromPrimary(Sort.by("label")))
+        .thenReturn(List.of(new Grade(), new Grade()));
+
+    service.get();
+    service.get();
+    service.get();
+
+    double hits = registry.get("reference.cache.gets")
+        .tag("cache", "Grade")
+        .tag("result", "hit")
+        .functionCounter()
+        .count();
+    assertThat("Unexpected hit count.", hits, is(2.0));
+
+    double misses = registry.get("reference.cache.gets")
+        .tag("cache", "Grade")
+        .tag("result", "miss")
+        .functionCounter()
+        .count();
+    assertThat("Unexpected miss count.", misses, is(1.0));
+
+    double coalesced = registry.get("reference.cache.gets")
+        .tag("cache", "Grade")
+        .tag("result", "coalesced")
+        .functionCounter()
+        .count();
+    assertThat("Unexpected coalesced count.", coalesced, is(0.0));
+
+    double rebuilds = registry.get("reference.cache.rebuilds")
+        .tag("cache", "Grade")
+        .functionCounter()
+        .count();
+    assertThat("Unexpected rebuild count.", rebuilds, is(1.0));
+
+    FunctionTimer loads = registry.get("reference.cache.loads")
+        .tag("cache", "Grade")
+        .functionTimer();
+    assertThat("Unexpected load count.", loads.count(), is(1.0));
+
+    double size = registry.get("reference.cache.size")
+        .tag("cache", "Grade")
+        .gauge()
+        .value();
+    assertThat("Unexpected size.", size, is(2.0));
+  }
+
+  @Test
+  void shouldBindCachesOfEveryReferenceTypeAndIndex() {
+    List<String> caches = registry.get("reference.cache.rebuilds").functionCounters().stream()
+        .map(counter -> counter.getId().getTag("cache"))
+        .sorted()
+        .toList();
+
+    assertThat("Unexpected caches.", caches, is(List.of("CovidChangeCircumstance",
+        "DeclarationType", "Grade", "LocalOfficeIndex")));
+  }
+}
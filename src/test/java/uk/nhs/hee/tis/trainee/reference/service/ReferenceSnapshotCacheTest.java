@@ -0,0 +1,244 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.reference.service;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ReferenceSnapshotCacheTest {
+
+  private static final Duration TTL = Duration.ofMinutes(5);
+  private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+  private ReferenceSnapshotCache<String> cache;
+  private Supplier<List<String>> loader;
+
+  @BeforeEach
+  void setUp() {
+    cache = new ReferenceSnapshotCache<>("Test", TTL, Clock.fixed(NOW, ZoneOffset.UTC));
+    loader = mock(Supplier.class);
+  }
+
+  @Test
+  void shouldLoadSnapshotOnFirstRead() {
+    when(loader.get()).thenReturn(List.of("a", "b"));
+
+    ReferenceSnapshot<String> snapshot = cache.get(loader);
+
+    assertThat("Unexpected entities.", snapshot.entities(), is(List.of("a", "b")));
+    assertThat("Unexpected created time.", snapshot.created(), is(NOW));
+    assertThat("Unexpected miss count.", cache.getMissCount(), is(1L));
+    assertThat("Unexpected rebuild count.", cache.getRebuildCount(), is(1L));
+    assertThat("Unexpected hit count.", cache.getHitCount(), is(0L));
+    assertThat("Unexpected size.", cache.getSize(), is(2));
+  }
+
+  @Test
+  void shouldServeSnapshotFromMemoryOnSubsequentReads() {
+    when(loader.get()).thenReturn(List.of("a"));
+
+    ReferenceSnapshot<String> snapshot1 = cache.get(loader);
+    ReferenceSnapshot<String> snapshot2 = cache.get(loader);
+
+    assertThat("Unexpected snapshot.", snapshot2, sameInstance(snapshot1));
+    assertThat("Unexpected hit count.", cache.getHitCount(), is(1L));
+    verify(loader).get();
+  }
+
+  @Test
+  void shouldReloadSnapshotAfterInvalidation() {
+    when(loader.get()).thenReturn(List.of("a"), List.of("a", "b"));
+
+    ReferenceSnapshot<String> snapshot1 = cache.get(loader);
+    cache.invalidate();
+    ReferenceSnapshot<String> snapshot2 = cache.get(loader);
+
+    assertThat("Unexpected entities.", snapshot2.entities(), is(List.of("a", "b")));
+    assertThat("Unexpected version.", snapshot2.version(), not(snapshot1.version()));
+    assertThat("Unexpected rebuild count.", cache.getRebuildCount(), is(2L));
+    verify(loader, times(2)).get();
+  }
+
+  @Test
+  void shouldReloadSnapshotWhenExpired() {
+    Clock clock = mock(Clock.class);
+    when(clock.instant()).thenReturn(NOW, NOW.plus(TTL));
+    cache = new ReferenceSnapshotCache<>("Test", TTL, clock);
+    when(loader.get()).thenReturn(List.of("a"));
+
+    cache.get(loader);
+    cache.get(loader);
+
+    assertThat("Unexpected miss count.", cache.getMissCount(), is(2L));
+    verify(loader, times(2)).get();
+  }
+
+  @Test
+  void shouldNotCacheWhenTtlIsZero() {
+    cache.setTtl(Duration.ZERO);
+    when(loader.get()).thenReturn(List.of("a"));
+
+    cache.get(loader);
+    cache.get(loader);
+
+    assertThat("Unexpected hit count.", cache.getHitCount(), is(0L));
+    verify(loader, times(2)).get();
+  }
+
+  @Test
+  void shouldNotInstallSnapshotWhenInvalidatedDuringLoad() {
+    when(loader.get()).thenAnswer(inv -> {
+      cache.invalidate();
+      return List.of("stale");
+    }).thenReturn(List.of("fresh"));
+
+    ReferenceSnapshot<String> stale = cache.get(loader);
+    ReferenceSnapshot<String> fresh = cache.get(loader);
+
+    assertThat("Unexpected entities.", stale.entities(), is(List.of("stale")));
+    assertThat("Unexpected entities.", fresh.entities(), is(List.of("fresh")));
+    assertThat("Unexpected rebuild count.", cache.getRebuildCount(), is(1L));
+  }
+
+  @Test
+  void shouldReturnImmutableEntities() {
+    when(loader.get()).thenReturn(List.of("a"));
+
+    List<String> entities = cache.get(loader).entities();
+
+    assertThrows(UnsupportedOperationException.class, () -> entities.add("b"));
+  }
+
+  @Test
+  void shouldShareInFlightRebuildWithConcurrentReads() throws Exception {
+    CountDownLatch loading = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    when(loader.get()).thenAnswer(inv -> {
+      loading.countDown();
+      release.await();
+      return List.of("a");
+    });
+
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      Future<ReferenceSnapshot<String>> first = executor.submit(() -> cache.get(loader));
+      loading.await();
+      Future<ReferenceSnapshot<String>> second = executor.submit(() -> cache.get(loader));
+
+      while (cache.getCoalescedCount() == 0) {
+        Thread.onSpinWait();
+      }
+      release.countDown();
+
+      assertThat("Unexpected snapshot.", second.get(5, TimeUnit.SECONDS),
+          sameInstance(first.get(5, TimeUnit.SECONDS)));
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertThat("Unexpected miss count.", cache.getMissCount(), is(1L));
+    assertThat("Unexpected coalesced count.", cache.getCoalescedCount(), is(1L));
+    verify(loader).get();
+  }
+
+  @Test
+  void shouldRetryLoadAfterFailedRebuild() {
+    when(loader.get()).thenThrow(new IllegalStateException("Expected.")).thenReturn(List.of("a"));
+
+    assertThrows(IllegalStateException.class, () -> cache.get(loader));
+    ReferenceSnapshot<String> snapshot = cache.get(loader);
+
+    assertThat("Unexpected entities.", snapshot.entities(), is(List.of("a")));
+    assertThat("Unexpected rebuild count.", cache.getRebuildCount(), is(1L));
+  }
+
+  @Test
+  void shouldFailConcurrentReadsWhenRebuildThrowsError() throws Exception {
+    CountDownLatch loading = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    when(loader.get()).thenAnswer(inv -> {
+      loading.countDown();
+      release.await();
+      throw new StackOverflowError("Expected.");
+    }).thenReturn(List.of("a"));
+
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      Future<ReferenceSnapshot<String>> first = executor.submit(() -> cache.get(loader));
+      loading.await();
+      Future<ReferenceSnapshot<String>> second = executor.submit(() -> cache.get(loader));
+
+      while (cache.getCoalescedCount() == 0) {
+        Thread.onSpinWait();
+      }
+      release.countDown();
+
+      ExecutionException firstFailure = assertThrows(ExecutionException.class,
+          () -> first.get(5, TimeUnit.SECONDS));
+      assertThat("Unexpected failure.", firstFailure.getCause(),
+          instanceOf(StackOverflowError.class));
+      ExecutionException secondFailure = assertThrows(ExecutionException.class,
+          () -> second.get(5, TimeUnit.SECONDS));
+      assertThat("Unexpected failure.", secondFailure.getCause(),
+          instanceOf(StackOverflowError.class));
+    } finally {
+      executor.shutdownNow();
+    }
+
+    ReferenceSnapshot<String> snapshot = cache.get(loader);
+    assertThat("Unexpected entities.", snapshot.entities(), is(List.of("a")));
+  }
+
+  @Test
+  void shouldNotShareLoadsWhenTtlIsZero() {
+    cache.setTtl(Duration.ZERO);
+    when(loader.get()).thenReturn(List.of("a"));
+
+    cache.get(loader);
+
+    assertThat("Unexpected rebuild count.", cache.getRebuildCount(), is(0L));
+    assertThat("Unexpected size.", cache.getSize(), is(0));
+  }
+}